@@ -0,0 +1,45 @@
+package com.commercecoupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cart.reaper")
+@Getter
+@Setter
+public class CartReaperConfig {
+
+    /**
+     * 방치된 장바구니 정리 배치 사용 여부
+     * 기본값: false (운영 환경에서 명시적으로 켜야 함)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 빈 장바구니 삭제 기준 일수 (마지막 변경 후 이 기간이 지난 빈 장바구니 행 삭제)
+     */
+    private int emptyCartDays = 7;
+
+    /**
+     * 장바구니 압축 기준 일수 (마지막 변경 후 이 기간이 지난 장바구니의 아이템을 압축 스냅샷으로 옮김)
+     * 압축된 장바구니는 다음 접근 시 아이템으로 복원
+     */
+    private int compactAfterDays = 30;
+
+    /**
+     * 한 번에 조회/처리할 장바구니 수 (청크마다 별도 트랜잭션)
+     */
+    private int batchSize = 500;
+
+    /**
+     * 청크 사이 대기 시간 (밀리초, 운영 트래픽에 주는 부하 조절)
+     */
+    private long pauseMs = 200;
+
+    /**
+     * 한 번 실행에서 처리할 최대 장바구니 수 (남은 장바구니는 다음 실행에서 처리)
+     */
+    private int maxCartsPerRun = 100000;
+}
@@ -0,0 +1,51 @@
+package com.commercecoupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cart.store")
+@Getter
+@Setter
+public class CartStoreConfig {
+
+    /**
+     * 장바구니 저장 방식
+     * database: 요청마다 DB에서 읽고 저장 (기본값)
+     * memory: 메모리에 보관하고 변경된 장바구니만 주기적으로 DB에 반영 (장바구니 아이템 ID로 상품 ID 사용)
+     */
+    private String mode = "database";
+
+    /**
+     * 샤드 수 (2의 거듭제곱으로 올림)
+     */
+    private int shards = 64;
+
+    /**
+     * 변경된 장바구니 DB 반영 주기 (밀리초)
+     * 비정상 종료 시 이 주기 동안의 장바구니 변경이 유실될 수 있음
+     */
+    private long flushIntervalMs = 1000;
+
+    /**
+     * 한 트랜잭션에서 반영할 최대 장바구니 수
+     */
+    private int flushBatchSize = 200;
+
+    /**
+     * 마지막 접근 후 메모리에서 내릴 때까지의 시간 (밀리초)
+     */
+    private long idleEvictMs = 1800000;
+
+    /**
+     * 메모리 모드에서 사용자(ID, 등급)를 다시 조회하기 전까지 보관하는 시간 (밀리초)
+     * 등급 변경이 장바구니의 VIP 할인 예상 금액에 반영되기까지 최대 이 시간이 걸림
+     */
+    private long userCacheTtlMs = 60000;
+
+    public boolean isMemoryMode() {
+        return "memory".equalsIgnoreCase(mode);
+    }
+}
@@ -0,0 +1,36 @@
+package com.commercecoupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.catalog")
+@Getter
+@Setter
+public class CatalogCacheConfig {
+
+    /**
+     * 상품 카탈로그 캐시 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 상세 응답을 캐시할 최대 상품 수
+     * 가득 차면 상세 캐시를 비우고 다시 채움
+     */
+    private int maxDetailEntries = 10000;
+
+    /**
+     * 상세 응답 캐시 유지 시간 (초)
+     * 해당 상품 변경은 즉시 반영되며, 응답에 포함된 관련 상품 정보는 이 시간 안에 갱신됨
+     */
+    private int detailTtlSeconds = 60;
+
+    /**
+     * 목록(추천/인기/최신) 스냅샷 유지 시간 (초)
+     * 노출 상품이 바뀌는 변경은 즉시 반영되며, 목록에 표시되는 재고 수량은 이 시간 안에 갱신됨
+     */
+    private int listTtlSeconds = 30;
+}
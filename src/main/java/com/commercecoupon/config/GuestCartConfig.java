@@ -0,0 +1,55 @@
+package com.commercecoupon.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cart.guest")
+@Getter
+@Setter
+public class GuestCartConfig {
+
+    /**
+     * 비회원 장바구니 쿠키 이름
+     */
+    private String cookieName = "GUEST_CART";
+
+    /**
+     * 쿠키 서명(HMAC-SHA256) 비밀키
+     * 🚨 환경변수 GUEST_CART_SECRET에서 읽어오도록 설정 (32자 이상)
+     */
+    private String secret;
+
+    /**
+     * 쿠키 유효 기간 (초)
+     * 기본값: 2592000초 (30일)
+     */
+    private long maxAgeSeconds = 2592000;
+
+    /**
+     * 담을 수 있는 최대 상품 종류 수 (쿠키 크기 제한)
+     */
+    private int maxItems = 50;
+
+    /**
+     * 상품당 최대 수량
+     */
+    private int maxQuantity = 99;
+
+    /**
+     * HTTPS에서만 쿠키 전송
+     */
+    private boolean secure = false;
+
+    @PostConstruct
+    public void validateSecret() {
+        if (secret == null || secret.length() < 32) {
+            throw new IllegalStateException(
+                    "Guest cart secret must be at least 32 characters long. Please set cart.guest.secret or GUEST_CART_SECRET"
+            );
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.commercecoupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "archive.order")
+@Getter
+@Setter
+public class OrderArchiveConfig {
+
+    /**
+     * 주문 아카이빙 배치 사용 여부
+     * 기본값: false (운영 환경에서 명시적으로 켜야 함)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 아카이빙 대상 기준 일수
+     * 종료 상태(배송 완료/취소/환불)이면서 생성 후 이 기간이 지난 주문만 이동
+     */
+    private int retentionDays = 180;
+
+    /**
+     * 세그먼트 파일 저장 디렉토리
+     */
+    private String directory = "./data/archive/orders";
+
+    /**
+     * 병렬 처리 파티션 수
+     */
+    private int partitions = 4;
+
+    /**
+     * 한 번에 조회할 주문 ID 수
+     */
+    private int batchSize = 1000;
+}
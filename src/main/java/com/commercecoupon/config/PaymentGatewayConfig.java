@@ -0,0 +1,53 @@
+package com.commercecoupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "payment.gateway")
+@Getter
+@Setter
+public class PaymentGatewayConfig {
+
+    /**
+     * PG API 기본 주소
+     * 기본값은 로컬 PG 시뮬레이터 (payment.simulator.port)
+     */
+    private String baseUrl = "http://localhost:18090";
+
+    /**
+     * PG 시크릿 키 (Basic 인증에 사용)
+     * 🚨 운영에서는 환경변수 PG_SECRET_KEY에서 읽어오도록 설정
+     */
+    private String secretKey;
+
+    /**
+     * 연결 시간 제한 (밀리초)
+     */
+    private long connectTimeoutMs = 2000;
+
+    /**
+     * 요청 응답 시간 제한 (밀리초)
+     * 시간 초과 시 결제 결과를 알 수 없으므로 결제 상태를 바꾸지 않고 재시도를 안내
+     */
+    private long requestTimeoutMs = 5000;
+
+    /**
+     * 동시에 PG로 보낼 수 있는 최대 요청 수
+     * 넘으면 대기하지 않고 즉시 실패 (연결은 HttpClient가 keep-alive로 재사용)
+     */
+    private int maxInFlight = 200;
+
+    /**
+     * PG 응답 처리 스레드 수 (응답 후 결제/주문 상태 반영을 수행)
+     */
+    private int callbackThreads = 8;
+
+    /**
+     * 결제 성공/실패 후 이동할 프론트엔드 주소
+     */
+    private String successUrl = "http://localhost:3000/success";
+    private String failUrl = "http://localhost:3000/fail";
+}
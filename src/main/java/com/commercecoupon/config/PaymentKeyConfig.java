@@ -0,0 +1,19 @@
+package com.commercecoupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "payment.key")
+@Getter
+@Setter
+public class PaymentKeyConfig {
+
+    /**
+     * 결제 키에 들어가는 노드 ID (0 ~ 65535, 서버 인스턴스마다 다르게)
+     * 음수면 시작 시 무작위로 고름
+     */
+    private int nodeId = -1;
+}
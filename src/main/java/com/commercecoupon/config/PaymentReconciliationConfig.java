@@ -0,0 +1,50 @@
+package com.commercecoupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "payment.reconciliation")
+@Getter
+@Setter
+public class PaymentReconciliationConfig {
+
+    /**
+     * 정기 정산 대사 배치 사용 여부
+     * 기본값: false (운영 환경에서 명시적으로 켜야 함)
+     */
+    private boolean enabled = false;
+
+    /**
+     * PG 정산 파일 디렉토리 (settlement-yyyyMMdd.csv)
+     */
+    private String settlementDirectory = "./data/settlements";
+
+    /**
+     * 불일치 리포트 디렉토리 (reconciliation-yyyyMMdd.csv)
+     */
+    private String reportDirectory = "./data/settlements/reports";
+
+    /**
+     * 정산 파일을 나눠 병렬로 대사할 파티션 수
+     */
+    private int partitions = 4;
+
+    /**
+     * 결제 조회 시 JDBC fetch size
+     */
+    private int fetchSize = 5000;
+
+    /**
+     * 대사 기간 밖 거래를 다시 확인할 때 한 번에 조회할 거래 ID 수
+     */
+    private int lookupBatchSize = 500;
+
+    /**
+     * 정산 파일이 없을 때 로컬 PG 시뮬레이터에서 만들어 쓸지 여부
+     * 🚨 로컬 개발 전용 (운영에서 켜면 PG 파일 대신 시뮬레이터 데이터로 대사함), 기존 파일은 덮어쓰지 않음
+     */
+    private boolean simulatorExport = false;
+}
@@ -0,0 +1,53 @@
+package com.commercecoupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "payment.simulator")
+@Getter
+@Setter
+public class PaymentSimulatorConfig {
+
+    /**
+     * 로컬 PG 시뮬레이터 실행 여부 (실제 PG 없이 결제 흐름 부하 테스트용)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 시뮬레이터 포트 (127.0.0.1에만 바인딩)
+     */
+    private int port = 18090;
+
+    /**
+     * 요청 처리 스레드 수 (응답 지연은 스케줄러가 처리하므로 적어도 됨)
+     */
+    private int workerThreads = 4;
+
+    /**
+     * 기본 응답 지연 (밀리초)
+     */
+    private long latencyMs = 150;
+
+    /**
+     * 응답 지연에 더할 무작위 편차 최대값 (밀리초)
+     */
+    private long latencyJitterMs = 100;
+
+    /**
+     * 승인 거절 비율 (0.0 ~ 1.0)
+     */
+    private double declineRate = 0.02;
+
+    /**
+     * 500 오류 응답 비율 (0.0 ~ 1.0)
+     */
+    private double errorRate = 0.01;
+
+    /**
+     * 응답하지 않는 요청 비율 (0.0 ~ 1.0, 클라이언트 시간 초과 확인용)
+     */
+    private double timeoutRate = 0.0;
+}
@@ -0,0 +1,69 @@
+package com.commercecoupon.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "payment.webhook")
+@Getter
+@Setter
+public class PaymentWebhookConfig {
+
+    /**
+     * 웹훅 서명(HMAC-SHA256) 비밀키 (PG와 공유)
+     * 🚨 환경변수 PG_WEBHOOK_SECRET에서 읽어오도록 설정 (32자 이상)
+     */
+    private String secret;
+
+    /**
+     * 서명 시각 허용 오차 (초), 넘으면 재전송 공격으로 보고 거부
+     */
+    private long toleranceSeconds = 300;
+
+    /**
+     * 처리 스레드 수 (결제 키 해시로 스레드를 고르므로 같은 결제의 이벤트는 순서대로 처리)
+     */
+    private int workers = 4;
+
+    /**
+     * 한 트랜잭션에서 처리할 최대 이벤트 수
+     */
+    private int batchSize = 200;
+
+    /**
+     * 새 이벤트 알림이 없을 때 수신함을 다시 확인하는 간격 (밀리초)
+     */
+    private long pollIntervalMs = 500;
+
+    /**
+     * 이벤트별 최대 처리 시도 횟수 (넘으면 실패로 남기고 재시도하지 않음)
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * 처리 완료/실패한 수신함 이벤트 보관 기간 (일)
+     */
+    private int retentionDays = 7;
+
+    /**
+     * 중복 이벤트 확인 기간 (분), 이보다 오래된 이벤트는 DB 상태로 확인
+     */
+    private int dedupWindowMinutes = 60;
+
+    /**
+     * 중복 확인 기간을 나누는 시간 구간 수 (구간 단위로 오래된 기록을 버림)
+     */
+    private int dedupBuckets = 6;
+
+    @PostConstruct
+    public void validateSecret() {
+        if (secret == null || secret.length() < 32) {
+            throw new IllegalStateException(
+                    "Payment webhook secret must be at least 32 characters long. Please set payment.webhook.secret or PG_WEBHOOK_SECRET"
+            );
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.commercecoupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "product.schedule")
+@Getter
+@Setter
+public class ProductScheduleConfig {
+
+    /**
+     * 타이머 휠 틱 간격 (밀리초) - 예약 시각과 실제 적용 시각의 최대 오차
+     */
+    private long tickMs = 1000;
+
+    /**
+     * 한 트랜잭션에서 적용할 최대 예약 수
+     * 자정처럼 많은 상품이 동시에 바뀌어도 상품 행 잠금을 짧게 유지해 주문 처리가 밀리지 않도록 나눠 처리
+     */
+    private int batchSize = 500;
+}
@@ -2,6 +2,7 @@ package com.commercecoupon.config;
 
 import com.commercecoupon.service.CustomUserDetailsService;
 import com.commercecouponbe.filter.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -38,6 +39,8 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(결제 승인/취소)의 ASYNC 디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 // 기존 API 경로들
                                 "/api/users/signup",
@@ -46,6 +49,13 @@ public class SecurityConfig {
                                 "/api/auth/login",
                                 "/api/auth/refresh",
 
+                                // PG 결제 웹훅 (HMAC 서명으로 검증)
+                                "/api/payments/webhook",
+
+                                // 비회원 장바구니 (서명된 쿠키만 사용)
+                                "/api/guest-cart",
+                                "/api/guest-cart/**",
+
                                 // 🔧 Swagger UI 관련 경로들 - 모든 가능한 패턴 포함
                                 "/swagger-ui/**",
                                 "/swagger-ui.html",
@@ -0,0 +1,29 @@
+package com.commercecoupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "product.view-count")
+@Getter
+@Setter
+public class ViewCountConfig {
+
+    /**
+     * 조회수 DB 반영 주기 (밀리초)
+     */
+    private long flushIntervalMs = 5000;
+
+    /**
+     * 반영 전 메모리에 쌓아둘 최대 조회수
+     * 비정상 종료 시 유실될 수 있는 조회수의 상한이며, 초과하면 주기와 관계없이 즉시 반영
+     */
+    private long maxPendingViews = 10000;
+
+    /**
+     * 한 번의 JDBC 배치로 반영할 최대 상품 수
+     */
+    private int batchSize = 500;
+}
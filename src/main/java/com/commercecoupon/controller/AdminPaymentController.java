@@ -0,0 +1,43 @@
+package com.commercecoupon.controller;
+
+import com.commercecoupon.dto.response.ApiResponse;
+import com.commercecoupon.dto.response.ReconciliationResponse;
+import com.commercecoupon.service.PaymentReconciliationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/payments")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "관리자 결제 API", description = "관리자용 결제 관리 기능")
+public class AdminPaymentController {
+
+    private final PaymentReconciliationService paymentReconciliationService;
+
+    /**
+     * 정산 대사 실행
+     */
+    @PostMapping("/reconciliation")
+    @Operation(summary = "정산 대사 실행", description = "PG 정산 파일과 결제 내역을 대사하고 불일치 리포트를 만듭니다")
+    public ResponseEntity<ApiResponse<ReconciliationResponse>> reconcile(
+            @Parameter(description = "정산 일자 (기본: 어제)", example = "2026-10-17")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+
+        LocalDate settlementDate = date != null ? date : LocalDate.now().minusDays(1);
+        log.info("정산 대사 요청: date={}", settlementDate);
+
+        ReconciliationResponse response = paymentReconciliationService.reconcile(settlementDate);
+        return ResponseEntity.ok(ApiResponse.success("정산 대사가 완료되었습니다", response));
+    }
+}
@@ -1,12 +1,17 @@
 package com.commercecoupon.controller;
 
 import com.commercecoupon.dto.request.ProductCreateRequest;
+import com.commercecoupon.dto.request.ProductScheduleRequest;
 import com.commercecoupon.dto.request.ProductSearchRequest;
 import com.commercecoupon.dto.request.ProductUpdateRequest;
 import com.commercecoupon.dto.response.ApiResponse;
 import com.commercecoupon.dto.response.ProductDetailResponse;
+import com.commercecoupon.dto.response.ProductImportResponse;
 import com.commercecoupon.dto.response.ProductPageResponse;
 import com.commercecoupon.dto.response.ProductResponse;
+import com.commercecoupon.dto.response.ProductScheduleResponse;
+import com.commercecoupon.service.ProductImportService;
+import com.commercecoupon.service.ProductScheduleService;
 import com.commercecoupon.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,9 +19,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -29,6 +36,8 @@ import java.util.List;
 public class AdminProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final ProductScheduleService productScheduleService;
 
     /**
      * 관리자용 상품 목록 조회 (모든 상태 포함)
@@ -79,6 +88,21 @@ public class AdminProductController {
         return ResponseEntity.ok(ApiResponse.success("상품 생성 성공", response));
     }
 
+    /**
+     * 상품 일괄 등록
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "상품 일괄 등록",
+            description = "CSV(헤더 포함) 또는 NDJSON 파일로 상품을 일괄 등록합니다. 실패한 행은 행 번호와 사유를 반환합니다")
+    public ResponseEntity<ApiResponse<ProductImportResponse>> importProducts(
+            @Parameter(description = "상품 파일 (.csv, .ndjson, .jsonl)") @RequestParam("file") MultipartFile file) {
+
+        log.info("상품 일괄 등록 요청: file={}, size={}", file.getOriginalFilename(), file.getSize());
+
+        ProductImportResponse response = productImportService.importProducts(file);
+        return ResponseEntity.ok(ApiResponse.success("상품 일괄 등록 완료", response));
+    }
+
     /**
      * 상품 수정
      */
@@ -138,13 +162,55 @@ public class AdminProductController {
         return ResponseEntity.ok(ApiResponse.success("상품 상태가 변경되었습니다"));
     }
 
+    /**
+     * 가격/상태 예약 변경 등록
+     */
+    @PostMapping("/{productId}/schedules")
+    @Operation(summary = "가격/상태 예약 변경 등록", description = "지정한 기간 동안 상품 가격/상태를 변경하고 종료 시 원래 값으로 복원합니다")
+    public ResponseEntity<ApiResponse<ProductScheduleResponse>> createSchedule(
+            @Parameter(description = "상품 ID", example = "1") @PathVariable Long productId,
+            @Valid @RequestBody ProductScheduleRequest request) {
+
+        log.info("가격/상태 예약 변경 등록 요청: productId={}", productId);
+
+        ProductScheduleResponse response = productScheduleService.createSchedule(productId, request);
+        return ResponseEntity.ok(ApiResponse.success("예약 변경 등록 성공", response));
+    }
+
+    /**
+     * 가격/상태 예약 변경 목록 조회
+     */
+    @GetMapping("/{productId}/schedules")
+    @Operation(summary = "가격/상태 예약 변경 목록 조회", description = "상품의 예약 변경 목록을 조회합니다")
+    public ResponseEntity<ApiResponse<List<ProductScheduleResponse>>> getSchedules(
+            @Parameter(description = "상품 ID", example = "1") @PathVariable Long productId) {
+
+        List<ProductScheduleResponse> response = productScheduleService.getSchedules(productId);
+        return ResponseEntity.ok(ApiResponse.success("예약 변경 목록 조회 성공", response));
+    }
+
+    /**
+     * 가격/상태 예약 변경 취소
+     */
+    @DeleteMapping("/{productId}/schedules/{scheduleId}")
+    @Operation(summary = "가격/상태 예약 변경 취소", description = "시작 전인 예약 변경을 취소합니다")
+    public ResponseEntity<ApiResponse<String>> cancelSchedule(
+            @Parameter(description = "상품 ID", example = "1") @PathVariable Long productId,
+            @Parameter(description = "예약 ID", example = "1") @PathVariable Long scheduleId) {
+
+        log.info("가격/상태 예약 변경 취소 요청: productId={}, scheduleId={}", productId, scheduleId);
+
+        productScheduleService.cancelSchedule(productId, scheduleId);
+        return ResponseEntity.ok(ApiResponse.success("예약 변경이 취소되었습니다"));
+    }
+
     /**
      * 재고 부족 상품 조회
      */
     @GetMapping("/low-stock")
-    @Operation(summary = "재고 부족 상품 조회", description = "재고가 부족한 상품 목록을 조회합니다")
+    @Operation(summary = "재고 부족 상품 조회", description = "재고가 부족한 상품 목록을 조회합니다 (임계값이 없으면 상품별 재고 부족 기준 적용)")
     public ResponseEntity<ApiResponse<List<ProductResponse>>> getLowStockProducts(
-            @Parameter(description = "재고 임계값", example = "10") @RequestParam(defaultValue = "10") Integer threshold) {
+            @Parameter(description = "재고 임계값", example = "10") @RequestParam(required = false) Integer threshold) {
 
         log.info("재고 부족 상품 조회: threshold={}", threshold);
 
@@ -1,9 +1,12 @@
 package com.commercecoupon.controller;
 
 import com.commercecoupon.dto.request.CartAddRequest;
+import com.commercecoupon.dto.request.CartBatchRequest;
 import com.commercecoupon.dto.response.ApiResponse;
+import com.commercecoupon.dto.response.CartDeltaResponse;
 import com.commercecoupon.dto.response.CartItemResponse;
 import com.commercecoupon.dto.response.CartResponse;
+import com.commercecoupon.dto.response.ProductResponse;
 import com.commercecoupon.service.CartService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,6 +14,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -30,44 +35,86 @@ public class CartController {
      * 장바구니 조회
      */
     @GetMapping
-    @Operation(summary = "장바구니 조회", description = "현재 사용자의 장바구니를 조회합니다")
-    public ResponseEntity<ApiResponse<CartResponse>> getCart(Authentication authentication) {
+    @Operation(summary = "장바구니 조회",
+            description = "현재 사용자의 장바구니를 조회합니다. If-None-Match가 현재 ETag(장바구니 버전, 상품 변경, VIP 여부)와 같으면 304를 반환합니다")
+    public ResponseEntity<ApiResponse<CartResponse>> getCart(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            Authentication authentication) {
         log.info("장바구니 조회 요청: email={}", authentication.getName());
 
+        // ETag만 먼저 비교해 바뀌지 않았으면 아이템/상품을 읽지 않음
+        if (ifNoneMatch != null) {
+            String eTag = cartService.getCartETag(authentication.getName());
+            if (eTag != null && matchesETag(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+
         CartResponse cart = cartService.getCart(authentication.getName());
-        return ResponseEntity.ok(ApiResponse.success("장바구니 조회 성공", cart));
+        return ResponseEntity.ok()
+                .eTag(cart.getCacheTag())
+                .body(ApiResponse.success("장바구니 조회 성공", cart));
     }
 
     /**
      * 장바구니에 상품 추가
      */
     @PostMapping("/items")
-    @Operation(summary = "장바구니 상품 추가", description = "장바구니에 상품을 추가합니다")
-    public ResponseEntity<ApiResponse<CartResponse>> addToCart(
+    @Operation(summary = "장바구니 상품 추가",
+            description = "장바구니에 상품을 추가합니다. delta=true면 변경된 아이템과 합계만 반환합니다")
+    public ResponseEntity<ApiResponse<?>> addToCart(
             @Valid @RequestBody CartAddRequest request,
+            @Parameter(description = "변경분만 응답", example = "false") @RequestParam(defaultValue = "false") boolean delta,
             Authentication authentication) {
 
         log.info("장바구니 상품 추가 요청: email={}, productId={}, quantity={}",
                 authentication.getName(), request.getProductId(), request.getQuantity());
 
+        if (delta) {
+            CartDeltaResponse change = cartService.addToCartDelta(authentication.getName(), request);
+            return deltaResponse("장바구니에 상품이 추가되었습니다", change);
+        }
         CartResponse cart = cartService.addToCart(authentication.getName(), request);
-        return ResponseEntity.ok(ApiResponse.success("장바구니에 상품이 추가되었습니다", cart));
+        return fullResponse("장바구니에 상품이 추가되었습니다", cart);
+    }
+
+    /**
+     * 장바구니 일괄 변경
+     */
+    @PatchMapping
+    @Operation(summary = "장바구니 일괄 변경",
+            description = "상품 추가(ADD)/수량 변경(UPDATE)/삭제(REMOVE)를 순서대로 한 번에 적용합니다. 하나라도 실패하면 전체가 취소됩니다")
+    public ResponseEntity<ApiResponse<?>> applyOperations(
+            @Valid @RequestBody CartBatchRequest request,
+            Authentication authentication) {
+
+        log.info("장바구니 일괄 변경 요청: email={}, operations={}",
+                authentication.getName(), request.getOperations().size());
+
+        CartResponse cart = cartService.applyOperations(authentication.getName(), request.getOperations());
+        return fullResponse("장바구니가 변경되었습니다", cart);
     }
 
     /**
      * 장바구니 상품 개별 삭제
      */
     @DeleteMapping("/items/{cartItemId}")
-    @Operation(summary = "장바구니 상품 삭제", description = "장바구니에서 특정 상품을 삭제합니다")
-    public ResponseEntity<ApiResponse<CartResponse>> removeFromCart(
+    @Operation(summary = "장바구니 상품 삭제",
+            description = "장바구니에서 특정 상품을 삭제합니다. delta=true면 삭제된 아이템 ID와 합계만 반환합니다")
+    public ResponseEntity<ApiResponse<?>> removeFromCart(
             @Parameter(description = "장바구니 아이템 ID", example = "1") @PathVariable Long cartItemId,
+            @Parameter(description = "변경분만 응답", example = "false") @RequestParam(defaultValue = "false") boolean delta,
             Authentication authentication) {
 
         log.info("장바구니 상품 삭제 요청: email={}, cartItemId={}",
                 authentication.getName(), cartItemId);
 
+        if (delta) {
+            CartDeltaResponse change = cartService.removeFromCartDelta(authentication.getName(), cartItemId);
+            return deltaResponse("장바구니에서 상품이 삭제되었습니다", change);
+        }
         CartResponse cart = cartService.removeFromCart(authentication.getName(), cartItemId);
-        return ResponseEntity.ok(ApiResponse.success("장바구니에서 상품이 삭제되었습니다", cart));
+        return fullResponse("장바구니에서 상품이 삭제되었습니다", cart);
     }
 
     /**
@@ -86,17 +133,24 @@ public class CartController {
      * 장바구니 상품 수량 변경
      */
     @PutMapping("/items/{cartItemId}")
-    @Operation(summary = "장바구니 상품 수량 변경", description = "장바구니 상품의 수량을 변경합니다")
-    public ResponseEntity<ApiResponse<CartResponse>> updateCartItemQuantity(
+    @Operation(summary = "장바구니 상품 수량 변경",
+            description = "장바구니 상품의 수량을 변경합니다. delta=true면 변경된 아이템과 합계만 반환합니다")
+    public ResponseEntity<ApiResponse<?>> updateCartItemQuantity(
             @Parameter(description = "장바구니 아이템 ID", example = "1") @PathVariable Long cartItemId,
             @Parameter(description = "새로운 수량", example = "3") @RequestParam Integer quantity,
+            @Parameter(description = "변경분만 응답", example = "false") @RequestParam(defaultValue = "false") boolean delta,
             Authentication authentication) {
 
         log.info("장바구니 수량 변경 요청: email={}, cartItemId={}, quantity={}",
                 authentication.getName(), cartItemId, quantity);
 
+        if (delta) {
+            CartDeltaResponse change = cartService.updateCartItemQuantityDelta(
+                    authentication.getName(), cartItemId, quantity);
+            return deltaResponse("장바구니 수량이 변경되었습니다", change);
+        }
         CartResponse cart = cartService.updateCartItemQuantity(authentication.getName(), cartItemId, quantity);
-        return ResponseEntity.ok(ApiResponse.success("장바구니 수량이 변경되었습니다", cart));
+        return fullResponse("장바구니 수량이 변경되었습니다", cart);
     }
 
     /**
@@ -112,4 +166,48 @@ public class CartController {
         List<CartItemResponse> items = cartService.getInsufficientStockItems(authentication.getName());
         return ResponseEntity.ok(ApiResponse.success("재고 부족 상품 조회 성공", items));
     }
-}
\ No newline at end of file
+
+    /**
+     * 장바구니 기반 추천 상품 조회
+     */
+    @GetMapping("/recommendations")
+    @Operation(summary = "장바구니 추천 상품 조회", description = "장바구니 상품과 함께 많이 구매된 상품을 조회합니다")
+    public ResponseEntity<ApiResponse<List<ProductResponse>>> getRecommendedProducts(
+            Authentication authentication) {
+
+        log.info("장바구니 추천 상품 조회: email={}", authentication.getName());
+
+        List<ProductResponse> products = cartService.getRecommendedProducts(authentication.getName());
+        return ResponseEntity.ok(ApiResponse.success("장바구니 추천 상품 조회 성공", products));
+    }
+
+    // ===== Private Methods =====
+
+    private ResponseEntity<ApiResponse<?>> fullResponse(String message, CartResponse cart) {
+        return ResponseEntity.ok()
+                .eTag(cart.getCacheTag())
+                .body(ApiResponse.success(message, cart));
+    }
+
+    private ResponseEntity<ApiResponse<?>> deltaResponse(String message, CartDeltaResponse change) {
+        return ResponseEntity.ok()
+                .eTag(change.getCacheTag())
+                .body(ApiResponse.success(message, change));
+    }
+
+    /**
+     * If-None-Match 값 중 하나라도 현재 ETag와 같은지 (약한 비교, W/ 접두어 무시)
+     */
+    private static boolean matchesETag(String ifNoneMatch, String current) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
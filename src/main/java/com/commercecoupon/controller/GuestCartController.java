@@ -0,0 +1,101 @@
+package com.commercecoupon.controller;
+
+import com.commercecoupon.dto.request.CartAddRequest;
+import com.commercecoupon.dto.response.ApiResponse;
+import com.commercecoupon.dto.response.GuestCartResponse;
+import com.commercecoupon.service.GuestCartService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/guest-cart")
+@RequiredArgsConstructor
+@Tag(name = "비회원 장바구니 API", description = "로그인 없이 쿠키에 저장하는 장바구니 (로그인 시 회원 장바구니로 병합)")
+public class GuestCartController {
+
+    private final GuestCartService guestCartService;
+
+    /**
+     * 비회원 장바구니 조회
+     */
+    @GetMapping
+    @Operation(summary = "비회원 장바구니 조회", description = "쿠키에 담긴 상품 ID와 수량을 조회합니다 (DB 조회 없음)")
+    public ResponseEntity<ApiResponse<GuestCartResponse>> getCart(HttpServletRequest request) {
+        Map<Long, Integer> items = guestCartService.read(request);
+        return ResponseEntity.ok(ApiResponse.success("비회원 장바구니 조회 성공", guestCartService.toResponse(items)));
+    }
+
+    /**
+     * 비회원 장바구니에 상품 추가
+     */
+    @PostMapping("/items")
+    @Operation(summary = "비회원 장바구니 상품 추가", description = "상품을 추가하고 갱신된 쿠키를 내려줍니다")
+    public ResponseEntity<ApiResponse<GuestCartResponse>> addToCart(
+            @Valid @RequestBody CartAddRequest request,
+            HttpServletRequest httpRequest) {
+
+        log.debug("비회원 장바구니 상품 추가: productId={}, quantity={}", request.getProductId(), request.getQuantity());
+
+        Map<Long, Integer> items = guestCartService.add(
+                guestCartService.read(httpRequest), request.getProductId(), request.getQuantity());
+        return withCookie("비회원 장바구니에 상품이 추가되었습니다", items);
+    }
+
+    /**
+     * 비회원 장바구니 상품 수량 변경
+     */
+    @PutMapping("/items/{productId}")
+    @Operation(summary = "비회원 장바구니 수량 변경", description = "담긴 상품의 수량을 변경합니다")
+    public ResponseEntity<ApiResponse<GuestCartResponse>> updateQuantity(
+            @Parameter(description = "상품 ID", example = "1") @PathVariable Long productId,
+            @Parameter(description = "새로운 수량", example = "3") @RequestParam Integer quantity,
+            HttpServletRequest httpRequest) {
+
+        Map<Long, Integer> items = guestCartService.updateQuantity(
+                guestCartService.read(httpRequest), productId, quantity);
+        return withCookie("비회원 장바구니 수량이 변경되었습니다", items);
+    }
+
+    /**
+     * 비회원 장바구니 상품 삭제
+     */
+    @DeleteMapping("/items/{productId}")
+    @Operation(summary = "비회원 장바구니 상품 삭제", description = "담긴 상품을 삭제합니다")
+    public ResponseEntity<ApiResponse<GuestCartResponse>> removeFromCart(
+            @Parameter(description = "상품 ID", example = "1") @PathVariable Long productId,
+            HttpServletRequest httpRequest) {
+
+        Map<Long, Integer> items = guestCartService.remove(guestCartService.read(httpRequest), productId);
+        return withCookie("비회원 장바구니에서 상품이 삭제되었습니다", items);
+    }
+
+    /**
+     * 비회원 장바구니 비우기
+     */
+    @DeleteMapping
+    @Operation(summary = "비회원 장바구니 비우기", description = "쿠키를 삭제합니다")
+    public ResponseEntity<ApiResponse<String>> clearCart() {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, guestCartService.expiredCookie().toString())
+                .body(ApiResponse.success("비회원 장바구니가 비워졌습니다"));
+    }
+
+    // ===== Private Methods =====
+
+    private ResponseEntity<ApiResponse<GuestCartResponse>> withCookie(String message, Map<Long, Integer> items) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, guestCartService.toCookie(items).toString())
+                .body(ApiResponse.success(message, guestCartService.toResponse(items)));
+    }
+}
@@ -15,6 +15,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/payments")
@@ -44,31 +46,31 @@ public class PaymentController {
      * 결제 완료
      */
     @PostMapping("/complete")
-    @Operation(summary = "결제 완료", description = "결제를 완료하고 주문을 확정합니다")
-    public ResponseEntity<ApiResponse<PaymentCompleteResponse>> completePayment(
+    @Operation(summary = "결제 완료", description = "PG 승인 후 결제를 완료하고 주문을 확정합니다 (PG 응답 대기 중 요청 스레드 반환)")
+    public CompletableFuture<ResponseEntity<ApiResponse<PaymentCompleteResponse>>> completePayment(
             @Valid @RequestBody PaymentCompleteRequest request,
             Authentication authentication) {
 
         log.info("결제 완료 요청: email={}, paymentKey={}",
                 authentication.getName(), request.getPaymentKey());
 
-        PaymentCompleteResponse response = paymentService.completePayment(authentication.getName(), request);
-        return ResponseEntity.ok(ApiResponse.success("결제가 완료되었습니다", response));
+        return paymentService.completePayment(authentication.getName(), request)
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.success("결제가 완료되었습니다", response)));
     }
 
     /**
      * 결제 취소
      */
     @PostMapping("/{paymentId}/cancel")
-    @Operation(summary = "결제 취소", description = "결제를 취소하고 환불을 진행합니다")
-    public ResponseEntity<ApiResponse<String>> cancelPayment(
+    @Operation(summary = "결제 취소", description = "PG 취소 후 결제와 주문을 취소합니다 (PG 응답 대기 중 요청 스레드 반환)")
+    public CompletableFuture<ResponseEntity<ApiResponse<String>>> cancelPayment(
             @PathVariable Long paymentId,
             Authentication authentication) {
 
         log.info("결제 취소 요청: email={}, paymentId={}", authentication.getName(), paymentId);
 
-        paymentService.cancelPayment(authentication.getName(), paymentId);
-        return ResponseEntity.ok(ApiResponse.success("결제가 취소되었습니다"));
+        return paymentService.cancelPayment(authentication.getName(), paymentId)
+                .thenApply(ignored -> ResponseEntity.ok(ApiResponse.success("결제가 취소되었습니다")));
     }
 
     /**
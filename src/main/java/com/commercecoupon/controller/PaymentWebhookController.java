@@ -0,0 +1,35 @@
+package com.commercecoupon.controller;
+
+import com.commercecoupon.dto.response.ApiResponse;
+import com.commercecoupon.service.PaymentWebhookService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/payments/webhook")
+@RequiredArgsConstructor
+@Tag(name = "결제 웹훅 API", description = "PG가 보내는 결제 상태 변경 알림 (서명 검증)")
+public class PaymentWebhookController {
+
+    private final PaymentWebhookService paymentWebhookService;
+
+    /**
+     * 결제 웹훅 수신
+     * 본문은 서명 검증을 위해 원본 바이트 그대로 받음
+     */
+    @PostMapping
+    @Operation(summary = "결제 웹훅 수신", description = "서명을 검증하고 수신함에 저장한 뒤 응답합니다 (상태 반영은 비동기)")
+    public ResponseEntity<ApiResponse<String>> receive(
+            @RequestHeader(value = "X-PG-Timestamp", required = false) String timestamp,
+            @RequestHeader(value = "X-PG-Signature", required = false) String signature,
+            @RequestBody byte[] body) {
+
+        PaymentWebhookService.Result result = paymentWebhookService.receive(timestamp, signature, body);
+        return ResponseEntity.ok(ApiResponse.success("웹훅이 접수되었습니다", result.name()));
+    }
+}
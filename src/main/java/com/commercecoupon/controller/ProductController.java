@@ -3,6 +3,7 @@ package com.commercecoupon.controller;
 import com.commercecoupon.dto.request.ProductSearchRequest;
 import com.commercecoupon.dto.response.ApiResponse;
 import com.commercecoupon.dto.response.ProductDetailResponse;
+import com.commercecoupon.dto.response.ProductFacetResponse;
 import com.commercecoupon.dto.response.ProductPageResponse;
 import com.commercecoupon.dto.response.ProductResponse;
 import com.commercecoupon.service.ProductService;
@@ -58,6 +59,31 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success("상품 목록 조회 성공", response));
     }
 
+    /**
+     * 상품 검색 패싯 조회 (필터 사이드바용)
+     */
+    @GetMapping("/facets")
+    @Operation(summary = "상품 검색 패싯 조회", description = "검색 조건에 대한 카테고리별/가격 구간별/추천 상품 수를 조회합니다")
+    public ResponseEntity<ApiResponse<ProductFacetResponse>> getProductFacets(
+            @Parameter(description = "검색 키워드") @RequestParam(required = false) String keyword,
+            @Parameter(description = "카테고리 ID") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "최소 가격") @RequestParam(required = false) Integer minPrice,
+            @Parameter(description = "최대 가격") @RequestParam(required = false) Integer maxPrice,
+            @Parameter(description = "추천 상품만 조회") @RequestParam(defaultValue = "false") Boolean featuredOnly) {
+
+        log.info("상품 패싯 조회 요청: keyword={}, categoryId={}", keyword, categoryId);
+
+        ProductSearchRequest searchRequest = new ProductSearchRequest();
+        searchRequest.setKeyword(keyword);
+        searchRequest.setCategoryId(categoryId);
+        searchRequest.setMinPrice(minPrice);
+        searchRequest.setMaxPrice(maxPrice);
+        searchRequest.setFeaturedOnly(featuredOnly);
+
+        ProductFacetResponse response = productService.getProductFacets(searchRequest);
+        return ResponseEntity.ok(ApiResponse.success("상품 패싯 조회 성공", response));
+    }
+
     /**
      * 상품 상세 조회
      */
@@ -72,6 +98,20 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success("상품 상세 조회 성공", response));
     }
 
+    /**
+     * 함께 구매한 상품 조회
+     */
+    @GetMapping("/{productId}/co-purchased")
+    @Operation(summary = "함께 구매한 상품 조회", description = "이 상품과 함께 많이 구매된 상품 목록을 조회합니다")
+    public ResponseEntity<ApiResponse<List<ProductResponse>>> getCoPurchasedProducts(
+            @Parameter(description = "상품 ID", example = "1") @PathVariable Long productId) {
+
+        log.info("함께 구매한 상품 조회 요청: productId={}", productId);
+
+        List<ProductResponse> response = productService.getCoPurchasedProducts(productId);
+        return ResponseEntity.ok(ApiResponse.success("함께 구매한 상품 조회 성공", response));
+    }
+
     /**
      * 추천 상품 목록 조회
      */
@@ -88,11 +128,13 @@ public class ProductController {
      * 인기 상품 목록 조회
      */
     @GetMapping("/popular")
-    @Operation(summary = "인기 상품 조회", description = "판매량 기준 인기 상품 Top 10을 조회합니다")
-    public ResponseEntity<ApiResponse<List<ProductResponse>>> getPopularProducts() {
-        log.info("인기 상품 조회 요청");
+    @Operation(summary = "인기 상품 조회", description = "판매량 기준 인기 상품 Top 10을 조회합니다 (카테고리, 최근 24시간/7일 기준 지원)")
+    public ResponseEntity<ApiResponse<List<ProductResponse>>> getPopularProducts(
+            @Parameter(description = "카테고리 ID") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "집계 기간 (24h, 7d, 미지정 시 누적)") @RequestParam(required = false) String period) {
+        log.info("인기 상품 조회 요청: categoryId={}, period={}", categoryId, period);
 
-        List<ProductResponse> response = productService.getPopularProducts();
+        List<ProductResponse> response = productService.getPopularProducts(categoryId, period);
         return ResponseEntity.ok(ApiResponse.success("인기 상품 조회 성공", response));
     }
 
@@ -101,10 +143,11 @@ public class ProductController {
      */
     @GetMapping("/latest")
     @Operation(summary = "최신 상품 조회", description = "최근 등록된 상품 Top 10을 조회합니다")
-    public ResponseEntity<ApiResponse<List<ProductResponse>>> getLatestProducts() {
-        log.info("최신 상품 조회 요청");
+    public ResponseEntity<ApiResponse<List<ProductResponse>>> getLatestProducts(
+            @Parameter(description = "카테고리 ID") @RequestParam(required = false) Long categoryId) {
+        log.info("최신 상품 조회 요청: categoryId={}", categoryId);
 
-        List<ProductResponse> response = productService.getLatestProducts();
+        List<ProductResponse> response = productService.getLatestProducts(categoryId);
         return ResponseEntity.ok(ApiResponse.success("최신 상품 조회 성공", response));
     }
 }
\ No newline at end of file
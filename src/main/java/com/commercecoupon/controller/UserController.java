@@ -5,14 +5,19 @@ import com.commercecoupon.dto.request.SignupRequest;
 import com.commercecoupon.dto.response.ApiResponse;
 import com.commercecoupon.dto.response.LoginResponse;
 import com.commercecoupon.dto.response.UserInfoResponse;
+import com.commercecoupon.service.GuestCartService;
 import com.commercecoupon.service.UserService;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -20,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final GuestCartService guestCartService;
 
     /** 회원가입 */
     @PostMapping("/signup")
@@ -28,10 +34,19 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success("회원가입이 완료되었습니다"));
     }
 
-    /** 로그인 */
+    /** 로그인 (비회원 장바구니 쿠키가 있으면 회원 장바구니로 병합 후 쿠키 삭제) */
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request,
+                                                            HttpServletRequest httpRequest) {
         LoginResponse response = userService.login(request);
+
+        Map<Long, Integer> guestItems = guestCartService.read(httpRequest);
+        if (!guestItems.isEmpty() && guestCartService.mergeIntoUserCart(response.getEmail(), guestItems) != null) {
+            response.setMergedGuestCartItemCount(guestItems.size());
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.SET_COOKIE, guestCartService.expiredCookie().toString())
+                    .body(ApiResponse.success("로그인 성공", response));
+        }
         return ResponseEntity.ok(ApiResponse.success("로그인 성공", response));
     }
 
@@ -0,0 +1,49 @@
+package com.commercecoupon.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Schema(description = "장바구니 일괄 변경 요청 (순서대로 적용, 하나라도 실패하면 전체 취소)")
+public class CartBatchRequest {
+
+    @Schema(description = "변경 목록", required = true)
+    @NotEmpty(message = "변경 목록은 필수입니다")
+    @Size(max = 100, message = "한 번에 최대 100개까지 변경할 수 있습니다")
+    @Valid
+    private List<CartOperation> operations;
+
+    public enum OperationType {
+        ADD,     // 수량만큼 추가 (없으면 새로 담기)
+        UPDATE,  // 수량 변경 (담겨 있는 상품만)
+        REMOVE   // 삭제 (담겨 있는 상품만)
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "장바구니 변경 항목")
+    public static class CartOperation {
+
+        @Schema(description = "변경 종류", example = "ADD", required = true)
+        @NotNull(message = "변경 종류는 필수입니다")
+        private OperationType type;
+
+        @Schema(description = "상품 ID", example = "1", required = true)
+        @NotNull(message = "상품 ID는 필수입니다")
+        private Long productId;
+
+        @Schema(description = "수량 (ADD/UPDATE 필수)", example = "2")
+        @Min(value = 1, message = "수량은 1개 이상이어야 합니다")
+        private Integer quantity;
+    }
+}
@@ -9,7 +9,7 @@ import lombok.Data;
 @Schema(description = "결제 완료 요청")
 public class PaymentCompleteRequest {
 
-    @Schema(description = "결제 키", example = "tgen_20240101123456ABC", required = true)
+    @Schema(description = "결제 키", example = "tgen_01J9Z8X4Q5000ZK3M7V2R8T6WN", required = true)
     @NotBlank(message = "결제 키는 필수입니다")
     private String paymentKey;
 
@@ -0,0 +1,44 @@
+package com.commercecoupon.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "PG 결제 웹훅 (X-PG-Timestamp, X-PG-Signature 헤더로 서명 검증)")
+public class PaymentWebhookRequest {
+
+    @Schema(description = "이벤트 종류", example = "PAYMENT_APPROVED", required = true)
+    private EventType eventType;
+
+    @Schema(description = "결제 키", example = "tgen_01J9Z8X4Q5000ZK3M7V2R8T6WN", required = true)
+    private String paymentKey;
+
+    @Schema(description = "PG 거래 ID (승인/취소 이벤트 필수)", example = "SIM1704067200000_1")
+    private String transactionId;
+
+    @Schema(description = "결제 금액", example = "42750")
+    private Integer amount;
+
+    @Schema(description = "카드 정보", example = "신한카드(*1234)")
+    private String cardInfo;
+
+    @Schema(description = "실패 코드 (실패 이벤트)", example = "REJECT_CARD_PAYMENT")
+    private String failureCode;
+
+    @Schema(description = "실패 사유 (실패 이벤트)", example = "카드사에서 승인을 거절했습니다")
+    private String failureMessage;
+
+    public enum EventType {
+        PAYMENT_APPROVED,  // 승인 완료
+        PAYMENT_FAILED,    // 승인 실패
+        PAYMENT_CANCELED   // 취소 완료
+    }
+
+    /**
+     * 중복 확인 키 (거래 ID가 없는 실패 이벤트는 결제 키 사용)
+     */
+    public String dedupKey() {
+        String id = transactionId != null && !transactionId.isEmpty() ? transactionId : paymentKey;
+        return eventType + ":" + id;
+    }
+}
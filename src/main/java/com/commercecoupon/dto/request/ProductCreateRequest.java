@@ -43,4 +43,8 @@ public class ProductCreateRequest {
 
     @Schema(description = "검색 태그", example = "노트북,맥북,애플")
     private String tags;
+
+    @Schema(description = "재고 부족 알림 기준 (없으면 기본값)", example = "5")
+    @Min(value = 0, message = "재고 부족 기준은 0개 이상이어야 합니다")
+    private Integer lowStockThreshold;
 }
\ No newline at end of file
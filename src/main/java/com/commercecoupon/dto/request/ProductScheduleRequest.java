@@ -0,0 +1,28 @@
+package com.commercecoupon.dto.request;
+
+import com.commercecoupon.enums.ProductStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Schema(description = "상품 가격/상태 예약 변경 요청")
+public class ProductScheduleRequest {
+
+    @Schema(description = "적용할 가격 (없으면 가격 변경 없음)", example = "1990000")
+    @Min(value = 0, message = "가격은 0원 이상이어야 합니다")
+    private Integer salePrice;
+
+    @Schema(description = "적용할 상태 (없으면 상태 변경 없음)", example = "ACTIVE")
+    private ProductStatus targetStatus;
+
+    @Schema(description = "시작 시각", example = "2024-12-01T00:00:00", required = true)
+    @NotNull(message = "시작 시각은 필수입니다")
+    private LocalDateTime startAt;
+
+    @Schema(description = "종료 시각 (없으면 원래 값으로 복원하지 않음)", example = "2024-12-03T00:00:00")
+    private LocalDateTime endAt;
+}
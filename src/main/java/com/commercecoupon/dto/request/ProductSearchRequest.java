@@ -27,7 +27,7 @@ public class ProductSearchRequest {
     private Boolean featuredOnly = false;
 
     @Schema(description = "정렬 기준", example = "createdAt",
-            allowableValues = {"createdAt", "price", "salesCount", "viewCount"})
+            allowableValues = {"createdAt", "price", "salesCount", "viewCount", "relevance"})
     private String sortBy = "createdAt";
 
     @Schema(description = "정렬 방향", example = "desc", allowableValues = {"asc", "desc"})
@@ -0,0 +1,53 @@
+package com.commercecoupon.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "장바구니 변경분 응답 (변경된 아이템 + 다시 계산한 합계)")
+public class CartDeltaResponse {
+
+    @Schema(description = "사용자 ID", example = "1")
+    private Long userId;
+
+    @Schema(description = "변경 전 장바구니 버전 (클라이언트 버전과 다르면 전체를 다시 조회해야 함)", example = "6")
+    private Long baseVersion;
+
+    @Schema(description = "변경 후 장바구니 버전", example = "7")
+    private Long version;
+
+    @Schema(description = "추가/수량 변경된 아이템 (삭제 시 null)")
+    private CartItemResponse changedItem;
+
+    @Schema(description = "삭제된 장바구니 아이템 ID (추가/수량 변경 시 null)", example = "3")
+    private Long removedItemId;
+
+    @Schema(description = "총 상품 수", example = "3")
+    private Integer totalItemCount;
+
+    @Schema(description = "총 상품 금액", example = "75000")
+    private Integer totalAmount;
+
+    @Schema(description = "예상 VIP 할인 금액", example = "3750")
+    private Integer expectedVipDiscount;
+
+    @Schema(description = "최종 예상 금액 (VIP 할인 적용)", example = "71250")
+    private Integer expectedFinalAmount;
+
+    @Schema(description = "마지막 수정일시")
+    private LocalDateTime updatedAt;
+
+    // ETag 헤더 값 (장바구니 버전 + 상품 카탈로그 버전 + VIP 여부, 본문에는 포함하지 않음)
+    @JsonIgnore
+    @Schema(hidden = true)
+    private String cacheTag;
+}
@@ -30,6 +30,12 @@ public class CartItemResponse {
     @Schema(description = "총 금액", example = "50000")
     private Integer totalPrice;
 
+    @Schema(description = "담을 당시 단가 (모르면 null)", example = "27000")
+    private Integer addedPrice;
+
+    @Schema(description = "담은 이후 가격 변경 여부", example = "true")
+    private Boolean isPriceChanged;
+
     @Schema(description = "장바구니 추가일시")
     private LocalDateTime createdAt;
 
@@ -1,5 +1,6 @@
 package com.commercecoupon.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,6 +20,9 @@ public class CartResponse {
     @Schema(description = "사용자 ID", example = "1")
     private Long userId;
 
+    @Schema(description = "장바구니 버전 (변경될 때마다 증가)", example = "7")
+    private Long version;
+
     @Schema(description = "장바구니 상품 목록")
     private List<CartItemResponse> items;
 
@@ -28,6 +32,9 @@ public class CartResponse {
     @Schema(description = "총 상품 금액", example = "75000")
     private Integer totalAmount;
 
+    @Schema(description = "담은 이후 가격이 바뀐 상품 수", example = "1")
+    private Integer priceChangedItemCount;
+
     @Schema(description = "예상 VIP 할인 금액", example = "3750")
     private Integer expectedVipDiscount;
 
@@ -36,4 +43,9 @@ public class CartResponse {
 
     @Schema(description = "마지막 수정일시")
     private LocalDateTime updatedAt;
+
+    // ETag 헤더 값 (장바구니 버전 + 상품 카탈로그 버전 + VIP 여부, 본문에는 포함하지 않음)
+    @JsonIgnore
+    @Schema(hidden = true)
+    private String cacheTag;
 }
\ No newline at end of file
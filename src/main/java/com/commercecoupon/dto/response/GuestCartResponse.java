@@ -0,0 +1,40 @@
+package com.commercecoupon.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "비회원 장바구니 응답 (쿠키 내용만, 상품 정보는 포함하지 않음)")
+public class GuestCartResponse {
+
+    @Schema(description = "담긴 상품 목록 (담은 순서)")
+    private List<GuestCartItem> items;
+
+    @Schema(description = "총 상품 수", example = "3")
+    private Integer totalItemCount;
+
+    @Schema(description = "담을 수 있는 최대 상품 종류 수", example = "50")
+    private Integer maxItems;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "비회원 장바구니 상품")
+    public static class GuestCartItem {
+
+        @Schema(description = "상품 ID", example = "1")
+        private Long productId;
+
+        @Schema(description = "수량", example = "2")
+        private Integer quantity;
+    }
+}
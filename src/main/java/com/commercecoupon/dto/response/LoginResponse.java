@@ -31,4 +31,7 @@ public class LoginResponse {
 
     @Schema(description = "사용자 권한", example = "USER")
     private String role;
+
+    @Schema(description = "로그인 시 회원 장바구니로 병합된 비회원 장바구니 상품 종류 수 (없으면 null)", example = "2")
+    private Integer mergedGuestCartItemCount;
 }
@@ -19,7 +19,7 @@ public class PaymentCompleteResponse {
     @Schema(description = "결제 ID", example = "1")
     private Long paymentId;
 
-    @Schema(description = "결제 키", example = "tgen_20240101123456ABC")
+    @Schema(description = "결제 키", example = "tgen_01J9Z8X4Q5000ZK3M7V2R8T6WN")
     private String paymentKey;
 
     @Schema(description = "주문 ID", example = "1")
@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "상품 상세 정보 응답")
@@ -56,6 +56,9 @@ public class ProductDetailResponse {
     @Schema(description = "검색 태그")
     private List<String> tags;
 
+    @Schema(description = "재고 부족 알림 기준 (없으면 기본값 사용)", example = "5")
+    private Integer lowStockThreshold;
+
     @Schema(description = "관련 상품 목록")
     private List<ProductResponse> relatedProducts;
 
@@ -0,0 +1,65 @@
+package com.commercecoupon.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "상품 검색 패싯 응답")
+public class ProductFacetResponse {
+
+    @Schema(description = "모든 조건을 만족하는 상품 수", example = "128")
+    private Integer totalCount;
+
+    @Schema(description = "가격 조건을 제외한 결과의 최저가", example = "9900")
+    private Integer minPrice;
+
+    @Schema(description = "가격 조건을 제외한 결과의 최고가", example = "3500000")
+    private Integer maxPrice;
+
+    @Schema(description = "카테고리별 상품 수 (카테고리 조건 제외)")
+    private List<CategoryFacet> categories;
+
+    @Schema(description = "가격 구간별 상품 수 (가격 조건 제외)")
+    private List<PriceRangeFacet> priceRanges;
+
+    @Schema(description = "추천 상품 수 (추천 조건 제외)", example = "12")
+    private Integer featuredCount;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategoryFacet {
+        @Schema(description = "카테고리 ID", example = "1")
+        private Long categoryId;
+
+        @Schema(description = "카테고리명", example = "노트북")
+        private String categoryName;
+
+        @Schema(description = "상품 수", example = "42")
+        private Integer count;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PriceRangeFacet {
+        @Schema(description = "구간 최저가 (이상)", example = "100000")
+        private Integer minPrice;
+
+        @Schema(description = "구간 최고가 (미만, 마지막 구간은 null)", example = "300000")
+        private Integer maxPrice;
+
+        @Schema(description = "상품 수", example = "17")
+        private Integer count;
+    }
+}
@@ -0,0 +1,47 @@
+package com.commercecoupon.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "상품 일괄 등록 결과")
+public class ProductImportResponse {
+
+    @Schema(description = "처리한 행 수 (헤더, 빈 줄 제외)", example = "100000")
+    private Integer totalRows;
+
+    @Schema(description = "등록 성공 수", example = "99850")
+    private Integer importedCount;
+
+    @Schema(description = "등록 실패 수", example = "150")
+    private Integer failedCount;
+
+    @Schema(description = "행별 오류 목록 (최대 1000건)")
+    private List<RowError> errors;
+
+    @Schema(description = "처리 시간 (밀리초)", example = "5320")
+    private Long elapsedMillis;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        @Schema(description = "파일의 줄 번호 (1부터, 헤더와 빈 줄 포함)", example = "15")
+        private Integer row;
+
+        @Schema(description = "상품명", example = "MacBook Pro 14인치")
+        private String name;
+
+        @Schema(description = "오류 메시지", example = "존재하지 않는 카테고리입니다")
+        private String message;
+    }
+}
@@ -0,0 +1,49 @@
+package com.commercecoupon.dto.response;
+
+import com.commercecoupon.enums.ProductScheduleStatus;
+import com.commercecoupon.enums.ProductStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "상품 가격/상태 예약 변경 응답")
+public class ProductScheduleResponse {
+
+    @Schema(description = "예약 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "상품 ID", example = "1")
+    private Long productId;
+
+    @Schema(description = "적용할 가격", example = "1990000")
+    private Integer salePrice;
+
+    @Schema(description = "적용할 상태", example = "ACTIVE")
+    private ProductStatus targetStatus;
+
+    @Schema(description = "시작 시각")
+    private LocalDateTime startAt;
+
+    @Schema(description = "종료 시각")
+    private LocalDateTime endAt;
+
+    @Schema(description = "적용 직전 가격 (적용 후에만 존재)", example = "2490000")
+    private Integer originalPrice;
+
+    @Schema(description = "적용 직전 상태 (적용 후에만 존재)", example = "ACTIVE")
+    private ProductStatus originalStatus;
+
+    @Schema(description = "예약 상태", example = "PENDING")
+    private ProductScheduleStatus status;
+
+    @Schema(description = "생성일시")
+    private LocalDateTime createdAt;
+}
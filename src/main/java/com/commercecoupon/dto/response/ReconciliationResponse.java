@@ -0,0 +1,42 @@
+package com.commercecoupon.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "결제 정산 대사 결과")
+public class ReconciliationResponse {
+
+    @Schema(description = "정산 일자", example = "2026-10-17")
+    private LocalDate settlementDate;
+
+    @Schema(description = "정산 파일 거래 수", example = "1250000")
+    private Long settlementCount;
+
+    @Schema(description = "대사 대상 결제 수", example = "1250010")
+    private Long paymentCount;
+
+    @Schema(description = "일치한 거래 수", example = "1249990")
+    private Long matchedCount;
+
+    @Schema(description = "불일치 건수")
+    private Long mismatchCount;
+
+    @Schema(description = "불일치 유형별 건수")
+    private Map<String, Long> mismatchCounts;
+
+    @Schema(description = "불일치 리포트 파일 경로", example = "./data/settlements/reports/reconciliation-20261017.csv")
+    private String reportFile;
+
+    @Schema(description = "소요 시간 (밀리초)", example = "2300")
+    private Long elapsedMs;
+}
@@ -14,7 +14,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "carts")
+@Table(name = "carts", indexes = {
+        @Index(name = "idx_carts_updated_at_id", columnList = "updated_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -34,12 +36,44 @@ public class Cart {
     @Builder.Default
     private List<CartItem> items = new ArrayList<>();
 
+    // 장바구니 내용이 바뀔 때마다 1씩 증가 (ETag) - 엔티티 저장으로 덮어쓰지 않도록 CartRepository.increaseVersion으로만 변경
+    @Builder.Default
+    @Column(updatable = false)
+    private Long version = 0L;
+
+    @Lob
+    private byte[] compactedItems; // 오래 방치되어 압축 보관 중인 아이템 (CartSnapshotCodec, 복원 시 null)
+
+    private LocalDateTime compactedAt;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    /**
+     * 현재 버전 (컬럼 추가 전 장바구니는 0)
+     */
+    public long getCurrentVersion() {
+        return version != null ? version : 0L;
+    }
+
+    /**
+     * 아이템이 압축 보관 중인지 (다음 접근 시 복원 필요)
+     */
+    public boolean isCompacted() {
+        return compactedAt != null;
+    }
+
+    /**
+     * 압축 보관 아이템 폐기 (장바구니 비우기)
+     */
+    public void discardCompactedItems() {
+        this.compactedItems = null;
+        this.compactedAt = null;
+    }
+
     /**
      * 총 상품 개수 계산
      */
@@ -36,6 +36,8 @@ public class CartItem {
     @Column(nullable = false)
     private Integer quantity;
 
+    private Integer addedPrice; // 담을 당시 단가 (가격 변경 안내용, 컬럼 추가 전 아이템은 null)
+
     @CreatedDate
     private LocalDateTime createdAt;
 
@@ -66,6 +68,13 @@ public class CartItem {
         this.quantity = newQuantity;
     }
 
+    /**
+     * 담은 이후 가격이 바뀌었는지
+     */
+    public boolean isPriceChanged() {
+        return addedPrice != null && !addedPrice.equals(product.getPrice());
+    }
+
     /**
      * 재고 확인
      */
@@ -13,7 +13,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_pg_transaction_id", columnList = "pg_transaction_id"),
+        @Index(name = "idx_payments_approved_at", columnList = "approved_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -63,16 +66,10 @@ public class Payment {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
-    /**
-     * 결제 키 생성
-     */
-    public static String generatePaymentKey(Long orderId) {
-        LocalDateTime now = LocalDateTime.now();
-        return String.format("tgen_%04d%02d%02d%02d%02d%02d_%d",
-                now.getYear(), now.getMonthValue(), now.getDayOfMonth(),
-                now.getHour(), now.getMinute(), now.getSecond(),
-                orderId);
-    }
+    // 승인/취소 결과 반영과 웹훅 처리가 서로의 변경을 덮어쓰지 않도록 낙관적 잠금 (기존 행은 0부터)
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
 
     /**
      * 결제 완료 처리
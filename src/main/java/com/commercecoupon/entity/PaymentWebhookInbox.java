@@ -0,0 +1,86 @@
+package com.commercecoupon.entity;
+
+import com.commercecoupon.enums.PaymentWebhookInboxStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 웹훅 수신함
+ *
+ * - 웹훅 요청 트랜잭션에서 저장한 뒤에 2xx로 응답하므로, 응답한 이벤트는 재시작/처리 실패와 상관없이 남음
+ * - 이벤트 ID(PaymentWebhookRequest.dedupKey) 유니크 제약으로 PG 재전송을 한 번만 저장
+ */
+@Entity
+@Table(name = "payment_webhook_inbox", indexes = {
+        @Index(name = "idx_payment_webhook_inbox_status_id", columnList = "status, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_payment_webhook_inbox_event_id", columnNames = "event_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class PaymentWebhookInbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, length = 200)
+    private String eventId;
+
+    @Column(nullable = false)
+    private String paymentKey;
+
+    @Column(nullable = false)
+    private Integer paymentKeyHash; // 처리 스레드 선택용 (0 이상)
+
+    @Lob
+    @Column(nullable = false)
+    private String payload; // 서명 검증을 통과한 원본 본문
+
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    @Column(nullable = false)
+    private PaymentWebhookInboxStatus status = PaymentWebhookInboxStatus.PENDING;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @CreatedDate
+    private LocalDateTime receivedAt;
+
+    private LocalDateTime processedAt;
+
+    /**
+     * 처리 완료
+     */
+    public void markProcessed() {
+        this.status = PaymentWebhookInboxStatus.PROCESSED;
+        this.processedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 처리 실패 기록 (최대 시도 횟수에 도달하면 실패로 확정)
+     */
+    public void recordFailure(String error, int maxAttempts) {
+        this.attempts = attempts + 1;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (attempts >= maxAttempts) {
+            this.status = PaymentWebhookInboxStatus.FAILED;
+            this.processedAt = LocalDateTime.now();
+        }
+    }
+}
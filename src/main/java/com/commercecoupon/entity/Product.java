@@ -1,5 +1,6 @@
 package com.commercecoupon.entity;
 
+import com.commercecoupon.entity.converter.StringListConverter;
 import com.commercecoupon.enums.ProductStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -11,9 +12,16 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_products_category_status_created_at", columnList = "category_id, status, created_at"),
+        @Index(name = "idx_products_status_price", columnList = "status, price"),
+        @Index(name = "idx_products_status_sales_count", columnList = "status, sales_count"),
+        @Index(name = "idx_products_status_featured_sales_count", columnList = "status, is_featured, sales_count")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -41,8 +49,10 @@ public class Product {
     @Column(length = 500)
     private String imageUrl;
 
+    @Builder.Default
+    @Convert(converter = StringListConverter.class)
     @Column(length = 1000)
-    private String detailImageUrls; // JSON 형태로 여러 이미지 URL 저장
+    private List<String> detailImageUrls = List.of(); // JSON 배열로 저장
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
@@ -64,8 +74,12 @@ public class Product {
     @Column(nullable = false)
     private Boolean isFeatured = false; // 추천 상품 여부
 
+    private Integer lowStockThreshold; // 재고 부족 알림 기준 (null이면 기본값 사용)
+
+    @Builder.Default
+    @Convert(converter = StringListConverter.class)
     @Column(length = 1000)
-    private String tags; // 검색용 태그 (콤마 구분)
+    private List<String> tags = List.of(); // 검색용 태그 (JSON 배열로 저장)
 
     @CreatedDate
     private LocalDateTime createdAt;
@@ -73,22 +87,7 @@ public class Product {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
-    /**
-     * 재고 차감 메서드
-     */
-    public void decreaseStock(Integer quantity) {
-        if (this.stock < quantity) {
-            throw new IllegalArgumentException("재고가 부족합니다");
-        }
-        this.stock -= quantity;
-    }
-
-    /**
-     * 재고 증가 메서드 (취소 시 사용)
-     */
-    public void increaseStock(Integer quantity) {
-        this.stock += quantity;
-    }
+    // 재고/판매수 변경은 InventoryService에서 UPDATE 문으로 처리 (품절 상태 전환 포함)
 
     /**
      * 조회수 증가
@@ -96,11 +95,4 @@ public class Product {
     public void increaseViewCount() {
         this.viewCount++;
     }
-
-    /**
-     * 판매수 증가
-     */
-    public void increaseSalesCount(Integer quantity) {
-        this.salesCount += quantity;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.commercecoupon.entity;
+
+import com.commercecoupon.enums.ProductScheduleStatus;
+import com.commercecoupon.enums.ProductStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 가격/상태 예약 변경 (기간 한정 할인 등)
+ */
+@Entity
+@Table(name = "product_schedules", indexes = {
+        @Index(name = "idx_product_schedules_status_start_at", columnList = "status, start_at"),
+        @Index(name = "idx_product_schedules_product_status", columnList = "product_id, status")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class ProductSchedule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    private Integer salePrice; // 적용할 가격 (null이면 가격 변경 없음)
+
+    @Enumerated(EnumType.STRING)
+    private ProductStatus targetStatus; // 적용할 상태 (null이면 상태 변경 없음)
+
+    @Column(nullable = false)
+    private LocalDateTime startAt;
+
+    private LocalDateTime endAt; // null이면 원래 값으로 복원하지 않음
+
+    private Integer originalPrice; // 적용 직전 가격 (종료 시 복원)
+
+    @Enumerated(EnumType.STRING)
+    private ProductStatus originalStatus; // 적용 직전 상태 (종료 시 복원)
+
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    @Column(nullable = false)
+    private ProductScheduleStatus status = ProductScheduleStatus.PENDING;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,91 @@
+package com.commercecoupon.entity.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 문자열 목록 <-> JSON 배열 컬럼 변환
+ *
+ * - 엔티티 적재 시 한 번만 파싱하고 불변 리스트로 보관하므로 응답/캐시에서 그대로 공유 가능
+ * - 마이그레이션 전의 콤마 구분 값도 읽을 수 있음 (JSON 배열로 파싱되지 않으면 콤마 구분으로 처리, ProductListColumnMigration 참고)
+ * - 빈 목록은 null로 저장
+ */
+@Converter
+public class StringListConverter implements AttributeConverter<List<String>, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> LIST_TYPE = new TypeReference<>() {};
+
+    @Override
+    public String convertToDatabaseColumn(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("목록을 JSON으로 변환할 수 없습니다", e);
+        }
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String column) {
+        if (column == null || column.isBlank()) {
+            return List.of();
+        }
+        List<String> values = parseJsonArray(column);
+        return normalize(values != null ? values : splitCommaSeparated(column));
+    }
+
+    /**
+     * JSON 배열로 저장된 값인지 확인 (콤마 구분 값과 구분)
+     * "[특가],신상"처럼 대괄호로 시작하는 콤마 구분 값도 있으므로 실제로 파싱해 본다.
+     */
+    public static boolean isJsonArray(String column) {
+        return parseJsonArray(column) != null;
+    }
+
+    /**
+     * 콤마 구분 문자열을 목록으로 변환 (앞뒤 공백 제거, 빈 항목 제외)
+     */
+    public static List<String> splitCommaSeparated(String value) {
+        List<String> values = new ArrayList<>();
+        if (value == null || value.isEmpty()) {
+            return values;
+        }
+        for (String item : value.split(",")) {
+            String trimmed = item.trim();
+            if (!trimmed.isEmpty()) {
+                values.add(trimmed);
+            }
+        }
+        return values;
+    }
+
+    private static List<String> parseJsonArray(String column) {
+        if (column == null || !column.stripLeading().startsWith("[")) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(column, LIST_TYPE);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private List<String> normalize(List<String> values) {
+        List<String> normalized = new ArrayList<>(values.size());
+        for (String value : values) {
+            if (value != null) {
+                normalized.add(value);
+            }
+        }
+        return List.copyOf(normalized);
+    }
+}
@@ -0,0 +1,21 @@
+package com.commercecoupon.enums;
+
+/**
+ * 결제 웹훅 수신함 처리 상태
+ */
+public enum PaymentWebhookInboxStatus {
+    /**
+     * 대기 - 저장만 되고 아직 결제에 반영되지 않음
+     */
+    PENDING,
+
+    /**
+     * 처리됨 - 결제에 반영됨 (이미 반영된 상태라 바뀐 것이 없는 경우 포함)
+     */
+    PROCESSED,
+
+    /**
+     * 실패 - 최대 시도 횟수를 넘겨 더 이상 재시도하지 않음
+     */
+    FAILED
+}
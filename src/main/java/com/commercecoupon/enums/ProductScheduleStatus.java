@@ -0,0 +1,26 @@
+package com.commercecoupon.enums;
+
+/**
+ * 상품 가격/상태 예약 변경 상태
+ */
+public enum ProductScheduleStatus {
+    /**
+     * 대기 - 시작 시각 전
+     */
+    PENDING,
+
+    /**
+     * 적용중 - 예약 가격/상태가 상품에 반영된 상태
+     */
+    ACTIVE,
+
+    /**
+     * 완료 - 종료 시각이 지나 원래 가격/상태로 복원됨 (종료 시각이 없으면 적용 즉시 완료)
+     */
+    COMPLETED,
+
+    /**
+     * 취소 - 시작 전에 관리자가 취소함
+     */
+    CANCELLED
+}
@@ -0,0 +1,18 @@
+package com.commercecoupon.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 재고가 상품별 재고 부족 기준 이하로 내려갔을 때 발행 (기준 위에서 아래로 넘어가는 순간 한 번)
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class LowStockEvent {
+
+    private final Long productId;
+    private final int stock;
+    private final int threshold;
+}
@@ -0,0 +1,20 @@
+package com.commercecoupon.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 주문이 생성되었을 때 발행 (OrderService에서만 발행)
+ * 동시 구매 추천 반영은 커밋 후 CoPurchaseRecommender에서 처리하므로 롤백된 주문은 집계되지 않습니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class OrderPlacedEvent {
+
+    private final Long orderId;
+    private final List<Long> productIds;
+}
@@ -0,0 +1,24 @@
+package com.commercecoupon.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 상품 정보(상품명/설명/태그/가격/상태/카테고리/추천 여부 등)가 바뀌었을 때 발행
+ * 검색/랭킹/패싯/재고 부족 색인과 카탈로그 캐시는 커밋 후 ProductIndexUpdater에서 한 번에 반영합니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+
+    private final List<Long> productIds;
+    private final boolean textChanged; // 상품명/설명/태그 변경 여부 (검색 색인 재색인 필요)
+
+    public static ProductChangedEvent of(Long productId, boolean textChanged) {
+        return new ProductChangedEvent(List.of(productId), textChanged);
+    }
+}
@@ -0,0 +1,47 @@
+package com.commercecoupon.event;
+
+import com.commercecoupon.enums.ProductStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 재고가 바뀌었을 때 발행 (InventoryService에서만 발행)
+ * stock/status는 변경이 반영된 직후 값이며, 색인 반영은 커밋 후 ProductIndexUpdater에서 처리합니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class StockChangedEvent {
+
+    public enum Reason {
+        ORDER,          // 주문 차감
+        ORDER_CANCEL,   // 주문 취소 복원
+        ADJUSTMENT,     // 관리자 재고 조정
+        INITIAL         // 상품 등록 / 일괄 등록
+    }
+
+    private final Long productId;
+    private final Reason reason;
+    private final int quantity; // 차감/복원 수량 (조정/등록은 설정한 재고)
+    private final int stock;
+    private final ProductStatus status;
+    private final LocalDateTime soldAt; // 주문 차감은 판매 시각, 주문 취소는 취소된 주문의 판매 시각 (그 외 null)
+
+    /**
+     * 재고가 0을 넘나들었는지 (판매중/품절 전환으로 상품 목록 노출이 바뀜)
+     * 관리자 조정은 이전 재고를 담지 않으므로 항상 바뀐 것으로 봅니다.
+     */
+    public boolean isAvailabilityChanged() {
+        switch (reason) {
+            case ORDER:
+                return stock <= 0;
+            case ORDER_CANCEL:
+                return stock > 0 && stock - quantity <= 0;
+            default:
+                return true;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -67,4 +68,11 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
      */
     @Query("SELECT ci FROM CartItem ci WHERE ci.cart.id = :cartId AND ci.quantity > ci.product.stock")
     List<CartItem> findInsufficientStockItemsByCartId(@Param("cartId") Long cartId);
+
+    /**
+     * 장바구니 압축용 아이템 요약 조회 - [장바구니 ID, 상품 ID, 수량, 담을 당시 단가]
+     */
+    @Query("SELECT ci.cart.id, ci.product.id, ci.quantity, ci.addedPrice FROM CartItem ci " +
+            "WHERE ci.cart.id IN :cartIds ORDER BY ci.cart.id ASC, ci.id ASC")
+    List<Object[]> findSnapshotRows(@Param("cartIds") Collection<Long> cartIds);
 }
\ No newline at end of file
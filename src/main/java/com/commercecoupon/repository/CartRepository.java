@@ -2,11 +2,17 @@ package com.commercecoupon.repository;
 
 import com.commercecoupon.entity.Cart;
 import com.commercecoupon.entity.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,6 +23,13 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
      */
     Optional<Cart> findByUser(User user);
 
+    /**
+     * 사용자별 장바구니 조회 + 행 잠금 (장바구니 변경/주문 - 아이템보다 장바구니 행을 먼저 잠가 정리 배치의 압축과 겹치지 않게 함)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Cart c WHERE c.user = :user")
+    Optional<Cart> findByUserForUpdate(@Param("user") User user);
+
     /**
      * 사용자 ID로 장바구니 조회
      */
@@ -28,6 +41,37 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
     @Query("SELECT c FROM Cart c WHERE c.user.email = :email")
     Optional<Cart> findByUserEmail(@Param("email") String email);
 
+    /**
+     * 사용자 이메일로 장바구니 버전 조회 (ETag 비교용) - [버전, 사용자 등급]
+     */
+    @Query("SELECT c.version, c.user.role FROM Cart c WHERE c.user.email = :email")
+    List<Object[]> findVersionRowsByUserEmail(@Param("email") String email);
+
+    /**
+     * 장바구니 버전 증가 (동시 변경이 같은 버전을 받지 않도록 DB에서 +1, 행 잠금은 커밋까지 유지)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Cart c SET c.version = COALESCE(c.version, 0) + 1, c.updatedAt = :now WHERE c.id = :id")
+    int increaseVersion(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 장바구니 버전 조회 (증가 후 값 확인용)
+     */
+    @Query("SELECT c.version FROM Cart c WHERE c.id = :id")
+    Long findVersionById(@Param("id") Long id);
+
+    /**
+     * 방치된 장바구니 키셋 조회 (수정일시, ID 순, 압축된 장바구니 제외) - [ID, 사용자 ID, 수정일시, 아이템 수]
+     */
+    @Query("SELECT c.id, c.user.id, c.updatedAt, COUNT(i.id) FROM Cart c LEFT JOIN c.items i " +
+            "WHERE c.compactedAt IS NULL AND c.updatedAt < :cutoff " +
+            "AND (c.updatedAt > :lastUpdatedAt OR (c.updatedAt = :lastUpdatedAt AND c.id > :lastId)) " +
+            "GROUP BY c.id, c.user.id, c.updatedAt ORDER BY c.updatedAt ASC, c.id ASC")
+    List<Object[]> findStaleCartRows(@Param("cutoff") LocalDateTime cutoff,
+                                     @Param("lastUpdatedAt") LocalDateTime lastUpdatedAt,
+                                     @Param("lastId") Long lastId,
+                                     Pageable pageable);
+
     /**
      * 장바구니 존재 여부 확인
      */
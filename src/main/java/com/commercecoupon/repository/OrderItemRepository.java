@@ -3,12 +3,16 @@ package com.commercecoupon.repository;
 import com.commercecoupon.entity.Order;
 import com.commercecoupon.entity.OrderItem;
 import com.commercecoupon.entity.Product;
+import com.commercecoupon.enums.OrderStatus;
+import com.commercecoupon.enums.PaymentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -53,4 +57,33 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
             "WHERE oi.product = :product " +
             "AND oi.order.status IN ('PAID', 'PREPARING', 'SHIPPED', 'DELIVERED')")
     Long sumQuantityByProduct(@Param("product") Product product);
-}
\ No newline at end of file
+
+    /**
+     * 기간 내 판매 내역 조회 (랭킹 구성용, 제외 상태의 주문/결제 제외) - [상품 ID, 수량, 주문일시]
+     */
+    @Query("SELECT oi.product.id, oi.quantity, oi.createdAt FROM OrderItem oi " +
+            "WHERE oi.createdAt >= :since AND oi.createdAt < :until " +
+            "AND oi.order.status NOT IN :excludedOrderStatuses " +
+            "AND NOT EXISTS (SELECT p.id FROM Payment p WHERE p.order = oi.order " +
+            "AND p.status IN :excludedPaymentStatuses)")
+    List<Object[]> findSalesBetween(@Param("since") LocalDateTime since,
+                                    @Param("until") LocalDateTime until,
+                                    @Param("excludedOrderStatuses") Collection<OrderStatus> excludedOrderStatuses,
+                                    @Param("excludedPaymentStatuses") Collection<PaymentStatus> excludedPaymentStatuses);
+
+    /**
+     * 주문 ID 범위의 장바구니 구성 조회 (연관 상품 계산용) - [주문 ID, 상품 ID]
+     */
+    @Query("SELECT oi.order.id, oi.product.id FROM OrderItem oi " +
+            "WHERE oi.order.id > :fromId AND oi.order.id <= :toId " +
+            "AND oi.order.status NOT IN ('CANCELLED', 'REFUNDED') " +
+            "ORDER BY oi.order.id")
+    List<Object[]> findBasketRows(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 주문 ID 목록에 해당하는 아이템 일괄 삭제 (아카이빙용)
+     */
+    @Modifying
+    @Query("DELETE FROM OrderItem oi WHERE oi.order.id IN :orderIds")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -102,4 +103,43 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT o FROM Order o WHERE o.status IN ('PENDING', 'PAID') " +
             "ORDER BY o.createdAt DESC")
     List<Order> findCancellableOrders();
-}
\ No newline at end of file
+
+    /**
+     * 아카이빙 대상 주문 ID 조회 (키셋 페이징)
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.status IN :statuses " +
+            "AND o.createdAt < :cutoffDate AND o.id > :lastId " +
+            "ORDER BY o.id ASC")
+    List<Long> findArchivableOrderIds(@Param("statuses") Collection<OrderStatus> statuses,
+                                      @Param("cutoffDate") LocalDateTime cutoffDate,
+                                      @Param("lastId") Long lastId,
+                                      Pageable pageable);
+
+    /**
+     * 주문 ID 목록으로 아이템/사용자/쿠폰과 함께 조회
+     */
+    @Query("SELECT DISTINCT o FROM Order o " +
+            "LEFT JOIN FETCH o.items " +
+            "LEFT JOIN FETCH o.user " +
+            "LEFT JOIN FETCH o.usedCoupon " +
+            "WHERE o.id IN :orderIds")
+    List<Order> findAllWithItemsByIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 최대 주문 ID 조회
+     */
+    @Query("SELECT MAX(o.id) FROM Order o")
+    Long findMaxId();
+
+    /**
+     * 주문 검색 색인 구성용 조회 (ID 범위 키셋 페이징)
+     * [id, orderNumber, recipientName, phone, userName, userEmail, status]
+     */
+    @Query("SELECT o.id, o.orderNumber, o.recipientName, o.phone, u.name, u.email, o.status " +
+            "FROM Order o JOIN o.user u " +
+            "WHERE o.id > :lastId AND o.id <= :toId " +
+            "ORDER BY o.id ASC")
+    List<Object[]> findSearchIndexRows(@Param("lastId") Long lastId,
+                                       @Param("toId") Long toId,
+                                       Pageable pageable);
+}
@@ -5,11 +5,13 @@ import com.commercecoupon.entity.Order;
 import com.commercecoupon.entity.User;
 import com.commercecoupon.enums.PaymentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -73,8 +75,31 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      */
     Optional<Payment> findByPgTransactionId(String pgTransactionId);
 
+    /**
+     * 결제 키 목록으로 주문과 함께 조회 (웹훅 일괄 처리용)
+     */
+    @Query("SELECT p FROM Payment p JOIN FETCH p.order WHERE p.paymentKey IN :paymentKeys")
+    List<Payment> findWithOrderByPaymentKeyIn(@Param("paymentKeys") Collection<String> paymentKeys);
+
+    /**
+     * PG 거래 ID 목록으로 조회 (정산 대사용)
+     */
+    List<Payment> findByPgTransactionIdIn(Collection<String> pgTransactionIds);
+
     /**
      * 결제 키 중복 확인
      */
     boolean existsByPaymentKey(String paymentKey);
-}
\ No newline at end of file
+
+    /**
+     * 주문 ID 목록으로 결제 조회
+     */
+    List<Payment> findByOrderIdIn(Collection<Long> orderIds);
+
+    /**
+     * 주문 ID 목록에 해당하는 결제 일괄 삭제 (아카이빙용)
+     */
+    @Modifying
+    @Query("DELETE FROM Payment p WHERE p.order.id IN :orderIds")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -0,0 +1,39 @@
+package com.commercecoupon.repository;
+
+import com.commercecoupon.entity.PaymentWebhookInbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PaymentWebhookInboxRepository extends JpaRepository<PaymentWebhookInbox, Long> {
+
+    /**
+     * 처리 스레드가 맡은 대기 이벤트 ID 조회 (받은 순서)
+     */
+    @Query("SELECT e.id FROM PaymentWebhookInbox e WHERE e.status = 'PENDING' " +
+            "AND MOD(e.paymentKeyHash, :workers) = :worker ORDER BY e.id ASC")
+    List<Long> findPendingIds(@Param("workers") int workers,
+                              @Param("worker") int worker,
+                              Pageable pageable);
+
+    /**
+     * 대기 이벤트 조회 (받은 순서, 다른 처리에서 이미 끝낸 이벤트 제외)
+     */
+    @Query("SELECT e FROM PaymentWebhookInbox e WHERE e.id IN :ids AND e.status = 'PENDING' ORDER BY e.id ASC")
+    List<PaymentWebhookInbox> findPendingByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 보관 기간이 지난 처리 완료/실패 이벤트 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM PaymentWebhookInbox e WHERE e.status <> 'PENDING' AND e.processedAt < :before")
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
@@ -5,14 +5,17 @@ import com.commercecoupon.enums.ProductStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
     // ==================== 일반 사용자용 쿼리 메서드들 ====================
 
@@ -33,7 +36,7 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.status = :status " +
             "AND (LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
             "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(p.tags) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "OR LOWER(CAST(p.tags AS String)) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
             "ORDER BY p.createdAt DESC")
     Page<Product> findByKeywordAndStatus(@Param("keyword") String keyword,
                                          @Param("status") ProductStatus status,
@@ -94,7 +97,7 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE " +
             "(LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
             "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(p.tags) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "OR LOWER(CAST(p.tags AS String)) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
             "ORDER BY p.createdAt DESC")
     Page<Product> findByKeywordIgnoreCase(@Param("keyword") String keyword, Pageable pageable);
 
@@ -105,6 +108,59 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
             "AND p.status = 'ACTIVE' ORDER BY p.stock ASC")
     List<Product> findLowStockProducts(@Param("threshold") Integer threshold);
 
+    /**
+     * 상품별 재고 부족 기준 이하인 상품 조회 (기준이 없는 상품은 defaultThreshold 적용)
+     */
+    @Query("SELECT p FROM Product p WHERE p.stock <= COALESCE(p.lowStockThreshold, :defaultThreshold) " +
+            "AND p.status = 'ACTIVE' ORDER BY p.stock ASC")
+    List<Product> findBelowOwnThreshold(@Param("defaultThreshold") Integer defaultThreshold);
+
+    // ==================== 재고 변경 (InventoryService 전용) ====================
+    // 상태를 재고보다 먼저 SET 해야 MySQL처럼 앞쪽 대입 결과를 보는 DB에서도 변경 전 재고로 판단함
+
+    /**
+     * 재고 차감 + 판매수 증가 (재고가 모자라면 갱신하지 않음, 재고가 0이 되면 판매중 -> 품절)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET " +
+            "p.status = CASE WHEN p.stock = :quantity AND p.status = :active THEN :outOfStock ELSE p.status END, " +
+            "p.stock = p.stock - :quantity, p.salesCount = p.salesCount + :quantity, p.updatedAt = :now " +
+            "WHERE p.id = :id AND p.stock >= :quantity")
+    int decreaseStock(@Param("id") Long id,
+                      @Param("quantity") int quantity,
+                      @Param("active") ProductStatus active,
+                      @Param("outOfStock") ProductStatus outOfStock,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 재고 증가 + 판매수 감소 (주문 취소, 품절 상품은 판매중으로 복귀)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET " +
+            "p.status = CASE WHEN p.status = :outOfStock THEN :active ELSE p.status END, " +
+            "p.salesCount = CASE WHEN p.salesCount >= :quantity THEN p.salesCount - :quantity ELSE 0 END, " +
+            "p.stock = p.stock + :quantity, p.updatedAt = :now " +
+            "WHERE p.id = :id")
+    int increaseStock(@Param("id") Long id,
+                      @Param("quantity") int quantity,
+                      @Param("active") ProductStatus active,
+                      @Param("outOfStock") ProductStatus outOfStock,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 재고 설정 (현재 상태가 fromStatus이면 toStatus로 변경)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET " +
+            "p.status = CASE WHEN p.status = :fromStatus THEN :toStatus ELSE p.status END, " +
+            "p.stock = :stock, p.updatedAt = :now " +
+            "WHERE p.id = :id")
+    int setStock(@Param("id") Long id,
+                 @Param("stock") int stock,
+                 @Param("fromStatus") ProductStatus fromStatus,
+                 @Param("toStatus") ProductStatus toStatus,
+                 @Param("now") LocalDateTime now);
+
     // ==================== 공통 유틸리티 메서드들 ====================
 
     /**
@@ -116,4 +172,54 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * 상품명 중복 확인
      */
     boolean existsByName(String name);
-}
\ No newline at end of file
+
+    /**
+     * ID 기준 키셋 페이징 조회 (검색 색인 구성용)
+     */
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
+
+    /**
+     * 연관 상품 계산용 상품 요약 조회 (ID 기준 키셋 페이징) - [ID, 카테고리 ID, 판매수, 상태]
+     */
+    @Query("SELECT p.id, p.category.id, p.salesCount, p.status FROM Product p " +
+            "WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<Object[]> findRelationRows(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 패싯 계산용 상품 속성 조회 (ID 기준 키셋 페이징) - [ID, 카테고리 ID, 가격, 상태, 추천 여부]
+     */
+    @Query("SELECT p.id, p.category.id, p.price, p.status, p.isFeatured FROM Product p " +
+            "WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<Object[]> findFacetRows(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 재고 부족 색인 구성용 조회 (ID 기준 키셋 페이징) - [ID, 재고, 재고 부족 기준, 상태]
+     */
+    @Query("SELECT p.id, p.stock, p.lowStockThreshold, p.status FROM Product p " +
+            "WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<Object[]> findStockRows(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 가격/상태 조회 (예약 변경 적용 전 원래 값 기록용) - [ID, 가격, 상태]
+     */
+    @Query("SELECT p.id, p.price, p.status FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findPriceStatusRows(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 장바구니 금액/재고 계산용 상품 요약 조회 (ID 오름차순) - [ID, 가격, 재고, 상태]
+     */
+    @Query("SELECT p.id, p.price, p.stock, p.status FROM Product p WHERE p.id IN :ids ORDER BY p.id ASC")
+    List<Object[]> findValuationRows(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 전체 상품명 조회 (일괄 등록 시 중복 확인용)
+     */
+    @Query("SELECT p.name FROM Product p")
+    List<String> findAllNames();
+
+    /**
+     * 마지막 상품 ID
+     */
+    @Query("SELECT MAX(p.id) FROM Product p")
+    Long findMaxId();
+}
@@ -0,0 +1,13 @@
+package com.commercecoupon.repository;
+
+import com.commercecoupon.entity.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface ProductRepositoryCustom {
+
+    /**
+     * 조건 조합 검색 (키워드, 카테고리, 가격 범위, 추천 여부, 상태를 하나의 쿼리로 결합)
+     */
+    Page<Product> searchByCondition(ProductSearchCondition condition, Pageable pageable);
+}
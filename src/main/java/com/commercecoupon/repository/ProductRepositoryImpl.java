@@ -0,0 +1,142 @@
+package com.commercecoupon.repository;
+
+import com.commercecoupon.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 조건 검색 구현
+ *
+ * 조건 조합(비트마스크)과 정렬 조합별로 JPQL 문자열을 한 번만 만들어 캐시합니다.
+ * 같은 문자열이 재사용되므로 Hibernate 쿼리 플랜 캐시도 조합별로 한 번만 컴파일됩니다.
+ */
+@RequiredArgsConstructor
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    private static final int KEYWORD = 1;
+    private static final int STATUS = 1 << 1;
+    private static final int CATEGORY = 1 << 2;
+    private static final int MIN_PRICE = 1 << 3;
+    private static final int MAX_PRICE = 1 << 4;
+    private static final int FEATURED = 1 << 5;
+
+    // 정렬 가능한 필드 (화이트리스트)
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("createdAt", "price", "salesCount", "viewCount", "id");
+
+    private static final Map<String, String> SELECT_QUERY_CACHE = new ConcurrentHashMap<>();
+    private static final Map<Integer, String> COUNT_QUERY_CACHE = new ConcurrentHashMap<>();
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<Product> searchByCondition(ProductSearchCondition condition, Pageable pageable) {
+        int mask = resolveMask(condition);
+        String orderBy = buildOrderBy(pageable.getSort());
+
+        String selectQuery = SELECT_QUERY_CACHE.computeIfAbsent(mask + "|" + orderBy,
+                key -> "SELECT p FROM Product p" + buildWhere(mask) + orderBy);
+        String countQuery = COUNT_QUERY_CACHE.computeIfAbsent(mask,
+                key -> "SELECT COUNT(p) FROM Product p" + buildWhere(mask));
+
+        TypedQuery<Product> query = entityManager.createQuery(selectQuery, Product.class);
+        bindParameters(query, condition, mask);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        List<Product> content = query.getResultList();
+
+        TypedQuery<Long> count = entityManager.createQuery(countQuery, Long.class);
+        bindParameters(count, condition, mask);
+
+        return new PageImpl<>(content, pageable, count.getSingleResult());
+    }
+
+    // ===== Private Methods =====
+
+    private int resolveMask(ProductSearchCondition condition) {
+        int mask = 0;
+        if (condition.hasKeyword()) {
+            mask |= KEYWORD;
+        }
+        if (condition.getStatus() != null) {
+            mask |= STATUS;
+        }
+        if (condition.getCategoryId() != null) {
+            mask |= CATEGORY;
+        }
+        if (condition.getMinPrice() != null) {
+            mask |= MIN_PRICE;
+        }
+        if (condition.getMaxPrice() != null) {
+            mask |= MAX_PRICE;
+        }
+        if (condition.isFeaturedOnly()) {
+            mask |= FEATURED;
+        }
+        return mask;
+    }
+
+    private String buildWhere(int mask) {
+        StringBuilder where = new StringBuilder();
+        appendIf(where, mask, STATUS, "p.status = :status");
+        appendIf(where, mask, CATEGORY, "p.category.id = :categoryId");
+        appendIf(where, mask, MIN_PRICE, "p.price >= :minPrice");
+        appendIf(where, mask, MAX_PRICE, "p.price <= :maxPrice");
+        appendIf(where, mask, FEATURED, "p.isFeatured = true");
+        appendIf(where, mask, KEYWORD, "(LOWER(p.name) LIKE :keyword " +
+                "OR LOWER(p.description) LIKE :keyword " +
+                "OR LOWER(CAST(p.tags AS String)) LIKE :keyword)");
+        return where.toString();
+    }
+
+    private void appendIf(StringBuilder where, int mask, int flag, String predicate) {
+        if ((mask & flag) == 0) {
+            return;
+        }
+        where.append(where.length() == 0 ? " WHERE " : " AND ").append(predicate);
+    }
+
+    private String buildOrderBy(Sort sort) {
+        StringBuilder orderBy = new StringBuilder();
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                continue;
+            }
+            orderBy.append(orderBy.length() == 0 ? " ORDER BY " : ", ")
+                    .append("p.").append(order.getProperty())
+                    .append(order.isAscending() ? " ASC" : " DESC");
+        }
+        // 동일 값 정렬 시 페이지 경계가 흔들리지 않도록 ID를 마지막 정렬 기준으로 추가
+        if (sort.getOrderFor("id") == null) {
+            orderBy.append(orderBy.length() == 0 ? " ORDER BY " : ", ").append("p.id DESC");
+        }
+        return orderBy.toString();
+    }
+
+    private void bindParameters(TypedQuery<?> query, ProductSearchCondition condition, int mask) {
+        if ((mask & KEYWORD) != 0) {
+            query.setParameter("keyword", "%" + condition.getKeyword().trim().toLowerCase() + "%");
+        }
+        if ((mask & STATUS) != 0) {
+            query.setParameter("status", condition.getStatus());
+        }
+        if ((mask & CATEGORY) != 0) {
+            query.setParameter("categoryId", condition.getCategoryId());
+        }
+        if ((mask & MIN_PRICE) != 0) {
+            query.setParameter("minPrice", condition.getMinPrice());
+        }
+        if ((mask & MAX_PRICE) != 0) {
+            query.setParameter("maxPrice", condition.getMaxPrice());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.commercecoupon.repository;
+
+import com.commercecoupon.entity.ProductSchedule;
+import com.commercecoupon.enums.ProductScheduleStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProductScheduleRepository extends JpaRepository<ProductSchedule, Long> {
+
+    /**
+     * 상품의 예약 변경 목록 (최근 시작 순)
+     */
+    List<ProductSchedule> findByProductIdOrderByStartAtDesc(Long productId);
+
+    /**
+     * 상태별 예약 변경 조회 (시작 시 타이머 휠 적재용)
+     */
+    List<ProductSchedule> findByStatusIn(Collection<ProductScheduleStatus> statuses);
+
+    /**
+     * [startAt, endAt) 기간과 겹치는 대기/적용중 예약 존재 여부 (기존 예약의 종료 시각이 없으면 무기한으로 간주)
+     */
+    @Query("SELECT COUNT(s) > 0 FROM ProductSchedule s WHERE s.product.id = :productId " +
+            "AND s.status IN ('PENDING', 'ACTIVE') " +
+            "AND (s.endAt IS NULL OR s.endAt > :startAt) " +
+            "AND s.startAt < :endAt")
+    boolean existsOverlapping(@Param("productId") Long productId,
+                              @Param("startAt") LocalDateTime startAt,
+                              @Param("endAt") LocalDateTime endAt);
+
+    /**
+     * startAt 이후 무기한 기간과 겹치는 대기/적용중 예약 존재 여부
+     * (null 파라미터 비교는 Hibernate 6에서 타입을 추론하지 못하므로 종료 시각이 없는 경우를 따로 조회)
+     */
+    @Query("SELECT COUNT(s) > 0 FROM ProductSchedule s WHERE s.product.id = :productId " +
+            "AND s.status IN ('PENDING', 'ACTIVE') " +
+            "AND (s.endAt IS NULL OR s.endAt > :startAt)")
+    boolean existsOverlappingFrom(@Param("productId") Long productId,
+                                  @Param("startAt") LocalDateTime startAt);
+
+    /**
+     * 시작 전인 예약만 취소 (실행기와 동시에 처리되어도 적용중 예약을 취소하지 않도록 상태 조건으로 갱신)
+     */
+    @Modifying
+    @Query("UPDATE ProductSchedule s SET s.status = 'CANCELLED', s.updatedAt = :now " +
+            "WHERE s.id = :id AND s.status = 'PENDING'")
+    int cancelIfPending(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,33 @@
+package com.commercecoupon.repository;
+
+import com.commercecoupon.enums.ProductStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.util.StringUtils;
+
+/**
+ * 상품 목록 조회 조건
+ * 모든 조건은 선택 사항이며, 값이 있는 조건만 AND로 결합됩니다.
+ */
+@Getter
+@Builder
+@ToString
+public class ProductSearchCondition {
+
+    private String keyword;
+
+    private ProductStatus status;
+
+    private Long categoryId;
+
+    private Integer minPrice;
+
+    private Integer maxPrice;
+
+    private boolean featuredOnly;
+
+    public boolean hasKeyword() {
+        return StringUtils.hasText(keyword);
+    }
+}
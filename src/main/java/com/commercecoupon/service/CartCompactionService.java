@@ -0,0 +1,310 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.config.CartReaperConfig;
+import com.commercecoupon.entity.Cart;
+import com.commercecoupon.repository.CartItemRepository;
+import com.commercecoupon.repository.CartRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 방치된 장바구니 정리 배치
+ *
+ * 1. 수정일시가 기준보다 오래된 장바구니를 (수정일시, ID) 키셋으로 청크 단위 조회
+ * 2. 빈 장바구니는 행 삭제, 아이템이 있는 장바구니는 아이템을 압축 스냅샷 컬럼으로 옮기고 cart_items 행 삭제
+ * 3. 청크마다 별도 트랜잭션으로 처리하고 청크 사이에 쉬어 운영 트래픽에 부담을 주지 않음
+ * 삭제/압축은 조회 이후 수정일시가 바뀌지 않은 경우에만 적용하므로 그 사이 사용자가 변경한 장바구니는 건드리지 않습니다.
+ * 압축은 장바구니 행을 먼저 잠근 뒤 아이템을 읽고 지우며, 장바구니 변경/주문/메모리 반영도 장바구니 행을 먼저 잠그므로
+ * 압축 도중 추가된 아이템이 스냅샷 없이 삭제되지 않습니다.
+ * 압축된 장바구니는 다음 접근 시 restoreIfCompacted(DB 모드) 또는 메모리 장바구니 적재 시 아이템으로 복원됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CartCompactionService {
+
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final String DELETE_EMPTY_CART_SQL = "DELETE FROM carts WHERE id = ? AND updated_at = ? " +
+            "AND compacted_at IS NULL AND NOT EXISTS (SELECT 1 FROM cart_items WHERE cart_id = carts.id)";
+    private static final String COMPACT_CART_SQL = "UPDATE carts SET compacted_items = ?, compacted_at = ? " +
+            "WHERE id = ? AND updated_at = ? AND compacted_at IS NULL";
+    private static final String DELETE_ITEMS_SQL = "DELETE FROM cart_items WHERE cart_id = ?";
+    private static final String LOCK_CARTS_SQL = "SELECT id FROM carts WHERE id IN (%s) ORDER BY id FOR UPDATE";
+    private static final String SELECT_COMPACTED_SQL = "SELECT compacted_items FROM carts " +
+            "WHERE id = ? AND compacted_at IS NOT NULL FOR UPDATE";
+    private static final String CLEAR_COMPACTED_SQL = "UPDATE carts SET compacted_items = NULL, compacted_at = NULL " +
+            "WHERE id = ? AND compacted_at IS NOT NULL";
+    private static final String INSERT_ITEM_SQL = "INSERT INTO cart_items " +
+            "(cart_id, product_id, quantity, added_price, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final CartReaperConfig reaperConfig;
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final InMemoryCartStore inMemoryCartStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 정기 정리 (기본: 매일 04:30)
+     */
+    @Scheduled(cron = "${cart.reaper.cron:0 30 4 * * *}")
+    public void scheduledReap() {
+        if (!reaperConfig.isEnabled()) {
+            return;
+        }
+        reap();
+    }
+
+    /**
+     * 방치된 장바구니 정리 실행
+     *
+     * @return 삭제 또는 압축된 장바구니 수
+     */
+    public int reap() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("장바구니 정리가 이미 실행 중입니다");
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime emptyCutoff = now.minusDays(reaperConfig.getEmptyCartDays());
+        LocalDateTime compactCutoff = now.minusDays(reaperConfig.getCompactAfterDays());
+        // 두 기준 중 늦은 쪽까지 한 번에 훑고 행마다 해당 기준을 다시 확인
+        LocalDateTime scanCutoff = emptyCutoff.isAfter(compactCutoff) ? emptyCutoff : compactCutoff;
+
+        int scanned = 0;
+        int deleted = 0;
+        int compacted = 0;
+        LocalDateTime lastUpdatedAt = KEYSET_START;
+        Long lastId = 0L;
+
+        log.info("장바구니 정리 시작: emptyCutoff={}, compactCutoff={}", emptyCutoff, compactCutoff);
+
+        try {
+            while (scanned < reaperConfig.getMaxCartsPerRun()) {
+                List<Object[]> rows = cartRepository.findStaleCartRows(scanCutoff, lastUpdatedAt, lastId,
+                        PageRequest.of(0, reaperConfig.getBatchSize()));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                Object[] last = rows.get(rows.size() - 1);
+                lastId = (Long) last[0];
+                lastUpdatedAt = (LocalDateTime) last[2];
+                scanned += rows.size();
+
+                int[] result = transactionTemplate.execute(status -> processChunk(rows, emptyCutoff, compactCutoff));
+                if (result != null) {
+                    deleted += result[0];
+                    compacted += result[1];
+                }
+
+                if (!pause()) {
+                    break;
+                }
+            }
+        } finally {
+            running.set(false);
+        }
+
+        log.info("장바구니 정리 완료: scanned={}, deleted={}, compacted={}", scanned, deleted, compacted);
+        return deleted + compacted;
+    }
+
+    /**
+     * 압축 보관 중인 장바구니 아이템 복원
+     * 호출 측 트랜잭션(쓰기) 안에서 같은 연결로 cart_items 행으로 되돌린 뒤 엔티티를 다시 읽으므로
+     * 복원된 아이템이 바로 보이고, 주문/변경이 롤백되면 복원도 함께 롤백됩니다.
+     */
+    @Transactional
+    public void restoreIfCompacted(Cart cart) {
+        if (cart == null || !cart.isCompacted()) {
+            return;
+        }
+
+        int restored = restoreItems(cart.getId());
+        entityManager.refresh(cart);
+        log.info("압축된 장바구니 복원: cartId={}, items={}", cart.getId(), restored);
+    }
+
+    // ===== Private Methods =====
+
+    /**
+     * 청크 처리
+     *
+     * @return [삭제 수, 압축 수]
+     */
+    private int[] processChunk(List<Object[]> rows, LocalDateTime emptyCutoff, LocalDateTime compactCutoff) {
+        List<Object[]> emptyCarts = new ArrayList<>();
+        Map<Long, Timestamp> compactTargets = new HashMap<>();
+
+        for (Object[] row : rows) {
+            Long cartId = (Long) row[0];
+            Long userId = (Long) row[1];
+            LocalDateTime updatedAt = (LocalDateTime) row[2];
+            long itemCount = ((Number) row[3]).longValue();
+
+            // 메모리 장바구니에 올라와 있는 사용자는 메모리 쪽이 최신이므로 건너뜀
+            if (inMemoryCartStore.isEnabled() && userId != null && inMemoryCartStore.isResident(userId)) {
+                continue;
+            }
+            if (itemCount == 0 && updatedAt.isBefore(emptyCutoff)) {
+                emptyCarts.add(new Object[]{cartId, Timestamp.valueOf(updatedAt)});
+            } else if (itemCount > 0 && updatedAt.isBefore(compactCutoff)) {
+                compactTargets.put(cartId, Timestamp.valueOf(updatedAt));
+            }
+        }
+
+        int deleted = 0;
+        if (!emptyCarts.isEmpty()) {
+            for (int count : jdbcTemplate.batchUpdate(DELETE_EMPTY_CART_SQL, emptyCarts)) {
+                deleted += Math.max(count, 0);
+            }
+        }
+
+        int compacted = compactTargets.isEmpty() ? 0 : compact(compactTargets);
+        return new int[]{deleted, compacted};
+    }
+
+    private int compact(Map<Long, Timestamp> targets) {
+        // 아이템을 읽기 전에 장바구니 행을 잠가 압축 도중 아이템이 추가/변경되지 않게 함
+        List<Long> targetIds = new ArrayList<>(targets.keySet());
+        jdbcTemplate.queryForList(String.format(LOCK_CARTS_SQL, String.join(",", Collections.nCopies(targetIds.size(), "?"))),
+                Long.class, targetIds.toArray());
+
+        Map<Long, SnapshotBuilder> builders = new HashMap<>();
+        for (Object[] row : cartItemRepository.findSnapshotRows(targets.keySet())) {
+            Integer addedPrice = (Integer) row[3];
+            builders.computeIfAbsent((Long) row[0], id -> new SnapshotBuilder())
+                    .add((Long) row[1], (Integer) row[2], addedPrice != null ? addedPrice : 0);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> cartIds = new ArrayList<>(builders.size());
+        List<Object[]> updates = new ArrayList<>(builders.size());
+        builders.forEach((cartId, builder) -> {
+            cartIds.add(cartId);
+            updates.add(new Object[]{builder.encode(), now, cartId, targets.get(cartId)});
+        });
+
+        // 조회 이후 바뀌지 않은 장바구니만 압축되고, 그 장바구니의 아이템 행만 삭제
+        int[] counts = jdbcTemplate.batchUpdate(COMPACT_CART_SQL, updates);
+        List<Object[]> compactedIds = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                compactedIds.add(new Object[]{cartIds.get(i)});
+            }
+        }
+        if (!compactedIds.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_ITEMS_SQL, compactedIds);
+        }
+        return compactedIds.size();
+    }
+
+    private int restoreItems(Long cartId) {
+        // 행을 잠그고 읽어 동시에 복원하는 다른 요청은 이 트랜잭션이 끝날 때까지 기다림
+        List<byte[]> snapshots = jdbcTemplate.queryForList(SELECT_COMPACTED_SQL, byte[].class, cartId);
+        // 다른 요청이 먼저 복원했으면 아무것도 하지 않음
+        if (snapshots.isEmpty() || jdbcTemplate.update(CLEAR_COMPACTED_SQL, cartId) == 0) {
+            return 0;
+        }
+
+        byte[] snapshot = snapshots.get(0);
+        if (snapshot == null) {
+            return 0;
+        }
+
+        CartSnapshotCodec.Entries entries;
+        try {
+            entries = CartSnapshotCodec.decode(snapshot);
+        } catch (IllegalArgumentException e) {
+            log.warn("장바구니 스냅샷 복원 실패, 폐기: cartId={}, error={}", cartId, e.getMessage());
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> items = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            int addedPrice = entries.addedPrices[i];
+            items.add(new Object[]{cartId, entries.productIds[i], entries.quantities[i],
+                    addedPrice > 0 ? addedPrice : null, now, now});
+        }
+        if (!items.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, items);
+        }
+        return items.size();
+    }
+
+    /**
+     * 청크 사이 대기 (중단 요청 시 false)
+     */
+    private boolean pause() {
+        if (reaperConfig.getPauseMs() <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(reaperConfig.getPauseMs());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("장바구니 정리 중단");
+            return false;
+        }
+    }
+
+    /**
+     * 장바구니 하나의 스냅샷 구성
+     */
+    private static class SnapshotBuilder {
+        private long[] productIds = new long[8];
+        private int[] quantities = new int[8];
+        private int[] addedPrices = new int[8];
+        private int size;
+
+        void add(long productId, int quantity, int addedPrice) {
+            if (size == productIds.length) {
+                productIds = Arrays.copyOf(productIds, size * 2);
+                quantities = Arrays.copyOf(quantities, size * 2);
+                addedPrices = Arrays.copyOf(addedPrices, size * 2);
+            }
+            productIds[size] = productId;
+            quantities[size] = quantity;
+            addedPrices[size] = addedPrice;
+            size++;
+        }
+
+        byte[] encode() {
+            return CartSnapshotCodec.encode(Arrays.copyOf(productIds, size),
+                    Arrays.copyOf(quantities, size), Arrays.copyOf(addedPrices, size));
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.commercecoupon.service;
 
 import com.commercecoupon.dto.request.CartAddRequest;
+import com.commercecoupon.dto.request.CartBatchRequest;
+import com.commercecoupon.dto.response.CartDeltaResponse;
 import com.commercecoupon.dto.response.CartResponse;
 import com.commercecoupon.dto.response.CartItemResponse;
 import com.commercecoupon.dto.response.ProductResponse;
 import com.commercecoupon.dto.response.CategoryResponse;
 import com.commercecoupon.entity.*;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.enums.Role;
 import com.commercecoupon.repository.*;
 import com.commercecoupon.exception.CustomException;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +18,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -23,40 +36,59 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CartService {
 
+    private static final int RECOMMENDATION_SIZE = 10;
+
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
     private final VipBusinessLogicService vipBusinessLogicService;
+    private final CoPurchaseRecommender coPurchaseRecommender;
+    private final InMemoryCartStore inMemoryCartStore;
+    private final CartValuator cartValuator;
+    private final CartCompactionService cartCompactionService;
+    private final ProductCatalogCache productCatalogCache;
 
     /**
-     * 장바구니 조회
+     * 장바구니 조회 (압축 보관 중이면 아이템을 복원하므로 쓰기 트랜잭션)
      */
+    @Transactional
     public CartResponse getCart(String userEmail) {
         log.info("장바구니 조회: userEmail={}", userEmail);
 
+        if (inMemoryCartStore.isEnabled()) {
+            Long userId = inMemoryCartStore.resolveUserId(userEmail);
+            return convertToCartResponse(userEmail, inMemoryCartStore.view(userId));
+        }
+
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
 
-        Cart cart = getOrCreateCart(user);
-
-        List<CartItemResponse> itemResponses = cart.getItems().stream()
-                .map(this::convertToCartItemResponse)
-                .collect(Collectors.toList());
+        Cart cart = findCart(user);
+        if (cart == null) {
+            cart = getOrCreateCart(user);
+        }
+        return convertToCartResponse(user, cart);
+    }
 
-        Integer totalAmount = cart.getTotalAmount();
-        Integer vipDiscount = calculateVipDiscount(userEmail, totalAmount);
-        Integer finalAmount = totalAmount - vipDiscount;
+    /**
+     * 현재 ETag 조회 (If-None-Match 비교용 - 아이템/상품은 읽지 않음, DB 장바구니가 없으면 null)
+     */
+    public String getCartETag(String userEmail) {
+        long catalogVersion = productCatalogCache.getVersion();
+        if (inMemoryCartStore.isEnabled()) {
+            User user = inMemoryCartStore.resolveUser(userEmail);
+            long version = inMemoryCartStore.view(user.getId()).getVersion();
+            return toCacheTag(version, catalogVersion, vipBusinessLogicService.isVipMember(user));
+        }
 
-        return CartResponse.builder()
-                .userId(user.getId())
-                .items(itemResponses)
-                .totalItemCount(cart.getTotalItemCount())
-                .totalAmount(totalAmount)
-                .expectedVipDiscount(vipDiscount)
-                .expectedFinalAmount(finalAmount)
-                .updatedAt(cart.getUpdatedAt())
-                .build();
+        List<Object[]> rows = cartRepository.findVersionRowsByUserEmail(userEmail);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        long version = row[0] != null ? ((Number) row[0]).longValue() : 0L;
+        return toCacheTag(version, catalogVersion, vipBusinessLogicService.isVipRole((Role) row[1]));
     }
 
     /**
@@ -64,9 +96,204 @@ public class CartService {
      */
     @Transactional
     public CartResponse addToCart(String userEmail, CartAddRequest request) {
+        applyAdd(userEmail, request);
+        return getCart(userEmail);
+    }
+
+    /**
+     * 장바구니에 상품 추가 (변경분만 응답)
+     */
+    @Transactional
+    public CartDeltaResponse addToCartDelta(String userEmail, CartAddRequest request) {
+        // 응답 상품 정보보다 먼저 읽어 ETag가 본문보다 새로운 상품 상태를 가리키지 않게 함
+        long catalogVersion = productCatalogCache.getVersion();
+        return convertToDeltaResponse(userEmail, applyAdd(userEmail, request), catalogVersion);
+    }
+
+    /**
+     * 장바구니에서 상품 제거
+     */
+    @Transactional
+    public CartResponse removeFromCart(String userEmail, Long cartItemId) {
+        applyRemove(userEmail, cartItemId);
+        return getCart(userEmail);
+    }
+
+    /**
+     * 장바구니에서 상품 제거 (변경분만 응답)
+     */
+    @Transactional
+    public CartDeltaResponse removeFromCartDelta(String userEmail, Long cartItemId) {
+        // 응답 상품 정보보다 먼저 읽어 ETag가 본문보다 새로운 상품 상태를 가리키지 않게 함
+        long catalogVersion = productCatalogCache.getVersion();
+        return convertToDeltaResponse(userEmail, applyRemove(userEmail, cartItemId), catalogVersion);
+    }
+
+    /**
+     * 장바구니 전체 비우기
+     */
+    @Transactional
+    public void clearCart(String userEmail) {
+        log.info("장바구니 전체 비우기: userEmail={}", userEmail);
+
+        if (inMemoryCartStore.isEnabled()) {
+            inMemoryCartStore.mutate(inMemoryCartStore.resolveUserId(userEmail), InMemoryCartStore.MemoryCart::clear);
+            return;
+        }
+
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
+
+        Cart cart = cartRepository.findByUserForUpdate(user).orElse(null);
+
+        if (cart != null) {
+            cart.clearItems();
+            cart.discardCompactedItems();
+            cartItemRepository.deleteByCart(cart);
+            increaseVersion(cart);
+            cartRepository.save(cart);
+
+            log.info("장바구니 전체 비우기 완료: userEmail={}, cartId={}", userEmail, cart.getId());
+        } else {
+            log.info("비울 장바구니가 없습니다: userEmail={}", userEmail);
+        }
+    }
+
+    /**
+     * 장바구니 아이템 수량 업데이트
+     */
+    @Transactional
+    public CartResponse updateCartItemQuantity(String userEmail, Long cartItemId, Integer quantity) {
+        applyQuantity(userEmail, cartItemId, quantity);
+        return getCart(userEmail);
+    }
+
+    /**
+     * 장바구니 아이템 수량 업데이트 (변경분만 응답)
+     */
+    @Transactional
+    public CartDeltaResponse updateCartItemQuantityDelta(String userEmail, Long cartItemId, Integer quantity) {
+        // 응답 상품 정보보다 먼저 읽어 ETag가 본문보다 새로운 상품 상태를 가리키지 않게 함
+        long catalogVersion = productCatalogCache.getVersion();
+        return convertToDeltaResponse(userEmail, applyQuantity(userEmail, cartItemId, quantity), catalogVersion);
+    }
+
+    /**
+     * 장바구니 일괄 변경
+     * 상품은 한 번에 조회하고, 모든 변경을 검증한 뒤 한 트랜잭션에서 적용 (하나라도 실패하면 전체 취소)
+     */
+    @Transactional
+    public CartResponse applyOperations(String userEmail, List<CartBatchRequest.CartOperation> operations) {
+        return applyOperations(userEmail, operations, false);
+    }
+
+    /**
+     * 비회원 장바구니 병합 (로그인 직후, 일괄 변경과 같은 경로로 ADD 적용)
+     * 없는 상품/판매 중이 아닌 상품은 건너뛰고, 재고를 넘는 수량은 재고만큼만 담음
+     */
+    @Transactional
+    public CartResponse mergeIntoCart(String userEmail, Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return getCart(userEmail);
+        }
+
+        List<CartBatchRequest.CartOperation> operations = quantities.entrySet().stream()
+                .map(entry -> new CartBatchRequest.CartOperation(
+                        CartBatchRequest.OperationType.ADD, entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+        return applyOperations(userEmail, operations, true);
+    }
+
+    /**
+     * 재고 부족 아이템 조회 (압축 보관 중이면 아이템을 복원하므로 쓰기 트랜잭션)
+     */
+    @Transactional
+    public List<CartItemResponse> getInsufficientStockItems(String userEmail) {
+        log.info("재고 부족 아이템 조회: userEmail={}", userEmail);
+
+        if (inMemoryCartStore.isEnabled()) {
+            InMemoryCartStore.CartView view = inMemoryCartStore.view(inMemoryCartStore.resolveUserId(userEmail));
+            CartValuator.Valuation valuation = cartValuator.value(view);
+            if (!valuation.hasShortage()) {
+                return List.of();
+            }
+
+            // 재고가 부족한 상품만 응답용으로 조회
+            Map<Long, ProductResponse> products = findProductSummaries(shortageProductIds(valuation));
+            List<CartItemResponse> items = new ArrayList<>(valuation.getShortageCount());
+            for (int i = 0; i < valuation.size(); i++) {
+                ProductResponse product = products.get(valuation.getProductId(i));
+                if (valuation.getShortage(i) > 0 && product != null) {
+                    items.add(convertToCartItemResponse(view.getLines().get(i), product));
+                }
+            }
+            return items;
+        }
+
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
+
+        Cart cart = findCart(user);
+
+        if (cart == null) {
+            return List.of();
+        }
+
+        CartValuator.Valuation valuation = cartValuator.value(cart.getItems());
+        if (!valuation.hasShortage()) {
+            return List.of();
+        }
+
+        // 재고가 부족한 상품만 적재해 나머지 아이템의 상품은 지연 로딩하지 않음
+        findProductsById(shortageProductIds(valuation));
+        List<CartItemResponse> items = new ArrayList<>(valuation.getShortageCount());
+        for (int i = 0; i < valuation.size(); i++) {
+            if (valuation.getShortage(i) > 0) {
+                items.add(convertToCartItemResponse(cart.getItems().get(i)));
+            }
+        }
+        return items;
+    }
+
+    /**
+     * 장바구니 기반 함께 구매한 상품 추천 (판매 중인 상품만, 압축 보관 중이면 아이템을 복원하므로 쓰기 트랜잭션)
+     */
+    @Transactional
+    public List<ProductResponse> getRecommendedProducts(String userEmail) {
+        log.info("장바구니 추천 상품 조회: userEmail={}", userEmail);
+
+        List<Long> cartProductIds = findCartProductIds(userEmail);
+        if (cartProductIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 판매 중지 상품을 걸러낼 여유분을 두고 조회
+        long[] recommendedIds = coPurchaseRecommender.recommendForProducts(cartProductIds, RECOMMENDATION_SIZE * 2);
+        List<Long> ids = Arrays.stream(recommendedIds).boxed().collect(Collectors.toList());
+        Map<Long, Product> products = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, p -> p));
+
+        return ids.stream()
+                .map(products::get)
+                .filter(p -> p != null && p.getStatus() == ProductStatus.ACTIVE)
+                .limit(RECOMMENDATION_SIZE)
+                .map(this::convertToProductResponse)
+                .collect(Collectors.toList());
+    }
+
+    // ===== Private Methods =====
+
+    /**
+     * 상품 추가 적용
+     */
+    private CartChange applyAdd(String userEmail, CartAddRequest request) {
         log.info("장바구니 상품 추가: userEmail={}, productId={}, quantity={}",
                 userEmail, request.getProductId(), request.getQuantity());
 
+        if (inMemoryCartStore.isEnabled()) {
+            return addToMemoryCart(userEmail, request);
+        }
+
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
 
@@ -74,9 +301,11 @@ public class CartService {
                 .orElseThrow(() -> new CustomException("존재하지 않는 상품입니다"));
 
         Cart cart = getOrCreateCart(user);
+        long baseVersion = cart.getCurrentVersion();
 
         // 기존 장바구니에 같은 상품이 있는지 확인
         CartItem existingItem = cart.findItemByProduct(product);
+        CartItem changedItem;
 
         if (existingItem != null) {
             // 기존 아이템이 있으면 수량 증가
@@ -92,6 +321,7 @@ public class CartService {
 
             existingItem.updateQuantity(newQuantity);
             cartItemRepository.save(existingItem);
+            changedItem = existingItem;
 
             log.info("기존 장바구니 아이템 수량 증가: cartItemId={}, newQuantity={}",
                     existingItem.getId(), newQuantity);
@@ -106,33 +336,49 @@ public class CartService {
                     .cart(cart)
                     .product(product)
                     .quantity(request.getQuantity())
+                    .addedPrice(product.getPrice())
                     .build();
 
             cart.addItem(newItem);
             cartItemRepository.save(newItem);
+            changedItem = newItem;
 
             log.info("새 장바구니 아이템 추가: productId={}, quantity={}",
                     request.getProductId(), request.getQuantity());
         }
 
+        increaseVersion(cart);
         cartRepository.save(cart);
 
         log.info("장바구니에 상품 추가 완료: productId={}, quantity={}",
                 request.getProductId(), request.getQuantity());
 
-        return getCart(userEmail);
+        return CartChange.of(user, cart, baseVersion, cartValuator.value(cart.getItems()),
+                convertToCartItemResponse(changedItem), null);
     }
 
     /**
-     * 장바구니에서 상품 제거
+     * 상품 제거 적용
      */
-    @Transactional
-    public CartResponse removeFromCart(String userEmail, Long cartItemId) {
+    private CartChange applyRemove(String userEmail, Long cartItemId) {
         log.info("장바구니 상품 삭제: userEmail={}, cartItemId={}", userEmail, cartItemId);
 
+        if (inMemoryCartStore.isEnabled()) {
+            // 메모리 장바구니의 아이템 ID는 상품 ID
+            Long userId = inMemoryCartStore.resolveUserId(userEmail);
+            InMemoryCartStore.CartView view = inMemoryCartStore.mutate(userId, cart -> {
+                if (!cart.remove(cartItemId)) {
+                    throw new CustomException("존재하지 않는 장바구니 아이템입니다");
+                }
+            });
+            return toCartChange(view, null, cartItemId);
+        }
+
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
 
+        // 정리 배치의 압축과 겹치지 않도록 아이템보다 장바구니 행을 먼저 잠금
+        findCartForUpdate(user);
         CartItem cartItem = cartItemRepository.findById(cartItemId)
                 .orElseThrow(() -> new CustomException("존재하지 않는 장바구니 아이템입니다"));
 
@@ -142,43 +388,21 @@ public class CartService {
         }
 
         Cart cart = cartItem.getCart();
+        long baseVersion = cart.getCurrentVersion();
         cart.removeItem(cartItem);
         cartItemRepository.delete(cartItem);
+        increaseVersion(cart);
         cartRepository.save(cart);
 
         log.info("장바구니에서 상품 삭제 완료: cartItemId={}", cartItemId);
 
-        return getCart(userEmail);
-    }
-
-    /**
-     * 장바구니 전체 비우기
-     */
-    @Transactional
-    public void clearCart(String userEmail) {
-        log.info("장바구니 전체 비우기: userEmail={}", userEmail);
-
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
-
-        Cart cart = cartRepository.findByUser(user).orElse(null);
-
-        if (cart != null) {
-            cart.clearItems();
-            cartItemRepository.deleteByCart(cart);
-            cartRepository.save(cart);
-
-            log.info("장바구니 전체 비우기 완료: userEmail={}, cartId={}", userEmail, cart.getId());
-        } else {
-            log.info("비울 장바구니가 없습니다: userEmail={}", userEmail);
-        }
+        return CartChange.of(user, cart, baseVersion, cartValuator.value(cart.getItems()), null, cartItemId);
     }
 
     /**
-     * 장바구니 아이템 수량 업데이트
+     * 수량 변경 적용
      */
-    @Transactional
-    public CartResponse updateCartItemQuantity(String userEmail, Long cartItemId, Integer quantity) {
+    private CartChange applyQuantity(String userEmail, Long cartItemId, Integer quantity) {
         log.info("장바구니 수량 변경: userEmail={}, cartItemId={}, quantity={}",
                 userEmail, cartItemId, quantity);
 
@@ -186,9 +410,15 @@ public class CartService {
             throw new CustomException("수량은 1개 이상이어야 합니다");
         }
 
+        if (inMemoryCartStore.isEnabled()) {
+            return updateMemoryCartQuantity(userEmail, cartItemId, quantity);
+        }
+
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
 
+        // 정리 배치의 압축과 겹치지 않도록 아이템보다 장바구니 행을 먼저 잠금
+        findCartForUpdate(user);
         CartItem cartItem = cartItemRepository.findById(cartItemId)
                 .orElseThrow(() -> new CustomException("존재하지 않는 장바구니 아이템입니다"));
 
@@ -202,46 +432,484 @@ public class CartService {
             throw new CustomException("재고가 부족합니다. 현재 재고: " + cartItem.getProduct().getStock());
         }
 
+        Cart cart = cartItem.getCart();
+        long baseVersion = cart.getCurrentVersion();
         cartItem.updateQuantity(quantity);
         cartItemRepository.save(cartItem);
+        increaseVersion(cart);
+        cartRepository.save(cart);
 
         log.info("장바구니 수량 변경 완료: cartItemId={}, newQuantity={}", cartItemId, quantity);
 
-        return getCart(userEmail);
+        return CartChange.of(user, cart, baseVersion, cartValuator.value(cart.getItems()),
+                convertToCartItemResponse(cartItem), null);
     }
 
     /**
-     * 재고 부족 아이템 조회
+     * 일괄 변경 적용 (lenient: 병합용 - 적용할 수 없는 변경은 예외 대신 건너뜀)
      */
-    public List<CartItemResponse> getInsufficientStockItems(String userEmail) {
-        log.info("재고 부족 아이템 조회: userEmail={}", userEmail);
+    private CartResponse applyOperations(String userEmail, List<CartBatchRequest.CartOperation> operations,
+                                         boolean lenient) {
+        log.info("장바구니 일괄 변경: userEmail={}, operations={}, lenient={}", userEmail, operations.size(), lenient);
+
+        Set<Long> productIds = operations.stream()
+                .map(CartBatchRequest.CartOperation::getProductId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (inMemoryCartStore.isEnabled()) {
+            Long userId = inMemoryCartStore.resolveUserId(userEmail);
+            Map<Long, Product> products = findProductsById(productIds);
+
+            InMemoryCartStore.CartView view = inMemoryCartStore.mutate(userId, cart -> {
+                Map<Long, Integer> targets = resolveTargetQuantities(operations, products, cart::getQuantity, lenient);
+                targets.forEach((productId, quantity) -> {
+                    Product product = products.get(productId);
+                    if (quantity == 0) {
+                        cart.remove(productId);
+                    } else {
+                        cart.setQuantity(productId, quantity, product != null ? product.getPrice() : 0);
+                    }
+                });
+            });
+
+            log.info("장바구니 일괄 변경 완료: userId={}, version={}", userId, view.getVersion());
+            return convertToCartResponse(userEmail, view);
+        }
 
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
 
-        Cart cart = cartRepository.findByUser(user).orElse(null);
+        Cart cart = getOrCreateCart(user);
+        Map<Long, CartItem> itemsByProduct = new HashMap<>();
+        for (CartItem item : cart.getItems()) {
+            itemsByProduct.put(item.getProduct().getId(), item);
+        }
+
+        // 이미 담긴 상품도 같은 조회로 적재해 응답 변환 시 상품별 지연 로딩이 일어나지 않게 함
+        productIds.addAll(itemsByProduct.keySet());
+        Map<Long, Product> products = findProductsById(productIds);
+
+        Map<Long, Integer> targets = resolveTargetQuantities(operations, products, productId -> {
+            CartItem item = itemsByProduct.get(productId);
+            return item != null ? item.getQuantity() : 0;
+        }, lenient);
+
+        // 검증이 끝난 뒤에만 엔티티 변경
+        List<CartItem> changedItems = new ArrayList<>();
+        boolean changed = false;
+        for (Map.Entry<Long, Integer> target : targets.entrySet()) {
+            CartItem item = itemsByProduct.get(target.getKey());
+            int quantity = target.getValue();
+
+            if (quantity == 0) {
+                if (item != null) {
+                    cart.removeItem(item);
+                    cartItemRepository.delete(item);
+                    changed = true;
+                }
+            } else if (item == null) {
+                Product product = products.get(target.getKey());
+                CartItem newItem = CartItem.builder()
+                        .cart(cart)
+                        .product(product)
+                        .quantity(quantity)
+                        .addedPrice(product.getPrice())
+                        .build();
+                cart.addItem(newItem);
+                changedItems.add(newItem);
+            } else if (item.getQuantity() != quantity) {
+                item.updateQuantity(quantity);
+                changedItems.add(item);
+            }
+        }
+
+        if (changed || !changedItems.isEmpty()) {
+            cartItemRepository.saveAll(changedItems);
+            increaseVersion(cart);
+            cartRepository.save(cart);
+        }
+
+        log.info("장바구니 일괄 변경 완료: cartId={}, version={}", cart.getId(), cart.getCurrentVersion());
+        return convertToCartResponse(user, cart);
+    }
+
+    /**
+     * 변경 목록을 순서대로 적용한 상품별 최종 수량 계산 (0은 삭제, 재고는 최종 수량 기준으로 확인)
+     */
+    private Map<Long, Integer> resolveTargetQuantities(List<CartBatchRequest.CartOperation> operations,
+                                                       Map<Long, Product> products,
+                                                       ToIntFunction<Long> currentQuantity,
+                                                       boolean lenient) {
+        Map<Long, Integer> targets = new LinkedHashMap<>();
+
+        for (CartBatchRequest.CartOperation operation : operations) {
+            Long productId = operation.getProductId();
+            Product product = products.get(productId);
+            int current = targets.containsKey(productId)
+                    ? targets.get(productId)
+                    : currentQuantity.applyAsInt(productId);
+
+            switch (operation.getType()) {
+                case ADD:
+                    if (product == null) {
+                        if (lenient) {
+                            continue;
+                        }
+                        throw new CustomException("존재하지 않는 상품입니다: " + productId);
+                    }
+                    if (lenient && product.getStatus() != ProductStatus.ACTIVE) {
+                        continue;
+                    }
+                    targets.put(productId, current + requireQuantity(operation));
+                    break;
+                case UPDATE:
+                    if (current == 0) {
+                        if (lenient) {
+                            continue;
+                        }
+                        throw new CustomException("장바구니에 없는 상품입니다: " + productId);
+                    }
+                    targets.put(productId, requireQuantity(operation));
+                    break;
+                case REMOVE:
+                    if (current == 0) {
+                        if (lenient) {
+                            continue;
+                        }
+                        throw new CustomException("장바구니에 없는 상품입니다: " + productId);
+                    }
+                    targets.put(productId, 0);
+                    break;
+                default:
+                    throw new CustomException("지원하지 않는 변경 종류입니다: " + operation.getType());
+            }
+        }
+
+        for (Map.Entry<Long, Integer> target : targets.entrySet()) {
+            int quantity = target.getValue();
+            Product product = products.get(target.getKey());
+            if (quantity == 0 || product == null || product.getStock() >= quantity) {
+                continue;
+            }
+            if (!lenient) {
+                throw new CustomException(String.format("재고가 부족합니다. 상품: %s, 요청 수량: %d, 현재 재고: %d",
+                        product.getName(), quantity, product.getStock()));
+            }
+            // 병합은 재고만큼만 담되 기존 수량은 줄이지 않음
+            target.setValue(Math.max(currentQuantity.applyAsInt(target.getKey()), product.getStock()));
+        }
+        return targets;
+    }
+
+    private int requireQuantity(CartBatchRequest.CartOperation operation) {
+        if (operation.getQuantity() == null || operation.getQuantity() < 1) {
+            throw new CustomException("수량은 1개 이상이어야 합니다: " + operation.getProductId());
+        }
+        return operation.getQuantity();
+    }
+
+    /**
+     * 상품 일괄 조회 (ID -> 상품)
+     */
+    private Map<Long, Product> findProductsById(Collection<Long> productIds) {
+        return productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, p -> p));
+    }
+
+    /**
+     * 메모리 장바구니에 상품 추가
+     */
+    private CartChange addToMemoryCart(String userEmail, CartAddRequest request) {
+        Long userId = inMemoryCartStore.resolveUserId(userEmail);
+        ProductResponse product = findProductSummaries(List.of(request.getProductId())).get(request.getProductId());
+        if (product == null) {
+            throw new CustomException("존재하지 않는 상품입니다");
+        }
+
+        InMemoryCartStore.CartView view = inMemoryCartStore.mutate(userId, cart -> {
+            int existingQuantity = cart.getQuantity(product.getId());
+            int newQuantity = existingQuantity + request.getQuantity();
+
+            if (product.getStock() < newQuantity) {
+                throw new CustomException(existingQuantity > 0
+                        ? String.format("재고가 부족합니다. 요청 수량: %d, 현재 재고: %d, 장바구니 기존 수량: %d",
+                                request.getQuantity(), product.getStock(), existingQuantity)
+                        : "재고가 부족합니다. 현재 재고: " + product.getStock());
+            }
+            cart.setQuantity(product.getId(), newQuantity, product.getPrice());
+        });
+
+        log.info("장바구니에 상품 추가 완료: productId={}, quantity={}",
+                request.getProductId(), request.getQuantity());
+        return toCartChange(view, product, null);
+    }
+
+    /**
+     * 메모리 장바구니 수량 변경 (아이템 ID는 상품 ID)
+     */
+    private CartChange updateMemoryCartQuantity(String userEmail, Long productId, Integer quantity) {
+        Long userId = inMemoryCartStore.resolveUserId(userEmail);
+        ProductResponse product = findProductSummaries(List.of(productId)).get(productId);
+        if (product == null) {
+            throw new CustomException("존재하지 않는 장바구니 아이템입니다");
+        }
+
+        InMemoryCartStore.CartView view = inMemoryCartStore.mutate(userId, cart -> {
+            if (cart.getQuantity(productId) == 0) {
+                throw new CustomException("존재하지 않는 장바구니 아이템입니다");
+            }
+            if (product.getStock() < quantity) {
+                throw new CustomException("재고가 부족합니다. 현재 재고: " + product.getStock());
+            }
+            cart.setQuantity(productId, quantity, product.getPrice());
+        });
+
+        log.info("장바구니 수량 변경 완료: productId={}, newQuantity={}", productId, quantity);
+        return toCartChange(view, product, null);
+    }
+
+    /**
+     * 장바구니에 담긴 상품 ID 목록
+     */
+    private List<Long> findCartProductIds(String userEmail) {
+        if (inMemoryCartStore.isEnabled()) {
+            return inMemoryCartStore.view(inMemoryCartStore.resolveUserId(userEmail)).getLines().stream()
+                    .map(InMemoryCartStore.CartLine::getProductId)
+                    .collect(Collectors.toList());
+        }
+
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
 
+        Cart cart = findCart(user);
         if (cart == null) {
             return List.of();
         }
-
         return cart.getItems().stream()
-                .filter(item -> !item.isStockAvailable())
-                .map(this::convertToCartItemResponse)
+                .map(item -> item.getProduct().getId())
                 .collect(Collectors.toList());
     }
 
     /**
-     * 사용자의 장바구니 조회 또는 생성
+     * 메모리 장바구니에 담긴 상품 일괄 조회
+     */
+    private Map<Long, ProductResponse> findProducts(InMemoryCartStore.CartView view) {
+        List<Long> productIds = view.getLines().stream()
+                .map(InMemoryCartStore.CartLine::getProductId)
+                .collect(Collectors.toList());
+        return findProductSummaries(productIds);
+    }
+
+    /**
+     * 상품 요약 일괄 조회 (메모리 장바구니용 - 커밋된 상품 변경으로 무효화되는 카탈로그 캐시를 거침)
+     */
+    private Map<Long, ProductResponse> findProductSummaries(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return productCatalogCache.getSummaries(productIds, ids -> productRepository.findAllById(ids).stream()
+                .map(this::convertToProductResponse)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 메모리 장바구니 변경 결과 (합계는 상품 요약으로 계산하고 변경된 상품만 응답으로 변환)
+     */
+    private CartChange toCartChange(InMemoryCartStore.CartView view, ProductResponse changedProduct, Long removedItemId) {
+        CartValuator.Valuation valuation = cartValuator.value(view);
+        CartItemResponse changedItem = null;
+        if (changedProduct != null) {
+            for (InMemoryCartStore.CartLine line : view.getLines()) {
+                if (changedProduct.getId().equals(line.getProductId())) {
+                    changedItem = convertToCartItemResponse(line, changedProduct);
+                    break;
+                }
+            }
+        }
+        return new CartChange(view.getUserId(), null, view.getBaseVersion(), view.getVersion(),
+                changedItem, removedItemId, valuation.getTotalItemCount(), valuation.getTotalAmount(),
+                view.getUpdatedAt());
+    }
+
+    /**
+     * 재고가 부족한 상품 ID 목록
+     */
+    private List<Long> shortageProductIds(CartValuator.Valuation valuation) {
+        List<Long> productIds = new ArrayList<>(valuation.getShortageCount());
+        for (int i = 0; i < valuation.size(); i++) {
+            if (valuation.getShortage(i) > 0) {
+                productIds.add(valuation.getProductId(i));
+            }
+        }
+        return productIds;
+    }
+
+    /**
+     * 변경 결과를 CartDeltaResponse로 변환
+     */
+    private CartDeltaResponse convertToDeltaResponse(String userEmail, CartChange change, long catalogVersion) {
+        // 메모리 장바구니는 사용자를 다시 조회하지 않도록 저장소에 보관된 사용자로 계산
+        User user = change.user != null ? change.user : inMemoryCartStore.resolveUser(userEmail);
+        Integer vipDiscount = calculateVipDiscount(user, change.totalAmount);
+
+        return CartDeltaResponse.builder()
+                .userId(change.userId)
+                .baseVersion(change.baseVersion)
+                .version(change.version)
+                .changedItem(change.changedItem)
+                .removedItemId(change.removedItemId)
+                .totalItemCount(change.totalItemCount)
+                .totalAmount(change.totalAmount)
+                .expectedVipDiscount(vipDiscount)
+                .expectedFinalAmount(change.totalAmount - vipDiscount)
+                .updatedAt(change.updatedAt)
+                .cacheTag(toCacheTag(change.version, catalogVersion, vipBusinessLogicService.isVipMember(user)))
+                .build();
+    }
+
+    /**
+     * 장바구니를 CartResponse로 변환
+     */
+    private CartResponse convertToCartResponse(User user, Cart cart) {
+        long catalogVersion = productCatalogCache.getVersion();
+        // 응답에 상품 정보가 모두 필요하므로 아이템별 지연 로딩 대신 한 번에 적재
+        List<Long> productIds = new ArrayList<>(cart.getItems().size());
+        for (CartItem item : cart.getItems()) {
+            productIds.add(item.getProduct().getId());
+        }
+        findProductsById(productIds);
+
+        List<CartItemResponse> itemResponses = new ArrayList<>(cart.getItems().size());
+        int totalItemCount = 0;
+        int totalAmount = 0;
+        int priceChangedItemCount = 0;
+        for (CartItem item : cart.getItems()) {
+            CartItemResponse itemResponse = convertToCartItemResponse(item);
+            itemResponses.add(itemResponse);
+            totalItemCount += itemResponse.getQuantity();
+            totalAmount += itemResponse.getTotalPrice();
+            if (Boolean.TRUE.equals(itemResponse.getIsPriceChanged())) {
+                priceChangedItemCount++;
+            }
+        }
+
+        Integer vipDiscount = calculateVipDiscount(user, totalAmount);
+        Integer finalAmount = totalAmount - vipDiscount;
+
+        return CartResponse.builder()
+                .userId(user.getId())
+                .version(cart.getCurrentVersion())
+                .items(itemResponses)
+                .totalItemCount(totalItemCount)
+                .totalAmount(totalAmount)
+                .priceChangedItemCount(priceChangedItemCount)
+                .expectedVipDiscount(vipDiscount)
+                .expectedFinalAmount(finalAmount)
+                .updatedAt(cart.getUpdatedAt())
+                .cacheTag(toCacheTag(cart.getCurrentVersion(), catalogVersion, vipBusinessLogicService.isVipMember(user)))
+                .build();
+    }
+
+    /**
+     * 메모리 장바구니를 CartResponse로 변환 (상품은 한 번에 조회)
+     */
+    private CartResponse convertToCartResponse(String userEmail, InMemoryCartStore.CartView view) {
+        long catalogVersion = productCatalogCache.getVersion();
+        User user = inMemoryCartStore.resolveUser(userEmail);
+        Map<Long, ProductResponse> products = findProducts(view);
+
+        List<CartItemResponse> itemResponses = view.getLines().stream()
+                .filter(line -> products.containsKey(line.getProductId()))
+                .map(line -> convertToCartItemResponse(line, products.get(line.getProductId())))
+                .collect(Collectors.toList());
+
+        int totalItemCount = itemResponses.stream().mapToInt(CartItemResponse::getQuantity).sum();
+        int totalAmount = itemResponses.stream().mapToInt(CartItemResponse::getTotalPrice).sum();
+        int priceChangedItemCount = (int) itemResponses.stream()
+                .filter(item -> Boolean.TRUE.equals(item.getIsPriceChanged()))
+                .count();
+        Integer vipDiscount = calculateVipDiscount(user, totalAmount);
+
+        return CartResponse.builder()
+                .userId(view.getUserId())
+                .version(view.getVersion())
+                .items(itemResponses)
+                .totalItemCount(totalItemCount)
+                .totalAmount(totalAmount)
+                .priceChangedItemCount(priceChangedItemCount)
+                .expectedVipDiscount(vipDiscount)
+                .expectedFinalAmount(totalAmount - vipDiscount)
+                .updatedAt(view.getUpdatedAt())
+                .cacheTag(toCacheTag(view.getVersion(), catalogVersion, vipBusinessLogicService.isVipMember(user)))
+                .build();
+    }
+
+    /**
+     * 메모리 장바구니 아이템을 CartItemResponse로 변환 (아이템 ID는 상품 ID)
+     */
+    private CartItemResponse convertToCartItemResponse(InMemoryCartStore.CartLine line, ProductResponse product) {
+        return CartItemResponse.builder()
+                .id(line.getProductId())
+                .product(product)
+                .quantity(line.getQuantity())
+                .unitPrice(product.getPrice())
+                .totalPrice(product.getPrice() * line.getQuantity())
+                .addedPrice(line.getAddedPrice() > 0 ? line.getAddedPrice() : null)
+                .isPriceChanged(line.getAddedPrice() > 0 && line.getAddedPrice() != product.getPrice())
+                .createdAt(line.getCreatedAt())
+                .updatedAt(line.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 장바구니 버전 증가 (DB에서 원자적으로 올린 값을 다시 읽어 엔티티에 맞춤)
+     */
+    private void increaseVersion(Cart cart) {
+        LocalDateTime now = LocalDateTime.now();
+        cartRepository.increaseVersion(cart.getId(), now);
+        cart.setVersion(cartRepository.findVersionById(cart.getId()));
+        cart.setUpdatedAt(now);
+    }
+
+    /**
+     * ETag 값 (장바구니 버전 + 상품 카탈로그 버전 + VIP 여부)
+     * 응답의 단가/재고/할인 금액은 상품 변경과 사용자 등급에 따라서도 달라지므로 장바구니 버전만으로는 비교하지 않음
+     */
+    private static String toCacheTag(long version, long catalogVersion, boolean vip) {
+        return "\"" + version + "-" + catalogVersion + (vip ? "-vip" : "") + "\"";
+    }
+
+    /**
+     * 사용자의 장바구니 조회(행 잠금) 또는 생성 - 장바구니를 변경하는 경로에서 사용
      */
     private Cart getOrCreateCart(User user) {
-        return cartRepository.findByUser(user)
-                .orElseGet(() -> {
-                    Cart newCart = Cart.builder()
-                            .user(user)
-                            .build();
-                    return cartRepository.save(newCart);
-                });
+        Cart cart = findCartForUpdate(user);
+        if (cart != null) {
+            return cart;
+        }
+
+        Cart newCart = Cart.builder()
+                .user(user)
+                .build();
+        return cartRepository.save(newCart);
+    }
+
+    /**
+     * 사용자의 장바구니 조회 (압축 보관 중이면 아이템 복원, 없으면 null)
+     */
+    private Cart findCart(User user) {
+        Cart cart = cartRepository.findByUser(user).orElse(null);
+        cartCompactionService.restoreIfCompacted(cart);
+        return cart;
+    }
+
+    /**
+     * 사용자의 장바구니 조회 + 행 잠금 (압축 보관 중이면 아이템 복원, 없으면 null)
+     */
+    private Cart findCartForUpdate(User user) {
+        Cart cart = cartRepository.findByUserForUpdate(user).orElse(null);
+        cartCompactionService.restoreIfCompacted(cart);
+        return cart;
     }
 
     /**
@@ -250,7 +918,24 @@ public class CartService {
     private CartItemResponse convertToCartItemResponse(CartItem cartItem) {
         Product product = cartItem.getProduct();
 
-        ProductResponse productResponse = ProductResponse.builder()
+        return CartItemResponse.builder()
+                .id(cartItem.getId())
+                .product(convertToProductResponse(product))
+                .quantity(cartItem.getQuantity())
+                .unitPrice(product.getPrice())
+                .totalPrice(cartItem.getTotalPrice())
+                .addedPrice(cartItem.getAddedPrice())
+                .isPriceChanged(cartItem.isPriceChanged())
+                .createdAt(cartItem.getCreatedAt())
+                .updatedAt(cartItem.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Product를 ProductResponse로 변환
+     */
+    private ProductResponse convertToProductResponse(Product product) {
+        return ProductResponse.builder()
                 .id(product.getId())
                 .name(product.getName())
                 .price(product.getPrice())
@@ -263,16 +948,6 @@ public class CartService {
                 .isFeatured(product.getIsFeatured())
                 .createdAt(product.getCreatedAt())
                 .build();
-
-        return CartItemResponse.builder()
-                .id(cartItem.getId())
-                .product(productResponse)
-                .quantity(cartItem.getQuantity())
-                .unitPrice(product.getPrice())
-                .totalPrice(cartItem.getTotalPrice())
-                .createdAt(cartItem.getCreatedAt())
-                .updatedAt(cartItem.getUpdatedAt())
-                .build();
     }
 
     /**
@@ -291,14 +966,48 @@ public class CartService {
     }
 
     /**
-     * VIP 할인 금액 계산
+     * VIP 할인 금액 계산 (이미 조회한 사용자)
      */
-    private Integer calculateVipDiscount(String userEmail, Integer originalAmount) {
+    private Integer calculateVipDiscount(User user, Integer originalAmount) {
         try {
-            return vipBusinessLogicService.calculateVipDiscount(userEmail, originalAmount);
+            return vipBusinessLogicService.calculateVipDiscount(user, originalAmount);
         } catch (Exception e) {
-            log.warn("VIP 할인 계산 실패: userEmail={}, error={}", userEmail, e.getMessage());
+            log.warn("VIP 할인 계산 실패: userId={}, error={}", user.getId(), e.getMessage());
             return 0;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 장바구니 변경 결과 (변경된 아이템 + 상품 요약으로 계산한 합계)
+     */
+    private static class CartChange {
+        private final Long userId;
+        private final User user;
+        private final long baseVersion;
+        private final long version;
+        private final CartItemResponse changedItem;
+        private final Long removedItemId;
+        private final int totalItemCount;
+        private final int totalAmount;
+        private final LocalDateTime updatedAt;
+
+        CartChange(Long userId, User user, long baseVersion, long version, CartItemResponse changedItem,
+                   Long removedItemId, int totalItemCount, int totalAmount, LocalDateTime updatedAt) {
+            this.userId = userId;
+            this.user = user;
+            this.baseVersion = baseVersion;
+            this.version = version;
+            this.changedItem = changedItem;
+            this.removedItemId = removedItemId;
+            this.totalItemCount = totalItemCount;
+            this.totalAmount = totalAmount;
+            this.updatedAt = updatedAt;
+        }
+
+        static CartChange of(User user, Cart cart, long baseVersion, CartValuator.Valuation valuation,
+                             CartItemResponse changedItem, Long removedItemId) {
+            return new CartChange(user.getId(), user, baseVersion, cart.getCurrentVersion(), changedItem,
+                    removedItemId, valuation.getTotalItemCount(), valuation.getTotalAmount(), LocalDateTime.now());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.commercecoupon.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 장바구니 아이템 스냅샷 인코딩 (오래된 장바구니 압축 보관용)
+ *
+ * - [형식 버전][아이템 수][상품 ID 증가분, 수량, 담을 당시 단가]...를 varint로 기록한 뒤 Deflate 압축
+ * - 상품 ID는 오름차순으로 정렬해 앞 상품과의 차이만 기록하므로 아이템당 대부분 수 바이트
+ */
+final class CartSnapshotCodec {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_INFLATED_BYTES = 1 << 20;
+
+    private CartSnapshotCodec() {
+    }
+
+    /**
+     * 인코딩 (addedPrices의 0은 담을 당시 단가를 모르는 아이템)
+     */
+    static byte[] encode(long[] productIds, int[] quantities, int[] addedPrices) {
+        int size = productIds.length;
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(productIds[a], productIds[b]));
+
+        ByteArrayOutputStream raw = new ByteArrayOutputStream(8 + size * 8);
+        writeVarint(raw, FORMAT_VERSION);
+        writeVarint(raw, size);
+        long previousId = 0;
+        for (int index : order) {
+            writeVarint(raw, productIds[index] - previousId);
+            writeVarint(raw, quantities[index]);
+            writeVarint(raw, addedPrices[index]);
+            previousId = productIds[index];
+        }
+        return deflate(raw.toByteArray());
+    }
+
+    /**
+     * 디코딩 (형식이 맞지 않으면 IllegalArgumentException)
+     */
+    static Entries decode(byte[] compressed) {
+        ByteBuffer in = ByteBuffer.wrap(inflate(compressed));
+        try {
+            long formatVersion = readVarint(in);
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 장바구니 스냅샷 형식입니다: " + formatVersion);
+            }
+            int size = (int) readVarint(in);
+            if (size < 0 || size > in.remaining()) {
+                throw new IllegalArgumentException("장바구니 스냅샷 아이템 수가 올바르지 않습니다: " + size);
+            }
+
+            Entries entries = new Entries(size);
+            long productId = 0;
+            for (int i = 0; i < size; i++) {
+                productId += readVarint(in);
+                entries.productIds[i] = productId;
+                entries.quantities[i] = (int) readVarint(in);
+                entries.addedPrices[i] = (int) readVarint(in);
+            }
+            return entries;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("장바구니 스냅샷이 잘려 있습니다", e);
+        }
+    }
+
+    /**
+     * 부호 없는 varint 기록 (7비트씩, 최상위 비트는 다음 바이트 존재 여부)
+     */
+    static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * 부호 없는 varint 읽기 (10바이트를 넘으면 IllegalArgumentException)
+     */
+    static long readVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("varint가 너무 깁니다");
+    }
+
+    // ===== Private Methods =====
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(16, data.length / 2));
+            byte[] buffer = new byte[512];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+            byte[] buffer = new byte[512];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("장바구니 스냅샷이 잘려 있습니다");
+                }
+                out.write(buffer, 0, count);
+                if (out.size() > MAX_INFLATED_BYTES) {
+                    throw new IllegalArgumentException("장바구니 스냅샷이 너무 큽니다");
+                }
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("장바구니 스냅샷 압축 형식이 올바르지 않습니다", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * 디코딩 결과 (상품 ID 오름차순)
+     */
+    static final class Entries {
+        final long[] productIds;
+        final int[] quantities;
+        final int[] addedPrices;
+
+        Entries(int size) {
+            this.productIds = new long[size];
+            this.quantities = new int[size];
+            this.addedPrices = new int[size];
+        }
+
+        int size() {
+            return productIds.length;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.entity.CartItem;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 장바구니 금액/재고 계산기
+ *
+ * - 담긴 상품의 [ID, 가격, 재고, 상태]만 한 번에 조회하므로 상품 엔티티를 아이템마다 지연 로딩하지 않음
+ * - 합계, 재고 부족 수량, 담은 이후 가격 변경 여부를 기본형 배열 위에서 한 번의 루프로 계산
+ * - 삭제된 상품은 합계에서 제외 (isMissing)
+ */
+@Component
+@RequiredArgsConstructor
+public class CartValuator {
+
+    private final ProductRepository productRepository;
+
+    /**
+     * DB 장바구니 계산 (상품 프록시의 ID만 사용하므로 상품을 초기화하지 않음)
+     */
+    public Valuation value(List<CartItem> items) {
+        int size = items.size();
+        long[] productIds = new long[size];
+        int[] quantities = new int[size];
+        int[] addedPrices = new int[size];
+        for (int i = 0; i < size; i++) {
+            CartItem item = items.get(i);
+            productIds[i] = item.getProduct().getId();
+            quantities[i] = item.getQuantity();
+            addedPrices[i] = item.getAddedPrice() != null ? item.getAddedPrice() : 0;
+        }
+        return value(productIds, quantities, addedPrices);
+    }
+
+    /**
+     * 메모리 장바구니 계산
+     */
+    public Valuation value(InMemoryCartStore.CartView view) {
+        List<InMemoryCartStore.CartLine> lines = view.getLines();
+        int size = lines.size();
+        long[] productIds = new long[size];
+        int[] quantities = new int[size];
+        int[] addedPrices = new int[size];
+        for (int i = 0; i < size; i++) {
+            InMemoryCartStore.CartLine line = lines.get(i);
+            productIds[i] = line.getProductId();
+            quantities[i] = line.getQuantity();
+            addedPrices[i] = line.getAddedPrice();
+        }
+        return value(productIds, quantities, addedPrices);
+    }
+
+    /**
+     * 계산 (addedPrices의 0은 담을 당시 가격을 모르는 아이템)
+     */
+    public Valuation value(long[] productIds, int[] quantities, int[] addedPrices) {
+        Valuation valuation = new Valuation(productIds, quantities);
+        if (productIds.length == 0) {
+            return valuation;
+        }
+
+        // 상품 요약 (ID 오름차순)
+        List<Long> ids = new ArrayList<>(productIds.length);
+        for (long productId : productIds) {
+            ids.add(productId);
+        }
+        List<Object[]> rows = productRepository.findValuationRows(ids);
+        int rowCount = rows.size();
+        long[] snapshotIds = new long[rowCount];
+        int[] prices = new int[rowCount];
+        int[] stocks = new int[rowCount];
+        boolean[] onSale = new boolean[rowCount];
+        for (int r = 0; r < rowCount; r++) {
+            Object[] row = rows.get(r);
+            snapshotIds[r] = ((Number) row[0]).longValue();
+            prices[r] = ((Number) row[1]).intValue();
+            stocks[r] = ((Number) row[2]).intValue();
+            onSale[r] = row[3] == ProductStatus.ACTIVE;
+        }
+
+        for (int i = 0; i < productIds.length; i++) {
+            int r = Arrays.binarySearch(snapshotIds, productIds[i]);
+            if (r < 0) {
+                valuation.missing[i] = true;
+                valuation.missingCount++;
+                continue;
+            }
+
+            int quantity = quantities[i];
+            valuation.unitPrices[i] = prices[r];
+            valuation.stocks[i] = stocks[r];
+            valuation.onSale[i] = onSale[r];
+            valuation.totalItemCount += quantity;
+            valuation.totalAmount += prices[r] * quantity;
+
+            int shortage = quantity - stocks[r];
+            if (shortage > 0) {
+                valuation.shortages[i] = shortage;
+                valuation.shortageCount++;
+            }
+            if (addedPrices[i] > 0 && addedPrices[i] != prices[r]) {
+                valuation.priceChanged[i] = true;
+                valuation.priceChangedCount++;
+            }
+        }
+        return valuation;
+    }
+
+    /**
+     * 계산 결과 (인덱스는 입력 아이템 순서)
+     */
+    public static class Valuation {
+        private final long[] productIds;
+        private final int[] quantities;
+        private final int[] unitPrices;
+        private final int[] stocks;
+        private final int[] shortages;
+        private final boolean[] onSale;
+        private final boolean[] priceChanged;
+        private final boolean[] missing;
+        private int totalItemCount;
+        private int totalAmount;
+        private int shortageCount;
+        private int priceChangedCount;
+        private int missingCount;
+
+        Valuation(long[] productIds, int[] quantities) {
+            int size = productIds.length;
+            this.productIds = productIds;
+            this.quantities = quantities;
+            this.unitPrices = new int[size];
+            this.stocks = new int[size];
+            this.shortages = new int[size];
+            this.onSale = new boolean[size];
+            this.priceChanged = new boolean[size];
+            this.missing = new boolean[size];
+        }
+
+        public int size() {
+            return productIds.length;
+        }
+
+        public long getProductId(int index) {
+            return productIds[index];
+        }
+
+        public int getQuantity(int index) {
+            return quantities[index];
+        }
+
+        public int getUnitPrice(int index) {
+            return unitPrices[index];
+        }
+
+        public int getStock(int index) {
+            return stocks[index];
+        }
+
+        /**
+         * 재고 부족 수량 (충분하면 0)
+         */
+        public int getShortage(int index) {
+            return shortages[index];
+        }
+
+        public boolean isOnSale(int index) {
+            return onSale[index];
+        }
+
+        /**
+         * 담은 이후 가격이 바뀌었는지
+         */
+        public boolean isPriceChanged(int index) {
+            return priceChanged[index];
+        }
+
+        /**
+         * 상품이 삭제되어 계산에서 제외되었는지
+         */
+        public boolean isMissing(int index) {
+            return missing[index];
+        }
+
+        public int getTotalItemCount() {
+            return totalItemCount;
+        }
+
+        public int getTotalAmount() {
+            return totalAmount;
+        }
+
+        public int getShortageCount() {
+            return shortageCount;
+        }
+
+        public int getPriceChangedCount() {
+            return priceChangedCount;
+        }
+
+        public int getMissingCount() {
+            return missingCount;
+        }
+
+        public boolean hasShortage() {
+            return shortageCount > 0;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.event.OrderPlacedEvent;
+import com.commercecoupon.repository.OrderItemRepository;
+import com.commercecoupon.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 함께 구매한 상품 추천 (item-to-item 동시 구매 횟수)
+ *
+ * - 상품별 이웃 상품 구매 횟수를 기본형 해시맵(LongIntHashMap)에 보관
+ * - 이웃 수가 MAX_NEIGHBORS를 넘으면 상위 PRUNED_NEIGHBORS개만 남김 (희소하게 유지)
+ * - 신규 주문은 커밋 후(OrderPlacedEvent) 누적하고, 전체 이력 재구성은 주문 ID 구간 단위로 읽어
+ *   구간마다 fork-join으로 집계한 뒤 병합 (전체 이력을 한 번에 메모리에 올리지 않음)
+ * - 재구성은 시작 시점의 최대 주문 ID까지만 읽고, 그 이후 주문과 이미 읽은 구간의 주문만 재구성 결과에 다시 반영
+ *   (재구성이 읽을 주문을 한 번 더 세지 않음)
+ * 상품 상태는 알지 못하므로 판매 여부 필터링은 호출 측에서 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoPurchaseRecommender {
+
+    private static final int MAX_NEIGHBORS = 256;
+    private static final int PRUNED_NEIGHBORS = 128;
+    private static final int ORDER_RANGE_SIZE = 5000;
+    private static final int FORK_THRESHOLD = 2000;
+    // 장바구니 하나에서 만들 조합 수 제한 (대량 주문이 추천을 지배하지 않도록)
+    private static final int MAX_BASKET_SIZE = 50;
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+
+    private volatile Map<Long, LongIntHashMap> neighbors = new ConcurrentHashMap<>();
+    // 재구성 도중 커밋된 주문 중 재구성이 읽지 않을 주문 (재구성 완료 후 새 맵에 다시 반영)
+    private final List<long[]> pendingBaskets = new ArrayList<>();
+    private boolean rebuilding = false;
+    private long rebuildUpToId;  // 재구성이 읽을 마지막 주문 ID
+    private long loadedUpToId;   // 재구성이 이미 읽은 마지막 주문 ID
+    private volatile boolean ready = false;
+
+    /**
+     * 애플리케이션 시작 후 전체 주문 이력으로 재구성 (연관 상품 그래프보다 먼저 실행)
+     */
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        Long maxId = orderRepository.findMaxId();
+        long upToId = maxId != null ? maxId : 0L;
+        synchronized (pendingBaskets) {
+            rebuilding = true;
+            rebuildUpToId = upToId;
+            loadedUpToId = 0L;
+        }
+
+        Map<Long, LongIntHashMap> rebuilt = new ConcurrentHashMap<>();
+        long basketCount = 0;
+        try {
+            for (long fromId = 0; fromId < upToId; fromId += ORDER_RANGE_SIZE) {
+                long toId = Math.min(fromId + ORDER_RANGE_SIZE, upToId);
+                List<long[]> baskets = loadBaskets(fromId, toId);
+                basketCount += baskets.size();
+                merge(rebuilt, ForkJoinPool.commonPool().invoke(new CountTask(baskets, 0, baskets.size())));
+                synchronized (pendingBaskets) {
+                    loadedUpToId = toId;
+                }
+            }
+            rebuilt.values().forEach(map -> map.retainTopK(PRUNED_NEIGHBORS));
+        } finally {
+            synchronized (pendingBaskets) {
+                pendingBaskets.forEach(basket -> accumulate(rebuilt, basket));
+                pendingBaskets.clear();
+                neighbors = rebuilt;
+                rebuilding = false;
+            }
+        }
+
+        ready = true;
+        log.info("동시 구매 추천 구성 완료: baskets={}, products={}, elapsed={}ms",
+                basketCount, rebuilt.size(), System.currentTimeMillis() - startTime);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 커밋된 주문 반영 (롤백된 주문은 이벤트가 전달되지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        recordOrder(event.getOrderId(), event.getProductIds());
+    }
+
+    /**
+     * 신규 주문 반영
+     */
+    public void recordOrder(long orderId, Collection<Long> productIds) {
+        long[] basket = toBasket(productIds);
+        if (basket.length < 2) {
+            return;
+        }
+
+        Map<Long, LongIntHashMap> target;
+        synchronized (pendingBaskets) {
+            // 재구성 범위 안이면서 아직 읽지 않은 구간의 주문은 재구성이 읽으므로 다시 반영하지 않음
+            if (rebuilding && (orderId > rebuildUpToId || orderId <= loadedUpToId)) {
+                pendingBaskets.add(basket);
+            }
+            target = neighbors;
+        }
+        accumulate(target, basket);
+    }
+
+    /**
+     * 특정 상품과 함께 구매된 상품 (많이 함께 구매된 순)
+     */
+    public long[] recommendForProduct(Long productId, int limit) {
+        LongIntHashMap counts = neighbors.get(productId);
+        if (counts == null) {
+            return new long[0];
+        }
+        synchronized (counts) {
+            return counts.topKeys(limit);
+        }
+    }
+
+    /**
+     * 여러 상품(장바구니)과 함께 구매된 상품 (입력 상품 제외, 구매 횟수 합산 순)
+     */
+    public long[] recommendForProducts(Collection<Long> productIds, int limit) {
+        LongIntHashMap scores = new LongIntHashMap();
+        for (Long productId : productIds) {
+            LongIntHashMap counts = neighbors.get(productId);
+            if (counts != null) {
+                synchronized (counts) {
+                    scores.addAll(counts);
+                }
+            }
+        }
+
+        long[] candidates = scores.topKeys(limit + productIds.size());
+        long[] result = new long[Math.min(limit, candidates.length)];
+        int count = 0;
+        for (long candidate : candidates) {
+            if (count == result.length) {
+                break;
+            }
+            if (!productIds.contains(candidate)) {
+                result[count++] = candidate;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    // ===== Private Methods =====
+
+    private void accumulate(Map<Long, LongIntHashMap> target, long[] basket) {
+        for (long productId : basket) {
+            LongIntHashMap counts = target.computeIfAbsent(productId, id -> new LongIntHashMap());
+            synchronized (counts) {
+                for (long other : basket) {
+                    if (other != productId) {
+                        counts.addTo(other, 1);
+                    }
+                }
+                if (counts.size() > MAX_NEIGHBORS) {
+                    counts.retainTopK(PRUNED_NEIGHBORS);
+                }
+            }
+        }
+    }
+
+    /**
+     * 구간 집계 결과를 누적 (이웃이 너무 많아진 상품은 바로 줄여 재구성 중 메모리를 제한)
+     */
+    private void merge(Map<Long, LongIntHashMap> target, Map<Long, LongIntHashMap> counts) {
+        counts.forEach((productId, map) -> {
+            LongIntHashMap existing = target.get(productId);
+            if (existing == null) {
+                existing = map;
+                target.put(productId, existing);
+            } else {
+                existing.addAll(map);
+            }
+            if (existing.size() > MAX_NEIGHBORS) {
+                existing.retainTopK(PRUNED_NEIGHBORS);
+            }
+        });
+    }
+
+    /**
+     * (fromId, toId] 구간 주문의 장바구니
+     */
+    private List<long[]> loadBaskets(long fromId, long toId) {
+        List<long[]> baskets = new ArrayList<>();
+        List<Object[]> rows = orderItemRepository.findBasketRows(fromId, toId);
+
+        Long currentOrderId = null;
+        List<Long> basket = new ArrayList<>();
+        for (Object[] row : rows) {
+            Long orderId = (Long) row[0];
+            if (!orderId.equals(currentOrderId)) {
+                addBasket(baskets, basket);
+                basket = new ArrayList<>();
+                currentOrderId = orderId;
+            }
+            basket.add((Long) row[1]);
+        }
+        addBasket(baskets, basket);
+        return baskets;
+    }
+
+    private void addBasket(List<long[]> baskets, List<Long> productIds) {
+        long[] basket = toBasket(productIds);
+        // 상품이 하나뿐인 주문은 함께 구매 정보가 없음
+        if (basket.length > 1) {
+            baskets.add(basket);
+        }
+    }
+
+    private long[] toBasket(Collection<Long> productIds) {
+        Set<Long> distinct = new LinkedHashSet<>(productIds);
+        return distinct.stream()
+                .limit(MAX_BASKET_SIZE)
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    /**
+     * 주문 묶음 범위를 반으로 나눠 집계한 뒤 병합
+     */
+    private static class CountTask extends RecursiveTask<Map<Long, LongIntHashMap>> {
+        private final List<long[]> baskets;
+        private final int from;
+        private final int to;
+
+        CountTask(List<long[]> baskets, int from, int to) {
+            this.baskets = baskets;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<Long, LongIntHashMap> compute() {
+            if (to - from <= FORK_THRESHOLD) {
+                Map<Long, LongIntHashMap> counts = new HashMap<>();
+                for (int i = from; i < to; i++) {
+                    long[] basket = baskets.get(i);
+                    for (long productId : basket) {
+                        LongIntHashMap neighbors = counts.computeIfAbsent(productId, id -> new LongIntHashMap());
+                        for (long other : basket) {
+                            if (other != productId) {
+                                neighbors.addTo(other, 1);
+                            }
+                        }
+                    }
+                }
+                return counts;
+            }
+
+            int mid = (from + to) >>> 1;
+            CountTask left = new CountTask(baskets, from, mid);
+            left.fork();
+            Map<Long, LongIntHashMap> right = new CountTask(baskets, mid, to).compute();
+            Map<Long, LongIntHashMap> merged = left.join();
+
+            // 작은 쪽을 큰 쪽에 병합
+            if (merged.size() < right.size()) {
+                Map<Long, LongIntHashMap> swap = merged;
+                merged = right;
+                right = swap;
+            }
+            for (Map.Entry<Long, LongIntHashMap> entry : right.entrySet()) {
+                LongIntHashMap existing = merged.get(entry.getKey());
+                if (existing == null) {
+                    merged.put(entry.getKey(), entry.getValue());
+                } else {
+                    existing.addAll(entry.getValue());
+                }
+            }
+            return merged;
+        }
+    }
+}
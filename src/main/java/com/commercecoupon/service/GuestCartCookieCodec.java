@@ -0,0 +1,133 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.config.GuestCartConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 비회원 장바구니 쿠키 인코딩
+ *
+ * - 본문: [형식 버전][발급 시각(초)][아이템 수][상품 ID, 수량]... 를 varint로 기록 (담은 순서 유지)
+ * - 서명: 본문의 HMAC-SHA256 앞 16바이트를 뒤에 붙이고 전체를 Base64 URL-safe로 인코딩
+ * - 서명/형식/유효 기간/개수 제한 중 하나라도 맞지 않으면 빈 장바구니로 취급 (DB 조회 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuestCartCookieCodec {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int SIGNATURE_BYTES = 16;
+    private static final long CLOCK_SKEW_SECONDS = 300;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final GuestCartConfig guestCartConfig;
+
+    /**
+     * 인코딩 (상품 ID -> 수량, 순서 유지)
+     */
+    public String encode(Map<Long, Integer> items) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 + items.size() * 6);
+        CartSnapshotCodec.writeVarint(out, FORMAT_VERSION);
+        CartSnapshotCodec.writeVarint(out, System.currentTimeMillis() / 1000);
+        CartSnapshotCodec.writeVarint(out, items.size());
+        items.forEach((productId, quantity) -> {
+            CartSnapshotCodec.writeVarint(out, productId);
+            CartSnapshotCodec.writeVarint(out, quantity);
+        });
+
+        byte[] payload = out.toByteArray();
+        byte[] signature = sign(payload);
+        byte[] value = Arrays.copyOf(payload, payload.length + SIGNATURE_BYTES);
+        System.arraycopy(signature, 0, value, payload.length, SIGNATURE_BYTES);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+    }
+
+    /**
+     * 디코딩 (검증에 실패하면 빈 Map)
+     */
+    public Map<Long, Integer> decode(String cookieValue) {
+        if (cookieValue == null || cookieValue.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+
+        try {
+            byte[] value = Base64.getUrlDecoder().decode(cookieValue);
+            if (value.length <= SIGNATURE_BYTES) {
+                return rejected("길이 부족");
+            }
+
+            byte[] payload = Arrays.copyOf(value, value.length - SIGNATURE_BYTES);
+            byte[] signature = Arrays.copyOfRange(value, payload.length, value.length);
+            if (!MessageDigest.isEqual(signature, Arrays.copyOf(sign(payload), SIGNATURE_BYTES))) {
+                return rejected("서명 불일치");
+            }
+            return parse(ByteBuffer.wrap(payload));
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            return rejected(e.getMessage());
+        }
+    }
+
+    // ===== Private Methods =====
+
+    private Map<Long, Integer> parse(ByteBuffer in) {
+        if (CartSnapshotCodec.readVarint(in) != FORMAT_VERSION) {
+            return rejected("지원하지 않는 형식");
+        }
+
+        long issuedAt = CartSnapshotCodec.readVarint(in);
+        long now = System.currentTimeMillis() / 1000;
+        if (issuedAt > now + CLOCK_SKEW_SECONDS || issuedAt + guestCartConfig.getMaxAgeSeconds() < now) {
+            return rejected("유효 기간 초과");
+        }
+
+        long count = CartSnapshotCodec.readVarint(in);
+        if (count > guestCartConfig.getMaxItems()) {
+            return rejected("아이템 수 초과");
+        }
+
+        Map<Long, Integer> items = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            long productId = CartSnapshotCodec.readVarint(in);
+            long quantity = CartSnapshotCodec.readVarint(in);
+            if (productId <= 0 || quantity <= 0 || quantity > guestCartConfig.getMaxQuantity()) {
+                return rejected("아이템 값 오류");
+            }
+            items.put(productId, (int) quantity);
+        }
+        if (in.hasRemaining()) {
+            return rejected("남는 바이트");
+        }
+        return items;
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            // Mac은 스레드 안전하지 않으므로 호출마다 생성
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(guestCartConfig.getSecret().getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("비회원 장바구니 서명 생성 실패", e);
+        }
+    }
+
+    private Map<Long, Integer> rejected(String reason) {
+        log.debug("비회원 장바구니 쿠키 무시: reason={}", reason);
+        return new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,154 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.config.GuestCartConfig;
+import com.commercecoupon.dto.response.CartResponse;
+import com.commercecoupon.dto.response.GuestCartResponse;
+import com.commercecoupon.exception.CustomException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 비회원 장바구니 서비스
+ *
+ * - 장바구니 내용은 서명된 쿠키에만 있으므로 조회/변경에 DB를 사용하지 않음 (상품 존재 여부도 병합 시점에 확인)
+ * - 로그인하면 회원 장바구니 일괄 변경 경로(CartService.mergeIntoCart)로 한 번에 병합하고 쿠키를 비움
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GuestCartService {
+
+    private static final String COOKIE_PATH = "/api";
+
+    private final GuestCartConfig guestCartConfig;
+    private final GuestCartCookieCodec guestCartCookieCodec;
+    private final CartService cartService;
+
+    /**
+     * 요청 쿠키에서 장바구니 읽기 (없거나 검증 실패 시 빈 장바구니)
+     */
+    public Map<Long, Integer> read(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (guestCartConfig.getCookieName().equals(cookie.getName())) {
+                    return guestCartCookieCodec.decode(cookie.getValue());
+                }
+            }
+        }
+        return guestCartCookieCodec.decode(null);
+    }
+
+    /**
+     * 상품 추가 (이미 있으면 수량 증가)
+     */
+    public Map<Long, Integer> add(Map<Long, Integer> items, Long productId, int quantity) {
+        int newQuantity = items.getOrDefault(productId, 0) + quantity;
+        if (!items.containsKey(productId) && items.size() >= guestCartConfig.getMaxItems()) {
+            throw new CustomException("비회원 장바구니에는 최대 " + guestCartConfig.getMaxItems() + "개 상품까지 담을 수 있습니다");
+        }
+        validateQuantity(newQuantity);
+        items.put(productId, newQuantity);
+        return items;
+    }
+
+    /**
+     * 수량 변경
+     */
+    public Map<Long, Integer> updateQuantity(Map<Long, Integer> items, Long productId, int quantity) {
+        if (!items.containsKey(productId)) {
+            throw new CustomException("장바구니에 없는 상품입니다: " + productId);
+        }
+        validateQuantity(quantity);
+        items.put(productId, quantity);
+        return items;
+    }
+
+    /**
+     * 상품 제거
+     */
+    public Map<Long, Integer> remove(Map<Long, Integer> items, Long productId) {
+        if (items.remove(productId) == null) {
+            throw new CustomException("장바구니에 없는 상품입니다: " + productId);
+        }
+        return items;
+    }
+
+    /**
+     * 로그인 사용자의 장바구니로 병합 (비회원 장바구니가 비어 있으면 null)
+     * 병합에 실패해도 로그인은 막지 않도록 예외 대신 null을 반환하고, 호출 측은 쿠키를 그대로 둡니다.
+     */
+    public CartResponse mergeIntoUserCart(String userEmail, Map<Long, Integer> items) {
+        if (items.isEmpty()) {
+            return null;
+        }
+
+        try {
+            CartResponse cart = cartService.mergeIntoCart(userEmail, items);
+            log.info("비회원 장바구니 병합 완료: userEmail={}, items={}", userEmail, items.size());
+            return cart;
+        } catch (Exception e) {
+            log.warn("비회원 장바구니 병합 실패: userEmail={}, error={}", userEmail, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 장바구니를 담은 쿠키 (비어 있으면 삭제 쿠키)
+     */
+    public ResponseCookie toCookie(Map<Long, Integer> items) {
+        if (items.isEmpty()) {
+            return expiredCookie();
+        }
+        return baseCookie(guestCartCookieCodec.encode(items))
+                .maxAge(Duration.ofSeconds(guestCartConfig.getMaxAgeSeconds()))
+                .build();
+    }
+
+    /**
+     * 쿠키 삭제용 쿠키
+     */
+    public ResponseCookie expiredCookie() {
+        return baseCookie("").maxAge(Duration.ZERO).build();
+    }
+
+    public GuestCartResponse toResponse(Map<Long, Integer> items) {
+        List<GuestCartResponse.GuestCartItem> responses = items.entrySet().stream()
+                .map(entry -> GuestCartResponse.GuestCartItem.builder()
+                        .productId(entry.getKey())
+                        .quantity(entry.getValue())
+                        .build())
+                .collect(Collectors.toList());
+
+        return GuestCartResponse.builder()
+                .items(responses)
+                .totalItemCount(items.values().stream().mapToInt(Integer::intValue).sum())
+                .maxItems(guestCartConfig.getMaxItems())
+                .build();
+    }
+
+    // ===== Private Methods =====
+
+    private void validateQuantity(int quantity) {
+        if (quantity < 1 || quantity > guestCartConfig.getMaxQuantity()) {
+            throw new CustomException("수량은 1개 이상 " + guestCartConfig.getMaxQuantity() + "개 이하여야 합니다");
+        }
+    }
+
+    private ResponseCookie.ResponseCookieBuilder baseCookie(String value) {
+        return ResponseCookie.from(guestCartConfig.getCookieName(), value)
+                .httpOnly(true)
+                .secure(guestCartConfig.isSecure())
+                .sameSite("Lax")
+                .path(COOKIE_PATH);
+    }
+}
@@ -0,0 +1,178 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.config.PaymentGatewayConfig;
+import com.commercecoupon.exception.CustomException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP 기반 PG 연동
+ *
+ * - java.net.http.HttpClient의 비동기 전송(NIO)을 사용하므로 응답 대기 중에는 어떤 스레드도 막히지 않음
+ * - 연결은 HttpClient가 keep-alive로 풀링해 재사용하고, 동시 요청 수는 maxInFlight로 제한 (초과 시 즉시 실패)
+ * - 응답 처리(결제/주문 상태 반영 포함)는 전용 pg-callback 스레드에서 실행
+ * - 2xx는 성공(거래 ID가 없으면 실패), 4xx는 PG 거절, 그 외(5xx/시간 초과/연결 실패)는 결과를 알 수 없는 오류로 취급
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HttpPaymentGateway implements PaymentGateway {
+
+    private static final String CONFIRM_PATH = "/v1/payments/confirm";
+    private static final String CHECKOUT_PATH = "/v1/checkout/";
+
+    private final PaymentGatewayConfig paymentGatewayConfig;
+    private final ObjectMapper objectMapper;
+
+    private HttpClient httpClient;
+    private ExecutorService callbackExecutor;
+    private Semaphore inFlight;
+    private String authorization;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        callbackExecutor = Executors.newFixedThreadPool(paymentGatewayConfig.getCallbackThreads(), r -> {
+            Thread thread = new Thread(r, "pg-callback-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(paymentGatewayConfig.getConnectTimeoutMs()))
+                .executor(callbackExecutor)
+                .build();
+        inFlight = new Semaphore(paymentGatewayConfig.getMaxInFlight());
+
+        String secretKey = paymentGatewayConfig.getSecretKey() != null ? paymentGatewayConfig.getSecretKey() : "";
+        authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        callbackExecutor.shutdown();
+    }
+
+    @Override
+    public String checkoutUrl(String paymentKey) {
+        return paymentGatewayConfig.getBaseUrl() + CHECKOUT_PATH + paymentKey;
+    }
+
+    @Override
+    public CompletableFuture<GatewayResult> approve(String paymentKey, Long orderId, int amount) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("paymentKey", paymentKey);
+        body.put("orderId", orderId);
+        body.put("amount", amount);
+        return post(CONFIRM_PATH, body);
+    }
+
+    @Override
+    public CompletableFuture<GatewayResult> cancel(String paymentKey, String pgTransactionId, String reason) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("transactionId", pgTransactionId);
+        body.put("cancelReason", reason);
+        return post("/v1/payments/" + paymentKey + "/cancel", body);
+    }
+
+    // ===== Private Methods =====
+
+    private CompletableFuture<GatewayResult> post(String path, Map<String, Object> body) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new IllegalStateException("PG 요청 본문 생성 실패", e));
+        }
+
+        if (!inFlight.tryAcquire()) {
+            log.warn("PG 동시 요청 한도 초과: path={}, maxInFlight={}", path, paymentGatewayConfig.getMaxInFlight());
+            return CompletableFuture.failedFuture(
+                    new CustomException("결제 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"));
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(paymentGatewayConfig.getBaseUrl() + path))
+                .timeout(Duration.ofMillis(paymentGatewayConfig.getRequestTimeoutMs()))
+                .header("Content-Type", "application/json")
+                .header("Authorization", authorization)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(payload))
+                .build();
+
+        long startedAt = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    inFlight.release();
+                    long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+                    if (error != null) {
+                        throw toGatewayError(path, elapsedMs, error);
+                    }
+                    log.debug("PG 응답: path={}, status={}, elapsedMs={}", path, response.statusCode(), elapsedMs);
+                    return toResult(path, response);
+                });
+    }
+
+    private GatewayResult toResult(String path, HttpResponse<byte[]> response) {
+        int status = response.statusCode();
+        if (status >= 500) {
+            log.warn("PG 서버 오류: path={}, status={}", path, status);
+            throw new CustomException("결제 대행사 오류로 결과를 확인할 수 없습니다. 잠시 후 다시 시도해주세요");
+        }
+
+        JsonNode json;
+        try {
+            json = objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            log.warn("PG 응답 해석 실패: path={}, status={}", path, status);
+            throw new CustomException("결제 대행사 응답을 해석할 수 없습니다");
+        }
+
+        if (status >= 200 && status < 300) {
+            String transactionId = json.path("transactionId").asText(null);
+            if (transactionId == null || transactionId.isBlank()) {
+                // 거래 ID 없이 완료 처리하면 취소/정산 대사를 할 수 없으므로 실패로 취급
+                log.error("PG 성공 응답에 거래 ID 없음: path={}, status={}", path, status);
+                return GatewayResult.failed("MISSING_TRANSACTION_ID", "결제 대행사 응답에 거래 ID가 없습니다");
+            }
+            return GatewayResult.succeeded(transactionId, json.path("cardInfo").asText(null));
+        }
+        return GatewayResult.failed(json.path("code").asText("HTTP_" + status), json.path("message").asText(""));
+    }
+
+    private CustomException toGatewayError(String path, long elapsedMs, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof CustomException customException) {
+            return customException;
+        }
+        if (cause instanceof HttpTimeoutException) {
+            log.warn("PG 응답 시간 초과: path={}, elapsedMs={}", path, elapsedMs);
+            return new CustomException("결제 대행사 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요");
+        }
+        log.warn("PG 통신 실패: path={}, elapsedMs={}, error={}", path, elapsedMs, cause.toString());
+        return new CustomException("결제 대행사와 통신할 수 없습니다. 잠시 후 다시 시도해주세요");
+    }
+}
@@ -0,0 +1,693 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.config.CartStoreConfig;
+import com.commercecoupon.entity.User;
+import com.commercecoupon.exception.CustomException;
+import com.commercecoupon.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 메모리 장바구니 저장소 (cart.store.mode=memory 일 때만 사용)
+ *
+ * - 사용자 ID로 샤드를 고르고 샤드 잠금 안에서 장바구니를 읽고 바꾸므로 장바구니 변경에 DB 왕복이 없음
+ * - 처음 접근할 때 DB의 장바구니를 읽어 올리고, 오래 쓰지 않은 장바구니는 메모리에서 내림 (반영 완료된 것만)
+ * - 변경된 장바구니는 dirty 큐에 넣어 두었다가 flushBatchSize 개씩 한 트랜잭션에서 JDBC 배치로 반영
+ *   (아이템을 지우고 다시 쓰는 방식이라 반영에 실패해도 다음 주기에 그대로 다시 시도하면 됨)
+ * - dirty 표시는 반영이 성공하고 그 사이 변경이 없을 때만 지우므로 반영 중이거나 실패한 장바구니는 내리지 않음
+ * - 주문 생성 시에는 해당 사용자의 장바구니를 주문 트랜잭션 안에서 즉시 반영하고,
+ *   커밋 후에는 주문된 아이템만 빼고 반영 이후의 변경은 남김
+ * - 사용자(ID, 등급)는 userCacheTtlMs 동안 보관해 장바구니 요청마다 사용자를 조회하지 않음
+ * 비정상 종료 시 마지막 반영 이후의 변경은 유실될 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InMemoryCartStore {
+
+    private static final String SELECT_CART_SQL = "SELECT id, version, updated_at, compacted_items FROM carts WHERE user_id = ?";
+    private static final String SELECT_CART_ID_SQL = "SELECT id FROM carts WHERE user_id = ?";
+    private static final String SELECT_ITEMS_SQL = "SELECT product_id, quantity, added_price, created_at, updated_at " +
+            "FROM cart_items WHERE cart_id = ? ORDER BY id";
+    private static final String INSERT_CART_SQL = "INSERT INTO carts (user_id, version, created_at, updated_at) VALUES (?, 0, ?, ?)";
+    private static final String TOUCH_CART_SQL = "UPDATE carts SET version = ?, updated_at = ?, " +
+            "compacted_items = NULL, compacted_at = NULL WHERE id = ?";
+    private static final String DELETE_ITEMS_SQL = "DELETE FROM cart_items WHERE cart_id = ?";
+    private static final String INSERT_ITEM_SQL = "INSERT INTO cart_items " +
+            "(cart_id, product_id, quantity, added_price, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final CartStoreConfig cartStoreConfig;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<String, CachedUser> usersByEmail = new ConcurrentHashMap<>();
+    private final Queue<Long> dirtyQueue = new ConcurrentLinkedQueue<>();
+    // 오래된 스냅샷이 더 새로운 스냅샷을 덮어쓰지 않도록 DB 반영은 한 번에 하나씩
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private Shard[] shards;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        int count = 1;
+        while (count < cartStoreConfig.getShards()) {
+            count <<= 1;
+        }
+        shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard();
+        }
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public boolean isEnabled() {
+        return cartStoreConfig.isMemoryMode();
+    }
+
+    /**
+     * 이메일 -> 사용자 ID
+     */
+    public Long resolveUserId(String email) {
+        return resolveUser(email).getId();
+    }
+
+    /**
+     * 이메일 -> 사용자 (userCacheTtlMs 동안은 DB를 다시 읽지 않음, VIP 할인 계산용으로 읽기만 해야 함)
+     */
+    public User resolveUser(String email) {
+        long now = System.currentTimeMillis();
+        CachedUser cached = usersByEmail.get(email);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.user;
+        }
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
+        usersByEmail.put(email, new CachedUser(user, now + cartStoreConfig.getUserCacheTtlMs()));
+        return user;
+    }
+
+    /**
+     * 메모리에 올라와 있는 사용자인지 (장바구니 정리 배치가 건너뛸 대상)
+     */
+    public boolean isResident(long userId) {
+        Shard shard = shardOf(userId);
+        shard.lock.lock();
+        try {
+            return shard.carts.containsKey(userId);
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * 장바구니 조회 (메모리에 없으면 DB에서 읽어 올림)
+     */
+    public CartView view(long userId) {
+        return access(userId, cart -> cart.toView(cart.version));
+    }
+
+    /**
+     * 샤드 잠금 안에서 장바구니 변경 (내용이 바뀌면 DB 반영 대상으로 표시)
+     * mutation에서 예외가 나면 그때까지의 변경도 그대로 남으므로 검증을 먼저 끝내고 변경해야 합니다.
+     */
+    public CartView mutate(long userId, Consumer<MemoryCart> mutation) {
+        return access(userId, cart -> {
+            long versionBefore = cart.version;
+            mutation.accept(cart);
+            if (cart.version != versionBefore) {
+                cart.updatedAt = LocalDateTime.now();
+                markDirty(cart);
+            }
+            return cart.toView(versionBefore);
+        });
+    }
+
+    /**
+     * 주문 생성 전 해당 사용자의 장바구니를 호출 측 트랜잭션 안에서 즉시 반영
+     * 커밋되면 주문된 아이템을 메모리에서도 빼고 (반영 이후 변경은 유지), 롤백되면 다시 반영 대상으로 표시
+     */
+    public void flushForOrder(long userId) {
+        FlushSnapshot snapshot;
+        writeLock.lock();
+        try {
+            snapshot = takeSnapshot(userId, false);
+            if (snapshot != null && snapshot.dirty) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(List.of(snapshot)));
+                } catch (RuntimeException e) {
+                    restoreDirty(snapshot, false);
+                    throw e;
+                }
+                applyWritten(snapshot);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterOrderCommitted(userId, snapshot);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    afterOrderCommitted(userId, snapshot);
+                } else if (snapshot != null && snapshot.dirty) {
+                    restoreDirty(snapshot, true);
+                }
+            }
+        });
+    }
+
+    /**
+     * 메모리에서 장바구니 제거 (다음 접근 시 DB에서 다시 읽음)
+     */
+    public void invalidate(long userId) {
+        Shard shard = shardOf(userId);
+        shard.lock.lock();
+        try {
+            shard.carts.remove(userId);
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * 정기 반영 + 오래 쓰지 않은 장바구니 정리
+     */
+    @Scheduled(fixedDelayString = "${cart.store.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        if (!isEnabled()) {
+            return;
+        }
+        flushDirty();
+        evictIdle();
+    }
+
+    /**
+     * 종료 시 남은 변경 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (isEnabled()) {
+            flushDirty();
+        }
+    }
+
+    /**
+     * 변경된 장바구니를 DB에 반영
+     *
+     * @return 반영된 장바구니 수
+     */
+    public int flushDirty() {
+        writeLock.lock();
+        try {
+            int flushedCount = 0;
+            List<FlushSnapshot> failed = new ArrayList<>();
+
+            while (!dirtyQueue.isEmpty()) {
+                List<FlushSnapshot> batch = new ArrayList<>(cartStoreConfig.getFlushBatchSize());
+                Long userId;
+                while (batch.size() < cartStoreConfig.getFlushBatchSize() && (userId = dirtyQueue.poll()) != null) {
+                    FlushSnapshot snapshot = takeSnapshot(userId, true);
+                    if (snapshot != null && snapshot.dirty) {
+                        batch.add(snapshot);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    flushedCount += writeBatch(batch, failed);
+                }
+            }
+
+            // 실패한 장바구니는 다음 주기에 다시 시도
+            failed.forEach(snapshot -> restoreDirty(snapshot, false));
+            if (flushedCount > 0 || !failed.isEmpty()) {
+                log.debug("장바구니 반영 완료: carts={}, failed={}", flushedCount, failed.size());
+            }
+            return flushedCount;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // ===== Private Methods =====
+
+    private Shard shardOf(long userId) {
+        int hash = Long.hashCode(userId * 0x9E3779B97F4A7C15L);
+        return shards[(hash ^ (hash >>> 16)) & (shards.length - 1)];
+    }
+
+    private <T> T access(long userId, Function<MemoryCart, T> action) {
+        Shard shard = shardOf(userId);
+        shard.lock.lock();
+        try {
+            MemoryCart cart = shard.carts.get(userId);
+            if (cart != null) {
+                cart.lastAccessMillis = System.currentTimeMillis();
+                return action.apply(cart);
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+
+        // DB 조회는 잠금 밖에서 (같은 샤드의 다른 사용자를 막지 않도록)
+        MemoryCart restored = restore(userId);
+        shard.lock.lock();
+        try {
+            MemoryCart cart = shard.carts.putIfAbsent(userId, restored);
+            if (cart == null) {
+                cart = restored;
+                if (restored.fromSnapshot) {
+                    // 압축 스냅샷에서 꺼낸 아이템은 다음 반영 때 cart_items 행으로 되돌림
+                    markDirty(restored);
+                }
+            }
+            cart.lastAccessMillis = System.currentTimeMillis();
+            return action.apply(cart);
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    private MemoryCart restore(long userId) {
+        MemoryCart cart = new MemoryCart(userId);
+        List<Map<String, Object>> carts = jdbcTemplate.queryForList(SELECT_CART_SQL, userId);
+        if (carts.isEmpty()) {
+            return cart;
+        }
+
+        cart.cartId = ((Number) carts.get(0).get("id")).longValue();
+        Number version = (Number) carts.get(0).get("version");
+        cart.version = version != null ? version.longValue() : 0L;
+        cart.updatedAt = toLocalDateTime((Timestamp) carts.get(0).get("updated_at"));
+
+        byte[] compactedItems = (byte[]) carts.get(0).get("compacted_items");
+        if (compactedItems != null) {
+            restoreFromSnapshot(cart, compactedItems);
+            return cart;
+        }
+
+        jdbcTemplate.query(SELECT_ITEMS_SQL, rs -> {
+            long productId = rs.getLong("product_id");
+            cart.lines.put(productId, new CartLine(productId, rs.getInt("quantity"), rs.getInt("added_price"),
+                    toLocalDateTime(rs.getTimestamp("created_at")), toLocalDateTime(rs.getTimestamp("updated_at"))));
+        }, cart.cartId);
+        return cart;
+    }
+
+    /**
+     * 장바구니 정리 배치가 압축해 둔 아이템 복원 (깨진 스냅샷은 빈 장바구니로 취급)
+     */
+    private void restoreFromSnapshot(MemoryCart cart, byte[] compactedItems) {
+        cart.fromSnapshot = true;
+        try {
+            CartSnapshotCodec.Entries entries = CartSnapshotCodec.decode(compactedItems);
+            for (int i = 0; i < entries.size(); i++) {
+                long productId = entries.productIds[i];
+                cart.lines.put(productId, new CartLine(productId, entries.quantities[i], entries.addedPrices[i],
+                        cart.updatedAt, cart.updatedAt));
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("장바구니 스냅샷 복원 실패, 폐기: cartId={}, error={}", cart.cartId, e.getMessage());
+        }
+    }
+
+    private void markDirty(MemoryCart cart) {
+        cart.dirty = true;
+        if (!cart.queued) {
+            cart.queued = true;
+            dirtyQueue.add(cart.userId);
+        }
+    }
+
+    /**
+     * 현재 내용 스냅샷 (dirty 표시는 반영이 성공한 뒤 applyWritten에서 지움)
+     *
+     * @param dequeued dirty 큐에서 꺼낸 경우 (다음 변경 때 다시 큐에 넣도록 표시)
+     */
+    private FlushSnapshot takeSnapshot(long userId, boolean dequeued) {
+        Shard shard = shardOf(userId);
+        shard.lock.lock();
+        try {
+            MemoryCart cart = shard.carts.get(userId);
+            if (cart == null) {
+                return null;
+            }
+            if (dequeued) {
+                cart.queued = false;
+            }
+            return new FlushSnapshot(userId, cart.cartId, cart.version, new ArrayList<>(cart.lines.values()), cart.dirty);
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    private void applyWritten(FlushSnapshot snapshot) {
+        Shard shard = shardOf(snapshot.userId);
+        shard.lock.lock();
+        try {
+            MemoryCart cart = shard.carts.get(snapshot.userId);
+            if (cart == null) {
+                return;
+            }
+            if (Objects.equals(cart.cartId, snapshot.cartId)) {
+                cart.cartId = snapshot.writtenCartId;
+            }
+            if (cart.version == snapshot.version) {
+                cart.dirty = false;
+            } else {
+                markDirty(cart); // 반영하는 동안 바뀐 내용은 다음 주기에 반영
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * 주문 커밋 후 처리 - 반영 이후 변경이 없으면 메모리에서 내리고 (다음 접근 시 비워진 DB 장바구니를 읽음),
+     * 변경이 있으면 주문된 아이템(수량이 그대로인 것)만 빼고 나머지를 다시 반영 대상으로 표시
+     */
+    private void afterOrderCommitted(long userId, FlushSnapshot ordered) {
+        Shard shard = shardOf(userId);
+        shard.lock.lock();
+        try {
+            MemoryCart cart = shard.carts.get(userId);
+            if (cart == null) {
+                return;
+            }
+            if (ordered == null || cart.version == ordered.version) {
+                shard.carts.remove(userId);
+                return;
+            }
+
+            for (CartLine line : ordered.lines) {
+                CartLine current = cart.lines.get(line.productId);
+                if (current != null && current.quantity == line.quantity) {
+                    cart.lines.remove(line.productId);
+                }
+            }
+            // 주문 트랜잭션이 올린 DB 버전보다 커지도록 버전을 올리고 남은 내용으로 DB 장바구니를 덮어씀
+            cart.version++;
+            cart.updatedAt = LocalDateTime.now();
+            markDirty(cart);
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    private void restoreDirty(FlushSnapshot snapshot, boolean rolledBack) {
+        Shard shard = shardOf(snapshot.userId);
+        shard.lock.lock();
+        try {
+            MemoryCart cart = shard.carts.get(snapshot.userId);
+            if (cart == null) {
+                return;
+            }
+            if (rolledBack && !Objects.equals(snapshot.cartId, snapshot.writtenCartId)) {
+                // 이번 반영에서 만든 장바구니 행은 롤백되었으므로 다음 반영 때 다시 찾거나 만듦
+                cart.cartId = snapshot.cartId;
+            }
+            markDirty(cart);
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    private int writeBatch(List<FlushSnapshot> batch, List<FlushSnapshot> failed) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(batch));
+            batch.forEach(this::applyWritten);
+            return batch.size();
+        } catch (Exception e) {
+            log.warn("장바구니 배치 반영 실패, 한 건씩 재시도: carts={}, error={}", batch.size(), e.getMessage());
+        }
+
+        int succeeded = 0;
+        for (FlushSnapshot snapshot : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(List.of(snapshot)));
+                applyWritten(snapshot);
+                succeeded++;
+            } catch (Exception e) {
+                log.warn("장바구니 반영 실패: userId={}, error={}", snapshot.userId, e.getMessage());
+                failed.add(snapshot);
+            }
+        }
+        return succeeded;
+    }
+
+    private void write(List<FlushSnapshot> snapshots) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<FlushSnapshot> written = new ArrayList<>(snapshots.size());
+        List<Object[]> touches = new ArrayList<>(snapshots.size());
+
+        for (FlushSnapshot snapshot : snapshots) {
+            snapshot.writtenCartId = snapshot.cartId;
+            if (snapshot.writtenCartId == null) {
+                if (snapshot.lines.isEmpty()) {
+                    continue; // 비어 있는 장바구니는 행을 만들지 않음
+                }
+                snapshot.writtenCartId = findOrCreateCartId(snapshot.userId, now);
+            }
+            written.add(snapshot);
+            touches.add(new Object[]{snapshot.version, now, snapshot.writtenCartId});
+        }
+        if (written.isEmpty()) {
+            return;
+        }
+
+        int[] touched = jdbcTemplate.batchUpdate(TOUCH_CART_SQL, touches);
+        List<Object[]> cartIds = new ArrayList<>(written.size());
+        List<Object[]> items = new ArrayList<>();
+        for (int i = 0; i < written.size(); i++) {
+            FlushSnapshot snapshot = written.get(i);
+            if (touched[i] == 0) {
+                // 장바구니 정리 배치가 빈 장바구니 행을 지운 경우 (비어 있으면 다시 만들지 않음)
+                if (snapshot.lines.isEmpty()) {
+                    snapshot.writtenCartId = null;
+                    continue;
+                }
+                snapshot.writtenCartId = findOrCreateCartId(snapshot.userId, now);
+                jdbcTemplate.update(TOUCH_CART_SQL, snapshot.version, now, snapshot.writtenCartId);
+            }
+
+            cartIds.add(new Object[]{snapshot.writtenCartId});
+            for (CartLine line : snapshot.lines) {
+                items.add(new Object[]{snapshot.writtenCartId, line.productId, line.quantity,
+                        line.addedPrice > 0 ? line.addedPrice : null,
+                        toTimestamp(line.createdAt, now), toTimestamp(line.updatedAt, now)});
+            }
+        }
+
+        if (!cartIds.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_ITEMS_SQL, cartIds);
+        }
+        if (!items.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, items);
+        }
+    }
+
+    private Long findOrCreateCartId(long userId, Timestamp now) {
+        List<Long> cartIds = jdbcTemplate.queryForList(SELECT_CART_ID_SQL, Long.class, userId);
+        if (!cartIds.isEmpty()) {
+            return cartIds.get(0);
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_CART_SQL, new String[]{"id"});
+            ps.setLong(1, userId);
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private void evictIdle() {
+        long threshold = System.currentTimeMillis() - cartStoreConfig.getIdleEvictMs();
+        int evicted = 0;
+        for (Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                int before = shard.carts.size();
+                shard.carts.values().removeIf(cart -> !cart.dirty && cart.lastAccessMillis < threshold);
+                evicted += before - shard.carts.size();
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        if (evicted > 0) {
+            log.debug("유휴 장바구니 메모리 해제: carts={}", evicted);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime, Timestamp defaultValue) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : defaultValue;
+    }
+
+    private static class Shard {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Long, MemoryCart> carts = new HashMap<>();
+    }
+
+    private static class FlushSnapshot {
+        private final long userId;
+        private final Long cartId;
+        private final long version;
+        private final List<CartLine> lines;
+        private final boolean dirty; // DB에 반영할 변경이 있는지
+        private Long writtenCartId;
+
+        FlushSnapshot(long userId, Long cartId, long version, List<CartLine> lines, boolean dirty) {
+            this.userId = userId;
+            this.cartId = cartId;
+            this.version = version;
+            this.lines = lines;
+            this.dirty = dirty;
+        }
+    }
+
+    private static class CachedUser {
+        private final User user;
+        private final long expiresAt;
+
+        CachedUser(User user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 메모리 장바구니 (샤드 잠금 안에서만 접근)
+     */
+    public static class MemoryCart {
+        private final long userId;
+        private final LinkedHashMap<Long, CartLine> lines = new LinkedHashMap<>();
+        private Long cartId;
+        private long version;
+        private LocalDateTime updatedAt;
+        private boolean dirty;
+        private boolean queued; // dirty 큐에 들어 있는지
+        private long lastAccessMillis;
+        private boolean fromSnapshot;
+
+        MemoryCart(long userId) {
+            this.userId = userId;
+        }
+
+        /**
+         * 담긴 수량 (없으면 0)
+         */
+        public int getQuantity(long productId) {
+            CartLine line = lines.get(productId);
+            return line != null ? line.quantity : 0;
+        }
+
+        /**
+         * 수량 설정 (없으면 currentPrice를 담을 당시 단가로 새로 담음)
+         */
+        public void setQuantity(long productId, int quantity, int currentPrice) {
+            LocalDateTime now = LocalDateTime.now();
+            CartLine line = lines.get(productId);
+            if (line != null && line.quantity == quantity) {
+                return;
+            }
+            lines.put(productId, line != null
+                    ? new CartLine(productId, quantity, line.addedPrice, line.createdAt, now)
+                    : new CartLine(productId, quantity, currentPrice, now, now));
+            version++;
+        }
+
+        public boolean remove(long productId) {
+            if (lines.remove(productId) == null) {
+                return false;
+            }
+            version++;
+            return true;
+        }
+
+        public void clear() {
+            if (!lines.isEmpty()) {
+                lines.clear();
+                version++;
+            }
+        }
+
+        private CartView toView(long baseVersion) {
+            return new CartView(userId, baseVersion, version, List.copyOf(lines.values()), updatedAt);
+        }
+    }
+
+    /**
+     * 장바구니 조회 결과 (불변)
+     */
+    @Getter
+    public static class CartView {
+        private final long userId;
+        private final long baseVersion; // 변경 전 버전 (조회 시에는 version과 같음)
+        private final long version;
+        private final List<CartLine> lines;
+        private final LocalDateTime updatedAt;
+
+        CartView(long userId, long baseVersion, long version, List<CartLine> lines, LocalDateTime updatedAt) {
+            this.userId = userId;
+            this.baseVersion = baseVersion;
+            this.version = version;
+            this.lines = lines;
+            this.updatedAt = updatedAt;
+        }
+    }
+
+    @Getter
+    public static class CartLine {
+        private final long productId;
+        private final int quantity;
+        private final int addedPrice; // 담을 당시 단가 (모르면 0)
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+
+        CartLine(long productId, int quantity, int addedPrice, LocalDateTime createdAt, LocalDateTime updatedAt) {
+            this.productId = productId;
+            this.quantity = quantity;
+            this.addedPrice = addedPrice;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.event.StockChangedEvent;
+import com.commercecoupon.exception.CustomException;
+import com.commercecoupon.exception.InsufficientStockException;
+import com.commercecoupon.exception.ProductNotFoundException;
+import com.commercecoupon.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 변경 전담 서비스
+ *
+ * - 주문 차감, 주문 취소 복원, 관리자 재고 조정, 상품 등록/일괄 등록의 재고는 모두 이 서비스를 거침
+ * - 재고와 품절 상태를 UPDATE 한 문장에서 함께 바꾸므로 동시 주문에서도 재고가 음수가 되거나 상태가 어긋나지 않음
+ *   (차감은 WHERE stock >= 수량 조건으로 처리하고, 갱신된 행이 없으면 재고 부족)
+ * - 변경 후 StockChangedEvent를 발행하고, 검색/랭킹/패싯/재고 부족 색인과 카탈로그 캐시는
+ *   ProductIndexUpdater가 커밋 후에 반영
+ * 호출 측 트랜잭션에 참여하므로 주문이 롤백되면 재고 변경도 함께 롤백되고 색인에도 반영되지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class InventoryService {
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    /**
+     * 신규 상품의 초기 상태 (재고가 없으면 품절)
+     */
+    public static ProductStatus initialStatus(Integer stock) {
+        return stock != null && stock > 0 ? ProductStatus.ACTIVE : ProductStatus.OUT_OF_STOCK;
+    }
+
+    /**
+     * 주문 재고 차감 (판매수 증가 포함, 재고가 0이 되면 품절)
+     */
+    @Transactional
+    public Product decrease(Long productId, int quantity) {
+        validateQuantity(quantity);
+
+        int updated = productRepository.decreaseStock(productId, quantity,
+                ProductStatus.ACTIVE, ProductStatus.OUT_OF_STOCK, LocalDateTime.now());
+        Product product = reload(productId);
+        if (updated == 0) {
+            throw new InsufficientStockException(product.getName(), quantity, product.getStock());
+        }
+
+        afterChange(product, StockChangedEvent.Reason.ORDER, quantity, LocalDateTime.now());
+        return product;
+    }
+
+    /**
+     * 주문 취소 재고 복원 (판매 시각을 모르는 경우 - 기간별 판매 랭킹은 되돌리지 않음)
+     */
+    @Transactional
+    public Product increase(Long productId, int quantity) {
+        return increase(productId, quantity, null);
+    }
+
+    /**
+     * 주문 취소 재고 복원 (판매수 감소, 품절 상품은 판매중으로 복귀)
+     *
+     * @param soldAt 취소된 주문의 판매 시각 (기간별 판매 랭킹에서 해당 시간 버킷의 판매를 되돌림)
+     */
+    @Transactional
+    public Product increase(Long productId, int quantity, LocalDateTime soldAt) {
+        validateQuantity(quantity);
+
+        int updated = productRepository.increaseStock(productId, quantity,
+                ProductStatus.ACTIVE, ProductStatus.OUT_OF_STOCK, LocalDateTime.now());
+        if (updated == 0) {
+            throw new ProductNotFoundException(productId);
+        }
+
+        Product product = reload(productId);
+        afterChange(product, StockChangedEvent.Reason.ORDER_CANCEL, quantity, soldAt);
+        return product;
+    }
+
+    /**
+     * 관리자 재고 조정 (0이면 판매중 -> 품절, 0보다 크면 품절 -> 판매중)
+     */
+    @Transactional
+    public Product adjust(Long productId, int stock) {
+        if (stock < 0) {
+            throw new CustomException("재고는 0개 이상이어야 합니다");
+        }
+
+        ProductStatus fromStatus = stock > 0 ? ProductStatus.OUT_OF_STOCK : ProductStatus.ACTIVE;
+        ProductStatus toStatus = stock > 0 ? ProductStatus.ACTIVE : ProductStatus.OUT_OF_STOCK;
+        int updated = productRepository.setStock(productId, stock, fromStatus, toStatus, LocalDateTime.now());
+        if (updated == 0) {
+            throw new ProductNotFoundException(productId);
+        }
+
+        Product product = reload(productId);
+        afterChange(product, StockChangedEvent.Reason.ADJUSTMENT, stock, null);
+        return product;
+    }
+
+    /**
+     * 새로 등록된 상품의 재고 반영 (상품 등록 / 일괄 등록, 상태는 initialStatus로 저장된 상태)
+     */
+    public void registerInitialStock(Product product) {
+        eventPublisher.publishEvent(new StockChangedEvent(product.getId(), StockChangedEvent.Reason.INITIAL,
+                product.getStock(), product.getStock(), product.getStatus(), null));
+    }
+
+    // ===== Private Methods =====
+
+    private void validateQuantity(int quantity) {
+        if (quantity <= 0) {
+            throw new CustomException("수량은 1개 이상이어야 합니다");
+        }
+    }
+
+    /**
+     * 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로 이미 적재된 엔티티도 DB 값으로 다시 읽음
+     */
+    private Product reload(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+        entityManager.refresh(product);
+        return product;
+    }
+
+    private void afterChange(Product product, StockChangedEvent.Reason reason, int quantity, LocalDateTime soldAt) {
+        log.debug("재고 변경: productId={}, reason={}, quantity={}, stock={}, status={}",
+                product.getId(), reason, quantity, product.getStock(), product.getStatus());
+        eventPublisher.publishEvent(new StockChangedEvent(product.getId(), reason, quantity,
+                product.getStock(), product.getStatus(), soldAt));
+    }
+}
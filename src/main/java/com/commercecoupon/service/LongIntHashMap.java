@@ -0,0 +1,177 @@
+package com.commercecoupon.service;
+
+import java.util.Arrays;
+
+/**
+ * long 키 -> int 값 해시맵 (open addressing, linear probing)
+ *
+ * 키/값을 기본형 배열에 저장하므로 엔트리마다 Long/Integer/Node 객체가 생기지 않습니다.
+ * 키 0은 빈 슬롯 표시로 사용하므로 저장할 수 없습니다 (상품 ID는 1부터 시작).
+ * 삭제는 지원하지 않으며, 필요하면 남길 엔트리만 골라 새 맵을 만듭니다.
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+public final class LongIntHashMap {
+
+    private static final long EMPTY_KEY = 0L;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int resizeThreshold;
+
+    public LongIntHashMap() {
+        this(16);
+    }
+
+    public LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * 값 누적 (없으면 delta로 추가)
+     */
+    public void addTo(long key, int delta) {
+        if (key == EMPTY_KEY) {
+            throw new IllegalArgumentException("0은 키로 사용할 수 없습니다");
+        }
+
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY_KEY) {
+            if (keys[slot] == key) {
+                values[slot] += delta;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size > resizeThreshold) {
+            resize();
+        }
+    }
+
+    public int get(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY_KEY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 다른 맵의 값을 모두 누적
+     */
+    public void addAll(LongIntHashMap other) {
+        other.forEach(this::addTo);
+    }
+
+    public void forEach(Consumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY_KEY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * 값이 큰 순서로 상위 limit개만 남긴 새 맵 (값이 같으면 키가 큰 순)
+     */
+    public LongIntHashMap topK(int limit) {
+        int[] slots = sortedSlots();
+        int count = Math.min(limit, slots.length);
+        LongIntHashMap pruned = new LongIntHashMap(count);
+        for (int i = 0; i < count; i++) {
+            pruned.addTo(keys[slots[i]], values[slots[i]]);
+        }
+        return pruned;
+    }
+
+    /**
+     * 값이 큰 순서로 상위 limit개만 남기고 나머지 제거
+     */
+    public void retainTopK(int limit) {
+        if (size <= limit) {
+            return;
+        }
+        LongIntHashMap pruned = topK(limit);
+        keys = pruned.keys;
+        values = pruned.values;
+        size = pruned.size;
+        resizeThreshold = pruned.resizeThreshold;
+    }
+
+    /**
+     * 값이 큰 순서의 키 목록
+     */
+    public long[] topKeys(int limit) {
+        int[] slots = sortedSlots();
+        int count = Math.min(limit, slots.length);
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = keys[slots[i]];
+        }
+        return result;
+    }
+
+    // ===== Private Methods =====
+
+    /**
+     * (값, 키) 내림차순으로 정렬한 사용 중인 슬롯 번호
+     */
+    private int[] sortedSlots() {
+        Integer[] slots = new Integer[size];
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY_KEY) {
+                slots[count++] = i;
+            }
+        }
+        Arrays.sort(slots, (a, b) -> values[a] != values[b]
+                ? Integer.compare(values[b], values[a])
+                : Long.compare(keys[b], keys[a]));
+        return Arrays.stream(slots).mapToInt(Integer::intValue).toArray();
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length << 1];
+        values = new int[oldValues.length << 1];
+        resizeThreshold = (int) (keys.length * LOAD_FACTOR);
+
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (keys[slot] != EMPTY_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @FunctionalInterface
+    public interface Consumer {
+        void accept(long key, int value);
+    }
+}
@@ -0,0 +1,22 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.event.LowStockEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 부족 알림
+ * LowStockIndex는 커밋된 재고 변경만 반영하므로 이벤트를 받는 즉시 알립니다.
+ * (커밋 후 콜백 안에서 등록한 트랜잭션 동기화는 실행되지 않으므로 TransactionalEventListener를 쓰지 않음)
+ */
+@Slf4j
+@Component
+public class LowStockAlertNotifier {
+
+    @EventListener
+    public void onLowStock(LowStockEvent event) {
+        log.warn("재고 부족 알림: productId={}, stock={}, threshold={}",
+                event.getProductId(), event.getStock(), event.getThreshold());
+    }
+}
@@ -0,0 +1,180 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.event.LowStockEvent;
+import com.commercecoupon.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 재고 부족 색인 (인메모리)
+ *
+ * - 판매 상품(ACTIVE)만 재고 순, (재고 - 상품별 기준) 순 두 개의 skip-list에 정렬 상태로 유지
+ * - 재고 부족 목록은 앞에서부터 조건을 넘는 지점까지만 읽으므로 전체 상품 수가 아닌 결과 수에 비례
+ * - 재고 변경 시 기준 위에서 기준 이하로 내려가는 순간 LowStockEvent 발행 (품절 전환 포함)
+ * - 변경은 커밋 후 ProductIndexUpdater에서만 반영되므로 색인에는 커밋된 재고만 존재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LowStockIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 5000;
+
+    private static final Comparator<StockEntry> BY_STOCK = Comparator
+            .comparingInt((StockEntry e) -> e.stock)
+            .thenComparingLong(e -> e.productId);
+
+    private static final Comparator<StockEntry> BY_MARGIN = Comparator
+            .comparingInt((StockEntry e) -> e.stock - e.threshold)
+            .thenComparingLong(e -> e.productId);
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${product.low-stock.default-threshold:10}")
+    private int defaultThreshold;
+
+    private final Map<Long, StockEntry> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<StockEntry> byStock = new ConcurrentSkipListSet<>(BY_STOCK);
+    private final NavigableSet<StockEntry> byMargin = new ConcurrentSkipListSet<>(BY_MARGIN);
+
+    private volatile boolean ready = false;
+
+    /**
+     * 애플리케이션 시작 후 전체 상품 재고로 색인 구성 (구성 중에는 알림을 보내지 않음)
+     * 구성 도중 update()로 먼저 반영된 상품은 스캔 결과보다 새 값이므로 덮어쓰지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        Long lastId = 0L;
+
+        while (true) {
+            List<Object[]> rows = productRepository.findStockRows(lastId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            synchronized (this) {
+                for (Object[] row : rows) {
+                    if (!entries.containsKey((Long) row[0])) {
+                        replace(new StockEntry((Long) row[0], (Integer) row[1],
+                                effectiveThreshold((Integer) row[2]), (ProductStatus) row[3]));
+                    }
+                }
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+
+        ready = true;
+        log.info("재고 부족 색인 구성 완료: products={}, lowStock={}, elapsed={}ms",
+                entries.size(), findBelowOwnThreshold().length, System.currentTimeMillis() - startTime);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getDefaultThreshold() {
+        return defaultThreshold;
+    }
+
+    /**
+     * 커밋된 재고/기준/상태 변경 반영
+     */
+    public synchronized void update(Product product) {
+        StockEntry entry = new StockEntry(product.getId(), product.getStock(),
+                effectiveThreshold(product.getLowStockThreshold()), product.getStatus());
+        StockEntry previous = replace(entry);
+
+        boolean crossed = entry.isBelowThreshold() && (previous == null || !previous.isBelowThreshold());
+        if (ready && crossed && entry.status != ProductStatus.DISCONTINUED) {
+            eventPublisher.publishEvent(new LowStockEvent(entry.productId, entry.stock, entry.threshold));
+        }
+    }
+
+    /**
+     * 재고가 상품별 기준 이하인 판매 상품 (재고 적은 순)
+     */
+    public long[] findBelowOwnThreshold() {
+        List<StockEntry> result = new ArrayList<>();
+        for (StockEntry entry : byMargin) {
+            if (!entry.isBelowThreshold()) {
+                break;
+            }
+            result.add(entry);
+        }
+        result.sort(BY_STOCK);
+        return result.stream().mapToLong(e -> e.productId).toArray();
+    }
+
+    /**
+     * 재고가 threshold 이하인 판매 상품 (재고 적은 순)
+     */
+    public long[] findAtOrBelow(int threshold) {
+        List<Long> result = new ArrayList<>();
+        for (StockEntry entry : byStock) {
+            if (entry.stock > threshold) {
+                break;
+            }
+            result.add(entry.productId);
+        }
+        return result.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // ===== Private Methods =====
+
+    private StockEntry replace(StockEntry entry) {
+        StockEntry previous = entries.put(entry.productId, entry);
+        if (previous != null && previous.isListed()) {
+            byStock.remove(previous);
+            byMargin.remove(previous);
+        }
+        if (entry.isListed()) {
+            byStock.add(entry);
+            byMargin.add(entry);
+        }
+        return previous;
+    }
+
+    private int effectiveThreshold(Integer threshold) {
+        return threshold != null ? threshold : defaultThreshold;
+    }
+
+    private static class StockEntry {
+        private final long productId;
+        private final int stock;
+        private final int threshold;
+        private final ProductStatus status;
+
+        StockEntry(long productId, Integer stock, int threshold, ProductStatus status) {
+            this.productId = productId;
+            this.stock = stock != null ? stock : 0;
+            this.threshold = threshold;
+            this.status = status;
+        }
+
+        boolean isListed() {
+            return status == ProductStatus.ACTIVE;
+        }
+
+        boolean isBelowThreshold() {
+            return stock <= threshold;
+        }
+    }
+}
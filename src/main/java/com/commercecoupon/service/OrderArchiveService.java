@@ -0,0 +1,172 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.config.OrderArchiveConfig;
+import com.commercecoupon.entity.Order;
+import com.commercecoupon.entity.Payment;
+import com.commercecoupon.enums.OrderStatus;
+import com.commercecoupon.repository.OrderItemRepository;
+import com.commercecoupon.repository.OrderRepository;
+import com.commercecoupon.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 오래된 종료 상태 주문을 세그먼트 파일로 옮기는 아카이빙 배치
+ *
+ * 1. 대상 주문 ID를 키셋 페이징으로 조회
+ * 2. ID를 파티션 수로 나눠 병렬 처리 (파티션마다 별도 트랜잭션)
+ * 3. 세그먼트 파일에 기록 및 fsync 후 DB에서 주문/아이템/결제 삭제
+ * 파일 기록 후 삭제가 실패해도 DB 조회가 우선이므로 조회 결과는 달라지지 않고,
+ * 다음 실행에서는 이미 기록된 주문 ID를 건너뛰므로 세그먼트에 중복 레코드가 생기지 않습니다.
+ * 주문 검색 인덱스는 삭제가 커밋된 뒤에만 갱신합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderArchiveService {
+
+    private static final Set<OrderStatus> TERMINAL_STATUSES =
+            EnumSet.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED, OrderStatus.REFUNDED);
+
+    private final OrderArchiveConfig archiveConfig;
+    private final OrderArchiveStore orderArchiveStore;
+    private final OrderSearchIndex orderSearchIndex;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final PaymentRepository paymentRepository;
+    private final OrderService orderService;
+    private final PaymentService paymentService;
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 정기 아카이빙 (기본: 매일 03:30)
+     */
+    @Scheduled(cron = "${archive.order.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        if (!archiveConfig.isEnabled()) {
+            return;
+        }
+        archiveOrders();
+    }
+
+    /**
+     * 주문 아카이빙 실행
+     *
+     * @return 아카이빙된 주문 수
+     */
+    public int archiveOrders() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("주문 아카이빙이 이미 실행 중입니다");
+            return 0;
+        }
+
+        int partitions = Math.max(1, archiveConfig.getPartitions());
+        ExecutorService executor = Executors.newFixedThreadPool(partitions);
+        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(archiveConfig.getRetentionDays());
+        int archivedCount = 0;
+
+        log.info("주문 아카이빙 시작: cutoffDate={}, partitions={}", cutoffDate, partitions);
+
+        try {
+            Long lastId = 0L;
+            while (true) {
+                List<Long> orderIds = orderRepository.findArchivableOrderIds(
+                        TERMINAL_STATUSES, cutoffDate, lastId, PageRequest.of(0, archiveConfig.getBatchSize()));
+                if (orderIds.isEmpty()) {
+                    break;
+                }
+                lastId = orderIds.get(orderIds.size() - 1);
+
+                List<List<Long>> partitionedIds = new ArrayList<>();
+                for (int i = 0; i < partitions; i++) {
+                    partitionedIds.add(new ArrayList<>());
+                }
+                for (Long orderId : orderIds) {
+                    partitionedIds.get((int) (orderId % partitions)).add(orderId);
+                }
+
+                List<CompletableFuture<Integer>> futures = new ArrayList<>();
+                for (int partition = 0; partition < partitions; partition++) {
+                    int currentPartition = partition;
+                    List<Long> ids = partitionedIds.get(partition);
+                    futures.add(CompletableFuture.supplyAsync(
+                            () -> archivePartition(currentPartition, ids), executor));
+                }
+
+                for (CompletableFuture<Integer> future : futures) {
+                    archivedCount += future.join();
+                }
+            }
+        } finally {
+            executor.shutdown();
+            running.set(false);
+        }
+
+        log.info("주문 아카이빙 완료: archivedCount={}, totalArchived={}", archivedCount, orderArchiveStore.size());
+        return archivedCount;
+    }
+
+    // ===== Private Methods =====
+
+    private int archivePartition(int partition, List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Long> archivedIds = transactionTemplate.execute(status -> {
+            List<Order> orders = orderRepository.findAllWithItemsByIdIn(orderIds);
+            Map<Long, Payment> payments = paymentRepository.findByOrderIdIn(orderIds).stream()
+                    .collect(Collectors.toMap(p -> p.getOrder().getId(), Function.identity()));
+
+            // 월별 세그먼트로 묶어서 기록
+            Map<YearMonth, List<OrderArchiveStore.ArchivedOrder>> byMonth = orders.stream()
+                    .collect(Collectors.groupingBy(
+                            o -> YearMonth.from(o.getCreatedAt()),
+                            Collectors.mapping(o -> toArchivedOrder(o, payments.get(o.getId())),
+                                    Collectors.toList())));
+            byMonth.forEach((month, archivedOrders) -> orderArchiveStore.append(month, partition, archivedOrders));
+
+            List<Long> ids = orders.stream().map(Order::getId).collect(Collectors.toList());
+            paymentRepository.deleteByOrderIdIn(ids);
+            orderItemRepository.deleteByOrderIdIn(ids);
+            orderRepository.deleteAllByIdInBatch(ids);
+            return ids;
+        });
+
+        if (archivedIds == null || archivedIds.isEmpty()) {
+            return 0;
+        }
+        orderSearchIndex.removeAll(archivedIds);
+
+        log.debug("아카이빙 파티션 처리 완료: partition={}, count={}", partition, archivedIds.size());
+        return archivedIds.size();
+    }
+
+    private OrderArchiveStore.ArchivedOrder toArchivedOrder(Order order, Payment payment) {
+        return new OrderArchiveStore.ArchivedOrder(
+                orderService.convertToOrderDetailResponse(order),
+                payment != null ? paymentService.convertToPaymentCompleteResponse(payment) : null);
+    }
+}
@@ -0,0 +1,254 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.config.OrderArchiveConfig;
+import com.commercecoupon.dto.response.OrderDetailResponse;
+import com.commercecoupon.dto.response.PaymentCompleteResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 아카이빙된 주문을 월별 세그먼트 파일에 저장하고 조회하는 저장소
+ *
+ * 세그먼트 파일은 append-only이며 레코드 형식은 다음과 같습니다.
+ * [orderId(8)][userId(8)][length(4)][gzip(JSON) payload]
+ * 파일 이름은 orders-yyyy-MM-p{파티션}.seg 이므로 파티션마다 쓰는 스레드가 하나뿐입니다.
+ * 기록은 주문 ID 기준으로 멱등이므로 DB 삭제가 롤백된 뒤 다시 실행해도 레코드가 중복되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderArchiveStore {
+
+    private static final int HEADER_SIZE = Long.BYTES + Long.BYTES + Integer.BYTES;
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final OrderArchiveConfig archiveConfig;
+    private final ObjectMapper objectMapper;
+
+    // 주문 ID -> 세그먼트 내 위치
+    private final Map<Long, SegmentPointer> index = new ConcurrentHashMap<>();
+    private final Map<Path, Object> segmentLocks = new ConcurrentHashMap<>();
+
+    /**
+     * 애플리케이션 시작 시 세그먼트 파일을 병렬로 스캔하여 인덱스를 복원
+     */
+    @PostConstruct
+    public void loadIndex() {
+        Path directory = getDirectory();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files.filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 디렉토리를 읽을 수 없습니다: " + directory, e);
+        }
+
+        segments.parallelStream().forEach(this::scanSegment);
+        log.info("주문 아카이브 인덱스 로드 완료: segments={}, orders={}", segments.size(), index.size());
+    }
+
+    /**
+     * 주문 묶음을 해당 월/파티션 세그먼트에 추가하고 디스크에 동기화
+     * 이미 아카이빙된 주문 ID는 건너뜁니다.
+     *
+     * @return 새로 기록된 주문 수
+     */
+    public int append(YearMonth month, int partition, List<ArchivedOrder> orders) {
+        if (orders.isEmpty()) {
+            return 0;
+        }
+
+        Path segment = getDirectory().resolve(String.format("orders-%s-p%d%s", month, partition, SEGMENT_SUFFIX));
+        Object lock = segmentLocks.computeIfAbsent(segment, p -> new Object());
+
+        synchronized (lock) {
+            try {
+                Files.createDirectories(segment.getParent());
+                try (FileChannel channel = FileChannel.open(segment,
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                    long position = channel.size();
+                    Map<Long, SegmentPointer> written = new HashMap<>();
+
+                    for (ArchivedOrder archivedOrder : orders) {
+                        Long orderId = archivedOrder.getOrder().getId();
+                        if (index.containsKey(orderId) || written.containsKey(orderId)) {
+                            continue;
+                        }
+
+                        byte[] payload = compress(archivedOrder);
+                        Long userId = archivedOrder.getOrder().getUser().getId();
+
+                        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+                        buffer.putLong(orderId).putLong(userId).putInt(payload.length).put(payload);
+                        buffer.flip();
+                        while (buffer.hasRemaining()) {
+                            channel.write(buffer);
+                        }
+
+                        written.put(orderId, new SegmentPointer(segment, position + HEADER_SIZE, payload.length, userId));
+                        position += HEADER_SIZE + payload.length;
+                    }
+
+                    if (written.isEmpty()) {
+                        return 0;
+                    }
+                    channel.force(true);
+                    index.putAll(written);
+                    return written.size();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("세그먼트 파일 쓰기에 실패했습니다: " + segment, e);
+            }
+        }
+    }
+
+    /**
+     * 아카이빙된 주문 조회
+     */
+    public Optional<ArchivedOrder> find(Long orderId) {
+        SegmentPointer pointer = index.get(orderId);
+        if (pointer == null) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(pointer.getSegment(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(pointer.getLength());
+            long position = pointer.getOffset();
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("세그먼트 레코드가 잘렸습니다: orderId=" + orderId);
+                }
+                position += read;
+            }
+            return Optional.of(decompress(buffer.array()));
+        } catch (IOException e) {
+            log.error("아카이브 주문 조회 실패: orderId={}, error={}", orderId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 사용자 소유의 아카이빙된 주문 조회 (파일을 읽기 전에 헤더의 userId로 소유권 확인)
+     */
+    public Optional<ArchivedOrder> findByUser(Long orderId, Long userId) {
+        SegmentPointer pointer = index.get(orderId);
+        if (pointer == null || !pointer.getUserId().equals(userId)) {
+            return Optional.empty();
+        }
+        return find(orderId);
+    }
+
+    public boolean contains(Long orderId) {
+        return index.containsKey(orderId);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    // ===== Private Methods =====
+
+    private Path getDirectory() {
+        return Paths.get(archiveConfig.getDirectory());
+    }
+
+    private void scanSegment(Path segment) {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            long position = 0;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+            while (position + HEADER_SIZE <= size) {
+                header.clear();
+                channel.read(header, position);
+                header.flip();
+
+                long orderId = header.getLong();
+                long userId = header.getLong();
+                int length = header.getInt();
+
+                // 마지막 레코드가 중간에 끊긴 경우 (쓰기 도중 장애) 잘라내서 이후 append 위치를 맞춤
+                if (length < 0 || position + HEADER_SIZE + length > size) {
+                    log.warn("불완전한 세그먼트 레코드 제거: segment={}, position={}", segment, position);
+                    channel.truncate(position);
+                    return;
+                }
+
+                index.putIfAbsent(orderId, new SegmentPointer(segment, position + HEADER_SIZE, length, userId));
+                position += HEADER_SIZE + length;
+            }
+
+            if (position < size) {
+                channel.truncate(position);
+            }
+        } catch (IOException e) {
+            log.error("세그먼트 스캔 실패: segment={}, error={}", segment, e.getMessage());
+        }
+    }
+
+    private byte[] compress(ArchivedOrder archivedOrder) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, archivedOrder);
+        }
+        return bytes.toByteArray();
+    }
+
+    private ArchivedOrder decompress(byte[] payload) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(gzip, ArchivedOrder.class);
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class SegmentPointer {
+        private Path segment;
+        private long offset;
+        private int length;
+        private Long userId;
+    }
+
+    /**
+     * 세그먼트에 저장되는 주문 스냅샷 (주문 상세 + 결제 내역)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ArchivedOrder {
+        private OrderDetailResponse order;
+        private PaymentCompleteResponse payment;
+    }
+}
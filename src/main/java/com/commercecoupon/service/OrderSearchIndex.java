@@ -0,0 +1,426 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.entity.Order;
+import com.commercecoupon.enums.OrderStatus;
+import com.commercecoupon.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 주문 검색용 bigram 역색인
+ *
+ * 주문번호, 수령인명, 연락처 뒷자리, 사용자명, 사용자 이메일을 소문자 bigram으로 색인합니다.
+ * 주문 트랜잭션의 커밋 순서는 ID 순서와 다를 수 있으므로 posting 리스트는 정렬 삽입으로
+ * 오름차순/중복 없음을 유지하고, 검색은 posting 교집합을 구한 뒤 원문 포함 여부로 최종 확인합니다.
+ * 색인 변경은 트랜잭션 커밋 후에만 반영하며, 색인이 준비되기 전에는 기존 LIKE 쿼리를 사용합니다.
+ * 재구성 도중의 추가/상태 변경/제거는 모아 두었다가 스캔 결과를 합친 뒤 순서대로 다시 적용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+    private static final int PHONE_SUFFIX_LENGTH = 4;
+    private static final int REBUILD_PAGE_SIZE = 5000;
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final OrderRepository orderRepository;
+
+    private final Map<String, LongList> postings = new HashMap<>();
+    private final Map<Long, IndexedOrder> documents = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 재구성 도중 커밋된 변경 (스캔 결과보다 최신일 수 있으므로 재구성 완료 후 순서대로 적용)
+    private final List<Runnable> pendingChanges = new ArrayList<>();
+
+    private volatile boolean ready = false;
+
+    /**
+     * 애플리케이션 시작 후 ID 범위를 나눠 병렬로 색인 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Long maxId = orderRepository.findMaxId();
+        if (maxId == null) {
+            markReady();
+            return;
+        }
+
+        int partitions = Runtime.getRuntime().availableProcessors();
+        long rangeSize = maxId / partitions + 1;
+        ExecutorService executor = Executors.newFixedThreadPool(partitions);
+
+        try {
+            List<CompletableFuture<PartialIndex>> futures = new ArrayList<>();
+            for (int i = 0; i < partitions; i++) {
+                long fromId = i * rangeSize;
+                long toId = Math.min(maxId, fromId + rangeSize);
+                futures.add(CompletableFuture.supplyAsync(() -> buildPartial(fromId, toId), executor));
+            }
+
+            List<PartialIndex> partials = futures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+
+            // 파티션은 ID 오름차순이므로 순서대로 합치면 posting 정렬이 유지됨
+            lock.writeLock().lock();
+            try {
+                for (PartialIndex partial : partials) {
+                    partial.postings.forEach((gram, ids) ->
+                            postings.computeIfAbsent(gram, g -> new LongList()).addAll(ids));
+                    documents.putAll(partial.documents);
+                }
+                markReady();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        log.info("주문 검색 색인 구성 완료: orders={}, grams={}", documents.size(), postings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 신규 주문 색인 (트랜잭션 안이면 커밋 후 반영)
+     * 색인 문자열은 영속성 컨텍스트가 열려 있는 호출 시점에 만듭니다.
+     */
+    public void add(Order order) {
+        Long orderId = order.getId();
+        IndexedOrder document = new IndexedOrder(
+                buildText(order.getOrderNumber(), order.getRecipientName(), order.getPhone(),
+                        order.getUser().getName(), order.getUser().getEmail()),
+                order.getStatus());
+
+        afterCommit(() -> applyOrDefer(() -> addInternal(orderId, document)));
+    }
+
+    /**
+     * 주문 상태 변경 반영 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void updateStatus(Long orderId, OrderStatus status) {
+        afterCommit(() -> applyOrDefer(() ->
+                documents.computeIfPresent(orderId, (id, doc) -> new IndexedOrder(doc.text, status))));
+    }
+
+    /**
+     * 아카이빙 등으로 DB에서 사라진 주문 제거 (문서와 posting 모두 삭제)
+     */
+    public void removeAll(Collection<Long> orderIds) {
+        List<Long> ids = List.copyOf(orderIds);
+        applyOrDefer(() -> removeInternal(ids));
+    }
+
+    /**
+     * 키워드 검색 (bigram 생성이 불가능한 1글자 키워드는 지원하지 않음)
+     *
+     * @return 최신 주문 순(ID 내림차순) 주문 ID 목록
+     */
+    public long[] search(String keyword, OrderStatus status) {
+        String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+        Set<String> queryGrams = grams(normalized);
+
+        lock.readLock().lock();
+        long[] candidates;
+        try {
+            List<LongList> lists = new ArrayList<>(queryGrams.size());
+            for (String gram : queryGrams) {
+                LongList list = postings.get(gram);
+                if (list == null) {
+                    return new long[0];
+                }
+                lists.add(list);
+            }
+            // 가장 짧은 posting부터 교집합
+            lists.sort((a, b) -> Integer.compare(a.size, b.size));
+            candidates = Arrays.copyOf(lists.get(0).values, lists.get(0).size);
+            for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+                candidates = intersect(candidates, lists.get(i));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long[] result = new long[candidates.length];
+        int count = 0;
+        for (int i = candidates.length - 1; i >= 0; i--) {
+            IndexedOrder doc = documents.get(candidates[i]);
+            if (doc == null || (status != null && doc.status != status)) {
+                continue;
+            }
+            if (doc.text.contains(normalized)) {
+                result[count++] = candidates[i];
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    public static boolean isSearchable(String keyword) {
+        return keyword != null && keyword.trim().length() >= GRAM_SIZE;
+    }
+
+    // ===== Private Methods =====
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    /**
+     * 재구성 도중 보관한 변경을 적용하고 검색 가능 상태로 전환
+     * 스캔과 겹친 주문도 정렬 삽입에서 중복이 제거되고, 상태/제거는 스캔 값 위에 덮어쓰므로 모두 반영
+     */
+    private void markReady() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인이 준비됐으면 바로 적용하고, 재구성 중이면 완료 후 적용하도록 보관
+     */
+    private void applyOrDefer(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            if (ready) {
+                change.run();
+            } else {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addInternal(Long orderId, IndexedOrder document) {
+        for (String gram : grams(document.text)) {
+            postings.computeIfAbsent(gram, g -> new LongList()).add(orderId);
+        }
+        documents.put(orderId, document);
+    }
+
+    /**
+     * 문서를 지우고, 지운 문서의 bigram posting에서 ID를 한 번에 걸러냄 (빈 posting은 삭제)
+     */
+    private void removeInternal(List<Long> orderIds) {
+        Map<String, Set<Long>> removedByGram = new HashMap<>();
+        for (Long orderId : orderIds) {
+            IndexedOrder document = documents.remove(orderId);
+            if (document == null) {
+                continue;
+            }
+            for (String gram : grams(document.text)) {
+                removedByGram.computeIfAbsent(gram, g -> new HashSet<>()).add(orderId);
+            }
+        }
+        removedByGram.forEach((gram, removed) -> {
+            LongList list = postings.get(gram);
+            if (list == null) {
+                return;
+            }
+            list.removeAll(removed.stream().mapToLong(Long::longValue).sorted().toArray());
+            if (list.size == 0) {
+                postings.remove(gram);
+            }
+        });
+    }
+
+    private PartialIndex buildPartial(long fromId, long toId) {
+        PartialIndex partial = new PartialIndex();
+        long lastId = fromId;
+
+        while (true) {
+            List<Object[]> rows = orderRepository.findSearchIndexRows(lastId, toId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                Long orderId = (Long) row[0];
+                String text = buildText((String) row[1], (String) row[2], (String) row[3],
+                        (String) row[4], (String) row[5]);
+                for (String gram : grams(text)) {
+                    partial.postings.computeIfAbsent(gram, g -> new LongList()).add(orderId);
+                }
+                partial.documents.put(orderId, new IndexedOrder(text, (OrderStatus) row[6]));
+                lastId = orderId;
+            }
+        }
+        return partial;
+    }
+
+    private static String buildText(String orderNumber, String recipientName, String phone,
+                                    String userName, String email) {
+        StringBuilder text = new StringBuilder();
+        appendField(text, orderNumber);
+        appendField(text, recipientName);
+        appendField(text, phoneSuffix(phone));
+        appendField(text, userName);
+        appendField(text, email);
+        return text.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static void appendField(StringBuilder text, String value) {
+        if (value != null) {
+            text.append(value).append(FIELD_SEPARATOR);
+        }
+    }
+
+    private static String phoneSuffix(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        String digits = phone.replaceAll("[^0-9]", "");
+        return digits.length() <= PHONE_SUFFIX_LENGTH ? digits : digits.substring(digits.length() - PHONE_SUFFIX_LENGTH);
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            String gram = text.substring(i, i + GRAM_SIZE);
+            if (gram.indexOf(FIELD_SEPARATOR) < 0) {
+                grams.add(gram);
+            }
+        }
+        return grams;
+    }
+
+    private static long[] intersect(long[] left, LongList right) {
+        long[] result = new long[Math.min(left.length, right.size)];
+        int i = 0, j = 0, count = 0;
+        while (i < left.length && j < right.size) {
+            if (left[i] < right.values[j]) {
+                i++;
+            } else if (left[i] > right.values[j]) {
+                j++;
+            } else {
+                result[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static class IndexedOrder {
+        private final String text;
+        private final OrderStatus status;
+
+        IndexedOrder(String text, OrderStatus status) {
+            this.text = text;
+            this.status = status;
+        }
+    }
+
+    private static class PartialIndex {
+        private final Map<String, LongList> postings = new HashMap<>();
+        private final Map<Long, IndexedOrder> documents = new HashMap<>();
+    }
+
+    /**
+     * 오름차순 중복 없는 long posting 리스트 (박싱 없는 가변 배열)
+     * 대부분 끝에 추가되므로 append가 기본이고, 늦게 커밋된 주문만 이진 탐색 위치에 삽입합니다.
+     */
+    private static class LongList {
+        private long[] values = new long[4];
+        private int size = 0;
+
+        void add(long value) {
+            if (size == 0 || values[size - 1] < value) {
+                ensureCapacity(size + 1);
+                values[size++] = value;
+                return;
+            }
+
+            int position = Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+            ensureCapacity(size + 1);
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = value;
+            size++;
+        }
+
+        void addAll(LongList other) {
+            // 파티션은 ID 범위가 겹치지 않으므로 보통 그대로 이어 붙이고, 겹치면 정렬 삽입
+            if (other.size == 0) {
+                return;
+            }
+            if (size > 0 && values[size - 1] >= other.values[0]) {
+                for (int i = 0; i < other.size; i++) {
+                    add(other.values[i]);
+                }
+                return;
+            }
+            ensureCapacity(size + other.size);
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+        }
+
+        /**
+         * 정렬된 ID 배열과 한 번에 비교하며 제거 (아카이빙 배치마다 리스트를 한 번만 훑음)
+         */
+        void removeAll(long[] removed) {
+            int count = 0;
+            int j = 0;
+            for (int i = 0; i < size; i++) {
+                while (j < removed.length && removed[j] < values[i]) {
+                    j++;
+                }
+                if (j < removed.length && removed[j] == values[i]) {
+                    continue;
+                }
+                values[count++] = values[i];
+            }
+            size = count;
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, required));
+            }
+        }
+    }
+}
@@ -4,10 +4,12 @@ import com.commercecoupon.dto.request.OrderCreateRequest;
 import com.commercecoupon.dto.response.*;
 import com.commercecoupon.entity.*;
 import com.commercecoupon.enums.OrderStatus;
+import com.commercecoupon.event.OrderPlacedEvent;
 import com.commercecoupon.exception.CustomException;
 import com.commercecoupon.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,23 +30,37 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final CouponRepository couponRepository;
-    private final ProductRepository productRepository;
     private final VipBusinessLogicService vipBusinessLogicService;
     private final CouponService couponService;
+    private final OrderArchiveStore orderArchiveStore;
+    private final OrderSearchIndex orderSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InventoryService inventoryService;
+    private final InMemoryCartStore inMemoryCartStore;
+    private final CartValuator cartValuator;
+    private final CartCompactionService cartCompactionService;
 
     @Transactional
     public OrderDetailResponse createOrder(String userEmail, OrderCreateRequest request) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
 
-        Cart cart = cartRepository.findByUser(user)
+        if (inMemoryCartStore.isEnabled()) {
+            // 메모리 장바구니의 최신 내용을 주문 트랜잭션 안에서 먼저 반영
+            inMemoryCartStore.flushForOrder(user.getId());
+        }
+
+        Cart cart = cartRepository.findByUserForUpdate(user)
                 .orElseThrow(() -> new CustomException("장바구니가 비어있습니다"));
+        cartCompactionService.restoreIfCompacted(cart);
 
         if (cart.getItems().isEmpty()) {
             throw new CustomException("장바구니가 비어있습니다");
         }
 
-        validateStock(cart.getItems());
+        // 상품 요약 한 번 조회로 재고 확인과 주문 금액 계산
+        CartValuator.Valuation valuation = cartValuator.value(cart.getItems());
+        validateStock(cart.getItems(), valuation);
 
         Coupon usedCoupon = null;
         Integer couponDiscount = 0;
@@ -61,7 +77,7 @@ public class OrderService {
                     usedCoupon.getDiscountAmount() : 0;
         }
 
-        Integer originalAmount = cart.getTotalAmount();
+        Integer originalAmount = valuation.getTotalAmount();
         Integer vipDiscount = vipBusinessLogicService.calculateVipDiscount(userEmail, originalAmount);
         Integer finalAmount = Math.max(0, originalAmount - couponDiscount - vipDiscount);
 
@@ -85,16 +101,21 @@ public class OrderService {
 
         Order savedOrder = orderRepository.save(order);
 
-        for (CartItem cartItem : cart.getItems()) {
+        // 동시 주문끼리 상품 행 잠금 순서가 엇갈려 교착되지 않도록 상품 ID 순으로 재고 차감
+        List<CartItem> orderedItems = new ArrayList<>(cart.getItems());
+        orderedItems.sort(Comparator.comparing(cartItem -> cartItem.getProduct().getId()));
+
+        for (CartItem cartItem : orderedItems) {
             OrderItem orderItem = OrderItem.fromCartItem(cartItem);
             savedOrder.addItem(orderItem);
             orderItemRepository.save(orderItem);
 
-            Product product = cartItem.getProduct();
-            product.decreaseStock(cartItem.getQuantity());
-            product.increaseSalesCount(cartItem.getQuantity());
-            productRepository.save(product);
+            // 동시 주문으로 재고가 먼저 소진되면 InsufficientStockException으로 주문 전체 롤백
+            inventoryService.decrease(cartItem.getProduct().getId(), cartItem.getQuantity());
         }
+        eventPublisher.publishEvent(new OrderPlacedEvent(savedOrder.getId(), orderedItems.stream()
+                .map(cartItem -> cartItem.getProduct().getId())
+                .collect(Collectors.toList())));
 
         if (usedCoupon != null) {
             couponService.useCoupon(request.getCouponId(), userEmail);
@@ -102,8 +123,11 @@ public class OrderService {
 
         cart.clearItems();
         cartItemRepository.deleteByCart(cart);
+        cartRepository.increaseVersion(cart.getId(), LocalDateTime.now());
         cartRepository.save(cart);
 
+        orderSearchIndex.add(savedOrder);
+
         return convertToOrderDetailResponse(savedOrder);
     }
 
@@ -133,10 +157,15 @@ public class OrderService {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
 
-        Order order = orderRepository.findByIdAndUser(orderId, user)
-                .orElseThrow(() -> new CustomException("주문을 찾을 수 없거나 접근 권한이 없습니다"));
+        Optional<Order> order = orderRepository.findByIdAndUser(orderId, user);
+        if (order.isPresent()) {
+            return convertToOrderDetailResponse(order.get());
+        }
 
-        return convertToOrderDetailResponse(order);
+        // DB에 없으면 아카이브 세그먼트에서 조회
+        return orderArchiveStore.findByUser(orderId, user.getId())
+                .map(OrderArchiveStore.ArchivedOrder::getOrder)
+                .orElseThrow(() -> new CustomException("주문을 찾을 수 없거나 접근 권한이 없습니다"));
     }
 
     @Transactional
@@ -151,10 +180,10 @@ public class OrderService {
             throw new CustomException("취소할 수 없는 주문 상태입니다: " + order.getStatus());
         }
 
-        for (OrderItem orderItem : order.getItems()) {
-            Product product = orderItem.getProduct();
-            product.increaseStock(orderItem.getQuantity());
-            productRepository.save(product);
+        List<OrderItem> orderedItems = new ArrayList<>(order.getItems());
+        orderedItems.sort(Comparator.comparing(orderItem -> orderItem.getProduct().getId()));
+        for (OrderItem orderItem : orderedItems) {
+            inventoryService.increase(orderItem.getProduct().getId(), orderItem.getQuantity(), order.getCreatedAt());
         }
 
         if (order.getUsedCoupon() != null) {
@@ -165,11 +194,20 @@ public class OrderService {
 
         order.updateStatus(OrderStatus.CANCELLED);
         orderRepository.save(order);
+        orderSearchIndex.updateStatus(order.getId(), OrderStatus.CANCELLED);
     }
 
     public OrderPageResponse getAllOrdersForAdmin(OrderStatus status, String keyword,
                                                   Integer page, Integer size,
                                                   String sortBy, String sortDirection) {
+        boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
+
+        // 키워드 검색은 색인이 준비된 경우 LIKE 대신 역색인 사용 (생성일 정렬만 지원)
+        if (hasKeyword && orderSearchIndex.isReady() && OrderSearchIndex.isSearchable(keyword)
+                && "createdAt".equals(sortBy)) {
+            return searchOrdersByIndex(status, keyword, page, size, sortDirection);
+        }
+
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
@@ -207,6 +245,7 @@ public class OrderService {
 
         order.updateStatus(newStatus);
         Order savedOrder = orderRepository.save(order);
+        orderSearchIndex.updateStatus(orderId, newStatus);
 
         return convertToOrderDetailResponse(savedOrder);
     }
@@ -233,22 +272,65 @@ public class OrderService {
     }
 
     public OrderDetailResponse getOrderDetailForAdmin(Long orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new CustomException("존재하지 않는 주문입니다"));
+        Optional<Order> order = orderRepository.findById(orderId);
+        if (order.isPresent()) {
+            return convertToOrderDetailResponse(order.get());
+        }
 
-        return convertToOrderDetailResponse(order);
+        return orderArchiveStore.find(orderId)
+                .map(OrderArchiveStore.ArchivedOrder::getOrder)
+                .orElseThrow(() -> new CustomException("존재하지 않는 주문입니다"));
     }
 
     // Private Methods
 
-    private void validateStock(List<CartItem> cartItems) {
-        for (CartItem cartItem : cartItems) {
-            if (!cartItem.isStockAvailable()) {
+    private OrderPageResponse searchOrdersByIndex(OrderStatus status, String keyword,
+                                                  Integer page, Integer size, String sortDirection) {
+        long[] orderIds = orderSearchIndex.search(keyword, status);
+        boolean ascending = "asc".equalsIgnoreCase(sortDirection);
+
+        int total = orderIds.length;
+        int from = (int) Math.min((long) page * size, total);
+        int to = Math.min(from + size, total);
+
+        List<Long> pageIds = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            pageIds.add(ascending ? orderIds[total - 1 - i] : orderIds[i]);
+        }
+
+        Map<Long, Order> orders = orderRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Order::getId, o -> o));
+
+        List<OrderSummaryResponse> orderSummaries = pageIds.stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToOrderSummaryResponse)
+                .collect(Collectors.toList());
+
+        Page<OrderSummaryResponse> orderPage = new PageImpl<>(orderSummaries, PageRequest.of(page, size), total);
+
+        return OrderPageResponse.builder()
+                .orders(orderSummaries)
+                .currentPage(orderPage.getNumber())
+                .pageSize(orderPage.getSize())
+                .totalElements(orderPage.getTotalElements())
+                .totalPages(orderPage.getTotalPages())
+                .isFirst(orderPage.isFirst())
+                .isLast(orderPage.isLast())
+                .build();
+    }
+
+    private void validateStock(List<CartItem> cartItems, CartValuator.Valuation valuation) {
+        for (int i = 0; i < valuation.size(); i++) {
+            if (valuation.isMissing(i)) {
+                throw new CustomException("존재하지 않는 상품이 장바구니에 있습니다: " + valuation.getProductId(i));
+            }
+            if (valuation.getShortage(i) > 0) {
                 throw new CustomException(
                         String.format("재고가 부족합니다. 상품: %s, 요청 수량: %d, 현재 재고: %d",
-                                cartItem.getProduct().getName(),
-                                cartItem.getQuantity(),
-                                cartItem.getProduct().getStock())
+                                cartItems.get(i).getProduct().getName(),
+                                valuation.getQuantity(i),
+                                valuation.getStock(i))
                 );
             }
         }
@@ -263,7 +345,7 @@ public class OrderService {
         return orderNumber;
     }
 
-    private OrderDetailResponse convertToOrderDetailResponse(Order order) {
+    OrderDetailResponse convertToOrderDetailResponse(Order order) {
         List<OrderItemResponse> itemResponses = order.getItems().stream()
                 .map(this::convertToOrderItemResponse)
                 .collect(Collectors.toList());
@@ -0,0 +1,65 @@
+package com.commercecoupon.service;
+
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 결제 대행사(PG) 연동 SPI
+ *
+ * - 모든 호출은 CompletableFuture를 돌려주므로 PG 응답을 기다리는 동안 요청 스레드를 붙잡지 않음
+ * - PG가 거절하면 실패 결과로, 통신 실패/시간 초과/동시 요청 초과는 예외(CustomException)로 완료
+ *   (예외인 경우 PG 쪽 결과를 알 수 없으므로 호출 측은 결제 상태를 바꾸지 않음)
+ * - 같은 paymentKey로 승인을 다시 요청하면 PG는 처음 승인 결과를 그대로 돌려준다고 가정 (재시도 안전)
+ */
+public interface PaymentGateway {
+
+    /**
+     * 결제창 주소
+     */
+    String checkoutUrl(String paymentKey);
+
+    /**
+     * 결제 승인
+     */
+    CompletableFuture<GatewayResult> approve(String paymentKey, Long orderId, int amount);
+
+    /**
+     * 결제 취소
+     */
+    CompletableFuture<GatewayResult> cancel(String paymentKey, String pgTransactionId, String reason);
+
+    /**
+     * PG 처리 결과
+     */
+    @Getter
+    final class GatewayResult {
+
+        private final boolean success;
+        private final String transactionId;
+        private final String cardInfo;
+        private final String failureCode;
+        private final String failureMessage;
+
+        private GatewayResult(boolean success, String transactionId, String cardInfo,
+                              String failureCode, String failureMessage) {
+            this.success = success;
+            this.transactionId = transactionId;
+            this.cardInfo = cardInfo;
+            this.failureCode = failureCode;
+            this.failureMessage = failureMessage;
+        }
+
+        public static GatewayResult succeeded(String transactionId, String cardInfo) {
+            return new GatewayResult(true, transactionId, cardInfo, null, null);
+        }
+
+        public static GatewayResult failed(String failureCode, String failureMessage) {
+            return new GatewayResult(false, null, null, failureCode, failureMessage);
+        }
+
+        public String getFailureReason() {
+            return failureCode + ": " + failureMessage;
+        }
+    }
+}
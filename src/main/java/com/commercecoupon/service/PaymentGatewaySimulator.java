@@ -0,0 +1,322 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.config.PaymentGatewayConfig;
+import com.commercecoupon.config.PaymentSimulatorConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.BindException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 PG 시뮬레이터
+ *
+ * - HttpPaymentGateway가 호출하는 승인/취소 API를 흉내 내는 내장 HTTP 서버 (payment.simulator.enabled일 때만 실행)
+ * - 응답마다 지연(latencyMs + 무작위 편차)을 주고 설정한 비율로 거절/500 오류/무응답을 섞음
+ * - 지연은 스케줄러로 응답 시점을 미루는 방식이라 처리 스레드를 붙잡지 않으므로 적은 스레드로 높은 동시성 처리
+ * - 같은 paymentKey의 재승인에는 처음 발급한 거래 ID를 그대로 돌려줌 (재시도 안전성 확인용)
+ * - 승인/취소 내역을 기억해 두었다가 일자별 정산 파일(CSV)로 내보냄 (정산 대사 배치 확인용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentGatewaySimulator {
+
+    private static final int MAX_REMEMBERED_APPROVALS = 1_000_000;
+    private static final long UNANSWERED_CLOSE_MS = 60_000;
+    private static final String CONFIRM_PATH = "/v1/payments/confirm";
+    private static final String CANCEL_SUFFIX = "/cancel";
+    private static final String SETTLEMENT_HEADER = "transaction_id,payment_key,amount,status,approved_at";
+
+    private final PaymentSimulatorConfig paymentSimulatorConfig;
+    private final PaymentGatewayConfig paymentGatewayConfig;
+    private final ObjectMapper objectMapper;
+
+    // paymentKey -> 거래 ID
+    private final Map<String, String> approvals = new ConcurrentHashMap<>();
+    // 거래 ID -> 정산 내역
+    private final Map<String, SettlementRecord> settlements = new ConcurrentHashMap<>();
+    private final AtomicLong transactionSequence = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService workerExecutor;
+    private ScheduledExecutorService responseScheduler;
+    private String expectedAuthorization;
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!paymentSimulatorConfig.isEnabled()) {
+            return;
+        }
+
+        String secretKey = paymentGatewayConfig.getSecretKey() != null ? paymentGatewayConfig.getSecretKey() : "";
+        expectedAuthorization = "Basic " + Base64.getEncoder()
+                .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+
+        workerExecutor = Executors.newFixedThreadPool(paymentSimulatorConfig.getWorkerThreads(), daemon("pg-simulator"));
+        responseScheduler = Executors.newSingleThreadScheduledExecutor(daemon("pg-simulator-delay"));
+
+        try {
+            server = HttpServer.create(
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), paymentSimulatorConfig.getPort()), 1024);
+        } catch (BindException e) {
+            // 다른 인스턴스(또는 테스트 컨텍스트)가 이미 띄운 시뮬레이터를 함께 사용
+            log.warn("PG 시뮬레이터 포트 사용 중, 기존 시뮬레이터 사용: port={}", paymentSimulatorConfig.getPort());
+            responseScheduler.shutdownNow();
+            workerExecutor.shutdownNow();
+            return;
+        }
+        server.setExecutor(workerExecutor);
+        server.createContext("/v1/payments/", this::handlePayment);
+        server.createContext("/v1/checkout/", this::handleCheckout);
+        server.start();
+
+        log.info("PG 시뮬레이터 시작: port={}, latencyMs={}+{}, declineRate={}, errorRate={}, timeoutRate={}",
+                paymentSimulatorConfig.getPort(), paymentSimulatorConfig.getLatencyMs(),
+                paymentSimulatorConfig.getLatencyJitterMs(), paymentSimulatorConfig.getDeclineRate(),
+                paymentSimulatorConfig.getErrorRate(), paymentSimulatorConfig.getTimeoutRate());
+    }
+
+    /**
+     * 시뮬레이터가 이 프로세스에서 실행 중인지
+     */
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * 해당 일자에 승인된 거래를 정산 파일로 내보냄 (임시 파일에 쓴 뒤 이동, 이미 있는 파일은 덮어쓰지 않음)
+     *
+     * @return 기록한 거래 수
+     */
+    public int exportSettlement(LocalDate date, Path file) throws IOException {
+        if (Files.exists(file)) {
+            throw new FileAlreadyExistsException(file.toString());
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        int count = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(SETTLEMENT_HEADER);
+            writer.newLine();
+            for (SettlementRecord record : settlements.values()) {
+                if (!record.approvedAt.toLocalDate().equals(date)) {
+                    continue;
+                }
+                writer.write(record.transactionId + "," + record.paymentKey + "," + record.amount + ","
+                        + (record.canceled ? "CANCELED" : "APPROVED") + "," + record.approvedAt);
+                writer.newLine();
+                count++;
+            }
+        }
+        // 같은 디렉토리 안의 이름 변경이라 원자적이고, 그사이 생긴 파일은 덮어쓰지 않음
+        try {
+            Files.move(temp, file);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        log.info("PG 시뮬레이터 정산 파일 생성: date={}, file={}, transactions={}", date, file, count);
+        return count;
+    }
+
+    @PreDestroy
+    void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        responseScheduler.shutdownNow();
+        workerExecutor.shutdownNow();
+    }
+
+    // ===== Private Methods =====
+
+    private void handlePayment(HttpExchange exchange) {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, error("METHOD_NOT_ALLOWED", "POST만 지원합니다"));
+            return;
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        JsonNode body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = objectMapper.readTree(in.readAllBytes());
+        } catch (IOException e) {
+            respond(exchange, 400, error("INVALID_REQUEST", "요청 본문을 해석할 수 없습니다"));
+            return;
+        }
+
+        if (!expectedAuthorization.equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+            respond(exchange, 401, error("UNAUTHORIZED_KEY", "인증되지 않은 시크릿 키입니다"));
+            return;
+        }
+
+        // 장애 주입: 무응답 -> 500 -> 정상 처리 순으로 판정
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < paymentSimulatorConfig.getTimeoutRate()) {
+            responseScheduler.schedule(exchange::close, UNANSWERED_CLOSE_MS, TimeUnit.MILLISECONDS);
+            return;
+        }
+        if (roll < paymentSimulatorConfig.getTimeoutRate() + paymentSimulatorConfig.getErrorRate()) {
+            respondLater(exchange, 500, error("PROVIDER_ERROR", "일시적인 오류가 발생했습니다"));
+            return;
+        }
+
+        if (CONFIRM_PATH.equals(path)) {
+            handleConfirm(exchange, body);
+        } else if (path.endsWith(CANCEL_SUFFIX)) {
+            String paymentKey = path.substring("/v1/payments/".length(), path.length() - CANCEL_SUFFIX.length());
+            handleCancel(exchange, paymentKey, body);
+        } else {
+            respond(exchange, 404, error("NOT_FOUND", "지원하지 않는 경로입니다"));
+        }
+    }
+
+    private void handleConfirm(HttpExchange exchange, JsonNode body) {
+        String paymentKey = body.path("paymentKey").asText("");
+        long amount = body.path("amount").asLong(0);
+        if (paymentKey.isEmpty() || amount <= 0) {
+            respondLater(exchange, 400, error("INVALID_REQUEST", "결제 키와 금액을 확인해주세요"));
+            return;
+        }
+
+        String transactionId = approvals.get(paymentKey);
+        if (transactionId == null) {
+            if (ThreadLocalRandom.current().nextDouble() < paymentSimulatorConfig.getDeclineRate()) {
+                respondLater(exchange, 400, error("REJECT_CARD_PAYMENT", "카드사에서 승인을 거절했습니다"));
+                return;
+            }
+            if (approvals.size() >= MAX_REMEMBERED_APPROVALS) {
+                approvals.clear();
+                settlements.clear();
+            }
+            String issued = "SIM" + System.currentTimeMillis() + "_" + transactionSequence.incrementAndGet();
+            transactionId = approvals.putIfAbsent(paymentKey, issued);
+            if (transactionId == null) {
+                transactionId = issued;
+                settlements.put(issued, new SettlementRecord(issued, paymentKey, amount, LocalDateTime.now()));
+            }
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("paymentKey", paymentKey);
+        response.put("transactionId", transactionId);
+        response.put("amount", amount);
+        response.put("cardInfo", "시뮬레이터카드(*" + String.format("%04d", Math.floorMod(paymentKey.hashCode(), 10000)) + ")");
+        respondLater(exchange, 200, response);
+    }
+
+    private void handleCancel(HttpExchange exchange, String paymentKey, JsonNode body) {
+        String transactionId = approvals.get(paymentKey);
+        if (transactionId == null || !transactionId.equals(body.path("transactionId").asText(""))) {
+            respondLater(exchange, 404, error("NOT_FOUND_PAYMENT", "승인된 결제를 찾을 수 없습니다"));
+            return;
+        }
+        approvals.remove(paymentKey, transactionId);
+        SettlementRecord record = settlements.get(transactionId);
+        if (record != null) {
+            record.canceled = true;
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("paymentKey", paymentKey);
+        response.put("transactionId", transactionId);
+        respondLater(exchange, 200, response);
+    }
+
+    private void handleCheckout(HttpExchange exchange) throws IOException {
+        byte[] page = ("<html><body>PG simulator checkout: " + exchange.getRequestURI().getPath() + "</body></html>")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(200, page.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(page);
+        }
+    }
+
+    private void respondLater(HttpExchange exchange, int status, Map<String, Object> body) {
+        long delayMs = paymentSimulatorConfig.getLatencyMs();
+        if (paymentSimulatorConfig.getLatencyJitterMs() > 0) {
+            delayMs += ThreadLocalRandom.current().nextLong(paymentSimulatorConfig.getLatencyJitterMs() + 1);
+        }
+        responseScheduler.schedule(() -> respond(exchange, status, body), delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void respond(HttpExchange exchange, int status, Map<String, Object> body) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(body);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (IOException e) {
+            log.debug("PG 시뮬레이터 응답 실패: {}", e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Map<String, Object> error(String code, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("code", code);
+        body.put("message", message);
+        return body;
+    }
+
+    private static class SettlementRecord {
+        private final String transactionId;
+        private final String paymentKey;
+        private final long amount;
+        private final LocalDateTime approvedAt;
+        private volatile boolean canceled;
+
+        private SettlementRecord(String transactionId, String paymentKey, long amount, LocalDateTime approvedAt) {
+            this.transactionId = transactionId;
+            this.paymentKey = paymentKey;
+            this.amount = amount;
+            this.approvedAt = approvedAt;
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicLong threadNumber = new AtomicLong();
+        return r -> {
+            Thread thread = new Thread(r, name + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
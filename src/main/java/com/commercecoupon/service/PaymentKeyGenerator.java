@@ -0,0 +1,114 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.config.PaymentKeyConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 결제 키 생성기 (ULID 형식, DB 중복 확인 없음)
+ *
+ * - 128비트 = 밀리초 시각 48비트 + 노드 ID 16비트 + 순번 64비트를 Crockford Base32 26자로 인코딩 ("tgen_" 접두어)
+ * - 순번은 밀리초가 바뀔 때 SecureRandom으로 새로 정하고, 같은 밀리초 안에서는 무작위 간격(1 ~ 2^32)만큼 증가
+ *   (한 노드 안에서는 항상 증가하므로 중복이 없고, 키 순서가 생성 순서와 같으며 다음 키를 추측하기 어려움)
+ * - 시계가 뒤로 가도 마지막 시각을 계속 사용하므로 순서와 유일성이 유지됨
+ * - 노드 ID가 다르면 인스턴스끼리도 중복되지 않음 (무작위 노드 ID끼리 겹쳐도 순번 충돌 확률은 2^-63 수준)
+ */
+@Slf4j
+@Component
+public class PaymentKeyGenerator {
+
+    public static final String PREFIX = "tgen_";
+    public static final int KEY_LENGTH = PREFIX.length() + 26;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final long SEQUENCE_SEED_MASK = Long.MAX_VALUE;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final long node;
+
+    private long lastMillis = -1;
+    private long sequence;
+
+    public PaymentKeyGenerator(PaymentKeyConfig paymentKeyConfig) {
+        int nodeId = paymentKeyConfig.getNodeId();
+        if (nodeId > 0xFFFF) {
+            throw new IllegalStateException("payment.key.node-id must be between 0 and 65535: " + nodeId);
+        }
+        this.node = nodeId >= 0 ? nodeId : secureRandom.nextInt(0x10000);
+        log.info("결제 키 생성기 노드 ID: {}", node);
+    }
+
+    /**
+     * 새 결제 키
+     */
+    public String nextKey() {
+        long millis;
+        long seq;
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                // 최상위 비트를 비워 같은 밀리초 안에서 증가할 여유를 둠
+                sequence = secureRandom.nextLong() & SEQUENCE_SEED_MASK;
+            } else {
+                sequence += 1 + (ThreadLocalRandom.current().nextLong() >>> 32);
+                if (sequence < 0) {
+                    // 순번이 넘치면 다음 밀리초로 넘어감 (사실상 발생하지 않음)
+                    lastMillis++;
+                    sequence = secureRandom.nextLong() & SEQUENCE_SEED_MASK;
+                }
+            }
+            millis = lastMillis;
+            seq = sequence;
+        }
+        return encode((millis << 16) | node, seq);
+    }
+
+    /**
+     * 결제 키에 담긴 생성 시각 (밀리초)
+     */
+    public static long extractTimestamp(String paymentKey) {
+        if (paymentKey == null || paymentKey.length() != KEY_LENGTH || !paymentKey.startsWith(PREFIX)) {
+            throw new IllegalArgumentException("결제 키 형식이 아닙니다: " + paymentKey);
+        }
+        long millis = 0;
+        for (int i = PREFIX.length(); i < PREFIX.length() + 10; i++) {
+            int value = decodeChar(paymentKey.charAt(i));
+            millis = (millis << 5) | value;
+        }
+        // 앞 10자(50비트) = 항상 0인 2비트 + 시각 48비트
+        return millis;
+    }
+
+    // ===== Private Methods =====
+
+    private static String encode(long high, long low) {
+        char[] chars = new char[KEY_LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        for (int i = 0; i < 26; i++) {
+            int bit = (25 - i) * 5;
+            long value;
+            if (bit >= 64) {
+                value = high >>> (bit - 64);
+            } else if (bit + 5 <= 64) {
+                value = low >>> bit;
+            } else {
+                value = (low >>> bit) | (high << (64 - bit));
+            }
+            chars[PREFIX.length() + i] = ALPHABET[(int) (value & 31)];
+        }
+        return new String(chars);
+    }
+
+    private static int decodeChar(char c) {
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == c) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("결제 키에 허용되지 않는 문자입니다: " + c);
+    }
+}
@@ -0,0 +1,221 @@
+package com.commercecoupon.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 정산 대사용 결제 해시 인덱스 (PG 거래 ID -> 결제)
+ *
+ * - 거래 ID 바이트를 하나의 배열에 이어 붙여 두고 오픈 어드레싱 슬롯으로 찾음 (항목마다 객체를 만들지 않음)
+ * - 조회는 정산 파일 버퍼의 (위치, 길이)를 그대로 받아 해시/비교하므로 줄마다 String을 만들지 않음
+ * - seal() 이후에는 읽기 전용이라 여러 파티션 스레드가 동시에 조회 가능 (매칭 횟수만 원자적으로 증가)
+ * - 결제 내역에 같은 거래 ID가 여러 번 있으면 첫 항목만 슬롯에 넣고 나머지는 중복 항목으로 표시
+ */
+public final class PaymentMatchIndex {
+
+    public static final byte PG_STATUS_UNKNOWN = 0;
+    public static final byte PG_STATUS_APPROVED = 1;
+    public static final byte PG_STATUS_CANCELED = 2;
+
+    private byte[] keyBytes = new byte[1 << 16];
+    private int keyBytesUsed;
+    private int[] keyOffsets = new int[1024];
+    private int[] keyLengths = new int[1024];
+    private long[] paymentIds = new long[1024];
+    private String[] paymentKeys = new String[1024];
+    private long[] amounts = new long[1024];
+    private String[] statuses = new String[1024];
+    private byte[] expectedPgStatuses = new byte[1024];
+    private int size;
+
+    private int[] slots;
+    private int mask;
+    private int[] canonicalEntries;
+    private AtomicIntegerArray matchCounts;
+
+    /**
+     * 결제 추가 (seal 전에만)
+     */
+    public void add(long paymentId, String paymentKey, String pgTransactionId, long amount, String status) {
+        byte[] key = pgTransactionId.getBytes(StandardCharsets.US_ASCII);
+        if (size == keyOffsets.length) {
+            grow();
+        }
+        if (keyBytesUsed + key.length > keyBytes.length) {
+            keyBytes = Arrays.copyOf(keyBytes, Math.max(keyBytes.length * 2, keyBytesUsed + key.length));
+        }
+
+        System.arraycopy(key, 0, keyBytes, keyBytesUsed, key.length);
+        keyOffsets[size] = keyBytesUsed;
+        keyLengths[size] = key.length;
+        keyBytesUsed += key.length;
+        paymentIds[size] = paymentId;
+        paymentKeys[size] = paymentKey;
+        amounts[size] = amount;
+        statuses[size] = status;
+        expectedPgStatuses[size] = expectedPgStatus(status);
+        size++;
+    }
+
+    /**
+     * 슬롯 테이블 생성 (부하율 0.5 이하)
+     */
+    public void seal() {
+        int capacity = Integer.highestOneBit(Math.max(4, size * 2 - 1)) << 1;
+        slots = new int[capacity];
+        mask = capacity - 1;
+        canonicalEntries = new int[size];
+        matchCounts = new AtomicIntegerArray(size);
+
+        for (int entry = 0; entry < size; entry++) {
+            canonicalEntries[entry] = entry;
+            int slot = hash(keyBytes, keyOffsets[entry], keyLengths[entry]) & mask;
+            while (slots[slot] != 0) {
+                int other = slots[slot] - 1;
+                if (keyEquals(other, entry)) {
+                    canonicalEntries[entry] = other;
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (canonicalEntries[entry] == entry) {
+                slots[slot] = entry + 1;
+            }
+        }
+    }
+
+    /**
+     * 버퍼의 [offset, offset + length) 바이트와 같은 거래 ID를 가진 항목 (없으면 -1)
+     */
+    public int find(ByteBuffer buffer, int offset, int length) {
+        int slot = hash(buffer, offset, length) & mask;
+        while (true) {
+            int entry = slots[slot] - 1;
+            if (entry < 0) {
+                return -1;
+            }
+            if (keyLengths[entry] == length && keyEquals(entry, buffer, offset, length)) {
+                return entry;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * 매칭 횟수 증가 (증가 후 값)
+     */
+    public int markMatched(int entry) {
+        return matchCounts.incrementAndGet(entry);
+    }
+
+    public int getMatchCount(int entry) {
+        return matchCounts.get(entry);
+    }
+
+    /**
+     * 같은 거래 ID가 앞 항목에 이미 있는지 (조회되지 않는 중복 결제)
+     */
+    public boolean isDuplicate(int entry) {
+        return canonicalEntries[entry] != entry;
+    }
+
+    /**
+     * 같은 거래 ID의 첫 항목 (중복이 아니면 자기 자신)
+     */
+    public int getCanonicalEntry(int entry) {
+        return canonicalEntries[entry];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getTransactionId(int entry) {
+        return new String(keyBytes, keyOffsets[entry], keyLengths[entry], StandardCharsets.US_ASCII);
+    }
+
+    public long getPaymentId(int entry) {
+        return paymentIds[entry];
+    }
+
+    public String getPaymentKey(int entry) {
+        return paymentKeys[entry];
+    }
+
+    public long getAmount(int entry) {
+        return amounts[entry];
+    }
+
+    public String getStatus(int entry) {
+        return statuses[entry];
+    }
+
+    public byte getExpectedPgStatus(int entry) {
+        return expectedPgStatuses[entry];
+    }
+
+    /**
+     * 결제 상태에 대응하는 정산 파일 상태
+     */
+    public static byte expectedPgStatus(String status) {
+        switch (status) {
+            case "COMPLETED":
+            case "PARTIAL_REFUNDED":
+                return PG_STATUS_APPROVED;
+            case "CANCELLED":
+            case "REFUNDED":
+                return PG_STATUS_CANCELED;
+            default:
+                return PG_STATUS_UNKNOWN;
+        }
+    }
+
+    // ===== Private Methods =====
+
+    private boolean keyEquals(int entry, ByteBuffer buffer, int offset, int length) {
+        int keyOffset = keyOffsets[entry];
+        for (int i = 0; i < length; i++) {
+            if (keyBytes[keyOffset + i] != buffer.get(offset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean keyEquals(int entry, int other) {
+        int length = keyLengths[entry];
+        return keyLengths[other] == length
+                && Arrays.equals(keyBytes, keyOffsets[entry], keyOffsets[entry] + length,
+                keyBytes, keyOffsets[other], keyOffsets[other] + length);
+    }
+
+    private void grow() {
+        int capacity = keyOffsets.length * 2;
+        keyOffsets = Arrays.copyOf(keyOffsets, capacity);
+        keyLengths = Arrays.copyOf(keyLengths, capacity);
+        paymentIds = Arrays.copyOf(paymentIds, capacity);
+        paymentKeys = Arrays.copyOf(paymentKeys, capacity);
+        amounts = Arrays.copyOf(amounts, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        expectedPgStatuses = Arrays.copyOf(expectedPgStatuses, capacity);
+    }
+
+    // FNV-1a + 상위 비트 섞기 (byte[]와 ByteBuffer 양쪽에서 같은 값)
+    private static int hash(byte[] bytes, int offset, int length) {
+        int h = 0x811C9DC5;
+        for (int i = 0; i < length; i++) {
+            h = (h ^ bytes[offset + i]) * 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static int hash(ByteBuffer buffer, int offset, int length) {
+        int h = 0x811C9DC5;
+        for (int i = 0; i < length; i++) {
+            h = (h ^ buffer.get(offset + i)) * 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+}
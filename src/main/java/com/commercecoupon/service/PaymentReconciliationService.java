@@ -0,0 +1,541 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.config.PaymentReconciliationConfig;
+import com.commercecoupon.dto.response.ReconciliationResponse;
+import com.commercecoupon.entity.Payment;
+import com.commercecoupon.exception.CustomException;
+import com.commercecoupon.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * PG 정산 파일과 결제 내역을 맞춰 보는 정산 대사 배치
+ *
+ * 1. 정산 일자에 승인된 결제를 JDBC로 스트리밍해 거래 ID 해시 인덱스(PaymentMatchIndex)를 만듦
+ * 2. 정산 파일(transaction_id,payment_key,amount,status,approved_at)을 줄 경계에 맞춰 파티션으로 나누고,
+ *    파티션마다 메모리 매핑한 버퍼를 String 생성 없이 바이트 단위로 파싱하면서 인덱스를 조회 (병렬 해시 조인)
+ * 3. 인덱스에 없는 거래는 정산 기간 밖 결제일 수 있으므로 거래 ID로 한 번 더 조회
+ * 4. 불일치(누락/금액/상태/중복/형식 오류)를 리포트 파일로 기록
+ * 객체는 불일치 건에 대해서만 만들기 때문에 수백만 줄도 파일 크기에 비례한 시간에 처리됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentReconciliationService {
+
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String SELECT_PAYMENTS_SQL = "SELECT id, payment_key, pg_transaction_id, amount, status " +
+            "FROM payments WHERE pg_transaction_id IS NOT NULL AND approved_at >= ? AND approved_at < ?";
+    private static final String REPORT_HEADER = "type,transaction_id,payment_key,db_amount,pg_amount,db_status,pg_status,detail";
+    private static final byte[] SETTLEMENT_HEADER_PREFIX = "transaction_id,".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] APPROVED = "APPROVED".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CANCELED = "CANCELED".getBytes(StandardCharsets.US_ASCII);
+    // 파티션 하나를 한 번에 매핑할 최대 크기
+    private static final long MAX_RANGE_BYTES = 1L << 30;
+    private static final int BOUNDARY_SCAN_BYTES = 4096;
+
+    private final PaymentReconciliationConfig reconciliationConfig;
+    private final PaymentRepository paymentRepository;
+    private final PaymentGatewaySimulator paymentGatewaySimulator;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public enum MismatchType {
+        MISSING_IN_PAYMENTS,      // 정산 파일에는 있으나 결제 내역에 없음
+        MISSING_IN_SETTLEMENT,    // 결제 내역에는 있으나 정산 파일에 없음
+        AMOUNT_MISMATCH,          // 금액 불일치
+        STATUS_MISMATCH,          // 승인/취소 상태 불일치
+        DUPLICATE_IN_SETTLEMENT,  // 정산 파일에 같은 거래가 두 번 이상
+        DUPLICATE_IN_PAYMENTS,    // 결제 내역에 같은 거래 ID가 두 번 이상
+        MALFORMED_LINE            // 정산 파일 형식 오류
+    }
+
+    /**
+     * 정기 정산 대사 (기본: 매일 05:00, 전날 정산분)
+     */
+    @Scheduled(cron = "${payment.reconciliation.cron:0 0 5 * * *}")
+    public void scheduledReconcile() {
+        if (!reconciliationConfig.isEnabled()) {
+            return;
+        }
+        try {
+            reconcile(LocalDate.now().minusDays(1));
+        } catch (Exception e) {
+            log.error("정기 정산 대사 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 정산 대사 실행
+     */
+    public ReconciliationResponse reconcile(LocalDate settlementDate) {
+        if (!running.compareAndSet(false, true)) {
+            throw new CustomException("정산 대사가 이미 실행 중입니다");
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            Path settlementFile = prepareSettlementFile(settlementDate);
+            PaymentMatchIndex index = loadPayments(settlementDate);
+
+            List<PartitionResult> results = joinSettlementFile(settlementFile, index);
+
+            List<Mismatch> mismatches = new ArrayList<>();
+            List<SettlementLine> unmatched = new ArrayList<>();
+            long settlementCount = 0;
+            long matchedCount = 0;
+            for (PartitionResult result : results) {
+                settlementCount += result.lines;
+                matchedCount += result.matched;
+                mismatches.addAll(result.mismatches);
+                unmatched.addAll(result.unmatched);
+            }
+            matchedCount += resolveOutOfWindow(unmatched, mismatches);
+            collectMissingInSettlement(index, mismatches);
+
+            Path reportFile = writeReport(settlementDate, mismatches);
+            long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+            Map<MismatchType, Long> counts = mismatches.stream()
+                    .collect(Collectors.groupingBy(m -> m.type, () -> new EnumMap<>(MismatchType.class), Collectors.counting()));
+            Map<String, Long> mismatchCounts = new LinkedHashMap<>();
+            counts.forEach((type, count) -> mismatchCounts.put(type.name(), count));
+
+            log.info("정산 대사 완료: date={}, settlements={}, payments={}, matched={}, mismatches={}, elapsedMs={}",
+                    settlementDate, settlementCount, index.size(), matchedCount, mismatches.size(), elapsedMs);
+
+            return ReconciliationResponse.builder()
+                    .settlementDate(settlementDate)
+                    .settlementCount(settlementCount)
+                    .paymentCount((long) index.size())
+                    .matchedCount(matchedCount)
+                    .mismatchCount((long) mismatches.size())
+                    .mismatchCounts(mismatchCounts)
+                    .reportFile(reportFile.toString())
+                    .elapsedMs(elapsedMs)
+                    .build();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // ===== Private Methods =====
+
+    /**
+     * 정산 파일 경로 (로컬 전용 simulatorExport가 켜져 있고 파일이 없을 때만 시뮬레이터에서 내보냄)
+     */
+    private Path prepareSettlementFile(LocalDate settlementDate) {
+        Path file = Paths.get(reconciliationConfig.getSettlementDirectory())
+                .resolve("settlement-" + settlementDate.format(FILE_DATE_FORMAT) + ".csv");
+
+        if (reconciliationConfig.isSimulatorExport() && paymentGatewaySimulator.isRunning() && !Files.exists(file)) {
+            log.warn("로컬 PG 시뮬레이터 정산 파일로 대사합니다: file={}", file);
+            try {
+                paymentGatewaySimulator.exportSettlement(settlementDate, file);
+            } catch (FileAlreadyExistsException e) {
+                log.info("정산 파일이 먼저 생성되어 시뮬레이터 내보내기를 건너뜀: file={}", file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("시뮬레이터 정산 파일을 만들 수 없습니다: " + file, e);
+            }
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new CustomException("정산 파일이 없습니다: " + file);
+        }
+        return file;
+    }
+
+    private PaymentMatchIndex loadPayments(LocalDate settlementDate) {
+        PaymentMatchIndex index = new PaymentMatchIndex();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_PAYMENTS_SQL);
+            statement.setFetchSize(reconciliationConfig.getFetchSize());
+            statement.setTimestamp(1, Timestamp.valueOf(settlementDate.atStartOfDay()));
+            statement.setTimestamp(2, Timestamp.valueOf(settlementDate.plusDays(1).atStartOfDay()));
+            return statement;
+        }, (RowCallbackHandler) rs -> index.add(
+                rs.getLong(1), rs.getString(2), rs.getString(3), rs.getLong(4), rs.getString(5)));
+        index.seal();
+        return index;
+    }
+
+    private List<PartitionResult> joinSettlementFile(Path settlementFile, PaymentMatchIndex index) {
+        int partitions = Math.max(1, reconciliationConfig.getPartitions());
+        ExecutorService executor = Executors.newFixedThreadPool(partitions);
+
+        try (FileChannel channel = FileChannel.open(settlementFile, StandardOpenOption.READ)) {
+            long[] bounds = splitRanges(channel, partitions);
+
+            List<CompletableFuture<PartitionResult>> futures = new ArrayList<>();
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                long start = bounds[i];
+                long end = bounds[i + 1];
+                if (start < end) {
+                    futures.add(CompletableFuture.supplyAsync(() -> joinRange(channel, start, end, index), executor));
+                }
+            }
+            return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("정산 파일을 읽을 수 없습니다: " + settlementFile, e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 헤더를 건너뛰고 줄 경계에 맞춘 파티션 경계 (파티션 하나가 MAX_RANGE_BYTES를 넘지 않도록 개수를 늘림)
+     */
+    public static long[] splitRanges(FileChannel channel, int partitions) throws IOException {
+        long size = channel.size();
+        long dataStart = hasHeader(channel) ? nextLineStart(channel, 0, size) : 0;
+        long dataSize = size - dataStart;
+        int count = (int) Math.max(partitions, (dataSize + MAX_RANGE_BYTES - 1) / MAX_RANGE_BYTES);
+
+        long[] bounds = new long[count + 1];
+        bounds[0] = dataStart;
+        for (int i = 1; i < count; i++) {
+            long target = dataStart + dataSize * i / count;
+            bounds[i] = Math.max(bounds[i - 1], nextLineStart(channel, target, size));
+        }
+        bounds[count] = size;
+        return bounds;
+    }
+
+    private static boolean hasHeader(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SETTLEMENT_HEADER_PREFIX.length);
+        channel.read(buffer, 0);
+        return buffer.position() == SETTLEMENT_HEADER_PREFIX.length
+                && equalsAscii(buffer, 0, SETTLEMENT_HEADER_PREFIX.length, SETTLEMENT_HEADER_PREFIX);
+    }
+
+    /**
+     * position 이후 처음 나오는 줄의 시작 위치 (없으면 파일 끝)
+     */
+    private static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_SCAN_BYTES);
+        long offset = position;
+        while (offset < size) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    /**
+     * 파티션 하나를 메모리 매핑해 줄 단위로 인덱스와 조인
+     */
+    public static PartitionResult joinRange(FileChannel channel, long start, long end, PaymentMatchIndex index) {
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException("정산 파일 매핑 실패: start=" + start, e);
+        }
+
+        PartitionResult result = new PartitionResult();
+        int[] commas = new int[4];
+        int limit = buffer.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int position = lineStart;
+            int fields = 0;
+            byte b;
+            while (position < limit && (b = buffer.get(position)) != '\n') {
+                if (b == ',' && fields < commas.length) {
+                    commas[fields++] = position;
+                }
+                position++;
+            }
+            int lineEnd = position > lineStart && buffer.get(position - 1) == '\r' ? position - 1 : position;
+            if (lineEnd > lineStart) {
+                joinLine(buffer, lineStart, lineEnd, commas, fields, index, result);
+            }
+            lineStart = position + 1;
+        }
+        return result;
+    }
+
+    private static void joinLine(ByteBuffer buffer, int lineStart, int lineEnd, int[] commas, int fields,
+                          PaymentMatchIndex index, PartitionResult result) {
+        result.lines++;
+        if (fields < 4) {
+            result.mismatches.add(malformed(buffer, lineStart, lineEnd));
+            return;
+        }
+
+        int transactionLength = commas[0] - lineStart;
+        long amount = parseAmount(buffer, commas[1] + 1, commas[2]);
+        byte pgStatus = parseStatus(buffer, commas[2] + 1, commas[3]);
+        if (transactionLength <= 0 || amount < 0 || pgStatus == PaymentMatchIndex.PG_STATUS_UNKNOWN) {
+            result.mismatches.add(malformed(buffer, lineStart, lineEnd));
+            return;
+        }
+
+        int entry = index.find(buffer, lineStart, transactionLength);
+        if (entry < 0) {
+            result.unmatched.add(new SettlementLine(
+                    text(buffer, lineStart, commas[0]), text(buffer, commas[0] + 1, commas[1]), amount, pgStatus));
+            return;
+        }
+
+        if (index.markMatched(entry) > 1) {
+            result.mismatches.add(new Mismatch(MismatchType.DUPLICATE_IN_SETTLEMENT, index.getTransactionId(entry),
+                    index.getPaymentKey(entry), index.getAmount(entry), amount,
+                    index.getStatus(entry), pgStatusName(pgStatus), null));
+            return;
+        }
+
+        Mismatch mismatch = compare(index.getTransactionId(entry), index.getPaymentKey(entry),
+                index.getAmount(entry), index.getStatus(entry), index.getExpectedPgStatus(entry), amount, pgStatus);
+        if (mismatch != null) {
+            result.mismatches.add(mismatch);
+        } else {
+            result.matched++;
+        }
+    }
+
+    /**
+     * 인덱스에 없던 거래를 거래 ID로 다시 조회 (정산 일자 경계 근처에 승인된 결제 등)
+     *
+     * @return 일치한 거래 수
+     */
+    private long resolveOutOfWindow(List<SettlementLine> unmatched, List<Mismatch> mismatches) {
+        long matched = 0;
+        int batchSize = Math.max(1, reconciliationConfig.getLookupBatchSize());
+        for (int from = 0; from < unmatched.size(); from += batchSize) {
+            List<SettlementLine> batch = unmatched.subList(from, Math.min(from + batchSize, unmatched.size()));
+            Map<String, Payment> payments = paymentRepository.findByPgTransactionIdIn(
+                    batch.stream().map(line -> line.transactionId).collect(Collectors.toList())).stream()
+                    .collect(Collectors.toMap(Payment::getPgTransactionId, Function.identity(), (a, b) -> a));
+
+            for (SettlementLine line : batch) {
+                Payment payment = payments.get(line.transactionId);
+                if (payment == null) {
+                    mismatches.add(new Mismatch(MismatchType.MISSING_IN_PAYMENTS, line.transactionId, line.paymentKey,
+                            null, line.amount, null, pgStatusName(line.pgStatus), null));
+                    continue;
+                }
+
+                String status = payment.getStatus().name();
+                Mismatch mismatch = compare(line.transactionId, payment.getPaymentKey(), payment.getAmount(), status,
+                        PaymentMatchIndex.expectedPgStatus(status), line.amount, line.pgStatus);
+                if (mismatch != null) {
+                    mismatches.add(mismatch);
+                } else {
+                    matched++;
+                }
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 정산 파일에 없는 결제와 결제 내역의 중복 거래 ID 수집
+     * (중복 항목은 조회되지 않으므로 누락이 아니라 중복으로 기록)
+     */
+    public static void collectMissingInSettlement(PaymentMatchIndex index, List<Mismatch> mismatches) {
+        for (int entry = 0; entry < index.size(); entry++) {
+            if (index.isDuplicate(entry)) {
+                int canonical = index.getCanonicalEntry(entry);
+                mismatches.add(new Mismatch(MismatchType.DUPLICATE_IN_PAYMENTS, index.getTransactionId(entry),
+                        index.getPaymentKey(entry), index.getAmount(entry), null, index.getStatus(entry), null,
+                        "paymentId=" + index.getPaymentId(entry) + " duplicateOf=" + index.getPaymentId(canonical)));
+            } else if (index.getMatchCount(entry) == 0) {
+                mismatches.add(new Mismatch(MismatchType.MISSING_IN_SETTLEMENT, index.getTransactionId(entry),
+                        index.getPaymentKey(entry), index.getAmount(entry), null, index.getStatus(entry), null,
+                        "paymentId=" + index.getPaymentId(entry)));
+            }
+        }
+    }
+
+    private static Mismatch compare(String transactionId, String paymentKey, long dbAmount, String dbStatus,
+                             byte expectedPgStatus, long pgAmount, byte pgStatus) {
+        if (dbAmount != pgAmount) {
+            return new Mismatch(MismatchType.AMOUNT_MISMATCH, transactionId, paymentKey,
+                    dbAmount, pgAmount, dbStatus, pgStatusName(pgStatus), null);
+        }
+        if (expectedPgStatus != pgStatus) {
+            return new Mismatch(MismatchType.STATUS_MISMATCH, transactionId, paymentKey,
+                    dbAmount, pgAmount, dbStatus, pgStatusName(pgStatus), null);
+        }
+        return null;
+    }
+
+    private Path writeReport(LocalDate settlementDate, List<Mismatch> mismatches) {
+        Path reportFile = Paths.get(reconciliationConfig.getReportDirectory())
+                .resolve("reconciliation-" + settlementDate.format(FILE_DATE_FORMAT) + ".csv");
+        try {
+            Files.createDirectories(reportFile.toAbsolutePath().getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+                writer.write(REPORT_HEADER);
+                writer.newLine();
+                for (Mismatch mismatch : mismatches) {
+                    writer.write(mismatch.toCsv());
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("정산 대사 리포트를 쓸 수 없습니다: " + reportFile, e);
+        }
+        return reportFile;
+    }
+
+    /**
+     * 숫자만으로 된 금액 (형식 오류면 -1)
+     */
+    private static long parseAmount(ByteBuffer buffer, int start, int end) {
+        if (start >= end || end - start > 18) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static byte parseStatus(ByteBuffer buffer, int start, int end) {
+        if (equalsAscii(buffer, start, end - start, APPROVED)) {
+            return PaymentMatchIndex.PG_STATUS_APPROVED;
+        }
+        if (equalsAscii(buffer, start, end - start, CANCELED)) {
+            return PaymentMatchIndex.PG_STATUS_CANCELED;
+        }
+        return PaymentMatchIndex.PG_STATUS_UNKNOWN;
+    }
+
+    private static boolean equalsAscii(ByteBuffer buffer, int start, int length, byte[] expected) {
+        if (length != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(start + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String text(ByteBuffer buffer, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Mismatch malformed(ByteBuffer buffer, int lineStart, int lineEnd) {
+        return new Mismatch(MismatchType.MALFORMED_LINE, null, null, null, null, null, null,
+                text(buffer, lineStart, Math.min(lineEnd, lineStart + 200)));
+    }
+
+    private static String pgStatusName(byte pgStatus) {
+        if (pgStatus == PaymentMatchIndex.PG_STATUS_APPROVED) {
+            return "APPROVED";
+        }
+        return pgStatus == PaymentMatchIndex.PG_STATUS_CANCELED ? "CANCELED" : null;
+    }
+
+    public static class PartitionResult {
+        public long lines;
+        public long matched;
+        public final List<Mismatch> mismatches = new ArrayList<>();
+        public final List<SettlementLine> unmatched = new ArrayList<>();
+    }
+
+    public static class SettlementLine {
+        final String transactionId;
+        final String paymentKey;
+        final long amount;
+        final byte pgStatus;
+
+        private SettlementLine(String transactionId, String paymentKey, long amount, byte pgStatus) {
+            this.transactionId = transactionId;
+            this.paymentKey = paymentKey;
+            this.amount = amount;
+            this.pgStatus = pgStatus;
+        }
+    }
+
+    public static class Mismatch {
+        public final MismatchType type;
+        final String transactionId;
+        final String paymentKey;
+        final Long dbAmount;
+        final Long pgAmount;
+        final String dbStatus;
+        final String pgStatus;
+        public final String detail;
+
+        private Mismatch(MismatchType type, String transactionId, String paymentKey, Long dbAmount, Long pgAmount,
+                         String dbStatus, String pgStatus, String detail) {
+            this.type = type;
+            this.transactionId = transactionId;
+            this.paymentKey = paymentKey;
+            this.dbAmount = dbAmount;
+            this.pgAmount = pgAmount;
+            this.dbStatus = dbStatus;
+            this.pgStatus = pgStatus;
+            this.detail = detail;
+        }
+
+        private String toCsv() {
+            return String.join(",", type.name(), csv(transactionId), csv(paymentKey), csv(dbAmount), csv(pgAmount),
+                    csv(dbStatus), csv(pgStatus), csv(detail));
+        }
+
+        private static String csv(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value.toString();
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0) {
+                return text;
+            }
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+    }
+}
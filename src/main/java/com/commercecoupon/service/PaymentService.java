@@ -1,5 +1,6 @@
 package com.commercecoupon.service;
 
+import com.commercecoupon.config.PaymentGatewayConfig;
 import com.commercecoupon.dto.request.PaymentPrepareRequest;
 import com.commercecoupon.dto.request.PaymentCompleteRequest;
 import com.commercecoupon.dto.response.PaymentPrepareResponse;
@@ -9,13 +10,30 @@ import com.commercecoupon.enums.PaymentStatus;
 import com.commercecoupon.enums.OrderStatus;
 import com.commercecoupon.exception.CustomException;
 import com.commercecoupon.repository.*;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
-
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 결제 서비스
+ *
+ * - 승인/취소는 PaymentGateway를 통해 비동기로 호출하고, PG 응답을 기다리는 동안 트랜잭션과 요청 스레드를 잡지 않음
+ *   (검증 트랜잭션 -> PG 호출 -> 결과 반영 트랜잭션 순서, 결과 반영은 PG 응답 스레드에서 수행)
+ * - 같은 결제에 대한 승인/취소 요청이 동시에 PG로 나가지 않도록 처리 중인 결제 키를 기록
+ * - 결과 반영 중 웹훅이 같은 결제를 먼저 바꾸면 (Payment 버전 충돌) 다시 읽어서 한 번 더 반영
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -25,6 +43,20 @@ public class PaymentService {
     private final UserRepository userRepository;
     private final OrderRepository orderRepository;
     private final PaymentRepository paymentRepository;
+    private final OrderSearchIndex orderSearchIndex;
+    private final PaymentGateway paymentGateway;
+    private final PaymentKeyGenerator paymentKeyGenerator;
+    private final PaymentGatewayConfig paymentGatewayConfig;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Set<String> inFlightPaymentKeys = ConcurrentHashMap.newKeySet();
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Transactional
     public PaymentPrepareResponse preparePayment(String userEmail, PaymentPrepareRequest request) {
@@ -49,7 +81,7 @@ public class PaymentService {
             throw new CustomException("결제 금액이 일치하지 않습니다");
         }
 
-        String paymentKey = generateUniquePaymentKey(order.getId());
+        String paymentKey = paymentKeyGenerator.nextKey();
 
         Payment payment = Payment.builder()
                 .paymentKey(paymentKey)
@@ -68,14 +100,68 @@ public class PaymentService {
                 .orderNumber(order.getOrderNumber())
                 .amount(savedPayment.getAmount())
                 .paymentMethod(savedPayment.getPaymentMethod())
-                .paymentUrl("https://api.tosspayments.com/v1/payments/" + paymentKey)
-                .successUrl("http://localhost:3000/success")
-                .failUrl("http://localhost:3000/fail")
+                .paymentUrl(paymentGateway.checkoutUrl(paymentKey))
+                .successUrl(paymentGatewayConfig.getSuccessUrl())
+                .failUrl(paymentGatewayConfig.getFailUrl())
                 .build();
     }
 
-    @Transactional
-    public PaymentCompleteResponse completePayment(String userEmail, PaymentCompleteRequest request) {
+    /**
+     * 결제 승인 (PG 승인 결과에 따라 결제 완료 또는 실패 처리)
+     * PG 통신 실패/시간 초과 시에는 결과를 알 수 없으므로 결제를 PENDING으로 두고 재시도하게 함
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<PaymentCompleteResponse> completePayment(String userEmail, PaymentCompleteRequest request) {
+        PaymentSnapshot snapshot = transactionTemplate.execute(status -> loadApprovable(userEmail, request));
+        claim(snapshot.paymentKey);
+
+        return paymentGateway.approve(snapshot.paymentKey, snapshot.orderId, snapshot.amount)
+                .thenApply(result -> {
+                    PaymentCompleteResponse response =
+                            executeRetryingConflict(status -> applyApproval(snapshot.paymentId, result));
+                    if (!result.isSuccess()) {
+                        throw new CustomException("결제가 거절되었습니다: " + result.getFailureMessage());
+                    }
+                    return response;
+                })
+                .whenComplete((response, error) -> inFlightPaymentKeys.remove(snapshot.paymentKey));
+    }
+
+    /**
+     * 결제 취소 (PG 취소가 확인된 뒤에만 결제/주문을 취소 상태로 변경)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Void> cancelPayment(String userEmail, Long paymentId) {
+        PaymentSnapshot snapshot = transactionTemplate.execute(status -> loadCancellable(userEmail, paymentId));
+        claim(snapshot.paymentKey);
+
+        return paymentGateway.cancel(snapshot.paymentKey, snapshot.pgTransactionId, "고객 요청")
+                .thenAccept(result -> {
+                    if (!result.isSuccess()) {
+                        log.warn("PG 결제 취소 거절: paymentId={}, reason={}", snapshot.paymentId, result.getFailureReason());
+                        throw new CustomException("결제 취소가 거절되었습니다: " + result.getFailureMessage());
+                    }
+                    executeRetryingConflict(status -> {
+                        applyCancel(snapshot.paymentId);
+                        return null;
+                    });
+                })
+                .whenComplete((ignored, error) -> inFlightPaymentKeys.remove(snapshot.paymentKey));
+    }
+
+    public PaymentCompleteResponse getPaymentDetail(String userEmail, Long paymentId) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
+
+        Payment payment = paymentRepository.findByIdAndUser(paymentId, user)
+                .orElseThrow(() -> new CustomException("결제를 찾을 수 없거나 접근 권한이 없습니다"));
+
+        return convertToPaymentCompleteResponse(payment);
+    }
+
+    // Private Methods
+
+    private PaymentSnapshot loadApprovable(String userEmail, PaymentCompleteRequest request) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
 
@@ -94,35 +180,85 @@ public class PaymentService {
             throw new CustomException("결제 금액이 일치하지 않습니다");
         }
 
-        // 실제 PG사 연동은 여기서 처리 (토스페이먼츠, 포트원 등)
-        // 현재는 시뮬레이션으로 처리
-        String pgTransactionId = "PG" + System.currentTimeMillis();
-        String cardInfo = "신한카드(*1234)"; // 실제로는 PG사에서 받아옴
+        return new PaymentSnapshot(payment);
+    }
+
+    private PaymentSnapshot loadCancellable(String userEmail, Long paymentId) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
+
+        Payment payment = paymentRepository.findByIdAndUser(paymentId, user)
+                .orElseThrow(() -> new CustomException("결제를 찾을 수 없거나 접근 권한이 없습니다"));
+
+        if (payment.getStatus() != PaymentStatus.COMPLETED) {
+            throw new CustomException("취소할 수 없는 결제 상태입니다: " + payment.getStatus());
+        }
+
+        return new PaymentSnapshot(payment);
+    }
+
+    /**
+     * 결과 반영 트랜잭션 실행 (버전 충돌 시 최신 상태를 다시 읽어 한 번 더 시도)
+     */
+    private <T> T executeRetryingConflict(TransactionCallback<T> action) {
+        try {
+            return transactionTemplate.execute(action);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.info("결제 동시 변경 충돌, 다시 읽어서 반영: {}", e.getMessage());
+            return transactionTemplate.execute(action);
+        }
+    }
+
+    private void claim(String paymentKey) {
+        if (!inFlightPaymentKeys.add(paymentKey)) {
+            throw new CustomException("이미 처리 중인 결제입니다");
+        }
+    }
+
+    /**
+     * PG 승인 결과 반영 (PG 응답을 기다리는 사이 상태가 바뀌었을 수 있으므로 다시 읽어서 확인)
+     */
+    private PaymentCompleteResponse applyApproval(Long paymentId, PaymentGateway.GatewayResult result) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new CustomException("존재하지 않는 결제입니다"));
+
+        if (payment.getStatus() == PaymentStatus.COMPLETED && result.isSuccess()
+                && payment.getPgTransactionId() != null
+                && payment.getPgTransactionId().equals(result.getTransactionId())) {
+            // 같은 승인이 이미 반영됨
+            return convertToPaymentCompleteResponse(payment);
+        }
+        if (payment.getStatus() != PaymentStatus.PENDING) {
+            throw new CustomException("결제할 수 없는 상태입니다: " + payment.getStatus());
+        }
 
-        payment.completePayment(pgTransactionId, cardInfo);
+        if (!result.isSuccess()) {
+            log.info("PG 결제 승인 거절: paymentId={}, reason={}", paymentId, result.getFailureReason());
+            payment.failPayment(result.getFailureReason());
+            return convertToPaymentCompleteResponse(paymentRepository.save(payment));
+        }
+
+        payment.completePayment(result.getTransactionId(), result.getCardInfo());
         Payment savedPayment = paymentRepository.save(payment);
 
         // 주문 상태를 PAID로 변경
         Order order = payment.getOrder();
         order.updateStatus(OrderStatus.PAID);
         orderRepository.save(order);
+        orderSearchIndex.updateStatus(order.getId(), OrderStatus.PAID);
 
         return convertToPaymentCompleteResponse(savedPayment);
     }
 
-    @Transactional
-    public void cancelPayment(String userEmail, Long paymentId) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
-
-        Payment payment = paymentRepository.findByIdAndUser(paymentId, user)
-                .orElseThrow(() -> new CustomException("결제를 찾을 수 없거나 접근 권한이 없습니다"));
+    private void applyCancel(Long paymentId) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new CustomException("존재하지 않는 결제입니다"));
 
         if (payment.getStatus() != PaymentStatus.COMPLETED) {
-            throw new CustomException("취소할 수 없는 결제 상태입니다: " + payment.getStatus());
+            log.warn("PG 취소 후 결제 상태가 바뀌어 반영하지 않음: paymentId={}, status={}", paymentId, payment.getStatus());
+            return;
         }
 
-        // 실제 PG사 취소 API 호출은 여기서 처리
         payment.cancelPayment();
         paymentRepository.save(payment);
 
@@ -130,30 +266,10 @@ public class PaymentService {
         Order order = payment.getOrder();
         order.updateStatus(OrderStatus.CANCELLED);
         orderRepository.save(order);
+        orderSearchIndex.updateStatus(order.getId(), OrderStatus.CANCELLED);
     }
 
-    public PaymentCompleteResponse getPaymentDetail(String userEmail, Long paymentId) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
-
-        Payment payment = paymentRepository.findByIdAndUser(paymentId, user)
-                .orElseThrow(() -> new CustomException("결제를 찾을 수 없거나 접근 권한이 없습니다"));
-
-        return convertToPaymentCompleteResponse(payment);
-    }
-
-    // Private Methods
-
-    private String generateUniquePaymentKey(Long orderId) {
-        String paymentKey;
-        do {
-            paymentKey = Payment.generatePaymentKey(orderId);
-        } while (paymentRepository.existsByPaymentKey(paymentKey));
-
-        return paymentKey;
-    }
-
-    private PaymentCompleteResponse convertToPaymentCompleteResponse(Payment payment) {
+    PaymentCompleteResponse convertToPaymentCompleteResponse(Payment payment) {
         return PaymentCompleteResponse.builder()
                 .paymentId(payment.getId())
                 .paymentKey(payment.getPaymentKey())
@@ -168,4 +284,23 @@ public class PaymentService {
                 .createdAt(payment.getCreatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * PG 호출 전에 읽어 둔 결제 정보 (PG 응답을 기다리는 동안 엔티티/영속성 컨텍스트를 들고 있지 않기 위함)
+     */
+    private static class PaymentSnapshot {
+        private final Long paymentId;
+        private final String paymentKey;
+        private final Long orderId;
+        private final int amount;
+        private final String pgTransactionId;
+
+        private PaymentSnapshot(Payment payment) {
+            this.paymentId = payment.getId();
+            this.paymentKey = payment.getPaymentKey();
+            this.orderId = payment.getOrder().getId();
+            this.amount = payment.getAmount();
+            this.pgTransactionId = payment.getPgTransactionId();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.config.PaymentWebhookConfig;
+import com.commercecoupon.dto.request.PaymentWebhookRequest;
+import com.commercecoupon.entity.Payment;
+import com.commercecoupon.enums.PaymentStatus;
+import com.commercecoupon.repository.PaymentRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 결제 웹훅 중복 확인 (수신함 저장 전 빠른 경로)
+ *
+ * - 최근 dedupWindowMinutes 동안 수신함에 저장한 이벤트 키를 시간 구간(버킷)별 Set에 기록하고, 구간이 지나면 통째로 버림
+ *   (키마다 만료 시각을 두지 않으므로 PG 장애 후 몰려드는 재전송도 Set 조회 한 번으로 걸러냄)
+ * - 메모리에 없는 이벤트(재시작 이후, 기간 경과)는 PaymentRepository.findByPgTransactionId로 이미 반영된 거래인지 확인
+ * - 수신함 저장에 성공한 이벤트만 기록하므로 기록을 지울 일이 없음 (최종 중복 판단은 수신함 유니크 제약)
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentWebhookDeduplicator {
+
+    private final PaymentWebhookConfig paymentWebhookConfig;
+    private final PaymentRepository paymentRepository;
+
+    private AtomicReferenceArray<Bucket> buckets;
+    private long bucketMillis;
+
+    @PostConstruct
+    void init() {
+        int bucketCount = Math.max(2, paymentWebhookConfig.getDedupBuckets());
+        buckets = new AtomicReferenceArray<>(bucketCount);
+        bucketMillis = Math.max(1000L, paymentWebhookConfig.getDedupWindowMinutes() * 60_000L / bucketCount);
+    }
+
+    /**
+     * 이미 저장했거나 반영된 이벤트인지 확인
+     */
+    public boolean isDuplicate(PaymentWebhookRequest event) {
+        String key = event.dedupKey();
+        long epoch = System.currentTimeMillis() / bucketMillis;
+
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && epoch - bucket.epoch < buckets.length() && bucket.keys.contains(key)) {
+                return true;
+            }
+        }
+        if (isAlreadyApplied(event)) {
+            currentBucket(epoch).keys.add(key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 수신함에 저장한 이벤트 기록
+     */
+    public void mark(PaymentWebhookRequest event) {
+        currentBucket(System.currentTimeMillis() / bucketMillis).keys.add(event.dedupKey());
+    }
+
+    // ===== Private Methods =====
+
+    private Bucket currentBucket(long epoch) {
+        int index = (int) (epoch % buckets.length());
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            if (bucket != null && bucket.epoch == epoch) {
+                return bucket;
+            }
+            Bucket fresh = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private boolean isAlreadyApplied(PaymentWebhookRequest event) {
+        if (event.getTransactionId() == null || event.getTransactionId().isEmpty()) {
+            return false;
+        }
+
+        Optional<Payment> payment = paymentRepository.findByPgTransactionId(event.getTransactionId());
+        if (payment.isEmpty()) {
+            return false;
+        }
+
+        PaymentStatus status = payment.get().getStatus();
+        return switch (event.getEventType()) {
+            case PAYMENT_APPROVED -> status != PaymentStatus.PENDING && status != PaymentStatus.FAILED;
+            case PAYMENT_CANCELED -> status == PaymentStatus.CANCELLED
+                    || status == PaymentStatus.REFUNDED || status == PaymentStatus.PARTIAL_REFUNDED;
+            case PAYMENT_FAILED -> false;
+        };
+    }
+
+    private static class Bucket {
+        private final long epoch;
+        private final Set<String> keys = ConcurrentHashMap.newKeySet();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
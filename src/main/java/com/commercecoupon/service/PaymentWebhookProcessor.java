@@ -0,0 +1,290 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.config.PaymentWebhookConfig;
+import com.commercecoupon.dto.request.PaymentWebhookRequest;
+import com.commercecoupon.entity.Order;
+import com.commercecoupon.entity.Payment;
+import com.commercecoupon.entity.PaymentWebhookInbox;
+import com.commercecoupon.enums.OrderStatus;
+import com.commercecoupon.enums.PaymentStatus;
+import com.commercecoupon.repository.PaymentRepository;
+import com.commercecoupon.repository.PaymentWebhookInboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 웹훅 처리기
+ *
+ * - 수신함(payment_webhook_inbox)의 대기 이벤트를 결제 키 해시로 나눠 처리 스레드마다 받은 순서대로 비움
+ *   (같은 결제의 이벤트는 한 스레드에서만 순서대로 처리)
+ * - batchSize 개씩 결제를 IN 조회 한 번으로 읽고, 상태 반영과 수신함 처리 완료 표시를 한 트랜잭션에서 수행
+ * - 배치 반영에 실패하면 이벤트를 하나씩 다시 시도하고, 그래도 실패한 이벤트는 시도 횟수만 올려 수신함에 남김
+ *   (같은 결제의 뒤 이벤트는 순서를 지키도록 이번 차례에 건너뜀, maxAttempts를 넘으면 실패로 확정)
+ * - 새 이벤트는 signal로 해당 스레드를 깨우고, 알림이 없어도 pollIntervalMs마다 수신함을 확인 (재시작 후 남은 이벤트 포함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentWebhookProcessor {
+
+    private final PaymentWebhookConfig paymentWebhookConfig;
+    private final PaymentRepository paymentRepository;
+    private final PaymentWebhookInboxRepository paymentWebhookInboxRepository;
+    private final OrderSearchIndex orderSearchIndex;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    private List<Semaphore> wakeUps;
+    private List<Thread> workers;
+    private TransactionTemplate transactionTemplate;
+    private volatile boolean running = true;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        int workerCount = Math.max(1, paymentWebhookConfig.getWorkers());
+        wakeUps = new ArrayList<>(workerCount);
+        workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            int index = i;
+            Thread worker = new Thread(() -> runWorker(index), "payment-webhook-" + i);
+            worker.setDaemon(true);
+            wakeUps.add(new Semaphore(0));
+            workers.add(worker);
+        }
+        workers.forEach(Thread::start);
+    }
+
+    /**
+     * 종료 (처리하지 못한 이벤트는 수신함에 남아 재시작 후 처리)
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        wakeUps.forEach(Semaphore::release);
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * 수신함에 새 이벤트가 저장되었음을 알림 (결제 키 해시로 고른 처리 스레드를 깨움)
+     */
+    public void signal(int paymentKeyHash) {
+        Semaphore wakeUp = wakeUps.get(paymentKeyHash % wakeUps.size());
+        if (wakeUp.availablePermits() == 0) {
+            wakeUp.release();
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 처리 완료/실패 이벤트 정리
+     */
+    @Scheduled(cron = "${payment.webhook.cleanup-cron:0 30 4 * * *}")
+    public void cleanUp() {
+        LocalDateTime before = LocalDateTime.now().minusDays(paymentWebhookConfig.getRetentionDays());
+        int deleted = transactionTemplate.execute(status -> paymentWebhookInboxRepository.deleteFinishedBefore(before));
+        if (deleted > 0) {
+            log.info("결제 웹훅 수신함 정리: deleted={}", deleted);
+        }
+    }
+
+    // ===== Private Methods =====
+
+    private void runWorker(int index) {
+        Semaphore wakeUp = wakeUps.get(index);
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                // 배치가 가득 찼고 실패가 없으면 기다리지 않고 이어서 비움
+                if (drainOnce(index)) {
+                    continue;
+                }
+                wakeUp.tryAcquire(paymentWebhookConfig.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+                wakeUp.drainPermits();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("결제 웹훅 수신함 처리 오류: worker={}, error={}", index, e.getMessage());
+                sleepQuietly();
+            }
+        }
+    }
+
+    /**
+     * 대기 이벤트 한 배치 처리
+     *
+     * @return 더 남아 있을 수 있어 바로 이어서 처리해야 하면 true
+     */
+    private boolean drainOnce(int index) {
+        int batchSize = paymentWebhookConfig.getBatchSize();
+        List<Long> ids = paymentWebhookInboxRepository.findPendingIds(
+                workers.size(), index, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return false;
+        }
+
+        try {
+            int applied = transactionTemplate.execute(status -> applyBatch(ids));
+            log.debug("결제 웹훅 배치 처리: events={}, applied={}", ids.size(), applied);
+            return ids.size() == batchSize;
+        } catch (Exception e) {
+            log.warn("결제 웹훅 배치 처리 실패, 개별 재시도: events={}, error={}", ids.size(), e.getMessage());
+        }
+
+        Set<String> failedPaymentKeys = new HashSet<>();
+        for (Long id : ids) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> applySingle(id, failedPaymentKeys));
+            } catch (Exception single) {
+                transactionTemplate.executeWithoutResult(status -> recordFailure(id, single, failedPaymentKeys));
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 이벤트를 받은 순서대로 반영하고 처리 완료 표시 (결제는 IN 조회 한 번, 변경은 커밋 시 한꺼번에 flush)
+     *
+     * @return 상태가 바뀐 이벤트 수
+     */
+    private int applyBatch(List<Long> ids) {
+        List<PaymentWebhookInbox> entries = paymentWebhookInboxRepository.findPendingByIdIn(ids);
+        List<PaymentWebhookRequest> events = new ArrayList<>(entries.size());
+        for (PaymentWebhookInbox entry : entries) {
+            events.add(readEvent(entry));
+        }
+
+        Set<String> paymentKeys = events.stream()
+                .map(PaymentWebhookRequest::getPaymentKey)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, Payment> payments = paymentKeys.isEmpty() ? Map.of()
+                : paymentRepository.findWithOrderByPaymentKeyIn(paymentKeys).stream()
+                .collect(Collectors.toMap(Payment::getPaymentKey, Function.identity()));
+
+        int applied = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            if (applyEvent(payments, events.get(i))) {
+                applied++;
+            }
+            entries.get(i).markProcessed();
+        }
+        return applied;
+    }
+
+    private void applySingle(Long id, Set<String> failedPaymentKeys) {
+        paymentWebhookInboxRepository.findPendingByIdIn(List.of(id)).forEach(entry -> {
+            if (failedPaymentKeys.contains(entry.getPaymentKey())) {
+                return; // 같은 결제의 앞 이벤트가 실패했으므로 순서를 지키기 위해 다음 차례로 미룸
+            }
+            PaymentWebhookRequest event = readEvent(entry);
+            Map<String, Payment> payments = paymentRepository.findWithOrderByPaymentKeyIn(List.of(event.getPaymentKey()))
+                    .stream()
+                    .collect(Collectors.toMap(Payment::getPaymentKey, Function.identity()));
+            applyEvent(payments, event);
+            entry.markProcessed();
+        });
+    }
+
+    private void recordFailure(Long id, Exception error, Set<String> failedPaymentKeys) {
+        paymentWebhookInboxRepository.findById(id).ifPresent(entry -> {
+            failedPaymentKeys.add(entry.getPaymentKey());
+            entry.recordFailure(error.getMessage(), paymentWebhookConfig.getMaxAttempts());
+            log.error("결제 웹훅 처리 실패: eventId={}, attempts={}, status={}, error={}",
+                    entry.getEventId(), entry.getAttempts(), entry.getStatus(), error.getMessage());
+        });
+    }
+
+    private boolean applyEvent(Map<String, Payment> payments, PaymentWebhookRequest event) {
+        Payment payment = payments.get(event.getPaymentKey());
+        if (payment == null) {
+            log.warn("결제 웹훅 대상 없음: eventType={}, paymentKey={}", event.getEventType(), event.getPaymentKey());
+            return false;
+        }
+        return apply(payment, event);
+    }
+
+    private PaymentWebhookRequest readEvent(PaymentWebhookInbox entry) {
+        try {
+            return objectMapper.readValue(entry.getPayload(), PaymentWebhookRequest.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("수신함 이벤트 본문을 해석할 수 없습니다: eventId=" + entry.getEventId(), e);
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(paymentWebhookConfig.getPollIntervalMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean apply(Payment payment, PaymentWebhookRequest event) {
+        PaymentStatus status = payment.getStatus();
+        Order order = payment.getOrder();
+
+        switch (event.getEventType()) {
+            case PAYMENT_APPROVED -> {
+                if (status != PaymentStatus.PENDING && status != PaymentStatus.FAILED) {
+                    return false;
+                }
+                if (event.getAmount() != null && !event.getAmount().equals(payment.getAmount())) {
+                    log.error("결제 웹훅 금액 불일치: paymentKey={}, expected={}, actual={}",
+                            payment.getPaymentKey(), payment.getAmount(), event.getAmount());
+                    return false;
+                }
+                payment.completePayment(event.getTransactionId(), event.getCardInfo());
+                if (order.getStatus() == OrderStatus.PENDING) {
+                    updateOrderStatus(order, OrderStatus.PAID);
+                }
+                return true;
+            }
+            case PAYMENT_FAILED -> {
+                if (status != PaymentStatus.PENDING) {
+                    return false;
+                }
+                payment.failPayment(event.getFailureCode() + ": " + event.getFailureMessage());
+                return true;
+            }
+            case PAYMENT_CANCELED -> {
+                if (status != PaymentStatus.COMPLETED) {
+                    return false;
+                }
+                payment.cancelPayment();
+                updateOrderStatus(order, OrderStatus.CANCELLED);
+                return true;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    private void updateOrderStatus(Order order, OrderStatus status) {
+        order.updateStatus(status);
+        orderSearchIndex.updateStatus(order.getId(), status);
+    }
+}
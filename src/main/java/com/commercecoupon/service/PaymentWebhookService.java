@@ -0,0 +1,139 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.config.PaymentWebhookConfig;
+import com.commercecoupon.dto.request.PaymentWebhookRequest;
+import com.commercecoupon.entity.PaymentWebhookInbox;
+import com.commercecoupon.exception.CustomException;
+import com.commercecoupon.repository.PaymentWebhookInboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * 결제 웹훅 수신
+ *
+ * - 서명: HMAC-SHA256(secret, "{X-PG-Timestamp}.{원본 본문}")의 16진수 문자열을 X-PG-Signature로 받음
+ *   (본문을 파싱하기 전에 원본 바이트로 검증하고, 허용 오차를 넘은 시각은 재전송 공격으로 보고 거부)
+ * - 검증을 통과하면 중복 확인 후 수신함(payment_webhook_inbox)에 저장이 커밋된 뒤에 응답
+ *   (상태 반영은 PaymentWebhookProcessor가 수신함을 배치로 비우며 수행하므로 응답한 이벤트는 유실되지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentWebhookService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final PaymentWebhookConfig paymentWebhookConfig;
+    private final PaymentWebhookDeduplicator paymentWebhookDeduplicator;
+    private final PaymentWebhookProcessor paymentWebhookProcessor;
+    private final PaymentWebhookInboxRepository paymentWebhookInboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public enum Result {
+        ACCEPTED,   // 수신함에 저장됨
+        DUPLICATE   // 이미 받았거나 반영된 이벤트
+    }
+
+    /**
+     * 웹훅 수신
+     */
+    public Result receive(String timestamp, String signature, byte[] body) {
+        verifySignature(timestamp, signature, body);
+
+        PaymentWebhookRequest event = parse(body);
+        if (paymentWebhookDeduplicator.isDuplicate(event)) {
+            log.debug("중복 결제 웹훅 무시: eventType={}, paymentKey={}", event.getEventType(), event.getPaymentKey());
+            return Result.DUPLICATE;
+        }
+
+        // 저장(커밋)에 실패하면 예외로 응답해 PG가 재전송하게 함
+        PaymentWebhookInbox entry = PaymentWebhookInbox.builder()
+                .eventId(event.dedupKey())
+                .paymentKey(event.getPaymentKey())
+                .paymentKeyHash(event.getPaymentKey().hashCode() & Integer.MAX_VALUE)
+                .payload(new String(body, StandardCharsets.UTF_8))
+                .build();
+        try {
+            paymentWebhookInboxRepository.saveAndFlush(entry);
+        } catch (DataIntegrityViolationException e) {
+            paymentWebhookDeduplicator.mark(event);
+            log.debug("이미 저장된 결제 웹훅: eventId={}", entry.getEventId());
+            return Result.DUPLICATE;
+        }
+
+        paymentWebhookDeduplicator.mark(event);
+        paymentWebhookProcessor.signal(entry.getPaymentKeyHash());
+        return Result.ACCEPTED;
+    }
+
+    // ===== Private Methods =====
+
+    private void verifySignature(String timestamp, String signature, byte[] body) {
+        if (timestamp == null || signature == null) {
+            throw new CustomException("웹훅 서명이 없습니다");
+        }
+
+        long signedAt;
+        try {
+            signedAt = Long.parseLong(timestamp);
+        } catch (NumberFormatException e) {
+            throw new CustomException("웹훅 서명 시각이 올바르지 않습니다");
+        }
+        if (Math.abs(System.currentTimeMillis() / 1000 - signedAt) > paymentWebhookConfig.getToleranceSeconds()) {
+            throw new CustomException("웹훅 서명 시각이 허용 범위를 벗어났습니다");
+        }
+
+        byte[] expected = sign(timestamp, body);
+        byte[] actual;
+        try {
+            actual = HexFormat.of().parseHex(signature);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException("웹훅 서명이 올바르지 않습니다");
+        }
+        if (!MessageDigest.isEqual(expected, actual)) {
+            log.warn("결제 웹훅 서명 불일치: timestamp={}", timestamp);
+            throw new CustomException("웹훅 서명이 올바르지 않습니다");
+        }
+    }
+
+    private byte[] sign(String timestamp, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(paymentWebhookConfig.getSecret().getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            mac.update(timestamp.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) '.');
+            return mac.doFinal(body);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("웹훅 서명 생성 실패", e);
+        }
+    }
+
+    private PaymentWebhookRequest parse(byte[] body) {
+        PaymentWebhookRequest event;
+        try {
+            event = objectMapper.readValue(body, PaymentWebhookRequest.class);
+        } catch (IOException e) {
+            throw new CustomException("웹훅 본문을 해석할 수 없습니다");
+        }
+
+        if (event.getEventType() == null || event.getPaymentKey() == null || event.getPaymentKey().isEmpty()) {
+            throw new CustomException("웹훅 이벤트 종류와 결제 키는 필수입니다");
+        }
+        if (event.getEventType() != PaymentWebhookRequest.EventType.PAYMENT_FAILED
+                && (event.getTransactionId() == null || event.getTransactionId().isEmpty())) {
+            throw new CustomException("승인/취소 웹훅에는 거래 ID가 필요합니다");
+        }
+        return event;
+    }
+}
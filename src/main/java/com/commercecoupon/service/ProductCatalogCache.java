@@ -0,0 +1,248 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.config.CatalogCacheConfig;
+import com.commercecoupon.dto.response.CategoryResponse;
+import com.commercecoupon.dto.response.ProductDetailResponse;
+import com.commercecoupon.dto.response.ProductResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 상품 카탈로그 읽기 캐시 (read-through)
+ *
+ * - 상품 쓰기가 커밋되면 해당 상품의 상세 항목만 제거하고 카탈로그 버전을 올림
+ * - 목록 버전은 목록 노출이 바뀌는 변경(상품 속성 변경, 재고 0 경계 통과)에서만 올리고,
+ *   목록에 표시되는 재고 수량은 목록 TTL로 갱신 (주문마다 목록을 다시 적재하지 않음)
+ * - 상세 항목에 포함된 관련 상품 정보는 다른 상품의 변경으로 무효화되지 않으므로 TTL로 갱신
+ * - 목록(추천/인기/최신)은 불변 리스트 스냅샷을 통째로 교체하므로 읽기 쪽에는 락이 없음
+ * - 적재 중 변경이 커밋되면 적재 결과를 캐시에 넣지 않아 오래된 데이터가 남지 않음
+ * - 응답 DTO는 가변 객체이므로 캐시에는 원본을 두고 호출 측에는 복사본을 반환
+ * - 상품 요약(ProductResponse)은 메모리 장바구니가 변경/조회마다 상품을 다시 읽지 않도록 상세와 같은 방식으로 보관
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCatalogCache {
+
+    public enum ListType {
+        FEATURED, POPULAR, LATEST
+    }
+
+    private final CatalogCacheConfig cacheConfig;
+
+    // 장바구니 ETag에도 쓰이므로 재시작 후 이전 값과 겹치지 않도록 시작 시각에서 출발
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+    // 목록 스냅샷 버전 (목록 노출이 바뀌는 변경에서만 증가)
+    private final AtomicLong listVersion = new AtomicLong();
+    // 상세 무효화 횟수 (적재 도중 무효화가 있었는지 확인용)
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Map<Long, DetailEntry> details = new ConcurrentHashMap<>();
+    private final Map<Long, SummaryEntry> summaries = new ConcurrentHashMap<>();
+    private final Map<ListType, ListSnapshot> lists = new ConcurrentHashMap<>();
+    private final Map<ListType, ReentrantLock> refreshLocks = new ConcurrentHashMap<>();
+
+    /**
+     * 상품 상세 조회 (캐시에 없거나 만료되었으면 loader로 적재)
+     */
+    public ProductDetailResponse getDetail(Long productId, Supplier<ProductDetailResponse> loader) {
+        if (!cacheConfig.isEnabled()) {
+            return loader.get();
+        }
+
+        long now = System.currentTimeMillis();
+        DetailEntry entry = details.get(productId);
+        if (entry != null && entry.expiresAt > now) {
+            return copyOf(entry.response);
+        }
+
+        long currentInvalidations = invalidations.get();
+        ProductDetailResponse response = loader.get();
+        if (invalidations.get() == currentInvalidations) {
+            if (details.size() >= cacheConfig.getMaxDetailEntries()) {
+                details.clear();
+            }
+            details.put(productId, new DetailEntry(now + cacheConfig.getDetailTtlSeconds() * 1000L, copyOf(response)));
+        }
+        return response;
+    }
+
+    /**
+     * 상품 요약 일괄 조회 (캐시에 없거나 만료된 상품만 loader로 한 번에 적재, 없는 상품은 결과에서 빠짐)
+     */
+    public Map<Long, ProductResponse> getSummaries(Collection<Long> productIds,
+                                                   Function<List<Long>, List<ProductResponse>> loader) {
+        Map<Long, ProductResponse> result = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (Long productId : productIds) {
+            SummaryEntry entry = cacheConfig.isEnabled() ? summaries.get(productId) : null;
+            if (entry != null && entry.expiresAt > now) {
+                result.put(productId, copyOf(entry.response));
+            } else {
+                missingIds.add(productId);
+            }
+        }
+        if (missingIds.isEmpty()) {
+            return result;
+        }
+
+        long currentInvalidations = invalidations.get();
+        List<ProductResponse> loaded = loader.apply(missingIds);
+        boolean cacheable = cacheConfig.isEnabled() && invalidations.get() == currentInvalidations;
+        for (ProductResponse response : loaded) {
+            if (cacheable) {
+                if (summaries.size() >= cacheConfig.getMaxDetailEntries()) {
+                    summaries.clear();
+                }
+                summaries.put(response.getId(),
+                        new SummaryEntry(now + cacheConfig.getDetailTtlSeconds() * 1000L, copyOf(response)));
+            }
+            result.put(response.getId(), response);
+        }
+        return result;
+    }
+
+    /**
+     * 목록 조회 (스냅샷이 오래되었으면 한 스레드만 다시 적재하고 나머지는 이전 스냅샷 사용)
+     */
+    public List<ProductResponse> getList(ListType type, Supplier<List<ProductResponse>> loader) {
+        if (!cacheConfig.isEnabled()) {
+            return loader.get();
+        }
+
+        ListSnapshot snapshot = lists.get(type);
+        long currentVersion = listVersion.get();
+        if (isFresh(snapshot, currentVersion)) {
+            return copyOf(snapshot.items);
+        }
+
+        ReentrantLock refreshLock = refreshLocks.computeIfAbsent(type, t -> new ReentrantLock());
+        if (snapshot != null && !refreshLock.tryLock()) {
+            return copyOf(snapshot.items);
+        }
+        if (snapshot == null) {
+            refreshLock.lock();
+        }
+
+        try {
+            // 대기하는 동안 다른 스레드가 이미 갱신했을 수 있음
+            ListSnapshot latest = lists.get(type);
+            currentVersion = listVersion.get();
+            if (isFresh(latest, currentVersion)) {
+                return copyOf(latest.items);
+            }
+
+            long expiresAt = System.currentTimeMillis() + cacheConfig.getListTtlSeconds() * 1000L;
+            List<ProductResponse> items = loader.get();
+            if (listVersion.get() == currentVersion) {
+                lists.put(type, new ListSnapshot(currentVersion, expiresAt, copyOf(items)));
+            }
+            return items;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 커밋된 상품 변경 반영 - 해당 상품 상세 제거 + 카탈로그 버전 증가 (ProductIndexUpdater에서 호출)
+     *
+     * @param listingChanged 목록 노출이 바뀌는 변경인지 (상품 속성 변경, 품절/판매 전환) - 목록 스냅샷 무효화
+     */
+    public void invalidate(Long productId, boolean listingChanged) {
+        invalidations.incrementAndGet();
+        details.remove(productId);
+        summaries.remove(productId);
+        long newVersion = version.incrementAndGet();
+        if (listingChanged) {
+            listVersion.incrementAndGet();
+        }
+        log.debug("상품 카탈로그 변경: productId={}, version={}, listingChanged={}", productId, newVersion, listingChanged);
+    }
+
+    /**
+     * 카탈로그 버전 (상품 변경이 커밋될 때마다 증가, 장바구니 ETag용)
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    // ===== Private Methods =====
+
+    private static boolean isFresh(ListSnapshot snapshot, long currentVersion) {
+        return snapshot != null && snapshot.version == currentVersion
+                && snapshot.expiresAt > System.currentTimeMillis();
+    }
+
+    private static ProductDetailResponse copyOf(ProductDetailResponse response) {
+        return response.toBuilder()
+                .detailImageUrls(copyOfNullable(response.getDetailImageUrls()))
+                .category(copyOf(response.getCategory()))
+                .tags(copyOfNullable(response.getTags()))
+                .relatedProducts(response.getRelatedProducts() != null ? copyOf(response.getRelatedProducts()) : null)
+                .build();
+    }
+
+    private static List<ProductResponse> copyOf(List<ProductResponse> items) {
+        List<ProductResponse> copies = new ArrayList<>(items.size());
+        for (ProductResponse item : items) {
+            copies.add(copyOf(item));
+        }
+        return copies;
+    }
+
+    private static ProductResponse copyOf(ProductResponse item) {
+        return item.toBuilder().category(copyOf(item.getCategory())).build();
+    }
+
+    private static CategoryResponse copyOf(CategoryResponse category) {
+        return category != null ? category.toBuilder().build() : null;
+    }
+
+    private static List<String> copyOfNullable(List<String> values) {
+        return values != null ? new ArrayList<>(values) : null;
+    }
+
+    private static class DetailEntry {
+        private final long expiresAt;
+        private final ProductDetailResponse response;
+
+        DetailEntry(long expiresAt, ProductDetailResponse response) {
+            this.expiresAt = expiresAt;
+            this.response = response;
+        }
+    }
+
+    private static class SummaryEntry {
+        private final long expiresAt;
+        private final ProductResponse response;
+
+        SummaryEntry(long expiresAt, ProductResponse response) {
+            this.expiresAt = expiresAt;
+            this.response = response;
+        }
+    }
+
+    private static class ListSnapshot {
+        private final long version;
+        private final long expiresAt;
+        private final List<ProductResponse> items;
+
+        ListSnapshot(long version, long expiresAt, List<ProductResponse> items) {
+            this.version = version;
+            this.expiresAt = expiresAt;
+            this.items = items;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.dto.response.ProductFacetResponse;
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.repository.ProductRepository;
+import com.commercecoupon.repository.ProductSearchCondition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 검색 패싯 (카테고리별/가격 구간별/추천 상품 수)
+ *
+ * - 상품 속성을 슬롯 번호 기준의 기본형 배열(가격, 카테고리 슬롯, 상태, 플래그)에 열 단위로 보관
+ * - 모든 패싯을 배열 한 번 순회로 계산하며, 루프 본문은 조건 결과를 0/1 정수로 더하는 형태라 분기가 적음
+ * - 각 패싯은 자기 조건만 제외하고 나머지 조건을 적용 (카테고리 패싯은 카테고리 조건 제외 등)
+ * 키워드 조건은 검색 엔진 결과(상품 ID 목록)를 받아 슬롯 마스크로 적용합니다.
+ * 변경은 커밋 후 ProductIndexUpdater에서만 반영되므로, 재구성 도중 반영된 상품은 스캔 결과로 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductFacetEngine {
+
+    private static final int REBUILD_PAGE_SIZE = 5000;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final byte FEATURED_FLAG = 1;
+    private static final byte NO_STATUS = -1;
+    private static final int NO_CATEGORY = -1;
+
+    // 가격 구간 시작값 (마지막 구간은 상한 없음)
+    private static final int[] PRICE_BOUNDARIES = {0, 10_000, 30_000, 50_000, 100_000, 300_000, 500_000, 1_000_000};
+
+    private final ProductRepository productRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> slotByProductId = new HashMap<>();
+    private final Map<Long, Integer> slotByCategoryId = new HashMap<>();
+    private final List<Long> categoryIds = new ArrayList<>();
+    // 재구성 도중 update()로 반영된 상품 (스캔한 행보다 새 값)
+    private final Set<Long> updatedDuringRebuild = new HashSet<>();
+
+    // 슬롯별 속성 (배열 인덱스 = 슬롯)
+    private int[] prices = new int[INITIAL_CAPACITY];
+    private int[] categorySlots = new int[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private byte[] flags = new byte[INITIAL_CAPACITY];
+    private int size = 0;
+
+    private volatile boolean ready = false;
+
+    /**
+     * 애플리케이션 시작 후 전체 상품 속성 적재 (키셋 페이징)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        Long lastId = 0L;
+
+        while (true) {
+            List<Object[]> rows = productRepository.findFacetRows(lastId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (Object[] row : rows) {
+                    if (!updatedDuringRebuild.contains((Long) row[0])) {
+                        apply((Long) row[0], (Long) row[1], (Integer) row[2],
+                                (ProductStatus) row[3], Boolean.TRUE.equals(row[4]));
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+
+        lock.writeLock().lock();
+        try {
+            updatedDuringRebuild.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("상품 패싯 구성 완료: products={}, categories={}, elapsed={}ms",
+                size, categoryIds.size(), System.currentTimeMillis() - startTime);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 커밋된 상품 생성/수정/상태 변경 반영
+     */
+    public void update(Product product) {
+        Long categoryId = product.getCategory() != null ? product.getCategory().getId() : null;
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                updatedDuringRebuild.add(product.getId());
+            }
+            apply(product.getId(), categoryId, product.getPrice(), product.getStatus(),
+                    Boolean.TRUE.equals(product.getIsFeatured()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 상품의 패싯 계산
+     *
+     * @param keywordMatches 키워드 검색 결과 상품 ID (키워드 조건이 없으면 null)
+     * @return 패싯 응답 (카테고리명은 호출 측에서 채움)
+     */
+    public ProductFacetResponse compute(ProductSearchCondition condition, long[] keywordMatches) {
+        lock.readLock().lock();
+        try {
+            BitSet keywordMask = keywordMatches != null ? toSlotMask(keywordMatches) : null;
+
+            int statusFilter = condition.getStatus() != null ? condition.getStatus().ordinal() : NO_STATUS;
+            // 색인에 없는 카테고리는 어떤 슬롯과도 일치하지 않는 값으로 필터링
+            int categoryFilter = condition.getCategoryId() == null ? NO_CATEGORY
+                    : slotByCategoryId.getOrDefault(condition.getCategoryId(), Integer.MIN_VALUE);
+            int minPrice = condition.getMinPrice() != null ? condition.getMinPrice() : Integer.MIN_VALUE;
+            int maxPrice = condition.getMaxPrice() != null ? condition.getMaxPrice() : Integer.MAX_VALUE;
+            int featuredOnly = condition.isFeaturedOnly() ? 1 : 0;
+
+            // 인덱스 0은 카테고리 없음
+            int[] categoryCounts = new int[categoryIds.size() + 1];
+            int[] priceCounts = new int[PRICE_BOUNDARIES.length];
+            int totalCount = 0;
+            int featuredCount = 0;
+            int lowestPrice = Integer.MAX_VALUE;
+            int highestPrice = Integer.MIN_VALUE;
+
+            for (int slot = 0; slot < size; slot++) {
+                if (keywordMask != null && !keywordMask.get(slot)) {
+                    continue;
+                }
+                if (statusFilter != NO_STATUS && statuses[slot] != statusFilter) {
+                    continue;
+                }
+
+                int price = prices[slot];
+                int featured = flags[slot] & FEATURED_FLAG;
+                int categoryMatch = categoryFilter == NO_CATEGORY || categorySlots[slot] == categoryFilter ? 1 : 0;
+                int priceMatch = price >= minPrice && price <= maxPrice ? 1 : 0;
+                int featuredMatch = featured | (featuredOnly ^ 1);
+
+                categoryCounts[categorySlots[slot] + 1] += priceMatch & featuredMatch;
+                featuredCount += categoryMatch & priceMatch & featured;
+                totalCount += categoryMatch & priceMatch & featuredMatch;
+
+                if ((categoryMatch & featuredMatch) != 0) {
+                    priceCounts[priceBucket(price)]++;
+                    lowestPrice = Math.min(lowestPrice, price);
+                    highestPrice = Math.max(highestPrice, price);
+                }
+            }
+
+            return ProductFacetResponse.builder()
+                    .totalCount(totalCount)
+                    .minPrice(lowestPrice != Integer.MAX_VALUE ? lowestPrice : null)
+                    .maxPrice(highestPrice != Integer.MIN_VALUE ? highestPrice : null)
+                    .categories(toCategoryFacets(categoryCounts))
+                    .priceRanges(toPriceRangeFacets(priceCounts))
+                    .featuredCount(featuredCount)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== Private Methods =====
+
+    private void apply(Long productId, Long categoryId, Integer price, ProductStatus status, boolean featured) {
+        Integer slot = slotByProductId.get(productId);
+        if (slot == null) {
+            slot = size++;
+            ensureCapacity(size);
+            slotByProductId.put(productId, slot);
+        }
+
+        prices[slot] = price != null ? price : 0;
+        categorySlots[slot] = categoryId != null ? categorySlot(categoryId) : NO_CATEGORY;
+        statuses[slot] = status != null ? (byte) status.ordinal() : NO_STATUS;
+        flags[slot] = featured ? FEATURED_FLAG : 0;
+    }
+
+    private int categorySlot(Long categoryId) {
+        return slotByCategoryId.computeIfAbsent(categoryId, id -> {
+            categoryIds.add(id);
+            return categoryIds.size() - 1;
+        });
+    }
+
+    private BitSet toSlotMask(long[] matchedProductIds) {
+        BitSet mask = new BitSet(size);
+        for (long productId : matchedProductIds) {
+            Integer slot = slotByProductId.get(productId);
+            if (slot != null) {
+                mask.set(slot);
+            }
+        }
+        return mask;
+    }
+
+    private static int priceBucket(int price) {
+        int bucket = 0;
+        for (int i = 1; i < PRICE_BOUNDARIES.length; i++) {
+            bucket += price >= PRICE_BOUNDARIES[i] ? 1 : 0;
+        }
+        return bucket;
+    }
+
+    private List<ProductFacetResponse.CategoryFacet> toCategoryFacets(int[] categoryCounts) {
+        List<ProductFacetResponse.CategoryFacet> facets = new ArrayList<>();
+        for (int i = 1; i < categoryCounts.length; i++) {
+            if (categoryCounts[i] > 0) {
+                facets.add(ProductFacetResponse.CategoryFacet.builder()
+                        .categoryId(categoryIds.get(i - 1))
+                        .count(categoryCounts[i])
+                        .build());
+            }
+        }
+        facets.sort((a, b) -> Integer.compare(b.getCount(), a.getCount()));
+        return facets;
+    }
+
+    private List<ProductFacetResponse.PriceRangeFacet> toPriceRangeFacets(int[] priceCounts) {
+        List<ProductFacetResponse.PriceRangeFacet> facets = new ArrayList<>(priceCounts.length);
+        for (int i = 0; i < priceCounts.length; i++) {
+            facets.add(ProductFacetResponse.PriceRangeFacet.builder()
+                    .minPrice(PRICE_BOUNDARIES[i])
+                    .maxPrice(i + 1 < PRICE_BOUNDARIES.length ? PRICE_BOUNDARIES[i + 1] : null)
+                    .count(priceCounts[i])
+                    .build());
+        }
+        return facets;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= prices.length) {
+            return;
+        }
+        int newCapacity = Math.max(required, prices.length * 2);
+        prices = Arrays.copyOf(prices, newCapacity);
+        categorySlots = Arrays.copyOf(categorySlots, newCapacity);
+        statuses = Arrays.copyOf(statuses, newCapacity);
+        flags = Arrays.copyOf(flags, newCapacity);
+    }
+}
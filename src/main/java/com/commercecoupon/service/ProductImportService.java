@@ -0,0 +1,419 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.dto.request.ProductCreateRequest;
+import com.commercecoupon.dto.response.ProductImportResponse;
+import com.commercecoupon.entity.Category;
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.entity.converter.StringListConverter;
+import com.commercecoupon.event.ProductChangedEvent;
+import com.commercecoupon.exception.CustomException;
+import com.commercecoupon.repository.CategoryRepository;
+import com.commercecoupon.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 일괄 등록 (CSV / NDJSON)
+ *
+ * 1. 파일을 한 줄씩 읽어 CHUNK_SIZE 단위로 묶음
+ * 2. 묶음 안의 행은 병렬로 파싱/검증 (카테고리는 미리 읽어둔 ID 집합으로 확인)
+ * 3. 상품명 중복은 기존 상품명 + 이번 파일에서 등록한 상품명 해시셋으로 확인
+ * 4. 통과한 행은 묶음마다 별도 트랜잭션에서 JDBC 배치로 INSERT
+ * 배치가 실패하면 해당 묶음만 한 건씩 다시 시도해 실패한 행을 찾아냅니다.
+ * CSV는 첫 줄이 헤더이며, 따옴표로 감싼 필드 안의 줄바꿈은 지원하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int REINDEX_PAGE_SIZE = 1000;
+    private static final String DETAIL_IMAGE_SEPARATOR = "\\|";
+    private static final StringListConverter LIST_CONVERTER = new StringListConverter();
+
+    private static final String INSERT_SQL = "INSERT INTO products " +
+            "(name, description, price, stock, image_url, detail_image_urls, category_id, status, " +
+            "view_count, sales_count, is_featured, tags, low_stock_threshold, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, 0, ?, ?, ?, ?, ?)";
+
+    private enum Format {
+        CSV, NDJSON
+    }
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final InventoryService inventoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * 상품 일괄 등록
+     */
+    public ProductImportResponse importProducts(MultipartFile file) {
+        long startTime = System.currentTimeMillis();
+        Format format = resolveFormat(file.getOriginalFilename());
+        log.info("상품 일괄 등록 시작: file={}, format={}, size={}", file.getOriginalFilename(), format, file.getSize());
+
+        Set<Long> categoryIds = categoryRepository.findAll().stream()
+                .map(Category::getId)
+                .collect(Collectors.toSet());
+        Set<String> names = new HashSet<>(productRepository.findAllNames());
+        Long lastIdBeforeImport = productRepository.findMaxId();
+
+        ImportResult result = new ImportResult();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+
+            // 오류 위치는 편집기에서 보이는 실제 줄 번호 (헤더, 빈 줄 포함)
+            int lineNumber = 0;
+            Map<String, Integer> columns = null;
+            if (format == Format.CSV) {
+                String header = reader.readLine();
+                if (header == null) {
+                    throw new CustomException("빈 파일입니다");
+                }
+                lineNumber++;
+                columns = parseHeader(header);
+            }
+
+            List<RawRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            int rowCount = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!StringUtils.hasText(line)) {
+                    continue;
+                }
+                rowCount++;
+                chunk.add(new RawRow(lineNumber, line));
+                if (chunk.size() == CHUNK_SIZE) {
+                    processChunk(chunk, format, columns, categoryIds, names, result);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, format, columns, categoryIds, names, result);
+            }
+            result.totalRows = rowCount;
+        } catch (IOException e) {
+            throw new CustomException("파일을 읽을 수 없습니다: " + e.getMessage());
+        }
+
+        if (result.importedCount > 0) {
+            refreshIndexes(lastIdBeforeImport != null ? lastIdBeforeImport : 0L);
+        }
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        log.info("상품 일괄 등록 완료: total={}, imported={}, failed={}, elapsed={}ms",
+                result.totalRows, result.importedCount, result.failedCount, elapsed);
+
+        return ProductImportResponse.builder()
+                .totalRows(result.totalRows)
+                .importedCount(result.importedCount)
+                .failedCount(result.failedCount)
+                .errors(result.errors)
+                .elapsedMillis(elapsed)
+                .build();
+    }
+
+    // ===== Private Methods =====
+
+    private Format resolveFormat(String filename) {
+        String lower = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+        if (lower.endsWith(".csv")) {
+            return Format.CSV;
+        }
+        if (lower.endsWith(".ndjson") || lower.endsWith(".jsonl")) {
+            return Format.NDJSON;
+        }
+        throw new CustomException("지원하지 않는 파일 형식입니다 (csv, ndjson, jsonl)");
+    }
+
+    private void processChunk(List<RawRow> chunk, Format format, Map<String, Integer> columns,
+                              Set<Long> categoryIds, Set<String> names, ImportResult result) {
+        // 파싱/검증은 행끼리 독립적이므로 병렬 처리
+        List<ParsedRow> parsedRows = chunk.parallelStream()
+                .map(raw -> parseAndValidate(raw, format, columns, categoryIds))
+                .collect(Collectors.toList());
+
+        // 상품명 중복 확인은 파일 내 순서를 지키도록 순차 처리 (먼저 나온 행이 등록됨)
+        List<ParsedRow> accepted = new ArrayList<>(parsedRows.size());
+        for (ParsedRow parsed : parsedRows) {
+            if (parsed.error != null) {
+                result.addError(parsed.row, parsed.request != null ? parsed.request.getName() : null, parsed.error);
+            } else if (!names.add(parsed.request.getName())) {
+                result.addError(parsed.row, parsed.request.getName(), "이미 존재하는 상품명입니다");
+            } else {
+                accepted.add(parsed);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            insertRows(accepted, names, result);
+        }
+    }
+
+    private ParsedRow parseAndValidate(RawRow raw, Format format, Map<String, Integer> columns, Set<Long> categoryIds) {
+        ProductCreateRequest request;
+        try {
+            request = format == Format.CSV
+                    ? parseCsvRow(raw.line, columns)
+                    : objectMapper.readValue(raw.line, ProductCreateRequest.class);
+        } catch (Exception e) {
+            return new ParsedRow(raw.row, null, "행을 해석할 수 없습니다: " + e.getMessage());
+        }
+
+        Set<ConstraintViolation<ProductCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            return new ParsedRow(raw.row, request, message);
+        }
+        if (!categoryIds.contains(request.getCategoryId())) {
+            return new ParsedRow(raw.row, request, "존재하지 않는 카테고리입니다");
+        }
+        return new ParsedRow(raw.row, request, null);
+    }
+
+    private void insertRows(List<ParsedRow> rows, Set<String> names, ImportResult result) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = rows.stream()
+                .map(row -> toInsertArgs(row.request, now))
+                .collect(Collectors.toList());
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs));
+            result.importedCount += rows.size();
+            return;
+        } catch (Exception e) {
+            log.warn("상품 배치 등록 실패, 한 건씩 재시도: rows={}, error={}", rows.size(), e.getMessage());
+        }
+
+        for (int i = 0; i < rows.size(); i++) {
+            ParsedRow row = rows.get(i);
+            Object[] args = batchArgs.get(i);
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL, args));
+                result.importedCount++;
+            } catch (Exception e) {
+                names.remove(row.request.getName());
+                result.addError(row.row, row.request.getName(), "저장 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    private Object[] toInsertArgs(ProductCreateRequest request, Timestamp now) {
+        return new Object[]{
+                request.getName(),
+                request.getDescription(),
+                request.getPrice(),
+                request.getStock() != null ? request.getStock() : 0,
+                request.getImageUrl(),
+                LIST_CONVERTER.convertToDatabaseColumn(request.getDetailImageUrls()),
+                request.getCategoryId(),
+                InventoryService.initialStatus(request.getStock()).name(),
+                Boolean.TRUE.equals(request.getIsFeatured()),
+                LIST_CONVERTER.convertToDatabaseColumn(StringListConverter.splitCommaSeparated(request.getTags())),
+                request.getLowStockThreshold(),
+                now,
+                now
+        };
+    }
+
+    /**
+     * 등록된 상품의 변경 이벤트 발행 (색인/캐시 반영은 ProductIndexUpdater에서 처리)
+     */
+    private void refreshIndexes(Long lastIdBeforeImport) {
+        Long lastId = lastIdBeforeImport;
+        while (true) {
+            List<Product> products = productRepository.findByIdGreaterThanOrderByIdAsc(
+                    lastId, PageRequest.of(0, REINDEX_PAGE_SIZE));
+            if (products.isEmpty()) {
+                break;
+            }
+            products.forEach(inventoryService::registerInitialStock);
+            eventPublisher.publishEvent(new ProductChangedEvent(
+                    products.stream().map(Product::getId).collect(Collectors.toList()), true));
+            lastId = products.get(products.size() - 1).getId();
+        }
+    }
+
+    // ===== CSV =====
+
+    private Map<String, Integer> parseHeader(String header) {
+        List<String> names = parseCsvLine(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        if (!columns.containsKey("name") || !columns.containsKey("price") || !columns.containsKey("categoryId")) {
+            throw new CustomException("CSV 헤더에 name, price, categoryId 컬럼이 필요합니다");
+        }
+        return columns;
+    }
+
+    private ProductCreateRequest parseCsvRow(String line, Map<String, Integer> columns) {
+        List<String> fields = parseCsvLine(line);
+
+        ProductCreateRequest request = new ProductCreateRequest();
+        request.setName(field(fields, columns, "name"));
+        request.setDescription(field(fields, columns, "description"));
+        request.setPrice(parseInteger(field(fields, columns, "price"), "price"));
+        request.setStock(parseInteger(field(fields, columns, "stock"), "stock"));
+        request.setCategoryId(parseLong(field(fields, columns, "categoryId"), "categoryId"));
+        request.setImageUrl(field(fields, columns, "imageUrl"));
+        request.setIsFeatured(Boolean.parseBoolean(field(fields, columns, "isFeatured")));
+        request.setTags(field(fields, columns, "tags"));
+        request.setLowStockThreshold(parseInteger(field(fields, columns, "lowStockThreshold"), "lowStockThreshold"));
+
+        String detailImageUrls = field(fields, columns, "detailImageUrls");
+        if (detailImageUrls != null) {
+            request.setDetailImageUrls(Arrays.stream(detailImageUrls.split(DETAIL_IMAGE_SEPARATOR))
+                    .map(String::trim)
+                    .filter(StringUtils::hasText)
+                    .collect(Collectors.toList()));
+        }
+        return request;
+    }
+
+    private String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Integer parseInteger(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private Long parseLong(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    /**
+     * CSV 한 줄 파싱 (RFC 4180: 따옴표 필드, "" 이스케이프)
+     */
+    private List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static class RawRow {
+        private final int row;
+        private final String line;
+
+        RawRow(int row, String line) {
+            this.row = row;
+            this.line = line;
+        }
+    }
+
+    private static class ParsedRow {
+        private final int row;
+        private final ProductCreateRequest request;
+        private final String error;
+
+        ParsedRow(int row, ProductCreateRequest request, String error) {
+            this.row = row;
+            this.request = request;
+            this.error = error;
+        }
+    }
+
+    private static class ImportResult {
+        private int totalRows;
+        private int importedCount;
+        private int failedCount;
+        private final List<ProductImportResponse.RowError> errors = new ArrayList<>();
+
+        void addError(int row, String name, String message) {
+            failedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(ProductImportResponse.RowError.builder()
+                        .row(row)
+                        .name(name)
+                        .message(message)
+                        .build());
+            }
+        }
+    }
+}
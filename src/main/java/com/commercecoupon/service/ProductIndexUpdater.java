@@ -0,0 +1,83 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.event.ProductChangedEvent;
+import com.commercecoupon.event.StockChangedEvent;
+import com.commercecoupon.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 상품 변경을 인메모리 색인과 카탈로그 캐시에 반영하는 커밋 후 리스너
+ *
+ * - 트랜잭션이 커밋된 뒤에만 반영하므로 롤백된 변경이 색인에 남지 않음
+ * - 색인 값은 이벤트에 담긴 값이 아니라 커밋된 상품을 다시 읽어서 만듦
+ * - 커밋 후 콜백 안에서는 새 트랜잭션 동기화가 실행되지 않으므로 색인/캐시를 즉시 갱신하는 메서드만 호출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductIndexUpdater {
+
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final ProductSearchEngine productSearchEngine;
+    private final ProductRankingIndex productRankingIndex;
+    private final ProductFacetEngine productFacetEngine;
+    private final LowStockIndex lowStockIndex;
+    private final ProductCatalogCache productCatalogCache;
+
+    /**
+     * 상품 등록/수정/상태 변경/예약 적용 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        List<Long> productIds = event.getProductIds();
+        for (int from = 0; from < productIds.size(); from += LOAD_BATCH_SIZE) {
+            List<Long> chunk = productIds.subList(from, Math.min(from + LOAD_BATCH_SIZE, productIds.size()));
+            for (Product product : productRepository.findAllById(chunk)) {
+                if (event.isTextChanged()) {
+                    productSearchEngine.index(product);
+                } else {
+                    productSearchEngine.updateAttributes(product);
+                }
+                productRankingIndex.update(product);
+                productFacetEngine.update(product);
+                lowStockIndex.update(product);
+                productCatalogCache.invalidate(product.getId(), true);
+            }
+        }
+    }
+
+    /**
+     * 재고 변경 반영 (검색/패싯 필터, 판매 랭킹, 재고 부족 색인, 카탈로그 캐시)
+     * 주문 차감은 판매로, 주문 취소는 판매 취소로 랭킹에 반영하며,
+     * 상품 등록의 초기 재고는 ProductChangedEvent에서 함께 반영됩니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        if (event.getReason() == StockChangedEvent.Reason.INITIAL) {
+            return;
+        }
+        productRepository.findById(event.getProductId()).ifPresentOrElse(product -> {
+            productSearchEngine.updateAttributes(product);
+            if (event.getReason() == StockChangedEvent.Reason.ORDER) {
+                productRankingIndex.recordSale(product, event.getQuantity(), event.getSoldAt());
+            } else if (event.getReason() == StockChangedEvent.Reason.ORDER_CANCEL) {
+                productRankingIndex.reverseSale(product, event.getQuantity(), event.getSoldAt());
+            } else {
+                productRankingIndex.update(product);
+            }
+            productFacetEngine.update(product);
+            lowStockIndex.update(product);
+            // 재고 수량만 바뀐 경우는 목록 노출이 그대로이므로 목록 스냅샷을 유지 (수량은 목록 TTL로 갱신)
+            productCatalogCache.invalidate(product.getId(), event.isAvailabilityChanged());
+        }, () -> log.warn("재고 변경 상품을 찾을 수 없습니다: productId={}", event.getProductId()));
+    }
+}
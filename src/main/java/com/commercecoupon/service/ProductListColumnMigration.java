@@ -0,0 +1,151 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.entity.converter.StringListConverter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 상세 이미지/태그 컬럼 마이그레이션 (콤마 구분 문자열 -> JSON 배열)
+ *
+ * - 한 번 끝까지 성공하면 app_migrations에 완료를 기록하고, 이후 시작에서는 테이블을 다시 읽지 않음
+ * - ID 기준 키셋 페이징으로 값이 있는 행을 batchSize 건씩 읽고, JSON 배열로 파싱되지 않는 컬럼만 JDBC 배치 UPDATE
+ *   ("[특가],신상"처럼 대괄호로 시작하는 콤마 구분 값이 있으므로 SQL 패턴이 아니라 실제 파싱으로 판단)
+ * - UPDATE는 읽은 값이 그대로일 때만 바꾸므로 (WHERE 컬럼 = 기존 값) 그사이 수정된 상품을 덮어쓰지 않음
+ * - 배치가 실패하면 해당 묶음만 한 건씩 다시 시도하고, 실패한 행은 기존 값으로 남김 (완료 기록 없이 다음 시작에 재시도)
+ * 변환 전 값도 StringListConverter가 읽을 수 있으므로 마이그레이션 도중에도 서비스가 가능합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductListColumnMigration {
+
+    private static final String MIGRATION_NAME = "product-list-columns-json";
+    private static final String CREATE_MIGRATIONS_SQL = "CREATE TABLE IF NOT EXISTS app_migrations (" +
+            "name VARCHAR(100) PRIMARY KEY, completed_at TIMESTAMP NOT NULL)";
+    private static final String SELECT_COMPLETED_SQL = "SELECT COUNT(*) FROM app_migrations WHERE name = ?";
+    private static final String INSERT_COMPLETED_SQL = "INSERT INTO app_migrations (name, completed_at) VALUES (?, ?)";
+    private static final String SELECT_SQL = "SELECT id, detail_image_urls, tags FROM products " +
+            "WHERE id > ? AND (detail_image_urls IS NOT NULL OR tags IS NOT NULL) ORDER BY id LIMIT ?";
+    private static final String UPDATE_DETAIL_IMAGE_URLS_SQL =
+            "UPDATE products SET detail_image_urls = ? WHERE id = ? AND detail_image_urls = ?";
+    private static final String UPDATE_TAGS_SQL = "UPDATE products SET tags = ? WHERE id = ? AND tags = ?";
+    private static final StringListConverter LIST_CONVERTER = new StringListConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${product.list-migration.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 애플리케이션 시작 시 실행 (검색 색인 등 다른 초기화보다 먼저, 완료 기록이 있으면 건너뜀)
+     */
+    @Order(-1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        jdbcTemplate.execute(CREATE_MIGRATIONS_SQL);
+        Integer completed = jdbcTemplate.queryForObject(SELECT_COMPLETED_SQL, Integer.class, MIGRATION_NAME);
+        if (completed != null && completed > 0) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        long lastId = 0L;
+        int migrated = 0;
+        int failed = 0;
+
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_SQL, lastId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            lastId = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+
+            List<Object[]> detailImageUpdates = new ArrayList<>();
+            List<Object[]> tagUpdates = new ArrayList<>();
+            for (Map<String, Object> row : rows) {
+                String detailImageUrls = (String) row.get("detail_image_urls");
+                String tags = (String) row.get("tags");
+                if (isLegacy(detailImageUrls)) {
+                    detailImageUpdates.add(new Object[]{toJson(detailImageUrls), row.get("id"), detailImageUrls});
+                }
+                if (isLegacy(tags)) {
+                    tagUpdates.add(new Object[]{toJson(tags), row.get("id"), tags});
+                }
+            }
+
+            int[] detailImageResult = update(UPDATE_DETAIL_IMAGE_URLS_SQL, detailImageUpdates);
+            int[] tagResult = update(UPDATE_TAGS_SQL, tagUpdates);
+            migrated += detailImageResult[0] + tagResult[0];
+            failed += detailImageResult[1] + tagResult[1];
+        }
+
+        if (failed == 0) {
+            jdbcTemplate.update(INSERT_COMPLETED_SQL, MIGRATION_NAME, Timestamp.valueOf(LocalDateTime.now()));
+        }
+        log.info("상품 이미지/태그 컬럼 마이그레이션 {}: migrated={}, failed={}, elapsed={}ms",
+                failed == 0 ? "완료" : "일부 실패 (다음 시작에 재시도)", migrated, failed,
+                System.currentTimeMillis() - startTime);
+    }
+
+    // ===== Private Methods =====
+
+    /**
+     * 배치 UPDATE (실패하면 한 건씩 재시도)
+     *
+     * @return [바뀐 컬럼 수, 실패 수] (그사이 값이 바뀌어 건너뛴 행은 어느 쪽에도 세지 않음)
+     */
+    private int[] update(String sql, List<Object[]> updates) {
+        if (updates.isEmpty()) {
+            return new int[]{0, 0};
+        }
+        try {
+            int[] counts = jdbcTemplate.batchUpdate(sql, updates);
+            return new int[]{countUpdated(counts), 0};
+        } catch (Exception e) {
+            log.warn("마이그레이션 배치 실패, 한 건씩 재시도: size={}, error={}", updates.size(), e.getMessage());
+        }
+
+        int updated = 0;
+        int failed = 0;
+        for (Object[] args : updates) {
+            try {
+                updated += jdbcTemplate.update(sql, args);
+            } catch (Exception e) {
+                // 컬럼 길이 초과 등 - 기존 콤마 구분 값으로 남겨둠
+                failed++;
+                log.warn("상품 이미지/태그 마이그레이션 실패: productId={}, error={}", args[1], e.getMessage());
+            }
+        }
+        return new int[]{updated, failed};
+    }
+
+    private int countUpdated(int[] counts) {
+        int updated = 0;
+        for (int count : counts) {
+            // 드라이버가 건수를 알려주지 않는 경우(SUCCESS_NO_INFO)는 바뀐 것으로 셈
+            updated += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(0, count);
+        }
+        return updated;
+    }
+
+    private boolean isLegacy(String column) {
+        return column != null && !column.isBlank() && !StringListConverter.isJsonArray(column);
+    }
+
+    private String toJson(String column) {
+        return LIST_CONVERTER.convertToDatabaseColumn(StringListConverter.splitCommaSeparated(column));
+    }
+}
@@ -0,0 +1,343 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.enums.OrderStatus;
+import com.commercecoupon.enums.PaymentStatus;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.repository.OrderItemRepository;
+import com.commercecoupon.repository.ProductRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 인기/최신 상품 랭킹 (인메모리)
+ *
+ * - 판매 상품(ACTIVE)만 전체/카테고리별 skip-list에 정렬 상태로 유지하므로 Top-K는 앞에서 K개만 읽음
+ * - 판매/상품 변경 시 기존 항목을 제거하고 새 값으로 다시 넣어 갱신
+ * - 기간별(24시간/7일) 판매 랭킹은 1시간 단위 버킷 168개의 링 버퍼로 집계하고,
+ *   정렬 결과는 최대 1분간 재사용
+ * - 판매/판매 취소는 주문이 커밋된 뒤 ProductIndexUpdater에서 반영하며, 취소는 원래 판매 시간 버킷에서 차감
+ * - 재구성은 시작 시각 이전 판매만 DB에서 읽고, 재구성 도중 커밋된 상품 변경/판매는 덮어쓰거나 중복 집계하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRankingIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final int BUCKET_COUNT = 24 * 7;
+    private static final long WINDOW_REFRESH_MILLIS = 60_000;
+    // 재구성 시 판매로 세지 않는 주문/결제 상태 (취소, 환불, 부분 환불)
+    private static final Set<OrderStatus> EXCLUDED_ORDER_STATUSES =
+            EnumSet.of(OrderStatus.CANCELLED, OrderStatus.REFUNDED);
+    private static final Set<PaymentStatus> EXCLUDED_PAYMENT_STATUSES =
+            EnumSet.of(PaymentStatus.REFUNDED, PaymentStatus.PARTIAL_REFUNDED);
+
+    /**
+     * 기간별 판매 랭킹 구간
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Period {
+        DAY("24h", 24),
+        WEEK("7d", 24 * 7);
+
+        private final String code;
+        private final int hours;
+
+        public static Period fromCode(String code) {
+            for (Period period : values()) {
+                if (period.code.equalsIgnoreCase(code)) {
+                    return period;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final Comparator<RankEntry> BY_SALES = Comparator
+            .comparingInt((RankEntry e) -> e.salesCount).reversed()
+            .thenComparing(Comparator.comparingLong((RankEntry e) -> e.productId).reversed());
+
+    private static final Comparator<RankEntry> BY_LATEST = Comparator
+            .comparing((RankEntry e) -> e.createdAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(Comparator.comparingLong((RankEntry e) -> e.productId).reversed());
+
+    private final ProductRepository productRepository;
+    private final OrderItemRepository orderItemRepository;
+
+    private final Map<Long, RankEntry> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<RankEntry> bySales = new ConcurrentSkipListSet<>(BY_SALES);
+    private final NavigableSet<RankEntry> byLatest = new ConcurrentSkipListSet<>(BY_LATEST);
+    private final Map<Long, NavigableSet<RankEntry>> bySalesInCategory = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableSet<RankEntry>> byLatestInCategory = new ConcurrentHashMap<>();
+
+    // 시간 단위 판매 버킷 (인덱스 = epochHour % BUCKET_COUNT)
+    private final SalesBucket[] buckets = new SalesBucket[BUCKET_COUNT];
+    private final Map<Period, WindowRanking> windowRankings = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+    // 재구성에서 DB로 집계하는 판매의 상한 (이후 판매는 이벤트로만 집계)
+    private volatile LocalDateTime salesCutoff;
+
+    /**
+     * 애플리케이션 시작 후 상품 및 최근 7일 판매 내역으로 랭킹 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now();
+        salesCutoff = cutoff;
+        Long lastId = 0L;
+
+        while (true) {
+            List<Product> products = productRepository.findByIdGreaterThanOrderByIdAsc(
+                    lastId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            if (products.isEmpty()) {
+                break;
+            }
+            synchronized (this) {
+                // 재구성 도중 커밋된 변경으로 이미 갱신된 상품은 스캔 값으로 덮어쓰지 않음
+                for (Product product : products) {
+                    if (!entries.containsKey(product.getId())) {
+                        update(product);
+                    }
+                }
+            }
+            lastId = products.get(products.size() - 1).getId();
+        }
+
+        List<Object[]> sales = orderItemRepository.findSalesBetween(
+                cutoff.minusHours(BUCKET_COUNT), cutoff, EXCLUDED_ORDER_STATUSES, EXCLUDED_PAYMENT_STATUSES);
+        synchronized (this) {
+            for (Object[] row : sales) {
+                addToBucket((Long) row[0], ((Number) row[1]).intValue(), toEpochHour((LocalDateTime) row[2]));
+            }
+        }
+
+        ready = true;
+        log.info("상품 랭킹 구성 완료: products={}, recentSales={}, elapsed={}ms",
+                bySales.size(), sales.size(), System.currentTimeMillis() - startTime);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 상품 생성/수정/상태 변경 반영
+     */
+    public synchronized void update(Product product) {
+        Long categoryId = product.getCategory() != null ? product.getCategory().getId() : null;
+        replace(new RankEntry(product.getId(), categoryId, product.getSalesCount(),
+                product.getCreatedAt(), product.getStatus() == ProductStatus.ACTIVE));
+    }
+
+    /**
+     * 커밋된 판매 반영 (판매수가 증가된 상품 + 판매 시간 버킷)
+     */
+    public synchronized void recordSale(Product product, int quantity, LocalDateTime soldAt) {
+        update(product);
+        if (isCountedByEvent(soldAt)) {
+            addToBucket(product.getId(), quantity, toEpochHour(soldAt));
+        }
+    }
+
+    /**
+     * 커밋된 주문 취소 반영 (판매수가 감소된 상품 + 원래 판매 시간 버킷에서 차감)
+     */
+    public synchronized void reverseSale(Product product, int quantity, LocalDateTime soldAt) {
+        update(product);
+        if (isCountedByEvent(soldAt)) {
+            addToBucket(product.getId(), -quantity, toEpochHour(soldAt));
+        }
+    }
+
+    /**
+     * 누적 판매량 Top-K
+     */
+    public long[] topSelling(Long categoryId, int limit) {
+        NavigableSet<RankEntry> ranking = categoryId == null ? bySales : bySalesInCategory.get(categoryId);
+        return head(ranking, limit);
+    }
+
+    /**
+     * 최신 등록 Top-K
+     */
+    public long[] latest(Long categoryId, int limit) {
+        NavigableSet<RankEntry> ranking = categoryId == null ? byLatest : byLatestInCategory.get(categoryId);
+        return head(ranking, limit);
+    }
+
+    /**
+     * 기간 내 판매량 Top-K
+     */
+    public long[] topSellingWithin(Period period, Long categoryId, int limit) {
+        WindowRanking ranking = windowRankings.get(period);
+        long now = System.currentTimeMillis();
+        if (ranking == null || now - ranking.computedAt > WINDOW_REFRESH_MILLIS) {
+            ranking = new WindowRanking(now, computeWindow(period));
+            windowRankings.put(period, ranking);
+        }
+
+        long[] result = new long[Math.min(limit, ranking.productIds.length)];
+        int count = 0;
+        for (long productId : ranking.productIds) {
+            if (count == result.length) {
+                break;
+            }
+            RankEntry entry = entries.get(productId);
+            if (entry == null || !entry.active) {
+                continue;
+            }
+            if (categoryId == null || categoryId.equals(entry.categoryId)) {
+                result[count++] = productId;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    // ===== Private Methods =====
+
+    private void replace(RankEntry entry) {
+        RankEntry previous = entries.put(entry.productId, entry);
+        if (previous != null && previous.active) {
+            bySales.remove(previous);
+            byLatest.remove(previous);
+            if (previous.categoryId != null) {
+                bySalesInCategory.get(previous.categoryId).remove(previous);
+                byLatestInCategory.get(previous.categoryId).remove(previous);
+            }
+        }
+
+        if (!entry.active) {
+            return;
+        }
+        bySales.add(entry);
+        byLatest.add(entry);
+        if (entry.categoryId != null) {
+            bySalesInCategory.computeIfAbsent(entry.categoryId, id -> new ConcurrentSkipListSet<>(BY_SALES)).add(entry);
+            byLatestInCategory.computeIfAbsent(entry.categoryId, id -> new ConcurrentSkipListSet<>(BY_LATEST)).add(entry);
+        }
+    }
+
+    private long[] head(NavigableSet<RankEntry> ranking, int limit) {
+        if (ranking == null) {
+            return new long[0];
+        }
+        long[] result = new long[limit];
+        int count = 0;
+        Iterator<RankEntry> iterator = ranking.iterator();
+        while (count < limit && iterator.hasNext()) {
+            result[count++] = iterator.next().productId;
+        }
+        return count == limit ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 재구성 전이거나 재구성이 DB에서 집계한 구간 이후의 판매만 이벤트로 집계
+     * (재구성 도중 도착한 이벤트 중 상한 이전 판매는 DB 조회에 포함됨)
+     */
+    private boolean isCountedByEvent(LocalDateTime soldAt) {
+        if (soldAt == null) {
+            return false;
+        }
+        LocalDateTime cutoff = salesCutoff;
+        return ready || cutoff == null || !soldAt.isBefore(cutoff);
+    }
+
+    private void addToBucket(Long productId, int quantity, long epochHour) {
+        int index = (int) (epochHour % BUCKET_COUNT);
+        SalesBucket bucket = buckets[index];
+        if (bucket == null || bucket.epochHour != epochHour) {
+            if (quantity < 0 || (bucket != null && bucket.epochHour > epochHour)) {
+                return; // 이미 지난 구간 (취소할 판매도 남아있지 않음)
+            }
+            bucket = new SalesBucket(epochHour);
+            buckets[index] = bucket;
+        }
+        Integer total = bucket.quantities.merge(productId, quantity, Integer::sum);
+        if (total != null && total <= 0) {
+            bucket.quantities.remove(productId);
+        }
+    }
+
+    private synchronized long[] computeWindow(Period period) {
+        long currentHour = toEpochHour(LocalDateTime.now());
+        Map<Long, Integer> totals = new HashMap<>();
+        for (SalesBucket bucket : buckets) {
+            if (bucket != null && bucket.epochHour > currentHour - period.getHours()) {
+                bucket.quantities.forEach((productId, quantity) -> totals.merge(productId, quantity, Integer::sum));
+            }
+        }
+
+        List<Map.Entry<Long, Integer>> sorted = new ArrayList<>(totals.entrySet());
+        sorted.sort(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.<Long, Integer>comparingByKey().reversed()));
+
+        long[] productIds = new long[sorted.size()];
+        for (int i = 0; i < productIds.length; i++) {
+            productIds[i] = sorted.get(i).getKey();
+        }
+        return productIds;
+    }
+
+    private long toEpochHour(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond() / 3600;
+    }
+
+    private static class RankEntry {
+        private final long productId;
+        private final Long categoryId;
+        private final int salesCount;
+        private final LocalDateTime createdAt;
+        private final boolean active;
+
+        RankEntry(long productId, Long categoryId, Integer salesCount, LocalDateTime createdAt, boolean active) {
+            this.productId = productId;
+            this.categoryId = categoryId;
+            this.salesCount = salesCount != null ? salesCount : 0;
+            this.createdAt = createdAt;
+            this.active = active;
+        }
+    }
+
+    private static class SalesBucket {
+        private final long epochHour;
+        private final Map<Long, Integer> quantities = new HashMap<>();
+
+        SalesBucket(long epochHour) {
+            this.epochHour = epochHour;
+        }
+    }
+
+    private static class WindowRanking {
+        private final long computedAt;
+        private final long[] productIds;
+
+        WindowRanking(long computedAt, long[] productIds) {
+            this.computedAt = computedAt;
+            this.productIds = productIds;
+        }
+    }
+}
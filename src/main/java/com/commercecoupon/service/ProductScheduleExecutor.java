@@ -0,0 +1,357 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.config.ProductScheduleConfig;
+import com.commercecoupon.entity.ProductSchedule;
+import com.commercecoupon.enums.ProductScheduleStatus;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.event.ProductChangedEvent;
+import com.commercecoupon.repository.ProductRepository;
+import com.commercecoupon.repository.ProductScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 가격/상태 예약 변경 실행기
+ *
+ * - 대기/적용중 예약을 시작 시 타이머 휠에 적재하고, 이후 등록되는 예약은 커밋 후 추가
+ * - 틱마다 만료된 시작/종료 이벤트를 모아 batchSize 단위 트랜잭션에서 JDBC 배치 UPDATE로 적용
+ * - 종료 시에는 상품의 가격/상태가 예약 값 그대로일 때만 원래 값으로 복원 (그 사이 관리자가 바꾼 값은 유지)
+ * - 적용 후 변경된 상품 ID로 ProductChangedEvent를 한 번 발행 (색인/캐시는 ProductIndexUpdater에서 반영)
+ * 예약 취소는 커밋 후 휠에서 시작 이벤트를 빼며, 그 전에 만료된 이벤트는 실행 시점에 상태를 확인해 건너뜁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductScheduleExecutor {
+
+    private static final String START_SCHEDULE_SQL = "UPDATE product_schedules " +
+            "SET status = 'ACTIVE', original_price = ?, original_status = ?, updated_at = ? " +
+            "WHERE id = ? AND status = 'PENDING'";
+    private static final String SKIP_SCHEDULE_SQL = "UPDATE product_schedules " +
+            "SET status = 'COMPLETED', updated_at = ? WHERE id = ? AND status = 'PENDING'";
+    private static final String COMPLETE_SCHEDULE_SQL = "UPDATE product_schedules " +
+            "SET status = 'COMPLETED', updated_at = ? WHERE id = ? AND status = 'ACTIVE'";
+    private static final String APPLY_PRICE_SQL = "UPDATE products SET price = ?, updated_at = ? WHERE id = ?";
+    private static final String APPLY_STATUS_SQL = "UPDATE products SET status = ?, updated_at = ? WHERE id = ?";
+    private static final String RESTORE_PRICE_SQL = "UPDATE products SET price = ?, updated_at = ? " +
+            "WHERE id = ? AND price = ?";
+    private static final String RESTORE_STATUS_SQL = "UPDATE products SET status = ?, updated_at = ? " +
+            "WHERE id = ? AND status = ?";
+
+    private final ProductScheduleConfig scheduleConfig;
+    private final ProductScheduleRepository productScheduleRepository;
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private TimerWheel<ScheduleEvent> wheel;
+    // 휠에 남아 있는 예약별 시작 이벤트 (취소 시 제거용)
+    private final Map<Long, TimerWheel.Timeout<ScheduleEvent>> pendingStarts = new HashMap<>();
+    private volatile boolean ready = false;
+
+    /**
+     * 애플리케이션 시작 후 대기/적용중 예약을 타이머 휠에 적재 (지난 시각은 다음 틱에 바로 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        synchronized (this) {
+            wheel = new TimerWheel<>(scheduleConfig.getTickMs(), System.currentTimeMillis());
+        }
+
+        List<ProductSchedule> schedules = productScheduleRepository.findByStatusIn(
+                List.of(ProductScheduleStatus.PENDING, ProductScheduleStatus.ACTIVE));
+        schedules.forEach(this::addToWheel);
+
+        ready = true;
+        log.info("상품 예약 변경 적재 완료: schedules={}", schedules.size());
+    }
+
+    /**
+     * 신규 예약 등록 (트랜잭션 안이면 커밋 후 등록)
+     */
+    public void register(ProductSchedule schedule) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addToWheel(schedule);
+                }
+            });
+            return;
+        }
+        addToWheel(schedule);
+    }
+
+    /**
+     * 취소된 예약의 시작 이벤트 제거 (트랜잭션 안이면 커밋 후 제거)
+     */
+    public void unregister(Long scheduleId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeFromWheel(scheduleId);
+                }
+            });
+            return;
+        }
+        removeFromWheel(scheduleId);
+    }
+
+    /**
+     * 틱 처리 - 만료된 시작/종료 이벤트를 묶어서 적용
+     */
+    @Scheduled(fixedDelayString = "${product.schedule.tick-ms:1000}")
+    public void tick() {
+        if (!ready) {
+            return;
+        }
+
+        List<ScheduleEvent> events = advanceWheel(System.currentTimeMillis());
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<Long> startIds = new ArrayList<>();
+        List<Long> endIds = new ArrayList<>();
+        for (ScheduleEvent event : events) {
+            (event.start ? startIds : endIds).add(event.scheduleId);
+        }
+
+        long startTime = System.currentTimeMillis();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Set<Long> changedProductIds = new LinkedHashSet<>();
+        int applied = 0;
+
+        // 같은 틱에 끝나는 예약을 먼저 복원해야 이어지는 예약의 원래 값이 올바르게 기록됨
+        for (List<Long> chunk : partition(endIds)) {
+            try {
+                List<ProductSchedule> ended = transactionTemplate.execute(status -> applyEnds(chunk));
+                ended.forEach(schedule -> changedProductIds.add(schedule.getProduct().getId()));
+                applied += ended.size();
+            } catch (Exception e) {
+                log.error("상품 예약 종료 처리 실패, 다음 틱에 재시도: size={}, error={}", chunk.size(), e.getMessage(), e);
+                retry(chunk, false);
+            }
+        }
+
+        for (List<Long> chunk : partition(startIds)) {
+            try {
+                List<ProductSchedule> started = transactionTemplate.execute(status -> applyStarts(chunk));
+                for (ProductSchedule schedule : started) {
+                    changedProductIds.add(schedule.getProduct().getId());
+                    if (schedule.getEndAt() != null) {
+                        addToWheel(new ScheduleEvent(schedule.getId(), false), schedule.getEndAt());
+                    }
+                }
+                applied += started.size();
+            } catch (Exception e) {
+                log.error("상품 예약 시작 처리 실패, 다음 틱에 재시도: size={}, error={}", chunk.size(), e.getMessage(), e);
+                retry(chunk, true);
+            }
+        }
+
+        if (!changedProductIds.isEmpty()) {
+            refreshIndexes(changedProductIds);
+        }
+        log.info("상품 예약 변경 적용: events={}, applied={}, products={}, elapsed={}ms",
+                events.size(), applied, changedProductIds.size(), System.currentTimeMillis() - startTime);
+    }
+
+    // ===== Private Methods =====
+
+    private List<ProductSchedule> applyStarts(List<Long> scheduleIds) {
+        List<ProductSchedule> schedules = productScheduleRepository.findAllById(scheduleIds).stream()
+                .filter(schedule -> schedule.getStatus() == ProductScheduleStatus.PENDING)
+                .collect(Collectors.toList());
+        if (schedules.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Object[]> currentValues = new HashMap<>();
+        for (Object[] row : productRepository.findPriceStatusRows(schedules.stream()
+                .map(schedule -> schedule.getProduct().getId())
+                .collect(Collectors.toSet()))) {
+            currentValues.put((Long) row[0], row);
+        }
+
+        LocalDateTime nowDateTime = LocalDateTime.now();
+        Timestamp now = Timestamp.valueOf(nowDateTime);
+        List<ProductSchedule> candidates = new ArrayList<>();
+        List<Object[]> scheduleArgs = new ArrayList<>();
+        List<Object[]> skipArgs = new ArrayList<>();
+        for (ProductSchedule schedule : schedules) {
+            Object[] current = currentValues.get(schedule.getProduct().getId());
+            if (current == null) {
+                continue;
+            }
+            // 서버가 내려가 있는 동안 기간이 모두 지난 예약은 적용하지 않고 완료 처리
+            if (schedule.getEndAt() != null && !schedule.getEndAt().isAfter(nowDateTime)) {
+                skipArgs.add(new Object[]{now, schedule.getId()});
+                continue;
+            }
+            ProductStatus currentStatus = (ProductStatus) current[2];
+            candidates.add(schedule);
+            scheduleArgs.add(new Object[]{current[1], currentStatus != null ? currentStatus.name() : null,
+                    now, schedule.getId()});
+        }
+
+        batchUpdate(SKIP_SCHEDULE_SQL, skipArgs);
+
+        // 시작 처리 직전에 취소된 예약은 상태 조건에 걸려 갱신되지 않음
+        int[] updated = jdbcTemplate.batchUpdate(START_SCHEDULE_SQL, scheduleArgs);
+
+        List<ProductSchedule> started = new ArrayList<>();
+        List<Object[]> priceArgs = new ArrayList<>();
+        List<Object[]> statusArgs = new ArrayList<>();
+        List<Object[]> completeArgs = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (updated[i] == 0) {
+                continue;
+            }
+            ProductSchedule schedule = candidates.get(i);
+            Long productId = schedule.getProduct().getId();
+            if (schedule.getSalePrice() != null) {
+                priceArgs.add(new Object[]{schedule.getSalePrice(), now, productId});
+            }
+            if (schedule.getTargetStatus() != null) {
+                statusArgs.add(new Object[]{schedule.getTargetStatus().name(), now, productId});
+            }
+            // 종료 시각이 없으면 복원할 일이 없으므로 바로 완료 처리
+            if (schedule.getEndAt() == null) {
+                completeArgs.add(new Object[]{now, schedule.getId()});
+            }
+            started.add(schedule);
+        }
+
+        batchUpdate(APPLY_PRICE_SQL, priceArgs);
+        batchUpdate(APPLY_STATUS_SQL, statusArgs);
+        batchUpdate(COMPLETE_SCHEDULE_SQL, completeArgs);
+        return started;
+    }
+
+    private List<ProductSchedule> applyEnds(List<Long> scheduleIds) {
+        List<ProductSchedule> schedules = productScheduleRepository.findAllById(scheduleIds).stream()
+                .filter(schedule -> schedule.getStatus() == ProductScheduleStatus.ACTIVE)
+                .collect(Collectors.toList());
+        if (schedules.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<ProductSchedule> ended = new ArrayList<>();
+        List<Object[]> priceArgs = new ArrayList<>();
+        List<Object[]> statusArgs = new ArrayList<>();
+        List<Object[]> completeArgs = new ArrayList<>();
+        for (ProductSchedule schedule : schedules) {
+            Long productId = schedule.getProduct().getId();
+            if (schedule.getSalePrice() != null && schedule.getOriginalPrice() != null) {
+                priceArgs.add(new Object[]{schedule.getOriginalPrice(), now, productId, schedule.getSalePrice()});
+            }
+            if (schedule.getTargetStatus() != null && schedule.getOriginalStatus() != null) {
+                statusArgs.add(new Object[]{schedule.getOriginalStatus().name(), now, productId,
+                        schedule.getTargetStatus().name()});
+            }
+            completeArgs.add(new Object[]{now, schedule.getId()});
+            ended.add(schedule);
+        }
+
+        batchUpdate(RESTORE_PRICE_SQL, priceArgs);
+        batchUpdate(RESTORE_STATUS_SQL, statusArgs);
+        batchUpdate(COMPLETE_SCHEDULE_SQL, completeArgs);
+        return ended;
+    }
+
+    private void retry(List<Long> scheduleIds, boolean start) {
+        LocalDateTime now = LocalDateTime.now();
+        scheduleIds.forEach(scheduleId -> addToWheel(new ScheduleEvent(scheduleId, start), now));
+    }
+
+    private void batchUpdate(String sql, List<Object[]> args) {
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, args);
+        }
+    }
+
+    private void refreshIndexes(Set<Long> productIds) {
+        // 예약 적용 트랜잭션은 이미 커밋되었으므로 ProductIndexUpdater가 즉시 반영
+        eventPublisher.publishEvent(new ProductChangedEvent(new ArrayList<>(productIds), false));
+    }
+
+    private List<List<Long>> partition(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        int batchSize = scheduleConfig.getBatchSize();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            chunks.add(ids.subList(from, Math.min(from + batchSize, ids.size())));
+        }
+        return chunks;
+    }
+
+    private void addToWheel(ProductSchedule schedule) {
+        if (schedule.getStatus() == ProductScheduleStatus.PENDING) {
+            addToWheel(new ScheduleEvent(schedule.getId(), true), schedule.getStartAt());
+        } else if (schedule.getStatus() == ProductScheduleStatus.ACTIVE && schedule.getEndAt() != null) {
+            addToWheel(new ScheduleEvent(schedule.getId(), false), schedule.getEndAt());
+        }
+    }
+
+    private synchronized void addToWheel(ScheduleEvent event, LocalDateTime at) {
+        // 시작 전에 등록된 예약은 initialize에서 DB로부터 적재
+        if (wheel != null) {
+            TimerWheel.Timeout<ScheduleEvent> timeout =
+                    wheel.schedule(at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), event);
+            if (event.start) {
+                pendingStarts.put(event.scheduleId, timeout);
+            }
+        }
+    }
+
+    private synchronized void removeFromWheel(Long scheduleId) {
+        TimerWheel.Timeout<ScheduleEvent> timeout = pendingStarts.remove(scheduleId);
+        if (timeout != null) {
+            wheel.cancel(timeout);
+        }
+    }
+
+    private synchronized List<ScheduleEvent> advanceWheel(long nowMillis) {
+        List<ScheduleEvent> events = wheel.advance(nowMillis);
+        for (ScheduleEvent event : events) {
+            if (event.start) {
+                pendingStarts.remove(event.scheduleId);
+            }
+        }
+        return events;
+    }
+
+    private static class ScheduleEvent {
+        private final long scheduleId;
+        private final boolean start;
+
+        ScheduleEvent(long scheduleId, boolean start) {
+            this.scheduleId = scheduleId;
+            this.start = start;
+        }
+    }
+}
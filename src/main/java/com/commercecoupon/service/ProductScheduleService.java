@@ -0,0 +1,125 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.dto.request.ProductScheduleRequest;
+import com.commercecoupon.dto.response.ProductScheduleResponse;
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.entity.ProductSchedule;
+import com.commercecoupon.enums.ProductScheduleStatus;
+import com.commercecoupon.exception.CustomException;
+import com.commercecoupon.exception.ProductNotFoundException;
+import com.commercecoupon.repository.ProductRepository;
+import com.commercecoupon.repository.ProductScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 가격/상태 예약 변경 관리 (관리자용)
+ * 실제 적용은 ProductScheduleExecutor가 예약 시각에 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductScheduleService {
+
+    private final ProductRepository productRepository;
+    private final ProductScheduleRepository productScheduleRepository;
+    private final ProductScheduleExecutor productScheduleExecutor;
+
+    /**
+     * 예약 변경 등록
+     */
+    @Transactional
+    public ProductScheduleResponse createSchedule(Long productId, ProductScheduleRequest request) {
+        log.info("상품 예약 변경 등록: productId={}, startAt={}, endAt={}",
+                productId, request.getStartAt(), request.getEndAt());
+
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+
+        if (request.getSalePrice() == null && request.getTargetStatus() == null) {
+            throw new CustomException("변경할 가격 또는 상태를 지정해야 합니다");
+        }
+        if (request.getEndAt() != null) {
+            if (!request.getEndAt().isAfter(request.getStartAt())) {
+                throw new CustomException("종료 시각은 시작 시각 이후여야 합니다");
+            }
+            if (!request.getEndAt().isAfter(LocalDateTime.now())) {
+                throw new CustomException("이미 종료된 기간입니다");
+            }
+        }
+
+        // 같은 상품의 예약 기간이 겹치면 종료 시 복원할 원래 값이 꼬이므로 허용하지 않음
+        boolean overlapping = request.getEndAt() == null
+                ? productScheduleRepository.existsOverlappingFrom(productId, request.getStartAt())
+                : productScheduleRepository.existsOverlapping(productId, request.getStartAt(), request.getEndAt());
+        if (overlapping) {
+            throw new CustomException("기간이 겹치는 예약 변경이 있습니다");
+        }
+
+        ProductSchedule schedule = ProductSchedule.builder()
+                .product(product)
+                .salePrice(request.getSalePrice())
+                .targetStatus(request.getTargetStatus())
+                .startAt(request.getStartAt())
+                .endAt(request.getEndAt())
+                .status(ProductScheduleStatus.PENDING)
+                .build();
+
+        ProductSchedule savedSchedule = productScheduleRepository.save(schedule);
+        productScheduleExecutor.register(savedSchedule);
+        log.info("상품 예약 변경 등록 완료: scheduleId={}", savedSchedule.getId());
+
+        return convertToResponse(savedSchedule);
+    }
+
+    /**
+     * 상품의 예약 변경 목록
+     */
+    public List<ProductScheduleResponse> getSchedules(Long productId) {
+        return productScheduleRepository.findByProductIdOrderByStartAtDesc(productId).stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 예약 변경 취소 (시작 전만 가능)
+     */
+    @Transactional
+    public void cancelSchedule(Long productId, Long scheduleId) {
+        log.info("상품 예약 변경 취소: productId={}, scheduleId={}", productId, scheduleId);
+
+        ProductSchedule schedule = productScheduleRepository.findById(scheduleId)
+                .filter(s -> s.getProduct().getId().equals(productId))
+                .orElseThrow(() -> new CustomException("예약 변경을 찾을 수 없습니다"));
+
+        if (schedule.getStatus() != ProductScheduleStatus.PENDING
+                || productScheduleRepository.cancelIfPending(scheduleId, LocalDateTime.now()) == 0) {
+            throw new CustomException("시작 전인 예약만 취소할 수 있습니다");
+        }
+        productScheduleExecutor.unregister(scheduleId);
+    }
+
+    // ===== Private Methods =====
+
+    private ProductScheduleResponse convertToResponse(ProductSchedule schedule) {
+        return ProductScheduleResponse.builder()
+                .id(schedule.getId())
+                .productId(schedule.getProduct().getId())
+                .salePrice(schedule.getSalePrice())
+                .targetStatus(schedule.getTargetStatus())
+                .startAt(schedule.getStartAt())
+                .endAt(schedule.getEndAt())
+                .originalPrice(schedule.getOriginalPrice())
+                .originalStatus(schedule.getOriginalStatus())
+                .status(schedule.getStatus())
+                .createdAt(schedule.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,487 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.repository.ProductRepository;
+import com.commercecoupon.repository.ProductSearchCondition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 전문 검색 엔진 (인메모리 역색인 + BM25)
+ *
+ * - 상품마다 내부 문서 번호(docId)를 순차 발급하며, 수정 시에는 새 docId로 다시 색인하고 이전 문서는 삭제 처리
+ * - posting 리스트는 docId 증가분과 tf를 varint로 압축한 byte 배열 (append-only)
+ * - 삭제 처리된 문서가 일정 비율을 넘으면 살아있는 문서만 남기고 docId를 다시 매겨 posting/docFreq를 정리
+ * - 색인 갱신은 ProductIndexUpdater가 트랜잭션 커밋 후에 호출
+ * - 상태/카테고리/추천 여부 필터는 BitSet, 가격 필터는 docId별 int 배열로 처리
+ * - 점수는 필드 가중치(상품명 3, 태그 2, 설명 1)를 적용한 BM25
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchEngine {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int NAME_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int COMPACT_MIN_TOMBSTONES = 1000;
+    private static final double COMPACT_TOMBSTONE_RATIO = 0.25;
+
+    public static final String SORT_RELEVANCE = "relevance";
+
+    private final ProductRepository productRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docIdByProductId = new HashMap<>();
+
+    // docId별 속성 (배열 인덱스 = docId)
+    private long[] productIds = new long[INITIAL_CAPACITY];
+    private int[] docLengths = new int[INITIAL_CAPACITY];
+    private int[] prices = new int[INITIAL_CAPACITY];
+    private int docCount = 0;
+
+    private final BitSet live = new BitSet();
+    private final BitSet featured = new BitSet();
+    private final Map<ProductStatus, BitSet> statusBits = new EnumMap<>(ProductStatus.class);
+    private final Map<Long, BitSet> categoryBits = new HashMap<>();
+
+    private long totalDocLength = 0;
+    private int tombstoneCount = 0;
+    private volatile boolean ready = false;
+
+    /**
+     * 애플리케이션 시작 후 전체 상품 색인 (키셋 페이징)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        Long lastId = 0L;
+
+        while (true) {
+            List<Product> products = productRepository.findByIdGreaterThanOrderByIdAsc(
+                    lastId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            if (products.isEmpty()) {
+                break;
+            }
+            products.forEach(this::index);
+            lastId = products.get(products.size() - 1).getId();
+        }
+
+        ready = true;
+        log.info("상품 검색 색인 구성 완료: products={}, terms={}, elapsed={}ms",
+                live.cardinality(), postings.size(), System.currentTimeMillis() - startTime);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색 엔진이 처리할 수 있는 정렬 기준인지 확인
+     */
+    public boolean supportsSort(String sortBy) {
+        return SORT_RELEVANCE.equalsIgnoreCase(sortBy)
+                || "createdAt".equalsIgnoreCase(sortBy)
+                || "price".equalsIgnoreCase(sortBy);
+    }
+
+    /**
+     * 상품 색인 (신규 또는 전체 수정)
+     */
+    public void index(Product product) {
+        Map<String, Integer> termFrequencies = new LinkedHashMap<>();
+        addTerms(termFrequencies, ProductSearchTokenizer.tokenize(product.getName()), NAME_WEIGHT);
+        addTerms(termFrequencies, ProductSearchTokenizer.tokenizeTags(product.getTags()), TAG_WEIGHT);
+        addTerms(termFrequencies, ProductSearchTokenizer.tokenize(product.getDescription()), DESCRIPTION_WEIGHT);
+
+        int docLength = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(product.getId());
+
+            int docId = docCount++;
+            ensureCapacity(docCount);
+            productIds[docId] = product.getId();
+            docLengths[docId] = docLength;
+            totalDocLength += docLength;
+            docIdByProductId.put(product.getId(), docId);
+            live.set(docId);
+
+            termFrequencies.forEach((term, tf) ->
+                    postings.computeIfAbsent(term, t -> new PostingList()).add(docId, tf));
+
+            applyAttributes(docId, product);
+
+            if (tombstoneCount >= COMPACT_MIN_TOMBSTONES
+                    && tombstoneCount > live.cardinality() * COMPACT_TOMBSTONE_RATIO) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제 처리 후 아직 정리되지 않은 문서 수
+     */
+    public int getTombstoneCount() {
+        lock.readLock().lock();
+        try {
+            return tombstoneCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 텍스트 변경 없이 가격/상태/카테고리/추천 여부만 갱신
+     */
+    public void updateAttributes(Product product) {
+        lock.writeLock().lock();
+        try {
+            Integer docId = docIdByProductId.get(product.getId());
+            if (docId != null) {
+                applyAttributes(docId, product);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색
+     *
+     * @return 정렬된 상품 ID 목록
+     */
+    public long[] search(ProductSearchCondition condition, String sortBy, boolean ascending) {
+        Map<String, Integer> queryTerms = new LinkedHashMap<>();
+        addTerms(queryTerms, ProductSearchTokenizer.tokenizeQuery(condition.getKeyword()), 1);
+        if (queryTerms.isEmpty()) {
+            return new long[0];
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms.keySet()) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    return new long[0];
+                }
+                lists.add(list);
+            }
+            lists.sort((a, b) -> Integer.compare(a.docFreq, b.docFreq));
+
+            BitSet allowed = buildFilter(condition);
+            int liveCount = live.cardinality();
+            double avgDocLength = liveCount == 0 ? 1.0 : Math.max(1.0, (double) totalDocLength / liveCount);
+
+            // 가장 짧은 posting으로 후보 생성 후 나머지와 교집합하며 점수 누적
+            int[] candidates = new int[lists.get(0).docFreq];
+            double[] scores = new double[candidates.length];
+            int count = 0;
+
+            PostingList first = lists.get(0);
+            double firstIdf = idf(first.docFreq, liveCount);
+            PostingIterator iterator = first.iterator();
+            while (iterator.next()) {
+                int docId = iterator.docId;
+                if (allowed.get(docId) && matchesPrice(docId, condition)) {
+                    candidates[count] = docId;
+                    scores[count] = bm25(firstIdf, iterator.tf, docLengths[docId], avgDocLength);
+                    count++;
+                }
+            }
+
+            for (int i = 1; i < lists.size() && count > 0; i++) {
+                PostingList list = lists.get(i);
+                double termIdf = idf(list.docFreq, liveCount);
+                PostingIterator it = list.iterator();
+                int matched = 0;
+                int c = 0;
+                boolean hasNext = it.next();
+                while (c < count && hasNext) {
+                    if (it.docId < candidates[c]) {
+                        hasNext = it.next();
+                    } else if (it.docId > candidates[c]) {
+                        c++;
+                    } else {
+                        candidates[matched] = candidates[c];
+                        scores[matched] = scores[c] + bm25(termIdf, it.tf, docLengths[candidates[c]], avgDocLength);
+                        matched++;
+                        c++;
+                        hasNext = it.next();
+                    }
+                }
+                count = matched;
+            }
+
+            return sortResults(candidates, scores, count, sortBy, ascending);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== Private Methods =====
+
+    private void removeInternal(Long productId) {
+        Integer previous = docIdByProductId.remove(productId);
+        if (previous == null) {
+            return;
+        }
+        live.clear(previous);
+        featured.clear(previous);
+        statusBits.values().forEach(bits -> bits.clear(previous));
+        categoryBits.values().forEach(bits -> bits.clear(previous));
+        totalDocLength -= docLengths[previous];
+        tombstoneCount++;
+    }
+
+    /**
+     * 삭제 처리된 문서를 posting에서 제거하고 살아있는 문서의 docId를 0부터 다시 매김
+     * docId 순서는 유지되므로 posting 정렬도 그대로 유지됩니다.
+     */
+    private void compact() {
+        long startTime = System.currentTimeMillis();
+        int[] remap = new int[docCount];
+        int newCount = 0;
+        for (int docId = 0; docId < docCount; docId++) {
+            remap[docId] = live.get(docId) ? newCount++ : -1;
+        }
+
+        int newCapacity = Math.max(INITIAL_CAPACITY, newCount * 2);
+        long[] newProductIds = new long[newCapacity];
+        int[] newDocLengths = new int[newCapacity];
+        int[] newPrices = new int[newCapacity];
+        for (int docId = 0; docId < docCount; docId++) {
+            int newDocId = remap[docId];
+            if (newDocId >= 0) {
+                newProductIds[newDocId] = productIds[docId];
+                newDocLengths[newDocId] = docLengths[docId];
+                newPrices[newDocId] = prices[docId];
+            }
+        }
+
+        Iterator<Map.Entry<String, PostingList>> entries = postings.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, PostingList> entry = entries.next();
+            PostingList compacted = new PostingList();
+            PostingIterator iterator = entry.getValue().iterator();
+            while (iterator.next()) {
+                int newDocId = remap[iterator.docId];
+                if (newDocId >= 0) {
+                    compacted.add(newDocId, iterator.tf);
+                }
+            }
+            if (compacted.docFreq == 0) {
+                entries.remove();
+            } else {
+                entry.setValue(compacted);
+            }
+        }
+
+        docIdByProductId.replaceAll((productId, docId) -> remap[docId]);
+        remapBits(live, remap);
+        remapBits(featured, remap);
+        statusBits.values().forEach(bits -> remapBits(bits, remap));
+        categoryBits.values().forEach(bits -> remapBits(bits, remap));
+
+        productIds = newProductIds;
+        docLengths = newDocLengths;
+        prices = newPrices;
+        int removed = docCount - newCount;
+        docCount = newCount;
+        tombstoneCount = 0;
+
+        log.info("상품 검색 색인 정리: removedDocs={}, liveDocs={}, terms={}, elapsed={}ms",
+                removed, newCount, postings.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private static void remapBits(BitSet bits, int[] remap) {
+        BitSet remapped = new BitSet();
+        for (int docId = bits.nextSetBit(0); docId >= 0; docId = bits.nextSetBit(docId + 1)) {
+            if (docId < remap.length && remap[docId] >= 0) {
+                remapped.set(remap[docId]);
+            }
+        }
+        bits.clear();
+        bits.or(remapped);
+    }
+
+    private void applyAttributes(int docId, Product product) {
+        prices[docId] = product.getPrice() != null ? product.getPrice() : 0;
+        featured.set(docId, Boolean.TRUE.equals(product.getIsFeatured()));
+
+        statusBits.values().forEach(bits -> bits.clear(docId));
+        if (product.getStatus() != null) {
+            statusBits.computeIfAbsent(product.getStatus(), s -> new BitSet()).set(docId);
+        }
+
+        categoryBits.values().forEach(bits -> bits.clear(docId));
+        if (product.getCategory() != null) {
+            categoryBits.computeIfAbsent(product.getCategory().getId(), c -> new BitSet()).set(docId);
+        }
+    }
+
+    private BitSet buildFilter(ProductSearchCondition condition) {
+        BitSet allowed = (BitSet) live.clone();
+        if (condition.getStatus() != null) {
+            allowed.and(statusBits.getOrDefault(condition.getStatus(), new BitSet()));
+        }
+        if (condition.getCategoryId() != null) {
+            allowed.and(categoryBits.getOrDefault(condition.getCategoryId(), new BitSet()));
+        }
+        if (condition.isFeaturedOnly()) {
+            allowed.and(featured);
+        }
+        return allowed;
+    }
+
+    private boolean matchesPrice(int docId, ProductSearchCondition condition) {
+        int price = prices[docId];
+        return (condition.getMinPrice() == null || price >= condition.getMinPrice())
+                && (condition.getMaxPrice() == null || price <= condition.getMaxPrice());
+    }
+
+    private long[] sortResults(int[] docIds, double[] scores, int count, String sortBy, boolean ascending) {
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+
+        if ("price".equalsIgnoreCase(sortBy)) {
+            Arrays.sort(order, (a, b) -> ascending
+                    ? Integer.compare(prices[docIds[a]], prices[docIds[b]])
+                    : Integer.compare(prices[docIds[b]], prices[docIds[a]]));
+        } else if ("createdAt".equalsIgnoreCase(sortBy)) {
+            // 상품 ID는 생성 순서와 같음
+            Arrays.sort(order, (a, b) -> ascending
+                    ? Long.compare(productIds[docIds[a]], productIds[docIds[b]])
+                    : Long.compare(productIds[docIds[b]], productIds[docIds[a]]));
+        } else {
+            Arrays.sort(order, (a, b) -> {
+                int compare = Double.compare(scores[b], scores[a]);
+                return compare != 0 ? compare : Long.compare(productIds[docIds[b]], productIds[docIds[a]]);
+            });
+        }
+
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = productIds[docIds[order[i]]];
+        }
+        return result;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= productIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(required, productIds.length * 2);
+        productIds = Arrays.copyOf(productIds, newCapacity);
+        docLengths = Arrays.copyOf(docLengths, newCapacity);
+        prices = Arrays.copyOf(prices, newCapacity);
+    }
+
+    private static void addTerms(Map<String, Integer> termFrequencies, List<String> tokens, int weight) {
+        for (String token : tokens) {
+            termFrequencies.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private static double idf(int docFreq, int docCount) {
+        return Math.log(1 + (docCount - docFreq + 0.5) / (docFreq + 0.5));
+    }
+
+    private static double bm25(double idf, int tf, int docLength, double avgDocLength) {
+        return idf * (tf * (K1 + 1)) / (tf + K1 * (1 - B + B * docLength / avgDocLength));
+    }
+
+    /**
+     * varint 압축 posting 리스트: [docId 증가분][tf] 반복
+     */
+    private static class PostingList {
+        private byte[] data = new byte[8];
+        private int length = 0;
+        private int lastDocId = -1;
+        private int docFreq = 0;
+
+        void add(int docId, int tf) {
+            writeVarint(docId - lastDocId);
+            writeVarint(tf);
+            lastDocId = docId;
+            docFreq++;
+        }
+
+        PostingIterator iterator() {
+            return new PostingIterator(data, length);
+        }
+
+        private void writeVarint(int value) {
+            if (length + 5 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+            }
+            while ((value & ~0x7F) != 0) {
+                data[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+    }
+
+    private static class PostingIterator {
+        private final byte[] data;
+        private final int length;
+        private int position = 0;
+        private int docId = -1;
+        private int tf = 0;
+
+        PostingIterator(byte[] data, int length) {
+            this.data = data;
+            this.length = length;
+        }
+
+        boolean next() {
+            if (position >= length) {
+                return false;
+            }
+            docId += readVarint();
+            tf = readVarint();
+            return true;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.commercecoupon.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 상품 검색용 토크나이저
+ *
+ * - 영문/숫자: "~" 접두사를 붙인 단어 내 trigram (예: imac -> ~ima, ~mac) + ">" 접두사를 붙인 1~2글자 앞부분 토큰
+ *   질의는 3글자 이상이면 trigram 전부(AND), 1~2글자면 앞부분 토큰 하나 (단어 길이 제한 없음)
+ * - 한글: 음절 bigram + 음절 unigram, 질의는 2음절 이상이면 bigram, 1음절이면 unigram
+ * - 한글 초성: "#" 접두사를 붙인 초성 bigram (예: 맥북 -> #ㅁㅂ), 초성 검색용
+ * 따라서 "맥북"으로 "맥북프로"를, "폰"으로 "스마트폰"을, "mac"으로 "macbook"/"imac"을, "pods"로 "airpods"를 찾을 수 있습니다.
+ */
+final class ProductSearchTokenizer {
+
+    static final String CHOSEONG_PREFIX = "#";
+    static final String WORD_PREFIX = ">";
+    static final String INFIX_PREFIX = "~";
+    static final int INFIX_GRAM_SIZE = 3;
+
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final char COMPAT_JAMO_FIRST = 'ㄱ';
+    private static final char COMPAT_JAMO_LAST = 'ㅎ';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    // 초성 19자 (호환 자모)
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private ProductSearchTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰화 (중복 토큰 포함 - tf 계산에 사용)
+     */
+    static List<String> tokenize(String text) {
+        return tokenize(text, true);
+    }
+
+    /**
+     * 질의용 토큰화 (완성형 한글에서 초성 토큰을 만들지 않음 - 점수 중복 방지)
+     */
+    static List<String> tokenizeQuery(String query) {
+        return tokenize(query, false);
+    }
+
+    /**
+     * 태그 토큰화 (태그마다 각각 토큰화)
+     */
+    static List<String> tokenizeTags(List<String> tags) {
+        List<String> tokens = new ArrayList<>();
+        if (tags == null) {
+            return tokens;
+        }
+        for (String tag : tags) {
+            tokens.addAll(tokenize(tag, true));
+        }
+        return tokens;
+    }
+
+    // ===== Private Methods =====
+
+    private static List<String> tokenize(String text, boolean forIndex) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        int i = 0;
+        while (i < length) {
+            char c = lower.charAt(i);
+            if (isHangulSyllable(c)) {
+                int start = i;
+                while (i < length && isHangulSyllable(lower.charAt(i))) {
+                    i++;
+                }
+                addHangulTokens(lower.substring(start, i), forIndex, tokens);
+            } else if (isChoseongJamo(c)) {
+                int start = i;
+                while (i < length && isChoseongJamo(lower.charAt(i))) {
+                    i++;
+                }
+                addGrams(CHOSEONG_PREFIX, lower.substring(start, i), tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(lower.charAt(i))
+                        && !isHangulSyllable(lower.charAt(i)) && !isChoseongJamo(lower.charAt(i))) {
+                    i++;
+                }
+                addWordTokens(lower.substring(start, i), forIndex, tokens);
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addWordTokens(String word, boolean forIndex, List<String> tokens) {
+        // trigram으로 찾을 수 없는 1~2글자 질의는 단어 앞부분으로만 매칭
+        if (!forIndex && word.length() < INFIX_GRAM_SIZE) {
+            tokens.add(WORD_PREFIX + word);
+            return;
+        }
+        if (forIndex) {
+            int prefixes = Math.min(word.length(), INFIX_GRAM_SIZE - 1);
+            for (int length = 1; length <= prefixes; length++) {
+                tokens.add(WORD_PREFIX + word.substring(0, length));
+            }
+        }
+        for (int i = 0; i + INFIX_GRAM_SIZE <= word.length(); i++) {
+            tokens.add(INFIX_PREFIX + word.substring(i, i + INFIX_GRAM_SIZE));
+        }
+    }
+
+    private static void addHangulTokens(String word, boolean forIndex, List<String> tokens) {
+        addGrams("", word, tokens);
+        if (!forIndex) {
+            return;
+        }
+        // 1음절 질의용 unigram (1음절 단어는 addGrams에서 이미 추가됨)
+        if (word.length() > 1) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(String.valueOf(word.charAt(i)));
+            }
+        }
+
+        StringBuilder choseong = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            choseong.append(CHOSEONG[(word.charAt(i) - HANGUL_BASE) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+        }
+        addGrams(CHOSEONG_PREFIX, choseong.toString(), tokens);
+    }
+
+    private static void addGrams(String prefix, String word, List<String> tokens) {
+        if (word.length() == 1) {
+            tokens.add(prefix + word);
+            return;
+        }
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            tokens.add(prefix + word.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    private static boolean isChoseongJamo(char c) {
+        if (c < COMPAT_JAMO_FIRST || c > COMPAT_JAMO_LAST) {
+            return false;
+        }
+        for (char choseong : CHOSEONG) {
+            if (choseong == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
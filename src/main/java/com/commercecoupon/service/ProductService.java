@@ -4,20 +4,25 @@ import com.commercecoupon.dto.request.ProductCreateRequest;
 import com.commercecoupon.dto.request.ProductSearchRequest;
 import com.commercecoupon.dto.request.ProductUpdateRequest;
 import com.commercecoupon.dto.response.ProductDetailResponse;
+import com.commercecoupon.dto.response.ProductFacetResponse;
 import com.commercecoupon.dto.response.ProductPageResponse;
 import com.commercecoupon.dto.response.ProductResponse;
 import com.commercecoupon.dto.response.CategoryResponse;
 import com.commercecoupon.entity.Category;
 import com.commercecoupon.entity.Product;
+import com.commercecoupon.entity.converter.StringListConverter;
 import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.event.ProductChangedEvent;
 import com.commercecoupon.exception.CustomException;
 import com.commercecoupon.exception.ProductNotFoundException;
-import com.commercecoupon.exception.InsufficientStockException;
 import com.commercecoupon.repository.CategoryRepository;
 import com.commercecoupon.repository.ProductRepository;
+import com.commercecoupon.repository.ProductSearchCondition;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -25,8 +30,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -35,8 +43,20 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ProductService {
 
+    private static final int RANKING_SIZE = 10;
+
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final ProductSearchEngine productSearchEngine;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductViewCountBuffer productViewCountBuffer;
+    private final ProductRankingIndex productRankingIndex;
+    private final RelatedProductGraph relatedProductGraph;
+    private final CoPurchaseRecommender coPurchaseRecommender;
+    private final ProductFacetEngine productFacetEngine;
+    private final LowStockIndex lowStockIndex;
+    private final InventoryService inventoryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 상품 목록 조회 (페이징) - 일반 사용자용
@@ -44,26 +64,9 @@ public class ProductService {
     public ProductPageResponse getProducts(ProductSearchRequest searchRequest) {
         log.debug("상품 목록 조회: {}", searchRequest);
 
-        Pageable pageable = createPageable(searchRequest);
-        Page<Product> productPage;
-
-        // 검색 조건에 따른 쿼리 실행
-        if (StringUtils.hasText(searchRequest.getKeyword())) {
-            productPage = productRepository.findByKeywordAndStatus(
-                    searchRequest.getKeyword(), searchRequest.getStatus(), pageable);
-        } else if (searchRequest.getCategoryId() != null) {
-            productPage = productRepository.findByCategoryIdAndStatusOrderByCreatedAtDesc(
-                    searchRequest.getCategoryId(), searchRequest.getStatus(), pageable);
-        } else if (searchRequest.getMinPrice() != null || searchRequest.getMaxPrice() != null) {
-            Integer minPrice = searchRequest.getMinPrice() != null ? searchRequest.getMinPrice() : 0;
-            Integer maxPrice = searchRequest.getMaxPrice() != null ? searchRequest.getMaxPrice() : Integer.MAX_VALUE;
-            productPage = productRepository.findByStatusAndPriceBetweenOrderByCreatedAtDesc(
-                    searchRequest.getStatus(), minPrice, maxPrice, pageable);
-        } else {
-            productPage = productRepository.findByStatusOrderByCreatedAtDesc(searchRequest.getStatus(), pageable);
-        }
-
-        return convertToProductPageResponse(productPage);
+        // 일반 사용자는 상태 조건이 항상 적용됨 (기본: ACTIVE)
+        ProductStatus status = searchRequest.getStatus() != null ? searchRequest.getStatus() : ProductStatus.ACTIVE;
+        return searchProducts(searchRequest, createSearchCondition(searchRequest, status));
     }
 
     /**
@@ -72,66 +75,60 @@ public class ProductService {
     public ProductPageResponse getAllProductsForAdmin(ProductSearchRequest searchRequest) {
         log.debug("관리자용 상품 목록 조회: {}", searchRequest);
 
-        Pageable pageable = createPageable(searchRequest);
-        Page<Product> productPage;
+        // 상태 조건이 없으면 모든 상태 조회
+        return searchProducts(searchRequest, createSearchCondition(searchRequest, searchRequest.getStatus()));
+    }
 
-        // 상태 조건 없이 검색 (관리자는 모든 상태 조회 가능)
-        if (StringUtils.hasText(searchRequest.getKeyword())) {
-            if (searchRequest.getStatus() != null) {
-                productPage = productRepository.findByKeywordAndStatus(
-                        searchRequest.getKeyword(), searchRequest.getStatus(), pageable);
-            } else {
-                productPage = productRepository.findByKeywordIgnoreCase(searchRequest.getKeyword(), pageable);
-            }
-        } else if (searchRequest.getCategoryId() != null) {
-            if (searchRequest.getStatus() != null) {
-                productPage = productRepository.findByCategoryIdAndStatusOrderByCreatedAtDesc(
-                        searchRequest.getCategoryId(), searchRequest.getStatus(), pageable);
-            } else {
-                productPage = productRepository.findByCategoryIdOrderByCreatedAtDesc(
-                        searchRequest.getCategoryId(), pageable);
-            }
-        } else if (searchRequest.getMinPrice() != null || searchRequest.getMaxPrice() != null) {
-            Integer minPrice = searchRequest.getMinPrice() != null ? searchRequest.getMinPrice() : 0;
-            Integer maxPrice = searchRequest.getMaxPrice() != null ? searchRequest.getMaxPrice() : Integer.MAX_VALUE;
-            if (searchRequest.getStatus() != null) {
-                productPage = productRepository.findByStatusAndPriceBetweenOrderByCreatedAtDesc(
-                        searchRequest.getStatus(), minPrice, maxPrice, pageable);
-            } else {
-                productPage = productRepository.findByPriceBetweenOrderByCreatedAtDesc(
-                        minPrice, maxPrice, pageable);
-            }
-        } else {
-            if (searchRequest.getStatus() != null) {
-                productPage = productRepository.findByStatusOrderByCreatedAtDesc(searchRequest.getStatus(), pageable);
-            } else {
-                productPage = productRepository.findAllByOrderByCreatedAtDesc(pageable);
+    /**
+     * 상품 검색 패싯 조회 (카테고리별/가격 구간별/추천 상품 수) - 일반 사용자용
+     */
+    public ProductFacetResponse getProductFacets(ProductSearchRequest searchRequest) {
+        log.debug("상품 패싯 조회: {}", searchRequest);
+
+        if (!productFacetEngine.isReady()) {
+            throw new CustomException("상품 패싯을 준비 중입니다. 잠시 후 다시 시도해주세요");
+        }
+
+        ProductStatus status = searchRequest.getStatus() != null ? searchRequest.getStatus() : ProductStatus.ACTIVE;
+        ProductSearchCondition condition = createSearchCondition(searchRequest, status);
+
+        long[] keywordMatches = null;
+        if (condition.hasKeyword()) {
+            if (!productSearchEngine.isReady()) {
+                throw new CustomException("검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요");
             }
+            // 키워드/상태 외의 조건은 패싯 계산 시 패싯별로 적용
+            ProductSearchCondition keywordCondition = ProductSearchCondition.builder()
+                    .keyword(condition.getKeyword())
+                    .status(status)
+                    .build();
+            keywordMatches = productSearchEngine.search(keywordCondition, ProductSearchEngine.SORT_RELEVANCE, false);
         }
 
-        return convertToProductPageResponse(productPage);
+        ProductFacetResponse response = productFacetEngine.compute(condition, keywordMatches);
+
+        List<Long> categoryIds = response.getCategories().stream()
+                .map(ProductFacetResponse.CategoryFacet::getCategoryId)
+                .collect(Collectors.toList());
+        Map<Long, String> categoryNames = categoryRepository.findAllById(categoryIds).stream()
+                .collect(Collectors.toMap(Category::getId, Category::getName));
+        response.getCategories().forEach(facet -> facet.setCategoryName(categoryNames.get(facet.getCategoryId())));
+        return response;
     }
 
     /**
      * 상품 상세 조회
+     * 응답은 카탈로그 캐시에서 제공하며, 조회수는 버퍼에 모았다가 주기적으로 반영
      */
-    @Transactional
     public ProductDetailResponse getProductDetail(Long productId) {
         log.debug("상품 상세 조회: productId={}", productId);
 
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ProductNotFoundException(productId));
-
-        // 조회수 증가
-        product.increaseViewCount();
-        productRepository.save(product);
+        ProductDetailResponse response = productCatalogCache.getDetail(productId, () -> loadProductDetail(productId));
 
-        // 관련 상품 조회 (같은 카테고리의 다른 상품 5개)
-        List<Product> relatedProducts = productRepository.findRelatedProducts(
-                product.getCategory().getId(), ProductStatus.ACTIVE, productId,
-                PageRequest.of(0, 5));
+        // 조회수 증가 (DB 쓰기 없음)
+        productViewCountBuffer.increment(productId);
 
-        return convertToProductDetailResponse(product, relatedProducts);
+        return response;
     }
 
     /**
@@ -157,15 +154,18 @@ public class ProductService {
                 .stock(request.getStock())
                 .category(category)
                 .imageUrl(request.getImageUrl())
-                .detailImageUrls(convertListToString(request.getDetailImageUrls()))
+                .detailImageUrls(copyList(request.getDetailImageUrls()))
                 .isFeatured(request.getIsFeatured())
-                .tags(request.getTags())
-                .status(ProductStatus.ACTIVE)
+                .tags(parseTags(request.getTags()))
+                .lowStockThreshold(request.getLowStockThreshold())
+                .status(InventoryService.initialStatus(request.getStock()))
                 .viewCount(0)
                 .salesCount(0)
                 .build();
 
         Product savedProduct = productRepository.save(product);
+        inventoryService.registerInitialStock(savedProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.of(savedProduct.getId(), true));
         log.info("상품 생성 완료: productId={}", savedProduct.getId());
 
         return convertToProductDetailResponse(savedProduct, List.of());
@@ -205,14 +205,11 @@ public class ProductService {
         if (request.getPrice() != null) {
             product.setPrice(request.getPrice());
         }
-        if (request.getStock() != null) {
-            product.setStock(request.getStock());
-        }
         if (StringUtils.hasText(request.getImageUrl())) {
             product.setImageUrl(request.getImageUrl());
         }
         if (request.getDetailImageUrls() != null) {
-            product.setDetailImageUrls(convertListToString(request.getDetailImageUrls()));
+            product.setDetailImageUrls(copyList(request.getDetailImageUrls()));
         }
         if (request.getStatus() != null) {
             product.setStatus(request.getStatus());
@@ -221,10 +218,18 @@ public class ProductService {
             product.setIsFeatured(request.getIsFeatured());
         }
         if (StringUtils.hasText(request.getTags())) {
-            product.setTags(request.getTags());
+            product.setTags(parseTags(request.getTags()));
+        }
+        if (request.getLowStockThreshold() != null) {
+            product.setLowStockThreshold(request.getLowStockThreshold());
         }
 
         Product savedProduct = productRepository.save(product);
+        if (request.getStock() != null) {
+            // 재고는 품절 상태 전환과 함께 한 번에 변경
+            savedProduct = inventoryService.adjust(productId, request.getStock());
+        }
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId, true));
         log.info("상품 수정 완료: productId={}", savedProduct.getId());
 
         return convertToProductDetailResponse(savedProduct, List.of());
@@ -242,6 +247,7 @@ public class ProductService {
 
         product.setStatus(ProductStatus.DISCONTINUED);
         productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId, false));
 
         log.info("상품 삭제 완료: productId={}", productId);
     }
@@ -253,22 +259,9 @@ public class ProductService {
     public void updateStock(Long productId, Integer stock) {
         log.info("재고 수정: productId={}, stock={}", productId, stock);
 
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ProductNotFoundException(productId));
-
-        product.setStock(stock);
-
-        // 재고가 있으면 품절 상태 해제
-        if (stock > 0 && product.getStatus() == ProductStatus.OUT_OF_STOCK) {
-            product.setStatus(ProductStatus.ACTIVE);
-        }
-        // 재고가 0이면 품절 상태로 변경
-        else if (stock == 0 && product.getStatus() == ProductStatus.ACTIVE) {
-            product.setStatus(ProductStatus.OUT_OF_STOCK);
-        }
-
-        productRepository.save(product);
-        log.info("재고 수정 완료: productId={}, newStock={}", productId, stock);
+        // 재고가 있으면 품절 상태 해제, 0이면 품절 상태로 변경
+        Product product = inventoryService.adjust(productId, stock);
+        log.info("재고 수정 완료: productId={}, newStock={}, status={}", productId, stock, product.getStatus());
     }
 
     /**
@@ -283,6 +276,7 @@ public class ProductService {
 
         product.setStatus(status);
         productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(productId, false));
 
         log.info("상품 상태 변경 완료: productId={}, newStatus={}", productId, status);
     }
@@ -294,22 +288,8 @@ public class ProductService {
     public void decreaseStock(Long productId, Integer quantity) {
         log.info("재고 차감: productId={}, quantity={}", productId, quantity);
 
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ProductNotFoundException(productId));
-
-        if (product.getStock() < quantity) {
-            throw new InsufficientStockException(product.getName(), quantity, product.getStock());
-        }
-
-        product.decreaseStock(quantity);
-        product.increaseSalesCount(quantity);
-
         // 재고가 0이 되면 품절 상태로 변경
-        if (product.getStock() == 0) {
-            product.setStatus(ProductStatus.OUT_OF_STOCK);
-        }
-
-        productRepository.save(product);
+        Product product = inventoryService.decrease(productId, quantity);
         log.info("재고 차감 완료: productId={}, remainingStock={}", productId, product.getStock());
     }
 
@@ -319,49 +299,228 @@ public class ProductService {
     public List<ProductResponse> getFeaturedProducts() {
         log.debug("추천 상품 조회");
 
-        List<Product> featuredProducts = productRepository.findByStatusAndIsFeaturedTrueOrderBySalesCountDesc(ProductStatus.ACTIVE);
-        return featuredProducts.stream()
-                .map(this::convertToProductResponse)
-                .collect(Collectors.toList());
+        return productCatalogCache.getList(ProductCatalogCache.ListType.FEATURED, () ->
+                productRepository.findByStatusAndIsFeaturedTrueOrderBySalesCountDesc(ProductStatus.ACTIVE).stream()
+                        .map(this::convertToProductResponse)
+                        .collect(Collectors.toList()));
     }
 
     /**
-     * 인기 상품 조회
+     * 인기 상품 조회 (누적 판매량 또는 최근 24시간/7일 판매량 기준)
+     *
+     * @param categoryId 카테고리 ID (없으면 전체)
+     * @param period     집계 기간 (24h, 7d, 없으면 누적)
      */
-    public List<ProductResponse> getPopularProducts() {
-        log.debug("인기 상품 조회");
+    public List<ProductResponse> getPopularProducts(Long categoryId, String period) {
+        log.debug("인기 상품 조회: categoryId={}, period={}", categoryId, period);
+
+        ProductRankingIndex.Period rankingPeriod = null;
+        if (StringUtils.hasText(period)) {
+            rankingPeriod = ProductRankingIndex.Period.fromCode(period);
+            if (rankingPeriod == null) {
+                throw new CustomException("지원하지 않는 집계 기간입니다: " + period);
+            }
+        }
 
-        List<Product> popularProducts = productRepository.findTop10ByStatusOrderBySalesCountDesc(ProductStatus.ACTIVE);
-        return popularProducts.stream()
-                .map(this::convertToProductResponse)
-                .collect(Collectors.toList());
+        // 기본 조회는 카탈로그 캐시 사용
+        if (categoryId == null && rankingPeriod == null) {
+            return productCatalogCache.getList(ProductCatalogCache.ListType.POPULAR, () ->
+                    productRankingIndex.isReady()
+                            ? findProductResponsesInOrder(productRankingIndex.topSelling(null, RANKING_SIZE))
+                            : productRepository.findTop10ByStatusOrderBySalesCountDesc(ProductStatus.ACTIVE).stream()
+                                    .map(this::convertToProductResponse)
+                                    .collect(Collectors.toList()));
+        }
+
+        if (!productRankingIndex.isReady()) {
+            if (rankingPeriod != null) {
+                throw new CustomException("상품 랭킹을 준비 중입니다. 잠시 후 다시 시도해주세요");
+            }
+            return findTopProductsInCategory(categoryId, "salesCount");
+        }
+        long[] productIds = rankingPeriod != null
+                ? productRankingIndex.topSellingWithin(rankingPeriod, categoryId, RANKING_SIZE)
+                : productRankingIndex.topSelling(categoryId, RANKING_SIZE);
+        return findProductResponsesInOrder(productIds);
     }
 
     /**
      * 최신 상품 조회
+     *
+     * @param categoryId 카테고리 ID (없으면 전체)
      */
-    public List<ProductResponse> getLatestProducts() {
-        log.debug("최신 상품 조회");
+    public List<ProductResponse> getLatestProducts(Long categoryId) {
+        log.debug("최신 상품 조회: categoryId={}", categoryId);
+
+        if (categoryId == null) {
+            return productCatalogCache.getList(ProductCatalogCache.ListType.LATEST, () ->
+                    productRankingIndex.isReady()
+                            ? findProductResponsesInOrder(productRankingIndex.latest(null, RANKING_SIZE))
+                            : productRepository.findTop10ByStatusOrderByCreatedAtDesc(ProductStatus.ACTIVE).stream()
+                                    .map(this::convertToProductResponse)
+                                    .collect(Collectors.toList()));
+        }
 
-        List<Product> latestProducts = productRepository.findTop10ByStatusOrderByCreatedAtDesc(ProductStatus.ACTIVE);
-        return latestProducts.stream()
-                .map(this::convertToProductResponse)
+        if (!productRankingIndex.isReady()) {
+            return findTopProductsInCategory(categoryId, "createdAt");
+        }
+        return findProductResponsesInOrder(productRankingIndex.latest(categoryId, RANKING_SIZE));
+    }
+
+    /**
+     * 함께 구매한 상품 조회 (판매 중인 상품만)
+     */
+    public List<ProductResponse> getCoPurchasedProducts(Long productId) {
+        log.debug("함께 구매한 상품 조회: productId={}", productId);
+
+        if (!productRepository.existsById(productId)) {
+            throw new ProductNotFoundException(productId);
+        }
+
+        // 판매 중지 상품을 걸러낼 여유분을 두고 조회
+        long[] productIds = coPurchaseRecommender.recommendForProduct(productId, RANKING_SIZE * 2);
+        return findProductResponsesInOrder(productIds).stream()
+                .filter(p -> p.getStatus() == ProductStatus.ACTIVE)
+                .limit(RANKING_SIZE)
                 .collect(Collectors.toList());
     }
 
     /**
      * 재고 부족 상품 조회 (관리자용)
+     *
+     * @param threshold 재고 기준 (없으면 상품별 재고 부족 기준 적용)
      */
     public List<ProductResponse> getLowStockProducts(Integer threshold) {
         log.debug("재고 부족 상품 조회: threshold={}", threshold);
 
-        List<Product> lowStockProducts = productRepository.findLowStockProducts(threshold);
-        return lowStockProducts.stream()
+        if (!lowStockIndex.isReady()) {
+            List<Product> lowStockProducts = threshold != null
+                    ? productRepository.findLowStockProducts(threshold)
+                    : productRepository.findBelowOwnThreshold(lowStockIndex.getDefaultThreshold());
+            return lowStockProducts.stream()
+                    .map(this::convertToProductResponse)
+                    .collect(Collectors.toList());
+        }
+
+        long[] productIds = threshold != null
+                ? lowStockIndex.findAtOrBelow(threshold)
+                : lowStockIndex.findBelowOwnThreshold();
+        return findProductResponsesInOrder(productIds);
+    }
+
+    // ===== Private Methods =====
+
+    private ProductDetailResponse loadProductDetail(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+
+        // 관련 상품 조회 (사전 계산된 그래프 우선, 그래프에 없으면 같은 카테고리의 다른 상품 5개)
+        // 그래프는 주기적으로 계산되므로 그사이 판매 중지된 상품은 현재 상태로 거름
+        long[] relatedIds = relatedProductGraph.getRelated(productId);
+        List<Product> relatedProducts;
+        if (relatedIds != null) {
+            relatedProducts = findProductsInOrder(relatedIds).stream()
+                    .filter(p -> p.getStatus() == ProductStatus.ACTIVE)
+                    .collect(Collectors.toList());
+        } else {
+            relatedProducts = productRepository.findRelatedProducts(
+                    product.getCategory().getId(), ProductStatus.ACTIVE, productId,
+                    PageRequest.of(0, 5));
+        }
+
+        return convertToProductDetailResponse(product, relatedProducts);
+    }
+
+    /**
+     * 상품 ID 순서를 유지하며 한 번에 조회
+     */
+    private List<ProductResponse> findProductResponsesInOrder(long[] productIds) {
+        return findProductsInOrder(productIds).stream()
                 .map(this::convertToProductResponse)
                 .collect(Collectors.toList());
     }
 
-    // ===== Private Methods =====
+    private List<Product> findProductsInOrder(long[] productIds) {
+        if (productIds.length == 0) {
+            return List.of();
+        }
+        List<Long> ids = Arrays.stream(productIds).boxed().collect(Collectors.toList());
+        Map<Long, Product> products = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, p -> p));
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 랭킹 준비 전 카테고리별 Top-N 조회 (DB)
+     */
+    private List<ProductResponse> findTopProductsInCategory(Long categoryId, String sortBy) {
+        ProductSearchCondition condition = ProductSearchCondition.builder()
+                .status(ProductStatus.ACTIVE)
+                .categoryId(categoryId)
+                .build();
+        Pageable pageable = PageRequest.of(0, RANKING_SIZE, Sort.by(Sort.Direction.DESC, sortBy));
+        return productRepository.searchByCondition(condition, pageable).getContent().stream()
+                .map(this::convertToProductResponse)
+                .collect(Collectors.toList());
+    }
+
+    private boolean canUseSearchEngine(ProductSearchRequest searchRequest) {
+        return productSearchEngine.isReady() && productSearchEngine.supportsSort(searchRequest.getSortBy());
+    }
+
+    /**
+     * 키워드 검색은 검색 엔진이 준비되어 있으면 엔진에서 처리하고,
+     * 그 외에는 모든 필터를 조합한 단일 쿼리로 조회
+     */
+    private ProductPageResponse searchProducts(ProductSearchRequest searchRequest, ProductSearchCondition condition) {
+        if (condition.hasKeyword() && canUseSearchEngine(searchRequest)) {
+            return searchByEngine(searchRequest, condition);
+        }
+
+        Page<Product> productPage = productRepository.searchByCondition(condition, createPageable(searchRequest));
+        return convertToProductPageResponse(productPage);
+    }
+
+    private ProductSearchCondition createSearchCondition(ProductSearchRequest searchRequest, ProductStatus status) {
+        return ProductSearchCondition.builder()
+                .keyword(searchRequest.getKeyword())
+                .status(status)
+                .categoryId(searchRequest.getCategoryId())
+                .minPrice(searchRequest.getMinPrice())
+                .maxPrice(searchRequest.getMaxPrice())
+                .featuredOnly(Boolean.TRUE.equals(searchRequest.getFeaturedOnly()))
+                .build();
+    }
+
+    /**
+     * 검색 엔진으로 키워드 검색 후 해당 페이지의 상품만 DB에서 조회
+     */
+    private ProductPageResponse searchByEngine(ProductSearchRequest searchRequest, ProductSearchCondition condition) {
+        long[] productIds = productSearchEngine.search(condition,
+                searchRequest.getSortBy(), "asc".equalsIgnoreCase(searchRequest.getSortDirection()));
+
+        int total = productIds.length;
+        int from = (int) Math.min((long) searchRequest.getPage() * searchRequest.getSize(), total);
+        int to = Math.min(from + searchRequest.getSize(), total);
+
+        List<Long> pageIds = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            pageIds.add(productIds[i]);
+        }
+
+        Map<Long, Product> products = productRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Product::getId, p -> p));
+        List<Product> content = pageIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        Pageable pageable = PageRequest.of(searchRequest.getPage(), searchRequest.getSize());
+        return convertToProductPageResponse(new PageImpl<>(content, pageable, total));
+    }
 
     private Pageable createPageable(ProductSearchRequest searchRequest) {
         Sort sort = createSort(searchRequest.getSortBy(), searchRequest.getSortDirection());
@@ -380,18 +539,18 @@ public class ProductService {
         };
     }
 
-    private String convertListToString(List<String> list) {
-        if (list == null || list.isEmpty()) {
-            return null;
+    private List<String> copyList(List<String> list) {
+        if (list == null) {
+            return List.of();
         }
-        return String.join(",", list);
+        return list.stream()
+                .filter(StringUtils::hasText)
+                .map(String::trim)
+                .collect(Collectors.toUnmodifiableList());
     }
 
-    private List<String> convertStringToList(String str) {
-        if (!StringUtils.hasText(str)) {
-            return List.of();
-        }
-        return Arrays.asList(str.split(","));
+    private List<String> parseTags(String tags) {
+        return List.copyOf(StringListConverter.splitCommaSeparated(tags));
     }
 
     private ProductPageResponse convertToProductPageResponse(Page<Product> productPage) {
@@ -438,13 +597,14 @@ public class ProductService {
                 .price(product.getPrice())
                 .stock(product.getStock())
                 .imageUrl(product.getImageUrl())
-                .detailImageUrls(convertStringToList(product.getDetailImageUrls()))
+                .detailImageUrls(product.getDetailImageUrls())
                 .category(convertToCategoryResponse(product.getCategory()))
                 .status(product.getStatus())
                 .viewCount(product.getViewCount())
                 .salesCount(product.getSalesCount())
                 .isFeatured(product.getIsFeatured())
-                .tags(convertStringToList(product.getTags()))
+                .tags(product.getTags())
+                .lowStockThreshold(product.getLowStockThreshold())
                 .relatedProducts(relatedProductResponses)
                 .createdAt(product.getCreatedAt())
                 .updatedAt(product.getUpdatedAt())
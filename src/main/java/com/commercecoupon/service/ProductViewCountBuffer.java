@@ -0,0 +1,179 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.config.ViewCountConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 조회수 버퍼
+ *
+ * - 조회 시에는 상품별 LongAdder만 증가시키고 DB에는 쓰지 않음
+ * - 주기적으로 (또는 쌓인 조회수가 상한을 넘으면) 증가분을 JDBC 배치 UPDATE로 한 번에 반영
+ * - 반영할 때는 읽은 값만큼만 빼므로 반영 도중 들어온 조회수도 유실되지 않음
+ * - 직전 반영 이후 조회가 없던 상품의 카운터는 제거하므로 맵은 최근 조회된 상품 수만큼만 유지
+ *   (제거와 겹친 증가는 제거된 카운터를 다시 등록하거나 그 값을 새 카운터로 옮겨 유실/중복 없이 반영)
+ * - 상한 초과 시 비동기 반영은 한 번에 하나만 예약
+ * - 반영에 실패한 증가분은 버퍼에 되돌려 다음 주기에 다시 시도
+ * 비정상 종료 시 최대 maxPendingViews 만큼의 조회수가 유실될 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductViewCountBuffer {
+
+    private static final String UPDATE_SQL = "UPDATE products SET view_count = view_count + ? WHERE id = ?";
+
+    private final ViewCountConfig viewCountConfig;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, LongAdder> counters = new ConcurrentHashMap<>();
+    private final LongAdder pendingViews = new LongAdder();
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+    private final AtomicBoolean flushPending = new AtomicBoolean(false);
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "view-count-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 조회수 1 증가 (메모리에만 기록)
+     */
+    public void increment(Long productId) {
+        LongAdder counter = counters.computeIfAbsent(productId, id -> new LongAdder());
+        counter.increment();
+        if (counters.get(productId) != counter) {
+            // 증가와 겹쳐 유휴 카운터로 제거됨 - 다시 등록하거나 남은 값을 현재 카운터로 옮김 (키 단위 잠금 안에서 처리)
+            counters.compute(productId, (id, current) -> {
+                if (current == null) {
+                    return counter;
+                }
+                if (current != counter) {
+                    long remaining = counter.sum();
+                    counter.add(-remaining);
+                    current.add(remaining);
+                }
+                return current;
+            });
+        }
+        pendingViews.increment();
+
+        if (pendingViews.sum() >= viewCountConfig.getMaxPendingViews() && flushPending.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    flushPending.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long getPendingViews(Long productId) {
+        LongAdder counter = counters.get(productId);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * 카운터를 보관 중인 상품 수
+     */
+    public int getTrackedProductCount() {
+        return counters.size();
+    }
+
+    /**
+     * 정기 반영
+     */
+    @Scheduled(fixedDelayString = "#{@viewCountConfig.flushIntervalMs}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    /**
+     * 쌓인 조회수를 DB에 반영
+     *
+     * @return 반영된 상품 수
+     */
+    public int flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        try {
+            List<Object[]> batch = new ArrayList<>(viewCountConfig.getBatchSize());
+            int flushedCount = 0;
+
+            for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+                // sumThenReset은 동시에 들어온 증가분을 잃을 수 있으므로 읽은 만큼만 차감
+                LongAdder counter = entry.getValue();
+                long delta = counter.sum();
+                if (delta == 0) {
+                    // 직전 반영 이후 조회가 없던 상품 - 그사이 증가가 없을 때만 제거
+                    counters.computeIfPresent(entry.getKey(), (id, current) ->
+                            current == counter && current.sum() == 0 ? null : current);
+                    continue;
+                }
+                counter.add(-delta);
+                pendingViews.add(-delta);
+                batch.add(new Object[]{delta, entry.getKey()});
+
+                if (batch.size() >= viewCountConfig.getBatchSize()) {
+                    flushedCount += executeBatch(batch);
+                    batch = new ArrayList<>(viewCountConfig.getBatchSize());
+                }
+            }
+            if (!batch.isEmpty()) {
+                flushedCount += executeBatch(batch);
+            }
+
+            if (flushedCount > 0) {
+                log.debug("조회수 반영 완료: products={}", flushedCount);
+            }
+            return flushedCount;
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    // ===== Private Methods =====
+
+    private int executeBatch(List<Object[]> batch) {
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+            return batch.size();
+        } catch (Exception e) {
+            log.warn("조회수 반영 실패, 다음 주기에 재시도: products={}, error={}", batch.size(), e.getMessage());
+            for (Object[] row : batch) {
+                long delta = (Long) row[0];
+                counters.computeIfAbsent((Long) row[1], id -> new LongAdder()).add(delta);
+                pendingViews.add(delta);
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.commercecoupon.service;
+
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 연관 상품 그래프 (사전 계산)
+ *
+ * - 함께 구매된 횟수가 많은 판매 상품(CoPurchaseRecommender)을 우선으로, 부족하면 같은 카테고리 인기 상품으로 채움
+ * - 상품 ID를 파티션으로 나눠 병렬 계산하고, 결과는 CSR 형태의 배열(정렬된 상품 ID + offset + 이웃 ID)로 보관
+ * - 주기적으로 새 그래프를 만든 뒤 참조를 통째로 교체 (조회 중에는 락 없음)
+ * 그래프에 없는 상품(마지막 계산 이후 등록된 상품)은 null을 반환하므로 호출 측에서 DB 조회로 대체합니다.
+ * 계산 이후 판매 중지된 상품이 포함될 수 있으므로 호출 측에서 조회 시점의 상태로 다시 거릅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatedProductGraph {
+
+    private static final int RELATED_SIZE = 5;
+    private static final int LOAD_PAGE_SIZE = 5000;
+    // 판매 중지 상품을 걸러낼 여유분까지 포함한 동시 구매 후보 수
+    private static final int CO_PURCHASE_CANDIDATES = 20;
+
+    private final ProductRepository productRepository;
+    private final CoPurchaseRecommender coPurchaseRecommender;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private volatile Graph graph;
+
+    /**
+     * 애플리케이션 시작 후 최초 계산 (동시 구매 추천 구성 이후)
+     */
+    @Order(1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    /**
+     * 정기 재계산 (기본: 10분)
+     */
+    @Scheduled(fixedDelayString = "${product.related.refresh-interval-ms:600000}",
+            initialDelayString = "${product.related.refresh-interval-ms:600000}")
+    public void refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        int partitions = Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(partitions);
+
+        try {
+            Map<Long, ProductNode> nodes = loadProducts();
+            Map<Long, long[]> topSellersByCategory = buildTopSellersByCategory(nodes);
+
+            List<CompletableFuture<Map<Long, long[]>>> futures = new ArrayList<>();
+            for (int partition = 0; partition < partitions; partition++) {
+                int currentPartition = partition;
+                futures.add(CompletableFuture.supplyAsync(() -> computePartition(
+                        currentPartition, partitions, nodes, topSellersByCategory), executor));
+            }
+
+            Map<Long, long[]> related = new HashMap<>(nodes.size() * 2);
+            for (CompletableFuture<Map<Long, long[]>> future : futures) {
+                related.putAll(future.join());
+            }
+
+            graph = Graph.of(related);
+            log.info("연관 상품 그래프 계산 완료: products={}, edges={}, elapsed={}ms",
+                    related.size(), graph.related.length, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("연관 상품 그래프 계산 실패: {}", e.getMessage(), e);
+        } finally {
+            executor.shutdown();
+            refreshing.set(false);
+        }
+    }
+
+    public boolean isReady() {
+        return graph != null;
+    }
+
+    /**
+     * 연관 상품 ID 목록
+     *
+     * @return 연관 상품 ID (그래프에 없는 상품이면 null)
+     */
+    public long[] getRelated(Long productId) {
+        Graph current = graph;
+        return current != null ? current.get(productId) : null;
+    }
+
+    // ===== Private Methods =====
+
+    private Map<Long, ProductNode> loadProducts() {
+        Map<Long, ProductNode> nodes = new HashMap<>();
+        Long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = productRepository.findRelationRows(lastId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                Long productId = (Long) row[0];
+                nodes.put(productId, new ProductNode(productId, (Long) row[1],
+                        row[2] != null ? ((Number) row[2]).intValue() : 0, row[3] == ProductStatus.ACTIVE));
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        return nodes;
+    }
+
+    private Map<Long, long[]> buildTopSellersByCategory(Map<Long, ProductNode> nodes) {
+        Map<Long, List<ProductNode>> byCategory = new HashMap<>();
+        for (ProductNode node : nodes.values()) {
+            if (node.active && node.categoryId != null) {
+                byCategory.computeIfAbsent(node.categoryId, id -> new ArrayList<>()).add(node);
+            }
+        }
+
+        // 자기 자신이 포함될 수 있으므로 하나 더 보관
+        Map<Long, long[]> topSellers = new HashMap<>();
+        byCategory.forEach((categoryId, products) -> {
+            products.sort(Comparator.comparingInt((ProductNode n) -> n.salesCount).reversed()
+                    .thenComparing(Comparator.comparingLong((ProductNode n) -> n.productId).reversed()));
+            int size = Math.min(products.size(), RELATED_SIZE + 1);
+            long[] ids = new long[size];
+            for (int i = 0; i < size; i++) {
+                ids[i] = products.get(i).productId;
+            }
+            topSellers.put(categoryId, ids);
+        });
+        return topSellers;
+    }
+
+    private Map<Long, long[]> computePartition(int partition, int partitions, Map<Long, ProductNode> nodes,
+                                               Map<Long, long[]> topSellersByCategory) {
+        Map<Long, long[]> result = new HashMap<>();
+        for (ProductNode node : nodes.values()) {
+            if (Math.floorMod(node.productId, partitions) != partition) {
+                continue;
+            }
+
+            Set<Long> related = new LinkedHashSet<>();
+            long[] coPurchased = coPurchaseRecommender.recommendForProduct(node.productId, CO_PURCHASE_CANDIDATES);
+            for (int i = 0; i < coPurchased.length && related.size() < RELATED_SIZE; i++) {
+                if (isCandidate(nodes.get(coPurchased[i]))) {
+                    related.add(coPurchased[i]);
+                }
+            }
+
+            long[] topSellers = node.categoryId != null ? topSellersByCategory.get(node.categoryId) : null;
+            if (topSellers != null) {
+                for (int i = 0; i < topSellers.length && related.size() < RELATED_SIZE; i++) {
+                    if (topSellers[i] != node.productId) {
+                        related.add(topSellers[i]);
+                    }
+                }
+            }
+
+            result.put(node.productId, related.stream().mapToLong(Long::longValue).toArray());
+        }
+        return result;
+    }
+
+    private boolean isCandidate(ProductNode node) {
+        return node != null && node.active;
+    }
+
+    private static class ProductNode {
+        private final long productId;
+        private final Long categoryId;
+        private final int salesCount;
+        private final boolean active;
+
+        ProductNode(long productId, Long categoryId, int salesCount, boolean active) {
+            this.productId = productId;
+            this.categoryId = categoryId;
+            this.salesCount = salesCount;
+            this.active = active;
+        }
+    }
+
+    /**
+     * CSR 인접 배열 (productIds[i]의 연관 상품 = related[offsets[i] .. offsets[i + 1]))
+     */
+    private static class Graph {
+        private final long[] productIds;
+        private final int[] offsets;
+        private final long[] related;
+
+        private Graph(long[] productIds, int[] offsets, long[] related) {
+            this.productIds = productIds;
+            this.offsets = offsets;
+            this.related = related;
+        }
+
+        static Graph of(Map<Long, long[]> adjacency) {
+            long[] productIds = adjacency.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            int[] offsets = new int[productIds.length + 1];
+            int edgeCount = 0;
+            for (int i = 0; i < productIds.length; i++) {
+                offsets[i] = edgeCount;
+                edgeCount += adjacency.get(productIds[i]).length;
+            }
+            offsets[productIds.length] = edgeCount;
+
+            long[] related = new long[edgeCount];
+            for (int i = 0; i < productIds.length; i++) {
+                long[] neighbors = adjacency.get(productIds[i]);
+                System.arraycopy(neighbors, 0, related, offsets[i], neighbors.length);
+            }
+            return new Graph(productIds, offsets, related);
+        }
+
+        long[] get(long productId) {
+            int index = Arrays.binarySearch(productIds, productId);
+            if (index < 0) {
+                return null;
+            }
+            return Arrays.copyOfRange(related, offsets[index], offsets[index + 1]);
+        }
+    }
+}
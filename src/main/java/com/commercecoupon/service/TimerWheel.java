@@ -0,0 +1,145 @@
+package com.commercecoupon.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이머 휠
+ *
+ * - 레벨마다 64칸, 1칸의 크기는 레벨 0이 tickMillis, 위 레벨은 아래 레벨 한 바퀴 (64배)
+ * - 등록/만료 모두 O(1)이며, 상위 레벨 칸은 해당 구간에 도달하면 아래 레벨로 다시 나눠 넣음 (cascade)
+ * - 4단계 범위(64^4 틱)를 넘는 항목은 최상위 마지막 칸에 두었다가 cascade 시 다시 배치
+ * - 취소는 표시만 하고(O(1)) 칸에서 꺼낼 때(만료/cascade) 버림
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+public final class TimerWheel<T> {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY_TICKS = (1L << (WHEEL_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final ArrayDeque<Timeout<T>>[][] wheels;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long tickMillis, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = nowMillis / tickMillis;
+        this.wheels = new ArrayDeque[LEVELS][WHEEL_SIZE];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                wheels[level][slot] = new ArrayDeque<>();
+            }
+        }
+    }
+
+    /**
+     * 항목 등록 (이미 지난 시각이면 다음 틱에 만료)
+     *
+     * @return 취소할 때 쓰는 핸들
+     */
+    public Timeout<T> schedule(long deadlineMillis, T item) {
+        long deadlineTick = Math.max((deadlineMillis + tickMillis - 1) / tickMillis, currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(deadlineTick, item);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * 등록 취소 (이미 만료되었거나 취소된 항목이면 false)
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.cancelled || timeout.expired) {
+            return false;
+        }
+        timeout.cancelled = true;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 현재 시각까지 틱을 진행하고 만료된 항목 반환
+     */
+    public List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // 상위 레벨 경계에 도달하면 해당 칸을 아래 레벨로 다시 배치
+            for (int level = 1; level < LEVELS; level++) {
+                int shift = WHEEL_BITS * level;
+                if ((currentTick & ((1L << shift) - 1)) != 0) {
+                    break;
+                }
+                cascade(level, (int) ((currentTick >>> shift) & WHEEL_MASK));
+            }
+
+            ArrayDeque<Timeout<T>> bucket = wheels[0][(int) (currentTick & WHEEL_MASK)];
+            while (!bucket.isEmpty()) {
+                Timeout<T> timeout = bucket.poll();
+                if (!timeout.cancelled) {
+                    timeout.expired = true;
+                    expired.add(timeout.item);
+                    size--;
+                }
+            }
+        }
+        return expired;
+    }
+
+    // ===== Private Methods =====
+
+    private void cascade(int level, int slot) {
+        ArrayDeque<Timeout<T>> bucket = wheels[level][slot];
+        int count = bucket.size();
+        for (int i = 0; i < count; i++) {
+            Timeout<T> timeout = bucket.poll();
+            if (!timeout.cancelled) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delay = Math.max(timeout.deadlineTick - currentTick, 0);
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = WHEEL_BITS * level;
+            if (delay < (1L << (shift + WHEEL_BITS))) {
+                long tick = Math.max(timeout.deadlineTick, currentTick);
+                wheels[level][(int) ((tick >>> shift) & WHEEL_MASK)].add(timeout);
+                return;
+            }
+        }
+
+        // 범위를 벗어나면 최상위 레벨의 가장 먼 칸에 보관
+        int shift = WHEEL_BITS * (LEVELS - 1);
+        wheels[LEVELS - 1][(int) (((currentTick + MAX_DELAY_TICKS) >>> shift) & WHEEL_MASK)].add(timeout);
+    }
+
+    /**
+     * 등록된 항목 핸들
+     */
+    public static final class Timeout<T> {
+        private final long deadlineTick;
+        private final T item;
+        private boolean cancelled;
+        private boolean expired;
+
+        private Timeout(long deadlineTick, T item) {
+            this.deadlineTick = deadlineTick;
+            this.item = item;
+        }
+    }
+}
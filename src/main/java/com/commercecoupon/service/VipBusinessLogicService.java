@@ -130,20 +130,34 @@ public class VipBusinessLogicService {
             User user = userRepository.findByEmail(email)
                     .orElseThrow(() -> new CustomException("존재하지 않는 사용자입니다"));
 
-            // 🔥 VIP Role이 없는 경우 안전하게 false 반환
-            try {
-                return user.getRole() == Role.VIP || user.getRole() == Role.ADMIN;
-            } catch (Exception e) {
-                // VIP enum이 없는 경우 ADMIN만 VIP 혜택 적용
-                log.debug("VIP Role 미정의, ADMIN만 VIP 혜택 적용: email={}", email);
-                return user.getRole() == Role.ADMIN;
-            }
+            return isVipMember(user);
         } catch (Exception e) {
             log.error("VIP 회원 확인 중 오류: email={}, error={}", email, e.getMessage());
             return false;
         }
     }
 
+    /**
+     * VIP 회원 여부 확인 (이미 조회한 사용자)
+     */
+    public boolean isVipMember(User user) {
+        // 🔥 VIP Role이 없는 경우 안전하게 false 반환
+        try {
+            return user.getRole() == Role.VIP || user.getRole() == Role.ADMIN;
+        } catch (Exception e) {
+            // VIP enum이 없는 경우 ADMIN만 VIP 혜택 적용
+            log.debug("VIP Role 미정의, ADMIN만 VIP 혜택 적용: email={}", user.getEmail());
+            return user.getRole() == Role.ADMIN;
+        }
+    }
+
+    /**
+     * VIP 혜택 대상 등급인지 (사용자를 조회하지 않고 등급만으로 확인)
+     */
+    public boolean isVipRole(Role role) {
+        return role == Role.VIP || role == Role.ADMIN;
+    }
+
     /**
      * 🆕 VIP 회원 할인 금액 계산 (안전한 방식)
      */
@@ -155,8 +169,7 @@ public class VipBusinessLogicService {
                 return 0; // VIP가 아니면 추가 할인 없음
             }
 
-            // VIP 추가 할인 정책: 구매 금액의 5% 추가 할인 (최대 5,000원)
-            Integer vipDiscount = Math.min(originalAmount * VIP_DISCOUNT_RATE / 100, MAX_VIP_DISCOUNT);
+            Integer vipDiscount = applyVipDiscountRate(originalAmount);
 
             log.info("VIP 추가 할인 계산: email={}, originalAmount={}, vipDiscount={}",
                     email, originalAmount, vipDiscount);
@@ -169,6 +182,23 @@ public class VipBusinessLogicService {
         }
     }
 
+    /**
+     * VIP 회원 할인 금액 계산 (이미 조회한 사용자 - 사용자를 다시 조회하지 않음)
+     */
+    public Integer calculateVipDiscount(User user, Integer originalAmount) {
+        if (user == null || !isVipMember(user)) {
+            return 0;
+        }
+        return applyVipDiscountRate(originalAmount);
+    }
+
+    /**
+     * VIP 추가 할인 정책: 구매 금액의 5% 추가 할인 (최대 5,000원)
+     */
+    private Integer applyVipDiscountRate(Integer originalAmount) {
+        return Math.min(originalAmount * VIP_DISCOUNT_RATE / 100, MAX_VIP_DISCOUNT);
+    }
+
     /**
      * 🆕 VIP 전용 혜택 정보 조회 (안전한 방식)
      */
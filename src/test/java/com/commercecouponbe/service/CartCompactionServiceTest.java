@@ -0,0 +1,224 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.config.CartReaperConfig;
+import com.commercecoupon.config.CartStoreConfig;
+import com.commercecoupon.entity.Cart;
+import com.commercecoupon.repository.CartItemRepository;
+import com.commercecoupon.repository.CartRepository;
+import com.commercecoupon.repository.UserRepository;
+import com.commercecoupon.service.CartCompactionService;
+import com.commercecoupon.service.InMemoryCartStore;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 방치된 장바구니 정리 - 빈 장바구니 삭제, 오래된 장바구니 압축, 다음 접근 시 복원 (H2)
+ */
+@ExtendWith(MockitoExtension.class)
+class CartCompactionServiceTest {
+
+    private static final LocalDateTime OLD = LocalDateTime.now().minusDays(60).truncatedTo(ChronoUnit.SECONDS);
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private CartItemRepository cartItemRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private JdbcTemplate jdbcTemplate;
+    private InMemoryCartStore inMemoryCartStore;
+    private CartCompactionService cartCompactionService;
+
+    @BeforeEach
+    void setUp() {
+        String url = "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MYSQL;DB_CLOSE_DELAY=-1";
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE carts (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT, " +
+                "version BIGINT, compacted_items BLOB, compacted_at TIMESTAMP, " +
+                "created_at TIMESTAMP, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE cart_items (id BIGINT AUTO_INCREMENT PRIMARY KEY, cart_id BIGINT, " +
+                "product_id BIGINT, quantity INT, added_price INT, created_at TIMESTAMP, updated_at TIMESTAMP)");
+
+        CartStoreConfig storeConfig = new CartStoreConfig();
+        storeConfig.setMode("memory");
+        inMemoryCartStore = new InMemoryCartStore(storeConfig, mock(UserRepository.class),
+                jdbcTemplate, transactionManager);
+        ReflectionTestUtils.invokeMethod(inMemoryCartStore, "init");
+
+        CartReaperConfig reaperConfig = new CartReaperConfig();
+        reaperConfig.setPauseMs(0);
+        cartCompactionService = new CartCompactionService(reaperConfig, cartRepository, cartItemRepository,
+                inMemoryCartStore, jdbcTemplate, entityManager, transactionManager);
+        ReflectionTestUtils.invokeMethod(cartCompactionService, "init");
+    }
+
+    @Test
+    @DisplayName("정리 - 빈 장바구니는 삭제, 아이템이 있으면 압축 후 아이템 행 삭제")
+    void reap_DeletesEmptyAndCompactsStaleCarts() {
+        // given
+        insertCart(1L, 1L, OLD);
+        insertItem(1L, 20L, 1, null);
+        insertItem(1L, 10L, 2, 1000);
+        insertCart(2L, 2L, OLD);
+        givenStaleRows(new Object[]{1L, 1L, OLD, 2L}, new Object[]{2L, 2L, OLD, 0L});
+
+        // when
+        int reaped = cartCompactionService.reap();
+
+        // then
+        assertThat(reaped).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM carts", Long.class)).containsExactly(1L);
+        assertThat(itemCount(1L)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT compacted_at IS NOT NULL FROM carts WHERE id = 1",
+                Boolean.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("정리 - 조회 이후 사용자가 바꾼 장바구니(수정일시 변경)는 압축/삭제하지 않음")
+    void reap_CartChangedAfterScan_Untouched() {
+        // given
+        insertCart(1L, 1L, OLD.plusDays(50));
+        insertItem(1L, 10L, 2, 1000);
+        insertCart(2L, 2L, OLD.plusDays(50));
+        givenStaleRows(new Object[]{1L, 1L, OLD, 1L}, new Object[]{2L, 2L, OLD, 0L});
+
+        // when
+        int reaped = cartCompactionService.reap();
+
+        // then
+        assertThat(reaped).isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM carts ORDER BY id", Long.class)).containsExactly(1L, 2L);
+        assertThat(itemCount(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정리 - 메모리에 올라와 있는 사용자의 장바구니는 건너뜀")
+    void reap_ResidentMemoryCart_Skipped() {
+        // given
+        insertCart(1L, 1L, OLD);
+        insertItem(1L, 10L, 2, 1000);
+        inMemoryCartStore.view(1L);
+        givenStaleRows(new Object[]{1L, 1L, OLD, 1L});
+
+        // when
+        int reaped = cartCompactionService.reap();
+
+        // then
+        assertThat(reaped).isZero();
+        assertThat(itemCount(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복원(메모리 장바구니) - 압축된 아이템을 수량/담을 당시 단가 그대로 올리고 다음 반영 때 아이템 행으로 되돌림")
+    void compactedCart_RestoredByMemoryStore() {
+        // given
+        insertCart(1L, 1L, OLD);
+        insertItem(1L, 20L, 1, null);
+        insertItem(1L, 10L, 2, 1000);
+        givenStaleRows(new Object[]{1L, 1L, OLD, 2L});
+        cartCompactionService.reap();
+
+        // when
+        InMemoryCartStore.CartView view = inMemoryCartStore.view(1L);
+        inMemoryCartStore.flushDirty();
+
+        // then
+        assertThat(view.getLines())
+                .extracting(InMemoryCartStore.CartLine::getProductId, InMemoryCartStore.CartLine::getQuantity,
+                        InMemoryCartStore.CartLine::getAddedPrice)
+                .containsExactly(tuple(10L, 2, 1000), tuple(20L, 1, 0));
+        assertThat(itemCount(1L)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT compacted_items IS NULL FROM carts WHERE id = 1",
+                Boolean.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("복원(DB 장바구니) - 호출 측 트랜잭션에서 아이템 행으로 되돌리고 엔티티를 다시 읽음")
+    void restoreIfCompacted_RestoresItemsAndRefreshes() {
+        // given
+        insertCart(1L, 1L, OLD);
+        insertItem(1L, 10L, 3, 500);
+        givenStaleRows(new Object[]{1L, 1L, OLD, 1L});
+        cartCompactionService.reap();
+        Cart cart = Cart.builder().id(1L).compactedAt(LocalDateTime.now()).build();
+
+        // when
+        cartCompactionService.restoreIfCompacted(cart);
+
+        // then
+        List<Map<String, Object>> items = jdbcTemplate.queryForList(
+                "SELECT product_id, quantity, added_price FROM cart_items WHERE cart_id = 1");
+        assertThat(items).extracting(row -> row.get("product_id"), row -> row.get("quantity"),
+                row -> row.get("added_price")).containsExactly(tuple(10L, 3, 500));
+        assertThat(jdbcTemplate.queryForObject("SELECT compacted_at IS NULL FROM carts WHERE id = 1",
+                Boolean.class)).isTrue();
+        verify(entityManager).refresh(cart);
+
+        // 이미 복원된 장바구니는 다시 복원하지 않음
+        cartCompactionService.restoreIfCompacted(cart);
+        assertThat(itemCount(1L)).isEqualTo(1);
+    }
+
+    // ===== Private Methods =====
+
+    private void givenStaleRows(Object[]... rows) {
+        when(cartRepository.findStaleCartRows(any(), any(), any(), any()))
+                .thenReturn(List.of(rows), List.of());
+        lenient().when(cartItemRepository.findSnapshotRows(anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<Long> cartIds = invocation.getArgument(0);
+                    String in = cartIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+                    return jdbcTemplate.query("SELECT cart_id, product_id, quantity, added_price FROM cart_items " +
+                                    "WHERE cart_id IN (" + in + ") ORDER BY cart_id, id",
+                            (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getLong(2), rs.getInt(3),
+                                    (Integer) rs.getObject(4)});
+                });
+    }
+
+    private void insertCart(Long id, Long userId, LocalDateTime updatedAt) {
+        jdbcTemplate.update("INSERT INTO carts (id, user_id, version, created_at, updated_at) VALUES (?, ?, 1, ?, ?)",
+                id, userId, Timestamp.valueOf(updatedAt), Timestamp.valueOf(updatedAt));
+    }
+
+    private void insertItem(Long cartId, Long productId, int quantity, Integer addedPrice) {
+        jdbcTemplate.update("INSERT INTO cart_items (cart_id, product_id, quantity, added_price, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", cartId, productId, quantity, addedPrice,
+                Timestamp.valueOf(OLD), Timestamp.valueOf(OLD));
+    }
+
+    private int itemCount(Long cartId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cart_items WHERE cart_id = ?", Integer.class, cartId);
+    }
+}
@@ -0,0 +1,404 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.config.CartStoreConfig;
+import com.commercecoupon.dto.request.CartAddRequest;
+import com.commercecoupon.dto.request.CartBatchRequest;
+import com.commercecoupon.dto.request.CartBatchRequest.OperationType;
+import com.commercecoupon.dto.response.CartDeltaResponse;
+import com.commercecoupon.dto.response.CartItemResponse;
+import com.commercecoupon.dto.response.CartResponse;
+import com.commercecoupon.dto.response.ProductResponse;
+import com.commercecoupon.entity.Category;
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.entity.User;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.enums.Role;
+import com.commercecoupon.exception.CustomException;
+import com.commercecoupon.repository.CartItemRepository;
+import com.commercecoupon.repository.CartRepository;
+import com.commercecoupon.repository.ProductRepository;
+import com.commercecoupon.repository.UserRepository;
+import com.commercecoupon.service.CartCompactionService;
+import com.commercecoupon.service.CartService;
+import com.commercecoupon.service.CartValuator;
+import com.commercecoupon.service.CoPurchaseRecommender;
+import com.commercecoupon.service.InMemoryCartStore;
+import com.commercecoupon.service.ProductCatalogCache;
+import com.commercecoupon.service.VipBusinessLogicService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+/**
+ * 장바구니 서비스 - 메모리 장바구니 경로 (장바구니 저장소는 H2 위의 실제 InMemoryCartStore, 상품은 목)
+ */
+@ExtendWith(MockitoExtension.class)
+class CartServiceTest {
+
+    private static final String EMAIL = "user@test.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private CartItemRepository cartItemRepository;
+
+    @Mock
+    private VipBusinessLogicService vipBusinessLogicService;
+
+    @Mock
+    private CoPurchaseRecommender coPurchaseRecommender;
+
+    @Mock
+    private CartCompactionService cartCompactionService;
+
+    @Mock
+    private ProductCatalogCache productCatalogCache;
+
+    private final Map<Long, Product> catalog = new HashMap<>();
+    private User user;
+    private CartService cartService;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(1L).email(EMAIL).name("사용자").role(Role.USER).build();
+        lenient().when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        lenient().when(productRepository.findAllById(any())).thenAnswer(invocation ->
+                findProducts(invocation.getArgument(0)));
+        lenient().when(productRepository.findValuationRows(anyCollection())).thenAnswer(invocation ->
+                findProducts(invocation.getArgument(0)).stream()
+                        .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                        .map(p -> new Object[]{p.getId(), p.getPrice(), p.getStock(), p.getStatus()})
+                        .collect(Collectors.toList()));
+        lenient().when(productCatalogCache.getSummaries(anyCollection(), any())).thenAnswer(invocation -> {
+            Function<List<Long>, List<ProductResponse>> loader = invocation.getArgument(1);
+            return loader.apply(new ArrayList<>(invocation.<Collection<Long>>getArgument(0))).stream()
+                    .collect(Collectors.toMap(ProductResponse::getId, p -> p));
+        });
+
+        cartService = new CartService(userRepository, productRepository, cartRepository, cartItemRepository,
+                vipBusinessLogicService, coPurchaseRecommender, memoryCartStore(), new CartValuator(productRepository),
+                cartCompactionService, productCatalogCache);
+
+        addProduct(10L, 1000, 5, ProductStatus.ACTIVE);
+        addProduct(20L, 500, 10, ProductStatus.ACTIVE);
+    }
+
+    // ===== 변경분 응답 / ETag =====
+
+    @Test
+    @DisplayName("변경분 응답 - 변경 전/후 버전, 변경된 아이템, 다시 계산한 합계")
+    void addToCartDelta_ReturnsChangedItemAndTotals() {
+        // given
+        when(productCatalogCache.getVersion()).thenReturn(7L);
+        cartService.addToCartDelta(EMAIL, addRequest(20L, 2));
+
+        // when
+        CartDeltaResponse delta = cartService.addToCartDelta(EMAIL, addRequest(10L, 3));
+
+        // then
+        assertThat(delta.getUserId()).isEqualTo(1L);
+        assertThat(delta.getBaseVersion()).isEqualTo(1L);
+        assertThat(delta.getVersion()).isEqualTo(2L);
+        assertThat(delta.getChangedItem().getId()).isEqualTo(10L);
+        assertThat(delta.getChangedItem().getQuantity()).isEqualTo(3);
+        assertThat(delta.getChangedItem().getTotalPrice()).isEqualTo(3000);
+        assertThat(delta.getRemovedItemId()).isNull();
+        assertThat(delta.getTotalItemCount()).isEqualTo(5);
+        assertThat(delta.getTotalAmount()).isEqualTo(4000);
+        assertThat(delta.getExpectedFinalAmount()).isEqualTo(4000);
+        assertThat(delta.getCacheTag()).isEqualTo("\"2-7\"");
+    }
+
+    @Test
+    @DisplayName("변경분 응답 - 삭제는 삭제된 아이템 ID만, 합계는 남은 아이템 기준")
+    void removeFromCartDelta_ReturnsRemovedItemId() {
+        // given
+        when(productCatalogCache.getVersion()).thenReturn(0L);
+        cartService.addToCartDelta(EMAIL, addRequest(10L, 1));
+        cartService.addToCartDelta(EMAIL, addRequest(20L, 2));
+
+        // when
+        CartDeltaResponse delta = cartService.removeFromCartDelta(EMAIL, 10L);
+
+        // then
+        assertThat(delta.getChangedItem()).isNull();
+        assertThat(delta.getRemovedItemId()).isEqualTo(10L);
+        assertThat(delta.getBaseVersion()).isEqualTo(2L);
+        assertThat(delta.getVersion()).isEqualTo(3L);
+        assertThat(delta.getTotalItemCount()).isEqualTo(2);
+        assertThat(delta.getTotalAmount()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("변경분 응답 - 재고 초과면 예외, 장바구니와 버전은 그대로")
+    void updateCartItemQuantityDelta_OverStock_NoChange() {
+        // given
+        when(productCatalogCache.getVersion()).thenReturn(0L);
+        cartService.addToCartDelta(EMAIL, addRequest(10L, 1));
+
+        // when & then
+        assertThatThrownBy(() -> cartService.updateCartItemQuantityDelta(EMAIL, 10L, 6))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("재고가 부족합니다");
+        CartResponse cart = cartService.getCart(EMAIL);
+        assertThat(cart.getVersion()).isEqualTo(1L);
+        assertThat(cart.getItems()).extracting(item -> item.getQuantity()).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("ETag - 변경분 응답의 ETag와 이후 조회 ETag가 같고, 상품 카탈로그/VIP 여부가 바뀌면 달라짐")
+    void getCartETag_MatchesDeltaAndTracksCatalogAndVip() {
+        // given
+        when(productCatalogCache.getVersion()).thenReturn(3L, 3L, 4L, 4L);
+        CartDeltaResponse delta = cartService.addToCartDelta(EMAIL, addRequest(10L, 1));
+
+        // when
+        String sameTag = cartService.getCartETag(EMAIL);
+        String catalogChangedTag = cartService.getCartETag(EMAIL);
+        when(vipBusinessLogicService.isVipMember(user)).thenReturn(true);
+        String vipTag = cartService.getCartETag(EMAIL);
+
+        // then
+        assertThat(sameTag).isEqualTo(delta.getCacheTag()).isEqualTo("\"1-3\"");
+        assertThat(catalogChangedTag).isEqualTo("\"1-4\"");
+        assertThat(vipTag).isEqualTo("\"1-4-vip\"");
+    }
+
+    @Test
+    @DisplayName("ETag - 전체 조회 응답의 ETag는 같은 시점의 getCartETag와 같음")
+    void getCart_CacheTagMatchesETag() {
+        // given
+        when(productCatalogCache.getVersion()).thenReturn(5L);
+        cartService.addToCartDelta(EMAIL, addRequest(10L, 2));
+
+        // when
+        CartResponse cart = cartService.getCart(EMAIL);
+
+        // then
+        assertThat(cart.getCacheTag()).isEqualTo(cartService.getCartETag(EMAIL)).isEqualTo("\"1-5\"");
+        assertThat(cart.getTotalAmount()).isEqualTo(2000);
+    }
+
+    // ===== 일괄 변경 =====
+
+    @Test
+    @DisplayName("일괄 변경 - 순서대로 적용한 최종 수량으로 한 번에 반영")
+    void applyOperations_AppliesInOrder() {
+        // given
+        when(productCatalogCache.getVersion()).thenReturn(0L);
+        addProduct(30L, 2000, 3, ProductStatus.ACTIVE);
+        cartService.addToCartDelta(EMAIL, addRequest(10L, 1));
+        cartService.addToCartDelta(EMAIL, addRequest(20L, 2));
+
+        // when
+        CartResponse cart = cartService.applyOperations(EMAIL, List.of(
+                operation(OperationType.UPDATE, 10L, 4),
+                operation(OperationType.ADD, 20L, 3),
+                operation(OperationType.ADD, 30L, 1),
+                operation(OperationType.REMOVE, 10L, null),
+                operation(OperationType.ADD, 10L, 2)));
+
+        // then
+        assertThat(cart.getItems()).extracting(item -> item.getId(), item -> item.getQuantity())
+                .containsExactlyInAnyOrder(tuple(10L, 2), tuple(20L, 5), tuple(30L, 1));
+        assertThat(cart.getTotalAmount()).isEqualTo(2 * 1000 + 5 * 500 + 2000);
+    }
+
+    @Test
+    @DisplayName("일괄 변경 - 하나라도 실패하면 앞선 변경까지 모두 취소")
+    void applyOperations_OneFails_NothingApplied() {
+        // given
+        when(productCatalogCache.getVersion()).thenReturn(0L);
+        cartService.addToCartDelta(EMAIL, addRequest(20L, 2));
+
+        // when & then
+        assertThatThrownBy(() -> cartService.applyOperations(EMAIL, List.of(
+                operation(OperationType.ADD, 20L, 1),
+                operation(OperationType.ADD, 10L, 1),
+                operation(OperationType.UPDATE, 30L, 1))))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("장바구니에 없는 상품입니다: 30");
+        assertThatThrownBy(() -> cartService.applyOperations(EMAIL, List.of(
+                operation(OperationType.ADD, 10L, 1),
+                operation(OperationType.ADD, 99L, 1))))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("존재하지 않는 상품입니다: 99");
+
+        CartResponse cart = cartService.getCart(EMAIL);
+        assertThat(cart.getVersion()).isEqualTo(1L);
+        assertThat(cart.getItems()).extracting(item -> item.getId(), item -> item.getQuantity())
+                .containsExactly(tuple(20L, 2));
+    }
+
+    @Test
+    @DisplayName("일괄 변경 - 재고는 중간 수량이 아닌 상품별 최종 수량으로 확인")
+    void applyOperations_StockCheckedOnFinalQuantity() {
+        // given
+        when(productCatalogCache.getVersion()).thenReturn(0L);
+
+        // when & then (재고 5)
+        assertThatThrownBy(() -> cartService.applyOperations(EMAIL, List.of(
+                operation(OperationType.ADD, 10L, 3),
+                operation(OperationType.ADD, 10L, 3))))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("요청 수량: 6, 현재 재고: 5");
+
+        CartResponse cart = cartService.applyOperations(EMAIL, List.of(
+                operation(OperationType.ADD, 10L, 3),
+                operation(OperationType.ADD, 10L, 3),
+                operation(OperationType.UPDATE, 10L, 5)));
+        assertThat(cart.getItems()).extracting(item -> item.getQuantity()).containsExactly(5);
+    }
+
+    @Test
+    @DisplayName("일괄 변경 - ADD/UPDATE 수량이 없으면 예외")
+    void applyOperations_MissingQuantity_Throws() {
+        assertThatThrownBy(() -> cartService.applyOperations(EMAIL, List.of(
+                operation(OperationType.ADD, 10L, null))))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("수량은 1개 이상이어야 합니다: 10");
+    }
+
+    // ===== 재고 재검증 =====
+
+    @Test
+    @DisplayName("재고 부족 아이템 - 담은 뒤 재고가 줄어든 상품만, 현재 재고 기준")
+    void getInsufficientStockItems_ReturnsOnlyShortItems() {
+        // given
+        when(productCatalogCache.getVersion()).thenReturn(0L);
+        cartService.addToCartDelta(EMAIL, addRequest(10L, 4));
+        cartService.addToCartDelta(EMAIL, addRequest(20L, 2));
+        addProduct(10L, 1000, 2, ProductStatus.ACTIVE);
+
+        // when
+        List<CartItemResponse> items = cartService.getInsufficientStockItems(EMAIL);
+
+        // then
+        assertThat(items).extracting(CartItemResponse::getId, CartItemResponse::getQuantity)
+                .containsExactly(tuple(10L, 4));
+        assertThat(items.get(0).getProduct().getStock()).isEqualTo(2);
+    }
+
+    // ===== 비회원 장바구니 병합 =====
+
+    @Test
+    @DisplayName("병합 - 없는 상품/판매 중지 상품은 건너뛰고, 재고를 넘는 수량은 재고만큼만")
+    void mergeIntoCart_SkipsUnavailableAndClampsToStock() {
+        // given
+        when(productCatalogCache.getVersion()).thenReturn(0L);
+        addProduct(40L, 3000, 10, ProductStatus.DISCONTINUED);
+        cartService.addToCartDelta(EMAIL, addRequest(10L, 1));
+        Map<Long, Integer> guestItems = new LinkedHashMap<>();
+        guestItems.put(10L, 9);
+        guestItems.put(20L, 2);
+        guestItems.put(99L, 1);
+        guestItems.put(40L, 1);
+
+        // when
+        CartResponse cart = cartService.mergeIntoCart(EMAIL, guestItems);
+
+        // then
+        assertThat(cart.getItems()).extracting(item -> item.getId(), item -> item.getQuantity())
+                .containsExactly(tuple(10L, 5), tuple(20L, 2));
+    }
+
+    @Test
+    @DisplayName("병합 - 재고가 줄었어도 이미 담겨 있던 수량은 줄이지 않음")
+    void mergeIntoCart_DoesNotReduceExistingQuantity() {
+        // given
+        when(productCatalogCache.getVersion()).thenReturn(0L);
+        cartService.addToCartDelta(EMAIL, addRequest(10L, 4));
+        addProduct(10L, 1000, 2, ProductStatus.ACTIVE);
+
+        // when
+        CartResponse cart = cartService.mergeIntoCart(EMAIL, Map.of(10L, 1));
+
+        // then
+        assertThat(cart.getItems()).extracting(item -> item.getQuantity()).containsExactly(4);
+    }
+
+    // ===== Private Methods =====
+
+    private InMemoryCartStore memoryCartStore() {
+        String url = "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MYSQL;DB_CLOSE_DELAY=-1";
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE carts (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT, " +
+                "version BIGINT, compacted_items BLOB, compacted_at TIMESTAMP, " +
+                "created_at TIMESTAMP, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE cart_items (id BIGINT AUTO_INCREMENT PRIMARY KEY, cart_id BIGINT, " +
+                "product_id BIGINT, quantity INT, added_price INT, created_at TIMESTAMP, updated_at TIMESTAMP)");
+
+        CartStoreConfig config = new CartStoreConfig();
+        config.setMode("memory");
+        InMemoryCartStore store = new InMemoryCartStore(config, userRepository, jdbcTemplate,
+                new DataSourceTransactionManager(dataSource));
+        ReflectionTestUtils.invokeMethod(store, "init");
+        return store;
+    }
+
+    private void addProduct(Long id, int price, int stock, ProductStatus status) {
+        catalog.put(id, Product.builder()
+                .id(id)
+                .name("상품" + id)
+                .price(price)
+                .stock(stock)
+                .status(status)
+                .category(Category.builder().id(1L).name("전자기기").build())
+                .build());
+    }
+
+    private List<Product> findProducts(Iterable<Long> ids) {
+        List<Product> products = new ArrayList<>();
+        for (Long id : ids) {
+            if (catalog.containsKey(id)) {
+                products.add(catalog.get(id));
+            }
+        }
+        return products;
+    }
+
+    private CartBatchRequest.CartOperation operation(OperationType type, Long productId, Integer quantity) {
+        return new CartBatchRequest.CartOperation(type, productId, quantity);
+    }
+
+    private CartAddRequest addRequest(Long productId, int quantity) {
+        CartAddRequest request = new CartAddRequest();
+        request.setProductId(productId);
+        request.setQuantity(quantity);
+        return request;
+    }
+}
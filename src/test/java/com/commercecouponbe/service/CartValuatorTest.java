@@ -0,0 +1,129 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.entity.CartItem;
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.repository.ProductRepository;
+import com.commercecoupon.service.CartValuator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CartValuatorTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private CartValuator cartValuator;
+
+    @Test
+    @DisplayName("계산 - 현재 가격으로 합계, 재고 부족 수량, 담은 이후 가격 변경, 판매 여부를 입력 순서대로")
+    void value_ComputesTotalsShortagesAndPriceChanges() {
+        // given (조회 결과는 ID 오름차순)
+        when(productRepository.findValuationRows(anyCollection())).thenReturn(rows(
+                new Object[]{10L, 1000, 5, ProductStatus.ACTIVE},
+                new Object[]{20L, 500, 1, ProductStatus.ACTIVE},
+                new Object[]{30L, 2000, 10, ProductStatus.DISCONTINUED}));
+
+        // when
+        CartValuator.Valuation valuation = cartValuator.value(
+                new long[]{30L, 10L, 20L},
+                new int[]{1, 2, 3},
+                new int[]{2000, 900, 0});
+
+        // then
+        assertThat(valuation.size()).isEqualTo(3);
+        assertThat(valuation.getTotalItemCount()).isEqualTo(6);
+        assertThat(valuation.getTotalAmount()).isEqualTo(2000 + 2 * 1000 + 3 * 500);
+
+        assertThat(valuation.getUnitPrice(1)).isEqualTo(1000);
+        assertThat(valuation.isPriceChanged(1)).isTrue();     // 900 -> 1000
+        assertThat(valuation.isPriceChanged(0)).isFalse();
+        assertThat(valuation.isPriceChanged(2)).isFalse();    // 담을 당시 가격을 모름
+        assertThat(valuation.getPriceChangedCount()).isEqualTo(1);
+
+        assertThat(valuation.getShortage(2)).isEqualTo(2);    // 3개 담았고 재고 1
+        assertThat(valuation.getShortage(1)).isZero();
+        assertThat(valuation.getShortageCount()).isEqualTo(1);
+        assertThat(valuation.hasShortage()).isTrue();
+
+        assertThat(valuation.isOnSale(0)).isFalse();
+        assertThat(valuation.isOnSale(1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("계산 - 삭제된 상품은 합계에서 빼고 isMissing으로 표시")
+    void value_MissingProduct_ExcludedFromTotals() {
+        // given
+        when(productRepository.findValuationRows(anyCollection())).thenReturn(rows(
+                new Object[]{10L, 1000, 5, ProductStatus.ACTIVE}));
+
+        // when
+        CartValuator.Valuation valuation = cartValuator.value(
+                new long[]{10L, 99L},
+                new int[]{1, 4},
+                new int[]{1000, 3000});
+
+        // then
+        assertThat(valuation.isMissing(1)).isTrue();
+        assertThat(valuation.getMissingCount()).isEqualTo(1);
+        assertThat(valuation.getTotalItemCount()).isEqualTo(1);
+        assertThat(valuation.getTotalAmount()).isEqualTo(1000);
+        assertThat(valuation.getShortage(1)).isZero();
+        assertThat(valuation.getPriceChangedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 장바구니 - 아이템의 상품 ID만 사용, 담을 당시 가격이 없으면 가격 변경 아님")
+    void value_CartItems() {
+        // given
+        when(productRepository.findValuationRows(anyCollection())).thenReturn(rows(
+                new Object[]{10L, 1200, 5, ProductStatus.ACTIVE},
+                new Object[]{20L, 500, 5, ProductStatus.ACTIVE}));
+        List<CartItem> items = List.of(
+                CartItem.builder().product(Product.builder().id(10L).build()).quantity(2).addedPrice(1000).build(),
+                CartItem.builder().product(Product.builder().id(20L).build()).quantity(1).build());
+
+        // when
+        CartValuator.Valuation valuation = cartValuator.value(items);
+
+        // then
+        assertThat(valuation.getProductId(0)).isEqualTo(10L);
+        assertThat(valuation.getTotalAmount()).isEqualTo(2 * 1200 + 500);
+        assertThat(valuation.isPriceChanged(0)).isTrue();
+        assertThat(valuation.isPriceChanged(1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("빈 장바구니 - 상품을 조회하지 않음")
+    void value_Empty_NoQuery() {
+        // when
+        CartValuator.Valuation valuation = cartValuator.value(new long[0], new int[0], new int[0]);
+
+        // then
+        assertThat(valuation.size()).isZero();
+        assertThat(valuation.getTotalAmount()).isZero();
+        verify(productRepository, never()).findValuationRows(any());
+    }
+
+    // ===== Private Methods =====
+
+    private List<Object[]> rows(Object[]... rows) {
+        return Arrays.asList(rows);
+    }
+}
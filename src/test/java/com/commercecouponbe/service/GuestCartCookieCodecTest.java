@@ -0,0 +1,139 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.config.GuestCartConfig;
+import com.commercecoupon.service.GuestCartCookieCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * 비회원 장바구니 쿠키 - 서명/형식/유효 기간/개수 제한 검증 (실패 시 빈 장바구니)
+ */
+class GuestCartCookieCodecTest {
+
+    private static final String SECRET = "test-guest-cart-secret-0123456789abcdef";
+
+    private GuestCartConfig config;
+    private GuestCartCookieCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        config = new GuestCartConfig();
+        config.setSecret(SECRET);
+        config.setMaxItems(3);
+        config.setMaxQuantity(10);
+        codec = new GuestCartCookieCodec(config);
+    }
+
+    @Test
+    @DisplayName("인코딩/디코딩 - 담은 순서와 수량 유지, 쿠키에 쓸 수 있는 문자만 사용")
+    void encodeDecode_RoundTrip() {
+        // given
+        Map<Long, Integer> items = new LinkedHashMap<>();
+        items.put(300L, 2);
+        items.put(1L, 1);
+        items.put(1_000_000L, 10);
+
+        // when
+        String cookie = codec.encode(items);
+        Map<Long, Integer> decoded = codec.decode(cookie);
+
+        // then
+        assertThat(cookie).matches("[A-Za-z0-9_-]+");
+        assertThat(decoded).containsExactly(entry(300L, 2), entry(1L, 1), entry(1_000_000L, 10));
+    }
+
+    @Test
+    @DisplayName("서명 - 한 바이트라도 바뀌거나 다른 비밀키로 서명되면 빈 장바구니")
+    void decode_TamperedOrForeignSignature_Empty() {
+        // given
+        String cookie = codec.encode(Map.of(10L, 2));
+        byte[] bytes = Base64.getUrlDecoder().decode(cookie);
+        bytes[2] ^= 0x01;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        GuestCartConfig otherConfig = new GuestCartConfig();
+        otherConfig.setSecret("another-secret-another-secret-0123456789");
+        String foreign = new GuestCartCookieCodec(otherConfig).encode(Map.of(10L, 2));
+
+        // when & then
+        assertThat(codec.decode(tampered)).isEmpty();
+        assertThat(codec.decode(foreign)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("형식 - 비어 있거나 Base64가 아니거나 서명보다 짧으면 빈 장바구니")
+    void decode_Malformed_Empty() {
+        assertThat(codec.decode(null)).isEmpty();
+        assertThat(codec.decode("")).isEmpty();
+        assertThat(codec.decode("not base64 !!")).isEmpty();
+        assertThat(codec.decode("AAAA")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("유효 기간 - 발급 후 maxAgeSeconds가 지났거나 발급 시각이 미래면 빈 장바구니")
+    void decode_ExpiredOrFutureIssuedAt_Empty() {
+        // given
+        long now = System.currentTimeMillis() / 1000;
+
+        // when & then
+        assertThat(codec.decode(signed(1, now - 60, 1, 10, 1))).containsExactly(entry(10L, 1));
+        assertThat(codec.decode(signed(1, now - config.getMaxAgeSeconds() - 60, 1, 10, 1))).isEmpty();
+        assertThat(codec.decode(signed(1, now + 3600, 1, 10, 1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서명이 맞아도 형식 버전/아이템 수/수량 제한/남는 바이트가 맞지 않으면 빈 장바구니")
+    void decode_SignedButInvalidPayload_Empty() {
+        // given
+        long now = System.currentTimeMillis() / 1000;
+
+        // when & then
+        assertThat(codec.decode(signed(2, now, 1, 10, 1))).isEmpty();                          // 형식 버전
+        assertThat(codec.decode(signed(1, now, 4, 1, 1, 2, 1, 3, 1, 4, 1))).isEmpty();         // 아이템 수 초과
+        assertThat(codec.decode(signed(1, now, 1, 10, 11))).isEmpty();                         // 수량 초과
+        assertThat(codec.decode(signed(1, now, 1, 0, 1))).isEmpty();                           // 상품 ID 0
+        assertThat(codec.decode(signed(1, now, 1, 10, 1, 99))).isEmpty();                      // 남는 바이트
+        assertThat(codec.decode(signed(1, now, 2, 10, 1))).isEmpty();                          // 잘린 본문
+    }
+
+    // ===== Private Methods =====
+
+    /**
+     * 올바르게 서명된 쿠키 값 (본문은 varint 나열)
+     */
+    private String signed(long... values) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (long value : values) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+        byte[] payload = out.toByteArray();
+
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] signature = mac.doFinal(payload);
+            byte[] value = Arrays.copyOf(payload, payload.length + 16);
+            System.arraycopy(signature, 0, value, payload.length, 16);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
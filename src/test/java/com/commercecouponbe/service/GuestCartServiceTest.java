@@ -0,0 +1,129 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.config.GuestCartConfig;
+import com.commercecoupon.dto.response.CartResponse;
+import com.commercecoupon.exception.CustomException;
+import com.commercecoupon.service.CartService;
+import com.commercecoupon.service.GuestCartCookieCodec;
+import com.commercecoupon.service.GuestCartService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseCookie;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GuestCartServiceTest {
+
+    private static final String EMAIL = "user@test.com";
+
+    @Mock
+    private CartService cartService;
+
+    private GuestCartConfig config;
+    private GuestCartService guestCartService;
+
+    @BeforeEach
+    void setUp() {
+        config = new GuestCartConfig();
+        config.setSecret("test-guest-cart-secret-0123456789abcdef");
+        config.setMaxItems(2);
+        config.setMaxQuantity(5);
+        guestCartService = new GuestCartService(config, new GuestCartCookieCodec(config), cartService);
+    }
+
+    @Test
+    @DisplayName("담기/수량 변경/삭제 - 응답 쿠키를 다음 요청에서 그대로 읽음")
+    void cookieRoundTrip() {
+        // given
+        Map<Long, Integer> items = guestCartService.read(new MockHttpServletRequest());
+        guestCartService.add(items, 10L, 2);
+        guestCartService.add(items, 20L, 1);
+        guestCartService.add(items, 10L, 1);
+        guestCartService.updateQuantity(items, 20L, 4);
+
+        // when
+        ResponseCookie cookie = guestCartService.toCookie(items);
+        MockHttpServletRequest nextRequest = new MockHttpServletRequest();
+        nextRequest.setCookies(new Cookie(config.getCookieName(), cookie.getValue()));
+        Map<Long, Integer> read = guestCartService.read(nextRequest);
+
+        // then
+        assertThat(cookie.isHttpOnly()).isTrue();
+        assertThat(cookie.getMaxAge().getSeconds()).isEqualTo(config.getMaxAgeSeconds());
+        assertThat(read).containsExactly(entry(10L, 3), entry(20L, 4));
+        assertThat(guestCartService.remove(read, 10L)).containsExactly(entry(20L, 4));
+    }
+
+    @Test
+    @DisplayName("제한 - 상품 종류 수, 상품당 수량, 없는 상품 변경은 예외")
+    void limits() {
+        // given
+        Map<Long, Integer> items = new LinkedHashMap<>();
+        guestCartService.add(items, 10L, 5);
+        guestCartService.add(items, 20L, 1);
+
+        // when & then
+        assertThatThrownBy(() -> guestCartService.add(items, 30L, 1))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("최대 2개 상품");
+        assertThatThrownBy(() -> guestCartService.add(items, 10L, 1))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("5개 이하");
+        assertThatThrownBy(() -> guestCartService.updateQuantity(items, 30L, 1))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("장바구니에 없는 상품입니다: 30");
+        assertThat(items).containsExactly(entry(10L, 5), entry(20L, 1));
+    }
+
+    @Test
+    @DisplayName("비어 있으면 삭제 쿠키")
+    void toCookie_Empty_Expires() {
+        // when
+        ResponseCookie cookie = guestCartService.toCookie(new LinkedHashMap<>());
+
+        // then
+        assertThat(cookie.getValue()).isEmpty();
+        assertThat(cookie.getMaxAge().isZero()).isTrue();
+    }
+
+    @Test
+    @DisplayName("병합 - 회원 장바구니 일괄 변경 경로로 한 번에 병합")
+    void mergeIntoUserCart_DelegatesToCartService() {
+        // given
+        Map<Long, Integer> items = Map.of(10L, 2);
+        CartResponse merged = CartResponse.builder().version(3L).build();
+        when(cartService.mergeIntoCart(EMAIL, items)).thenReturn(merged);
+
+        // when & then
+        assertThat(guestCartService.mergeIntoUserCart(EMAIL, items)).isSameAs(merged);
+    }
+
+    @Test
+    @DisplayName("병합 - 비어 있으면 호출하지 않고, 실패해도 로그인을 막지 않도록 null")
+    void mergeIntoUserCart_EmptyOrFailure_ReturnsNull() {
+        // given
+        when(cartService.mergeIntoCart(anyString(), anyMap())).thenThrow(new CustomException("DB 오류"));
+
+        // when & then
+        assertThat(guestCartService.mergeIntoUserCart(EMAIL, Map.of(10L, 2))).isNull();
+        assertThat(guestCartService.mergeIntoUserCart(EMAIL, Map.of())).isNull();
+        verify(cartService, never()).mergeIntoCart(EMAIL, Map.of());
+    }
+}
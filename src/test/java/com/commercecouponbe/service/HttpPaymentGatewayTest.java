@@ -0,0 +1,244 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.config.PaymentGatewayConfig;
+import com.commercecoupon.exception.CustomException;
+import com.commercecoupon.service.HttpPaymentGateway;
+import com.commercecoupon.service.PaymentGateway;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * HTTP PG 연동 - 응답 코드별 결과 해석, 인증 헤더/요청 본문, 시간 초과와 동시 요청 한도 (로컬 스텁 서버)
+ */
+class HttpPaymentGatewayTest {
+
+    private static final String SECRET_KEY = "test_sk";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private PaymentGatewayConfig config;
+    private HttpPaymentGateway gateway;
+
+    private volatile int responseStatus;
+    private volatile String responseBody;
+    private volatile CountDownLatch responseGate;
+    private final AtomicReference<String> lastAuthorization = new AtomicReference<>();
+    private final AtomicReference<String> lastPath = new AtomicReference<>();
+    private final AtomicReference<JsonNode> lastBody = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/", this::handle);
+        server.start();
+
+        config = new PaymentGatewayConfig();
+        config.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        config.setSecretKey(SECRET_KEY);
+        config.setRequestTimeoutMs(2000);
+        gateway = newGateway();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(gateway, "shutdown");
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("승인 성공 - Basic 인증 헤더와 JSON 본문으로 요청하고 거래 ID/카드 정보를 돌려줌")
+    void approve_2xx_Succeeded() throws Exception {
+        // given
+        respondWith(200, "{\"transactionId\":\"TX1\",\"cardInfo\":\"카드(*1234)\"}");
+
+        // when
+        PaymentGateway.GatewayResult result = gateway.approve("tgen_A", 10L, 5000).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getTransactionId()).isEqualTo("TX1");
+        assertThat(result.getCardInfo()).isEqualTo("카드(*1234)");
+        assertThat(lastPath.get()).isEqualTo("/v1/payments/confirm");
+        assertThat(lastAuthorization.get()).isEqualTo("Basic " + Base64.getEncoder()
+                .encodeToString((SECRET_KEY + ":").getBytes(StandardCharsets.UTF_8)));
+        assertThat(lastBody.get().path("paymentKey").asText()).isEqualTo("tgen_A");
+        assertThat(lastBody.get().path("orderId").asLong()).isEqualTo(10L);
+        assertThat(lastBody.get().path("amount").asInt()).isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("승인 응답에 거래 ID가 없으면 성공이 아니라 실패 결과")
+    void approve_2xxWithoutTransactionId_Failed() throws Exception {
+        // given
+        respondWith(200, "{\"cardInfo\":\"카드(*1234)\"}");
+
+        // when
+        PaymentGateway.GatewayResult result = gateway.approve("tgen_A", 10L, 5000).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getFailureCode()).isEqualTo("MISSING_TRANSACTION_ID");
+    }
+
+    @Test
+    @DisplayName("4xx - PG 거절 코드/메시지를 실패 결과로")
+    void approve_4xx_Declined() throws Exception {
+        // given
+        respondWith(400, "{\"code\":\"REJECT_CARD_PAYMENT\",\"message\":\"한도 초과\"}");
+
+        // when
+        PaymentGateway.GatewayResult result = gateway.approve("tgen_A", 10L, 5000).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getFailureReason()).isEqualTo("REJECT_CARD_PAYMENT: 한도 초과");
+    }
+
+    @Test
+    @DisplayName("취소 - 결제 키 경로로 거래 ID와 사유를 보냄")
+    void cancel_PostsToPaymentKeyPath() throws Exception {
+        // given
+        respondWith(200, "{\"transactionId\":\"TX1\"}");
+
+        // when
+        PaymentGateway.GatewayResult result = gateway.cancel("tgen_A", "TX1", "고객 요청").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(lastPath.get()).isEqualTo("/v1/payments/tgen_A/cancel");
+        assertThat(lastBody.get().path("transactionId").asText()).isEqualTo("TX1");
+        assertThat(lastBody.get().path("cancelReason").asText()).isEqualTo("고객 요청");
+    }
+
+    @Test
+    @DisplayName("5xx/해석 불가 응답 - 결과를 알 수 없으므로 예외로 완료")
+    void approve_5xxOrUnparseable_Exception() {
+        // given
+        respondWith(500, "{\"code\":\"PROVIDER_ERROR\"}");
+        CompletableFuture<PaymentGateway.GatewayResult> serverError = gateway.approve("tgen_A", 10L, 5000);
+
+        // when & then
+        assertThatThrownBy(() -> serverError.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(CustomException.class)
+                .hasMessageContaining("결제 대행사 오류");
+
+        respondWith(200, "<html>");
+        CompletableFuture<PaymentGateway.GatewayResult> unparseable = gateway.approve("tgen_A", 10L, 5000);
+        assertThatThrownBy(() -> unparseable.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(CustomException.class)
+                .hasMessageContaining("해석할 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("시간 초과 - 응답이 requestTimeoutMs를 넘기면 지연 안내 예외")
+    void approve_Timeout_Exception() {
+        // given
+        ReflectionTestUtils.invokeMethod(gateway, "shutdown");
+        config.setRequestTimeoutMs(200);
+        gateway = newGateway();
+        responseGate = new CountDownLatch(1);
+        respondWith(200, "{\"transactionId\":\"TX1\"}");
+
+        // when
+        CompletableFuture<PaymentGateway.GatewayResult> future = gateway.approve("tgen_A", 10L, 5000);
+
+        // then
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(CustomException.class)
+                .hasMessageContaining("응답이 지연");
+        responseGate.countDown();
+    }
+
+    @Test
+    @DisplayName("동시 요청 한도 - 넘으면 PG를 호출하지 않고 즉시 실패, 응답이 오면 다시 허용")
+    void approve_OverMaxInFlight_FailsFast() throws Exception {
+        // given
+        ReflectionTestUtils.invokeMethod(gateway, "shutdown");
+        config.setMaxInFlight(1);
+        gateway = newGateway();
+        responseGate = new CountDownLatch(1);
+        respondWith(200, "{\"transactionId\":\"TX1\"}");
+        CompletableFuture<PaymentGateway.GatewayResult> first = gateway.approve("tgen_A", 10L, 5000);
+
+        // when
+        CompletableFuture<PaymentGateway.GatewayResult> second = gateway.approve("tgen_B", 11L, 5000);
+
+        // then
+        assertThat(second).isCompletedExceptionally();
+        assertThatThrownBy(second::join).hasCauseInstanceOf(CustomException.class)
+                .hasMessageContaining("결제 요청이 많아");
+
+        responseGate.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        responseGate = null;
+        assertThat(gateway.approve("tgen_B", 11L, 5000).get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+    }
+
+    // ===== Private Methods =====
+
+    private HttpPaymentGateway newGateway() {
+        HttpPaymentGateway created = new HttpPaymentGateway(config, objectMapper);
+        ReflectionTestUtils.invokeMethod(created, "init");
+        return created;
+    }
+
+    private void respondWith(int status, String body) {
+        responseStatus = status;
+        responseBody = body;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            lastBody.set(objectMapper.readTree(in.readAllBytes()));
+        }
+        lastPath.set(exchange.getRequestURI().getPath());
+        lastAuthorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+
+        CountDownLatch gate = responseGate;
+        if (gate != null) {
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        byte[] bytes = responseBody.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(responseStatus, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        } finally {
+            exchange.close();
+        }
+    }
+}
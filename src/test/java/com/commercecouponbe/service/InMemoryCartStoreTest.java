@@ -0,0 +1,179 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.config.CartStoreConfig;
+import com.commercecoupon.repository.UserRepository;
+import com.commercecoupon.service.InMemoryCartStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 메모리 장바구니 - 변경은 메모리에만 두었다가 flushDirty에서 한 번에 DB 반영 (H2)
+ */
+class InMemoryCartStoreTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private CartStoreConfig cartStoreConfig;
+    private InMemoryCartStore cartStore;
+
+    @BeforeEach
+    void setUp() {
+        String url = "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MYSQL;DB_CLOSE_DELAY=-1";
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE carts (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT, " +
+                "version BIGINT, compacted_items BLOB, compacted_at TIMESTAMP, " +
+                "created_at TIMESTAMP, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE cart_items (id BIGINT AUTO_INCREMENT PRIMARY KEY, cart_id BIGINT, " +
+                "product_id BIGINT, quantity INT, added_price INT, created_at TIMESTAMP, updated_at TIMESTAMP)");
+
+        cartStoreConfig = new CartStoreConfig();
+        cartStoreConfig.setMode("memory");
+        cartStoreConfig.setShards(4);
+        cartStoreConfig.setFlushBatchSize(2);
+        cartStore = new InMemoryCartStore(cartStoreConfig, mock(UserRepository.class), jdbcTemplate,
+                new DataSourceTransactionManager(dataSource));
+        ReflectionTestUtils.invokeMethod(cartStore, "init");
+    }
+
+    @Test
+    @DisplayName("변경은 반영 전까지 DB에 쓰지 않고, flushDirty에서 장바구니 행과 아이템을 한 번에 반영")
+    void mutate_WrittenOnlyOnFlush() {
+        // when
+        InMemoryCartStore.CartView view = cartStore.mutate(1L, cart -> {
+            cart.setQuantity(10L, 2, 1000);
+            cart.setQuantity(20L, 1, 500);
+        });
+
+        // then
+        assertThat(view.getBaseVersion()).isZero();
+        assertThat(view.getVersion()).isEqualTo(2L);
+        assertThat(count("carts")).isZero();
+
+        assertThat(cartStore.flushDirty()).isEqualTo(1);
+        assertThat(items(1L)).extracting(row -> row.get("PRODUCT_ID"), row -> row.get("QUANTITY"))
+                .containsExactly(tuple(10L, 2), tuple(20L, 1));
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM carts WHERE user_id = 1", Long.class))
+                .isEqualTo(2L);
+
+        // 변경이 없으면 다시 쓰지 않음
+        assertThat(cartStore.flushDirty()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 배치 크기보다 많은 장바구니도 모두 반영, 같은 장바구니의 연속 변경은 마지막 내용만")
+    void flushDirty_ManyCarts_AllWritten() {
+        // given
+        for (long userId = 1; userId <= 5; userId++) {
+            cartStore.mutate(userId, cart -> cart.setQuantity(10L, 1, 1000));
+            cartStore.mutate(userId, cart -> cart.setQuantity(10L, 3, 1000));
+        }
+
+        // when
+        int flushed = cartStore.flushDirty();
+
+        // then
+        assertThat(flushed).isEqualTo(5);
+        assertThat(count("carts")).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForList("SELECT quantity FROM cart_items", Integer.class))
+                .hasSize(5).containsOnly(3);
+    }
+
+    @Test
+    @DisplayName("처음 접근 시 DB 장바구니를 읽어 올리고, 변경 후 반영하면 아이템을 새 내용으로 교체")
+    void view_RestoresFromDatabase_ThenFlushReplacesItems() {
+        // given
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO carts (id, user_id, version, created_at, updated_at) VALUES (100, 7, 3, ?, ?)",
+                now, now);
+        jdbcTemplate.update("INSERT INTO cart_items (cart_id, product_id, quantity, added_price, created_at, updated_at) " +
+                "VALUES (100, 10, 1, 1000, ?, ?), (100, 20, 4, 500, ?, ?)", now, now, now, now);
+
+        // when
+        InMemoryCartStore.CartView restored = cartStore.view(7L);
+        cartStore.mutate(7L, cart -> cart.remove(20L));
+        cartStore.flushDirty();
+
+        // then
+        assertThat(restored.getVersion()).isEqualTo(3L);
+        assertThat(restored.getLines()).extracting(InMemoryCartStore.CartLine::getProductId,
+                InMemoryCartStore.CartLine::getQuantity).containsExactly(tuple(10L, 1), tuple(20L, 4));
+        assertThat(items(7L)).extracting(row -> row.get("PRODUCT_ID")).containsExactly(10L);
+        assertThat(count("carts")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 dirty 표시를 유지해 다음 주기에 다시 반영")
+    void flushDirty_Failure_RetriedNextCycle() {
+        // given
+        cartStore.mutate(1L, cart -> cart.setQuantity(10L, 2, 1000));
+        jdbcTemplate.execute("ALTER TABLE cart_items RENAME TO cart_items_backup");
+
+        // when
+        int failedFlush = cartStore.flushDirty();
+        jdbcTemplate.execute("ALTER TABLE cart_items_backup RENAME TO cart_items");
+        int retriedFlush = cartStore.flushDirty();
+
+        // then
+        assertThat(failedFlush).isZero();
+        assertThat(retriedFlush).isEqualTo(1);
+        assertThat(items(1L)).extracting(row -> row.get("QUANTITY")).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("정기 반영 - 반영이 끝난 유휴 장바구니만 메모리에서 내림")
+    void scheduledFlush_EvictsOnlyFlushedIdleCarts() throws InterruptedException {
+        // given
+        cartStoreConfig.setIdleEvictMs(0);
+        cartStore.mutate(1L, cart -> cart.setQuantity(10L, 2, 1000));
+        Thread.sleep(5);
+
+        // when
+        cartStore.scheduledFlush();
+
+        // then
+        assertThat(cartStore.isResident(1L)).isFalse();
+        assertThat(cartStore.view(1L).getLines()).extracting(InMemoryCartStore.CartLine::getQuantity)
+                .containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("주문 전 즉시 반영 - 트랜잭션 밖이면 반영 후 메모리에서 내려 다음 접근 때 DB를 다시 읽음")
+    void flushForOrder_WritesImmediatelyAndInvalidates() {
+        // given
+        cartStore.mutate(1L, cart -> cart.setQuantity(10L, 2, 1000));
+
+        // when
+        cartStore.flushForOrder(1L);
+
+        // then
+        assertThat(items(1L)).extracting(row -> row.get("QUANTITY")).containsExactly(2);
+        assertThat(cartStore.isResident(1L)).isFalse();
+        assertThat(cartStore.flushDirty()).isZero();
+    }
+
+    // ===== Private Methods =====
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    private List<Map<String, Object>> items(long userId) {
+        return jdbcTemplate.queryForList("SELECT i.product_id, i.quantity FROM cart_items i " +
+                "JOIN carts c ON c.id = i.cart_id WHERE c.user_id = ? ORDER BY i.id", userId);
+    }
+}
@@ -0,0 +1,161 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.CommerceCouponBeApplication;
+import com.commercecoupon.entity.Category;
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.exception.InsufficientStockException;
+import com.commercecoupon.repository.CategoryRepository;
+import com.commercecoupon.repository.ProductRepository;
+import com.commercecoupon.service.InventoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = CommerceCouponBeApplication.class)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:inventory-test;MODE=MYSQL;DB_CLOSE_DELAY=-1")
+class InventoryServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        category = categoryRepository.save(Category.builder()
+                .name("재고 테스트 " + UUID.randomUUID())
+                .build());
+    }
+
+    @Test
+    @DisplayName("동시 주문 차감 - 재고만큼만 성공하고 마지막 차감에서 품절 전환")
+    void decrease_Concurrently_NeverOversells() throws Exception {
+        // given
+        Product product = createProduct(100);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // when - 재고 100개에 300건 동시 주문
+        runConcurrently(300, i -> {
+            try {
+                inventoryService.decrease(product.getId(), 1);
+                succeeded.incrementAndGet();
+            } catch (InsufficientStockException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        // then
+        Product result = productRepository.findById(product.getId()).orElseThrow();
+        assertThat(succeeded.get()).isEqualTo(100);
+        assertThat(rejected.get()).isEqualTo(200);
+        assertThat(result.getStock()).isZero();
+        assertThat(result.getSalesCount()).isEqualTo(100);
+        assertThat(result.getStatus()).isEqualTo(ProductStatus.OUT_OF_STOCK);
+    }
+
+    @Test
+    @DisplayName("차감/복원 동시 실행 - 재고 합계와 품절 상태가 항상 일치")
+    void decreaseAndIncrease_Concurrently_KeepsStockAndStatusConsistent() throws Exception {
+        // given
+        Product product = createProduct(20);
+        AtomicInteger decreased = new AtomicInteger();
+        AtomicInteger restored = new AtomicInteger();
+
+        // when - 차감 200건과 복원 50건을 섞어서 동시 실행
+        runConcurrently(250, i -> {
+            if (i % 5 == 0) {
+                inventoryService.increase(product.getId(), 1);
+                restored.incrementAndGet();
+                return;
+            }
+            try {
+                Product changed = inventoryService.decrease(product.getId(), 1);
+                assertThat(changed.getStock()).isGreaterThanOrEqualTo(0);
+                decreased.incrementAndGet();
+            } catch (InsufficientStockException e) {
+                // 재고 소진 - 정상
+            }
+        });
+
+        // then
+        Product result = productRepository.findById(product.getId()).orElseThrow();
+        assertThat(restored.get()).isEqualTo(50);
+        assertThat(result.getStock()).isEqualTo(20 - decreased.get() + restored.get());
+        assertThat(result.getSalesCount()).isEqualTo(decreased.get());
+        assertThat(result.getStatus())
+                .isEqualTo(result.getStock() == 0 ? ProductStatus.OUT_OF_STOCK : ProductStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("관리자 재고 조정 - 0이면 품절, 다시 채우면 판매중")
+    void adjust_TogglesOutOfStock() {
+        // given
+        Product product = createProduct(5);
+
+        // when & then
+        assertThat(inventoryService.adjust(product.getId(), 0).getStatus()).isEqualTo(ProductStatus.OUT_OF_STOCK);
+        assertThat(inventoryService.adjust(product.getId(), 3).getStatus()).isEqualTo(ProductStatus.ACTIVE);
+    }
+
+    private Product createProduct(int stock) {
+        return productRepository.save(Product.builder()
+                .name("재고 테스트 상품 " + UUID.randomUUID())
+                .price(10000)
+                .stock(stock)
+                .category(category)
+                .status(InventoryService.initialStatus(stock))
+                .build());
+    }
+
+    private void runConcurrently(int tasks, IndexedTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(tasks);
+        try {
+            for (int i = 0; i < tasks; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS); // 예상치 못한 예외는 여기서 테스트 실패로 전파
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index) throws Exception;
+    }
+}
@@ -0,0 +1,97 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.service.LongIntHashMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongIntHashMapTest {
+
+    @Test
+    @DisplayName("누적 - 같은 키는 값이 더해지고 없는 키는 0")
+    void addTo_AccumulatesAndGetsZeroForMissing() {
+        // given
+        LongIntHashMap map = new LongIntHashMap();
+
+        // when
+        map.addTo(7L, 2);
+        map.addTo(7L, 3);
+        map.addTo(-5L, 1);
+
+        // then
+        assertThat(map.get(7L)).isEqualTo(5);
+        assertThat(map.get(-5L)).isEqualTo(1);
+        assertThat(map.get(8L)).isZero();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("확장 - 초기 용량을 넘겨도 모든 값 유지")
+    void addTo_ManyKeys_Resizes() {
+        // given
+        LongIntHashMap map = new LongIntHashMap(4);
+
+        // when
+        for (long key = 1; key <= 10_000; key++) {
+            map.addTo(key * 1024, (int) key);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(10_000);
+        int wrong = 0;
+        for (long key = 1; key <= 10_000; key++) {
+            if (map.get(key * 1024) != key) {
+                wrong++;
+            }
+        }
+        assertThat(wrong).isZero();
+    }
+
+    @Test
+    @DisplayName("키 0은 빈 슬롯 표시라 저장할 수 없음")
+    void addTo_ZeroKey_Throws() {
+        assertThatThrownBy(() -> new LongIntHashMap().addTo(0L, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("상위 K개 - 값 내림차순, 같은 값은 키가 큰 순, 나머지는 제거")
+    void retainTopK_KeepsLargestValues() {
+        // given
+        LongIntHashMap map = new LongIntHashMap();
+        map.addTo(1L, 5);
+        map.addTo(2L, 9);
+        map.addTo(3L, 5);
+        map.addTo(4L, 1);
+
+        // when
+        map.retainTopK(3);
+
+        // then
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.topKeys(10)).containsExactly(2L, 3L, 1L);
+        assertThat(map.get(4L)).isZero();
+    }
+
+    @Test
+    @DisplayName("병합 - 다른 맵의 값을 키별로 더함")
+    void addAll_MergesCounts() {
+        // given
+        LongIntHashMap left = new LongIntHashMap();
+        left.addTo(1L, 1);
+        left.addTo(2L, 2);
+        LongIntHashMap right = new LongIntHashMap();
+        right.addTo(2L, 3);
+        right.addTo(3L, 4);
+
+        // when
+        left.addAll(right);
+
+        // then
+        assertThat(left.size()).isEqualTo(3);
+        assertThat(left.get(2L)).isEqualTo(5);
+        assertThat(left.topKeys(2)).containsExactly(2L, 3L);
+    }
+}
@@ -0,0 +1,143 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.event.LowStockEvent;
+import com.commercecoupon.repository.ProductRepository;
+import com.commercecoupon.service.LowStockIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LowStockIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private LowStockIndex lowStockIndex;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(lowStockIndex, "defaultThreshold", 10);
+    }
+
+    @Test
+    @DisplayName("재고 부족 조회 - 판매 상품만, 상품별 기준(없으면 기본값) 이하를 재고 적은 순으로")
+    void findBelowOwnThreshold_UsesPerProductThreshold() {
+        // given
+        givenStockRows(
+                new Object[]{1L, 3, null, ProductStatus.ACTIVE},        // 기본 기준 10 이하
+                new Object[]{2L, 50, null, ProductStatus.ACTIVE},
+                new Object[]{3L, 5, 2, ProductStatus.ACTIVE},           // 상품 기준 2 초과
+                new Object[]{4L, 0, null, ProductStatus.DISCONTINUED},  // 판매 중지
+                new Object[]{5L, 1, 5, ProductStatus.ACTIVE});
+
+        // when
+        lowStockIndex.rebuild();
+
+        // then
+        assertThat(lowStockIndex.isReady()).isTrue();
+        assertThat(lowStockIndex.findBelowOwnThreshold()).containsExactly(5L, 1L);
+        assertThat(lowStockIndex.findAtOrBelow(5)).containsExactly(5L, 1L, 3L);
+        assertThat(lowStockIndex.findAtOrBelow(0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재고 변경 - 기준 위에서 아래로 넘어가는 순간에만 알림 한 번")
+    void update_PublishesOnlyWhenCrossingThreshold() {
+        // given
+        givenStockRows(new Object[]{1L, 50, null, ProductStatus.ACTIVE});
+        lowStockIndex.rebuild();
+
+        // when
+        lowStockIndex.update(product(1L, 8, ProductStatus.ACTIVE));   // 50 -> 8: 알림
+        lowStockIndex.update(product(1L, 5, ProductStatus.ACTIVE));   // 여전히 기준 이하: 알림 없음
+        lowStockIndex.update(product(1L, 20, ProductStatus.ACTIVE));  // 기준 위로 복구
+        lowStockIndex.update(product(1L, 0, ProductStatus.ACTIVE));   // 다시 넘어감(품절): 알림
+
+        // then
+        ArgumentCaptor<LowStockEvent> captor = ArgumentCaptor.forClass(LowStockEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues()).extracting(LowStockEvent::getStock).containsExactly(8, 0);
+        assertThat(captor.getAllValues()).extracting(LowStockEvent::getThreshold).containsOnly(10);
+        assertThat(lowStockIndex.findBelowOwnThreshold()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("재고 변경 - 색인 구성 전이거나 판매 중지 상품이면 알림 없음, 판매 중지 상품은 목록에서 제외")
+    void update_NotReadyOrDiscontinued_NoEvent() {
+        // when
+        lowStockIndex.update(product(1L, 1, ProductStatus.ACTIVE));
+        lowStockIndex.update(product(2L, 50, ProductStatus.DISCONTINUED));
+        lowStockIndex.update(product(2L, 1, ProductStatus.DISCONTINUED));
+
+        // then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertThat(lowStockIndex.findAtOrBelow(10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("색인 구성 중 먼저 반영된 재고 변경은 스캔한 (오래된) 행으로 덮어쓰지 않음")
+    void rebuild_KeepsEntriesUpdatedDuringScan() {
+        // given
+        when(productRepository.findStockRows(eq(0L), any())).thenAnswer(invocation -> {
+            // 스캔 결과를 읽은 뒤 커밋된 주문으로 재고가 100 -> 2
+            lowStockIndex.update(product(1L, 2, ProductStatus.ACTIVE));
+            return rows(new Object[]{1L, 100, null, ProductStatus.ACTIVE},
+                    new Object[]{2L, 100, null, ProductStatus.ACTIVE});
+        });
+        when(productRepository.findStockRows(eq(2L), any())).thenReturn(List.of());
+
+        // when
+        lowStockIndex.rebuild();
+
+        // then
+        assertThat(lowStockIndex.findAtOrBelow(10)).containsExactly(1L);
+        assertThat(lowStockIndex.findAtOrBelow(100)).containsExactly(1L, 2L);
+    }
+
+    // ===== Private Methods =====
+
+    private void givenStockRows(Object[]... rows) {
+        long lastId = (Long) rows[rows.length - 1][0];
+        when(productRepository.findStockRows(eq(0L), any())).thenReturn(rows(rows));
+        when(productRepository.findStockRows(eq(lastId), any())).thenReturn(List.of());
+    }
+
+    private List<Object[]> rows(Object[]... rows) {
+        return Arrays.asList(rows);
+    }
+
+    private Product product(Long id, int stock, ProductStatus status) {
+        return Product.builder()
+                .id(id)
+                .name("상품" + id)
+                .price(10_000)
+                .stock(stock)
+                .status(status)
+                .build();
+    }
+}
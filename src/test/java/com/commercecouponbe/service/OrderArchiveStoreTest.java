@@ -0,0 +1,110 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.config.OrderArchiveConfig;
+import com.commercecoupon.dto.response.OrderDetailResponse;
+import com.commercecoupon.service.OrderArchiveStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderArchiveStoreTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 1);
+
+    @TempDir
+    Path directory;
+
+    private OrderArchiveStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = newStore();
+    }
+
+    @Test
+    @DisplayName("재실행 - 이미 기록된 주문 ID는 다시 쓰지 않음")
+    void append_SameOrderTwice_WritesOnce() throws Exception {
+        // given
+        store.append(MONTH, 0, List.of(archivedOrder(1L, 10L), archivedOrder(2L, 10L)));
+        long sizeAfterFirst = segmentSize();
+
+        // when (DB 삭제가 롤백되어 같은 주문을 다시 아카이빙하는 경우)
+        int written = store.append(MONTH, 0, List.of(archivedOrder(1L, 10L), archivedOrder(2L, 10L)));
+
+        // then
+        assertThat(written).isZero();
+        assertThat(segmentSize()).isEqualTo(sizeAfterFirst);
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재실행 - 일부만 새 주문이면 새 주문만 기록")
+    void append_PartiallyArchived_WritesOnlyNewOrders() {
+        // given
+        store.append(MONTH, 0, List.of(archivedOrder(1L, 10L)));
+
+        // when
+        int written = store.append(MONTH, 0, List.of(archivedOrder(1L, 10L), archivedOrder(3L, 30L)));
+
+        // then
+        assertThat(written).isEqualTo(1);
+        assertThat(store.find(3L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("같은 묶음 안의 중복 주문 ID도 한 번만 기록")
+    void append_DuplicateInBatch_WritesOnce() {
+        // when
+        int written = store.append(MONTH, 1, List.of(archivedOrder(5L, 50L), archivedOrder(5L, 50L)));
+
+        // then
+        assertThat(written).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시작 - 세그먼트 스캔으로 인덱스와 소유자 확인 복원")
+    void loadIndex_RestoresArchivedOrders() {
+        // given
+        store.append(MONTH, 0, List.of(archivedOrder(1L, 10L), archivedOrder(2L, 20L)));
+
+        // when
+        OrderArchiveStore restarted = newStore();
+        restarted.loadIndex();
+
+        // then
+        assertThat(restarted.size()).isEqualTo(2);
+        assertThat(restarted.findByUser(2L, 20L))
+                .hasValueSatisfying(o -> assertThat(o.getOrder().getOrderNumber()).isEqualTo("ORD-2"));
+        assertThat(restarted.findByUser(2L, 10L)).isEmpty();
+    }
+
+    private OrderArchiveStore newStore() {
+        OrderArchiveConfig config = new OrderArchiveConfig();
+        config.setDirectory(directory.toString());
+        return new OrderArchiveStore(config, new ObjectMapper().findAndRegisterModules());
+    }
+
+    private long segmentSize() throws Exception {
+        return Files.size(directory.resolve("orders-" + MONTH + "-p0.seg"));
+    }
+
+    private OrderArchiveStore.ArchivedOrder archivedOrder(Long orderId, Long userId) {
+        OrderDetailResponse.OrderUserInfo user = new OrderDetailResponse.OrderUserInfo();
+        user.setId(userId);
+        OrderDetailResponse order = OrderDetailResponse.builder()
+                .id(orderId)
+                .orderNumber("ORD-" + orderId)
+                .user(user)
+                .build();
+        return new OrderArchiveStore.ArchivedOrder(order, null);
+    }
+}
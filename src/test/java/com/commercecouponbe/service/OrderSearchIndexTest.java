@@ -0,0 +1,126 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.enums.OrderStatus;
+import com.commercecoupon.repository.OrderRepository;
+import com.commercecoupon.service.OrderSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSearchIndexTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private OrderSearchIndex orderSearchIndex;
+
+    @Test
+    @DisplayName("검색 - 키워드를 포함한 주문을 최신순으로, 상태 조건 적용")
+    void search_MatchesKeywordAndStatus() {
+        // given
+        rebuildWith(List.of(
+                row(1L, "홍길동", "hong@test.com", OrderStatus.PAID),
+                row(2L, "홍길순", "soon@test.com", OrderStatus.CANCELLED),
+                row(3L, "김철수", "kim@test.com", OrderStatus.PAID)), () -> { });
+
+        // when & then
+        assertThat(orderSearchIndex.isReady()).isTrue();
+        assertThat(orderSearchIndex.search("홍길", null)).containsExactly(2L, 1L);
+        assertThat(orderSearchIndex.search("홍길", OrderStatus.PAID)).containsExactly(1L);
+        assertThat(orderSearchIndex.search("kim@", null)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("재구성 중 상태 변경 - 스캔한 이전 상태로 덮어쓰지 않고 완료 후 반영")
+    void rebuild_StatusChangedDuringScan_AppliedAfterSwap() {
+        // given (스캔 결과는 변경 전 PAID)
+        List<Object[]> rows = List.of(row(1L, "홍길동", "hong@test.com", OrderStatus.PAID));
+
+        // when
+        rebuildWith(rows, () -> orderSearchIndex.updateStatus(1L, OrderStatus.CANCELLED));
+
+        // then
+        assertThat(orderSearchIndex.search("홍길", OrderStatus.CANCELLED)).containsExactly(1L);
+        assertThat(orderSearchIndex.search("홍길", OrderStatus.PAID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재구성 중 제거 - 스캔에 포함됐어도 완료 후 제거")
+    void rebuild_RemovedDuringScan_NotIndexed() {
+        // given
+        List<Object[]> rows = List.of(
+                row(1L, "홍길동", "hong@test.com", OrderStatus.PAID),
+                row(2L, "김철수", "kim@test.com", OrderStatus.PAID));
+
+        // when
+        rebuildWith(rows, () -> orderSearchIndex.removeAll(List.of(2L)));
+
+        // then
+        assertThat(orderSearchIndex.search("김철", null)).isEmpty();
+        assertThat(postings()).doesNotContainKey("김철");
+        assertThat(orderSearchIndex.search("홍길", null)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("제거 - 문서와 함께 posting에서도 ID 삭제, 비면 bigram 자체 삭제")
+    void removeAll_PurgesPostings() {
+        // given
+        rebuildWith(List.of(
+                row(1L, "홍길동", "hong@test.com", OrderStatus.PAID),
+                row(2L, "홍길순", "soon@test.com", OrderStatus.PAID)), () -> { });
+
+        // when
+        orderSearchIndex.removeAll(List.of(1L));
+
+        // then
+        assertThat(orderSearchIndex.search("홍길", null)).containsExactly(2L);
+        assertThat(postings()).doesNotContainKey("길동");
+        assertThat(postings()).containsKey("홍길");
+
+        orderSearchIndex.removeAll(List.of(2L));
+        assertThat(postings()).isEmpty();
+    }
+
+    private void rebuildWith(List<Object[]> rows, Runnable duringScan) {
+        AtomicBoolean scanned = new AtomicBoolean(false);
+        long maxId = rows.stream().mapToLong(r -> (Long) r[0]).max().orElse(0L);
+        when(orderRepository.findMaxId()).thenReturn(maxId);
+        when(orderRepository.findSearchIndexRows(anyLong(), anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            long toId = invocation.getArgument(1);
+            if (scanned.compareAndSet(false, true)) {
+                duringScan.run();
+            }
+            return rows.stream()
+                    .filter(r -> (Long) r[0] > lastId && (Long) r[0] <= toId)
+                    .collect(Collectors.toList());
+        });
+        orderSearchIndex.rebuild();
+    }
+
+    private Object[] row(Long id, String recipientName, String email, OrderStatus status) {
+        return new Object[]{id, "ORD-" + id, recipientName, "010-1234-000" + id, "user" + id, email, status};
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> postings() {
+        return (Map<String, ?>) ReflectionTestUtils.getField(orderSearchIndex, "postings");
+    }
+}
@@ -0,0 +1,191 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.config.PaymentGatewayConfig;
+import com.commercecoupon.config.PaymentSimulatorConfig;
+import com.commercecoupon.service.HttpPaymentGateway;
+import com.commercecoupon.service.PaymentGateway;
+import com.commercecoupon.service.PaymentGatewaySimulator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 PG 시뮬레이터 - HttpPaymentGateway로 호출해 재승인 멱등성, 취소, 인증, 거절 주입, 정산 파일 확인
+ */
+class PaymentGatewaySimulatorTest {
+
+    private static final String SECRET_KEY = "test_sk";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PaymentGatewaySimulator simulator;
+    private HttpPaymentGateway gateway;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        if (gateway != null) {
+            ReflectionTestUtils.invokeMethod(gateway, "shutdown");
+        }
+        if (simulator != null) {
+            ReflectionTestUtils.invokeMethod(simulator, "stop");
+        }
+    }
+
+    @Test
+    @DisplayName("비활성화(기본값) - 서버를 띄우지 않음")
+    void disabledByDefault_NotRunning() {
+        // given
+        simulator = new PaymentGatewaySimulator(new PaymentSimulatorConfig(), new PaymentGatewayConfig(), objectMapper);
+
+        // when
+        ReflectionTestUtils.invokeMethod(simulator, "start");
+
+        // then
+        assertThat(simulator.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("재승인 - 같은 결제 키에는 처음 발급한 거래 ID를 그대로 돌려줌")
+    void approve_SamePaymentKey_SameTransactionId() throws Exception {
+        // given
+        start(0.0, SECRET_KEY);
+
+        // when
+        PaymentGateway.GatewayResult first = gateway.approve("tgen_A", 10L, 5000).get(5, TimeUnit.SECONDS);
+        PaymentGateway.GatewayResult retried = gateway.approve("tgen_A", 10L, 5000).get(5, TimeUnit.SECONDS);
+        PaymentGateway.GatewayResult other = gateway.approve("tgen_B", 11L, 3000).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(first.isSuccess()).isTrue();
+        assertThat(first.getTransactionId()).startsWith("SIM");
+        assertThat(first.getCardInfo()).isNotBlank();
+        assertThat(retried.getTransactionId()).isEqualTo(first.getTransactionId());
+        assertThat(other.getTransactionId()).isNotEqualTo(first.getTransactionId());
+    }
+
+    @Test
+    @DisplayName("취소 - 승인된 거래 ID가 맞아야 취소되고, 취소된 결제를 다시 취소하면 거절")
+    void cancel_MatchingTransactionOnly() throws Exception {
+        // given
+        start(0.0, SECRET_KEY);
+        String transactionId = gateway.approve("tgen_A", 10L, 5000).get(5, TimeUnit.SECONDS).getTransactionId();
+
+        // when
+        PaymentGateway.GatewayResult wrongTransaction = gateway.cancel("tgen_A", "SIM_OTHER", "고객 요청")
+                .get(5, TimeUnit.SECONDS);
+        PaymentGateway.GatewayResult canceled = gateway.cancel("tgen_A", transactionId, "고객 요청")
+                .get(5, TimeUnit.SECONDS);
+        PaymentGateway.GatewayResult canceledAgain = gateway.cancel("tgen_A", transactionId, "고객 요청")
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(wrongTransaction.getFailureCode()).isEqualTo("NOT_FOUND_PAYMENT");
+        assertThat(canceled.isSuccess()).isTrue();
+        assertThat(canceled.getTransactionId()).isEqualTo(transactionId);
+        assertThat(canceledAgain.getFailureCode()).isEqualTo("NOT_FOUND_PAYMENT");
+    }
+
+    @Test
+    @DisplayName("인증 - 다른 시크릿 키로 호출하면 UNAUTHORIZED_KEY 거절")
+    void approve_WrongSecretKey_Unauthorized() throws Exception {
+        // given
+        start(0.0, "another_sk");
+
+        // when
+        PaymentGateway.GatewayResult result = gateway.approve("tgen_A", 10L, 5000).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getFailureCode()).isEqualTo("UNAUTHORIZED_KEY");
+    }
+
+    @Test
+    @DisplayName("거절 주입 - declineRate 1.0이면 새 승인은 모두 카드사 거절")
+    void approve_DeclineRate_Rejected() throws Exception {
+        // given
+        start(1.0, SECRET_KEY);
+
+        // when
+        PaymentGateway.GatewayResult result = gateway.approve("tgen_A", 10L, 5000).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.getFailureCode()).isEqualTo("REJECT_CARD_PAYMENT");
+    }
+
+    @Test
+    @DisplayName("정산 파일 - 해당 일자 승인 내역을 취소 여부와 함께 기록하고, 이미 있는 파일은 덮어쓰지 않음")
+    void exportSettlement_WritesApprovedAndCanceled() throws Exception {
+        // given
+        start(0.0, SECRET_KEY);
+        String approved = gateway.approve("tgen_A", 10L, 5000).get(5, TimeUnit.SECONDS).getTransactionId();
+        String canceled = gateway.approve("tgen_B", 11L, 3000).get(5, TimeUnit.SECONDS).getTransactionId();
+        gateway.cancel("tgen_B", canceled, "고객 요청").get(5, TimeUnit.SECONDS);
+        Path file = tempDir.resolve("settlement/" + LocalDate.now() + ".csv");
+
+        // when
+        int count = simulator.exportSettlement(LocalDate.now(), file);
+        int otherDay = simulator.exportSettlement(LocalDate.now().minusDays(1), tempDir.resolve("yesterday.csv"));
+
+        // then
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertThat(count).isEqualTo(2);
+        assertThat(otherDay).isZero();
+        assertThat(lines.get(0)).isEqualTo("transaction_id,payment_key,amount,status,approved_at");
+        assertThat(lines.subList(1, lines.size())).anyMatch(line -> line.startsWith(approved + ",tgen_A,5000,APPROVED,"))
+                .anyMatch(line -> line.startsWith(canceled + ",tgen_B,3000,CANCELED,"));
+        assertThatThrownBy(() -> simulator.exportSettlement(LocalDate.now(), file))
+                .isInstanceOf(FileAlreadyExistsException.class);
+        assertThat(Files.exists(file.resolveSibling(file.getFileName() + ".tmp"))).isFalse();
+    }
+
+    // ===== Private Methods =====
+
+    private void start(double declineRate, String gatewaySecretKey) throws IOException {
+        PaymentSimulatorConfig simulatorConfig = new PaymentSimulatorConfig();
+        simulatorConfig.setEnabled(true);
+        simulatorConfig.setPort(freePort());
+        simulatorConfig.setLatencyMs(0);
+        simulatorConfig.setLatencyJitterMs(0);
+        simulatorConfig.setDeclineRate(declineRate);
+        simulatorConfig.setErrorRate(0.0);
+        simulatorConfig.setTimeoutRate(0.0);
+
+        PaymentGatewayConfig simulatorSide = new PaymentGatewayConfig();
+        simulatorSide.setSecretKey(SECRET_KEY);
+        simulator = new PaymentGatewaySimulator(simulatorConfig, simulatorSide, objectMapper);
+        ReflectionTestUtils.invokeMethod(simulator, "start");
+        assertThat(simulator.isRunning()).isTrue();
+
+        PaymentGatewayConfig gatewayConfig = new PaymentGatewayConfig();
+        gatewayConfig.setBaseUrl("http://127.0.0.1:" + simulatorConfig.getPort());
+        gatewayConfig.setSecretKey(gatewaySecretKey);
+        gateway = new HttpPaymentGateway(gatewayConfig, objectMapper);
+        ReflectionTestUtils.invokeMethod(gateway, "init");
+    }
+
+    private int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+}
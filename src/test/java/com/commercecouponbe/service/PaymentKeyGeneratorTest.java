@@ -0,0 +1,137 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.config.PaymentKeyConfig;
+import com.commercecoupon.service.PaymentKeyGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentKeyGeneratorTest {
+
+    private static final int THREADS = 8;
+
+    /** 키 하나당 허용 평균 시간 - DB 존재 확인 한 번(수백 µs)보다 충분히 작아야 한다 */
+    private static final long MAX_NANOS_PER_KEY = 5_000;
+
+    @Test
+    @DisplayName("형식 - 접두어 + Crockford Base32 26자, 생성 시각 복원 가능")
+    void nextKey_Format() {
+        // given
+        PaymentKeyGenerator generator = generator(1);
+        long before = System.currentTimeMillis();
+
+        // when
+        String key = generator.nextKey();
+
+        // then
+        assertThat(key).hasSize(PaymentKeyGenerator.KEY_LENGTH);
+        assertThat(key).startsWith(PaymentKeyGenerator.PREFIX);
+        assertThat(key.substring(PaymentKeyGenerator.PREFIX.length())).matches("[0-9A-HJKMNP-TV-Z]{26}");
+        assertThat(PaymentKeyGenerator.extractTimestamp(key))
+                .isBetween(before, System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("순서 - 한 생성기에서 만든 키는 항상 증가 (같은 밀리초 포함)")
+    void nextKey_Monotonic() {
+        // given
+        PaymentKeyGenerator generator = generator(1);
+        String previous = generator.nextKey();
+
+        // when
+        int outOfOrder = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            String next = generator.nextKey();
+            if (next.compareTo(previous) <= 0) {
+                outOfOrder++;
+            }
+            previous = next;
+        }
+
+        // then
+        assertThat(outOfOrder).isZero();
+    }
+
+    @Test
+    @DisplayName("충돌 - 두 노드, 8개 스레드가 동시에 만든 키 200만 개에 중복 없음")
+    void nextKey_Concurrently_NoCollision() throws Exception {
+        // given
+        int keysPerThread = 250_000;
+        PaymentKeyGenerator[] generators = {generator(1), generator(2)};
+        String[] keys = new String[THREADS * keysPerThread];
+
+        // when
+        runConcurrently(keysPerThread, (thread, i) ->
+                keys[thread * keysPerThread + i] = generators[thread % generators.length].nextKey());
+
+        // then
+        Arrays.parallelSort(keys);
+        int duplicates = 0;
+        for (int i = 1; i < keys.length; i++) {
+            if (keys[i].equals(keys[i - 1])) {
+                duplicates++;
+            }
+        }
+        assertThat(duplicates).isZero();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("처리량 - 8개 스레드 동시 생성 시 키당 평균 시간이 상한 이내")
+    void nextKey_Throughput() throws Exception {
+        // given
+        int keysPerThread = 500_000;
+        PaymentKeyGenerator generator = generator(1);
+        runConcurrently(keysPerThread / 10, (thread, i) -> generator.nextKey());
+
+        // when
+        long start = System.nanoTime();
+        runConcurrently(keysPerThread, (thread, i) -> generator.nextKey());
+        long elapsed = System.nanoTime() - start;
+
+        // then
+        long nanosPerKey = elapsed / ((long) THREADS * keysPerThread);
+        assertThat(nanosPerKey).isLessThan(MAX_NANOS_PER_KEY);
+    }
+
+    private PaymentKeyGenerator generator(int nodeId) {
+        PaymentKeyConfig config = new PaymentKeyConfig();
+        config.setNodeId(nodeId);
+        return new PaymentKeyGenerator(config);
+    }
+
+    private void runConcurrently(int iterations, IndexedTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < iterations; i++) {
+                        task.run(thread, i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int thread, int index);
+    }
+}
@@ -0,0 +1,68 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.service.PaymentMatchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentMatchIndexTest {
+
+    @Test
+    @DisplayName("조회 - 버퍼 일부 바이트로 거래 ID를 찾고, 없는 거래는 -1")
+    void find_ByBufferRange() {
+        // given
+        PaymentMatchIndex index = new PaymentMatchIndex();
+        for (int i = 0; i < 5000; i++) {
+            index.add(i, "key-" + i, "TX" + i, 1000 + i, "COMPLETED");
+        }
+        index.seal();
+        ByteBuffer buffer = buffer("xxTX4321,rest");
+
+        // when
+        int entry = index.find(buffer, 2, 6);
+
+        // then
+        assertThat(entry).isNotNegative();
+        assertThat(index.getPaymentId(entry)).isEqualTo(4321L);
+        assertThat(index.getAmount(entry)).isEqualTo(5321L);
+        assertThat(index.find(buffer("TX5000"), 0, 6)).isEqualTo(-1);
+        assertThat(index.find(buffer("TX43"), 0, 4)).isNotEqualTo(entry);
+    }
+
+    @Test
+    @DisplayName("중복 거래 ID - 첫 항목만 조회되고 나머지는 중복 항목으로 표시")
+    void seal_DuplicateTransactionId_MarksDuplicate() {
+        // given
+        PaymentMatchIndex index = new PaymentMatchIndex();
+        index.add(1L, "key-1", "TX1", 1000, "COMPLETED");
+        index.add(2L, "key-2", "TX2", 2000, "COMPLETED");
+        index.add(3L, "key-3", "TX1", 1000, "COMPLETED");
+
+        // when
+        index.seal();
+
+        // then
+        assertThat(index.find(buffer("TX1"), 0, 3)).isZero();
+        assertThat(index.isDuplicate(0)).isFalse();
+        assertThat(index.isDuplicate(1)).isFalse();
+        assertThat(index.isDuplicate(2)).isTrue();
+        assertThat(index.getCanonicalEntry(2)).isZero();
+    }
+
+    @Test
+    @DisplayName("상태 대응 - 완료/부분 환불은 승인, 취소/환불은 취소")
+    void expectedPgStatus() {
+        assertThat(PaymentMatchIndex.expectedPgStatus("COMPLETED")).isEqualTo(PaymentMatchIndex.PG_STATUS_APPROVED);
+        assertThat(PaymentMatchIndex.expectedPgStatus("PARTIAL_REFUNDED")).isEqualTo(PaymentMatchIndex.PG_STATUS_APPROVED);
+        assertThat(PaymentMatchIndex.expectedPgStatus("REFUNDED")).isEqualTo(PaymentMatchIndex.PG_STATUS_CANCELED);
+        assertThat(PaymentMatchIndex.expectedPgStatus("PENDING")).isEqualTo(PaymentMatchIndex.PG_STATUS_UNKNOWN);
+    }
+
+    private ByteBuffer buffer(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+    }
+}
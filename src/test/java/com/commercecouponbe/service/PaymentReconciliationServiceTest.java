@@ -0,0 +1,208 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.service.PaymentMatchIndex;
+import com.commercecoupon.service.PaymentReconciliationService;
+import com.commercecoupon.service.PaymentReconciliationService.Mismatch;
+import com.commercecoupon.service.PaymentReconciliationService.MismatchType;
+import com.commercecoupon.service.PaymentReconciliationService.PartitionResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정산 파일 파싱/파티션 분할/누락 수집 (DB, 스프링 없이 정적 메서드만 사용)
+ */
+class PaymentReconciliationServiceTest {
+
+    private static final String HEADER = "transaction_id,payment_key,amount,status,approved_at\n";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("CRLF 줄바꿈 - 헤더와 데이터 모두 정상 파싱")
+    void join_CrlfLines() throws Exception {
+        // given
+        PaymentMatchIndex index = index("TX1", 1000, "COMPLETED", "TX2", 2000, "CANCELLED");
+        String content = HEADER.replace("\n", "\r\n")
+                + "TX1,key-1,1000,APPROVED,2024-01-01T10:00\r\n"
+                + "TX2,key-2,2000,CANCELED,2024-01-01T11:00\r\n";
+
+        // when
+        PartitionResult result = join(content, 1, index);
+
+        // then
+        assertThat(result.lines).isEqualTo(2);
+        assertThat(result.matched).isEqualTo(2);
+        assertThat(result.mismatches).isEmpty();
+    }
+
+    @Test
+    @DisplayName("헤더 없는 파일 - 첫 줄부터 데이터로 처리, 마지막 줄바꿈 없어도 처리")
+    void join_NoHeader() throws Exception {
+        // given
+        PaymentMatchIndex index = index("TX1", 1000, "COMPLETED", "TX2", 2000, "COMPLETED");
+        String content = "TX1,key-1,1000,APPROVED,2024-01-01T10:00\n"
+                + "TX2,key-2,2000,APPROVED,2024-01-01T11:00";
+
+        // when
+        PartitionResult result = join(content, 1, index);
+
+        // then
+        assertThat(result.lines).isEqualTo(2);
+        assertThat(result.matched).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("형식 오류 - 금액/상태가 잘못되었거나 필드가 부족한 줄")
+    void join_MalformedAmountAndStatus() throws Exception {
+        // given
+        PaymentMatchIndex index = index("TX1", 1000, "COMPLETED", "TX2", 2000, "COMPLETED");
+        String content = HEADER
+                + "TX1,key-1,10a0,APPROVED,2024-01-01T10:00\n"
+                + "TX2,key-2,2000,PENDING,2024-01-01T11:00\n"
+                + "TX3,key-3,-300,APPROVED,2024-01-01T12:00\n"
+                + "TX4,key-4\n";
+
+        // when
+        PartitionResult result = join(content, 1, index);
+
+        // then
+        assertThat(types(result.mismatches)).containsExactly(
+                MismatchType.MALFORMED_LINE, MismatchType.MALFORMED_LINE,
+                MismatchType.MALFORMED_LINE, MismatchType.MALFORMED_LINE);
+        assertThat(result.matched).isZero();
+        assertThat(result.unmatched).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중복 줄 - 같은 거래가 두 번 나오면 두 번째 줄을 중복으로 기록")
+    void join_DuplicateLines() throws Exception {
+        // given
+        PaymentMatchIndex index = index("TX1", 1000, "COMPLETED", "TX2", 2000, "COMPLETED");
+        String content = HEADER
+                + "TX1,key-1,1000,APPROVED,2024-01-01T10:00\n"
+                + "TX1,key-1,1000,APPROVED,2024-01-01T10:00\n";
+
+        // when
+        PartitionResult result = join(content, 1, index);
+
+        // then
+        assertThat(result.matched).isEqualTo(1);
+        assertThat(types(result.mismatches)).containsExactly(MismatchType.DUPLICATE_IN_SETTLEMENT);
+    }
+
+    @Test
+    @DisplayName("파티션 경계가 줄 중간 - 모든 경계가 줄 시작이고 각 줄은 한 번씩만 처리")
+    void splitRanges_BoundaryMidLine() throws Exception {
+        // given (줄 길이를 다르게 해서 균등 분할 지점이 줄 중간에 오게 함)
+        int lineCount = 97;
+        StringBuilder content = new StringBuilder(HEADER);
+        Object[] payments = new Object[lineCount * 3];
+        for (int i = 0; i < lineCount; i++) {
+            String transactionId = "TX" + "0".repeat(i % 7) + i;
+            content.append(transactionId).append(",key-").append(i).append(",").append(1000 + i)
+                    .append(",APPROVED,2024-01-01T10:00\n");
+            payments[i * 3] = transactionId;
+            payments[i * 3 + 1] = 1000 + i;
+            payments[i * 3 + 2] = "COMPLETED";
+        }
+        PaymentMatchIndex index = index(payments);
+        Path file = write(content.toString());
+
+        // when
+        long[] bounds;
+        long lines = 0;
+        long matched = 0;
+        List<Mismatch> mismatches = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            bounds = PaymentReconciliationService.splitRanges(channel, 5);
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                PartitionResult result = PaymentReconciliationService.joinRange(channel, bounds[i], bounds[i + 1], index);
+                lines += result.lines;
+                matched += result.matched;
+                mismatches.addAll(result.mismatches);
+            }
+        }
+        PaymentReconciliationService.collectMissingInSettlement(index, mismatches);
+
+        // then
+        byte[] bytes = Files.readAllBytes(file);
+        assertThat(bounds[0]).isEqualTo(HEADER.length());
+        assertThat(bounds[bounds.length - 1]).isEqualTo(bytes.length);
+        for (int i = 1; i + 1 < bounds.length; i++) {
+            assertThat(bytes[(int) bounds[i] - 1]).isEqualTo((byte) '\n');
+        }
+        assertThat(lines).isEqualTo(lineCount);
+        assertThat(matched).isEqualTo(lineCount);
+        assertThat(mismatches).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결제 내역 중복 거래 ID - 누락이 아니라 결제 내역 중복으로 기록")
+    void collectMissing_DuplicateTransactionIdInPayments() throws Exception {
+        // given
+        PaymentMatchIndex index = index("TX1", 1000, "COMPLETED", "TX1", 1000, "COMPLETED");
+        PartitionResult result = join(HEADER + "TX1,key-1,1000,APPROVED,2024-01-01T10:00\n", 1, index);
+        List<Mismatch> mismatches = new ArrayList<>(result.mismatches);
+
+        // when
+        PaymentReconciliationService.collectMissingInSettlement(index, mismatches);
+
+        // then
+        assertThat(result.matched).isEqualTo(1);
+        assertThat(types(mismatches)).containsExactly(MismatchType.DUPLICATE_IN_PAYMENTS);
+        assertThat(mismatches.get(0).detail).isEqualTo("paymentId=2 duplicateOf=1");
+    }
+
+    private PartitionResult join(String content, int partitions, PaymentMatchIndex index) throws Exception {
+        Path file = write(content);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = PaymentReconciliationService.splitRanges(channel, partitions);
+            PartitionResult merged = new PartitionResult();
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                PartitionResult result = PaymentReconciliationService.joinRange(channel, bounds[i], bounds[i + 1], index);
+                merged.lines += result.lines;
+                merged.matched += result.matched;
+                merged.mismatches.addAll(result.mismatches);
+                merged.unmatched.addAll(result.unmatched);
+            }
+            return merged;
+        }
+    }
+
+    private Path write(String content) throws Exception {
+        Path file = Files.createTempFile(directory, "settlement-", ".csv");
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+
+    /**
+     * (거래 ID, 금액, 결제 상태) 반복, 결제 ID는 1부터
+     */
+    private PaymentMatchIndex index(Object... payments) {
+        PaymentMatchIndex index = new PaymentMatchIndex();
+        for (int i = 0; i < payments.length; i += 3) {
+            long paymentId = i / 3 + 1;
+            index.add(paymentId, "key-" + paymentId, (String) payments[i],
+                    ((Integer) payments[i + 1]).longValue(), (String) payments[i + 2]);
+        }
+        index.seal();
+        return index;
+    }
+
+    private List<MismatchType> types(List<Mismatch> mismatches) {
+        return mismatches.stream().map(m -> m.type).collect(Collectors.toList());
+    }
+}
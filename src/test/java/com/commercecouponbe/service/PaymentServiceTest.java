@@ -0,0 +1,293 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.config.PaymentGatewayConfig;
+import com.commercecoupon.dto.request.PaymentCompleteRequest;
+import com.commercecoupon.dto.response.PaymentCompleteResponse;
+import com.commercecoupon.entity.Order;
+import com.commercecoupon.entity.Payment;
+import com.commercecoupon.entity.User;
+import com.commercecoupon.enums.OrderStatus;
+import com.commercecoupon.enums.PaymentStatus;
+import com.commercecoupon.exception.CustomException;
+import com.commercecoupon.repository.OrderRepository;
+import com.commercecoupon.repository.PaymentRepository;
+import com.commercecoupon.repository.UserRepository;
+import com.commercecoupon.service.OrderSearchIndex;
+import com.commercecoupon.service.PaymentGateway;
+import com.commercecoupon.service.PaymentKeyGenerator;
+import com.commercecoupon.service.PaymentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 결제 승인/취소 - PG 결과 반영, 버전 충돌 시 다시 읽어서 반영, 처리 중인 결제 중복 요청 차단
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceTest {
+
+    private static final String EMAIL = "user@test.com";
+    private static final String PAYMENT_KEY = "tgen_TEST";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private OrderSearchIndex orderSearchIndex;
+
+    @Mock
+    private PaymentGateway paymentGateway;
+
+    @Mock
+    private PaymentKeyGenerator paymentKeyGenerator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private PaymentService paymentService;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(1L).email(EMAIL).build();
+        paymentService = new PaymentService(userRepository, orderRepository, paymentRepository, orderSearchIndex,
+                paymentGateway, paymentKeyGenerator, new PaymentGatewayConfig(), transactionManager);
+        ReflectionTestUtils.invokeMethod(paymentService, "init");
+    }
+
+    @Test
+    @DisplayName("승인 성공 - 결제 완료, 주문 PAID, 검색 인덱스 갱신")
+    void completePayment_Approved() {
+        // given
+        Payment payment = payment(PaymentStatus.PENDING);
+        givenApprovable(payment);
+        when(paymentRepository.findById(100L)).thenReturn(Optional.of(payment));
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(paymentGateway.approve(PAYMENT_KEY, 10L, 5000)).thenReturn(CompletableFuture.completedFuture(
+                PaymentGateway.GatewayResult.succeeded("TX1", "카드(*1234)")));
+
+        // when
+        PaymentCompleteResponse response = paymentService.completePayment(EMAIL, completeRequest(5000)).join();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+        assertThat(response.getPgTransactionId()).isEqualTo("TX1");
+        assertThat(payment.getOrder().getStatus()).isEqualTo(OrderStatus.PAID);
+        verify(orderSearchIndex).updateStatus(10L, OrderStatus.PAID);
+    }
+
+    @Test
+    @DisplayName("승인 거절 - 결제는 FAILED로 저장하고 호출 측에는 거절 예외")
+    void completePayment_Declined() {
+        // given
+        Payment payment = payment(PaymentStatus.PENDING);
+        givenApprovable(payment);
+        when(paymentRepository.findById(100L)).thenReturn(Optional.of(payment));
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(paymentGateway.approve(PAYMENT_KEY, 10L, 5000)).thenReturn(CompletableFuture.completedFuture(
+                PaymentGateway.GatewayResult.failed("REJECT_CARD_PAYMENT", "한도 초과")));
+
+        // when
+        CompletableFuture<PaymentCompleteResponse> future = paymentService.completePayment(EMAIL, completeRequest(5000));
+
+        // then
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(CustomException.class)
+                .hasMessageContaining("결제가 거절되었습니다: 한도 초과");
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(payment.getFailureReason()).isEqualTo("REJECT_CARD_PAYMENT: 한도 초과");
+        assertThat(payment.getOrder().getStatus()).isEqualTo(OrderStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("버전 충돌 - 최신 결제를 다시 읽어서 한 번 더 반영")
+    void completePayment_VersionConflict_RetriesOnFreshRow() {
+        // given
+        Payment stale = payment(PaymentStatus.PENDING);
+        Payment fresh = payment(PaymentStatus.PENDING);
+        givenApprovable(stale);
+        when(paymentRepository.findById(100L)).thenReturn(Optional.of(stale), Optional.of(fresh));
+        when(paymentRepository.save(any(Payment.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Payment.class, 100L))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(paymentGateway.approve(PAYMENT_KEY, 10L, 5000)).thenReturn(CompletableFuture.completedFuture(
+                PaymentGateway.GatewayResult.succeeded("TX1", null)));
+
+        // when
+        PaymentCompleteResponse response = paymentService.completePayment(EMAIL, completeRequest(5000)).join();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+        assertThat(fresh.getPgTransactionId()).isEqualTo("TX1");
+        verify(paymentRepository, times(2)).findById(100L);
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("버전 충돌 - 웹훅이 같은 승인을 먼저 반영했으면 다시 저장하지 않고 그대로 응답")
+    void completePayment_AlreadyAppliedByWebhook_ReturnsAsIs() {
+        // given
+        Payment pending = payment(PaymentStatus.PENDING);
+        Payment completedByWebhook = payment(PaymentStatus.PENDING);
+        completedByWebhook.completePayment("TX1", null);
+        givenApprovable(pending);
+        when(paymentRepository.findById(100L)).thenReturn(Optional.of(completedByWebhook));
+        when(paymentGateway.approve(PAYMENT_KEY, 10L, 5000)).thenReturn(CompletableFuture.completedFuture(
+                PaymentGateway.GatewayResult.succeeded("TX1", null)));
+
+        // when
+        PaymentCompleteResponse response = paymentService.completePayment(EMAIL, completeRequest(5000)).join();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+        verify(paymentRepository, never()).save(any());
+        verify(orderSearchIndex, never()).updateStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("PG 통신 실패 - 결제를 바꾸지 않고, 처리 중 표시를 풀어 다시 시도할 수 있음")
+    void completePayment_GatewayError_LeavesPendingAndReleasesKey() {
+        // given
+        Payment payment = payment(PaymentStatus.PENDING);
+        givenApprovable(payment);
+        when(paymentGateway.approve(PAYMENT_KEY, 10L, 5000))
+                .thenReturn(CompletableFuture.failedFuture(new CustomException("결제 대행사와 통신할 수 없습니다")))
+                .thenReturn(new CompletableFuture<>());
+
+        // when
+        CompletableFuture<PaymentCompleteResponse> first = paymentService.completePayment(EMAIL, completeRequest(5000));
+        CompletableFuture<PaymentCompleteResponse> retry = paymentService.completePayment(EMAIL, completeRequest(5000));
+
+        // then
+        assertThatThrownBy(first::join).hasCauseInstanceOf(CustomException.class);
+        assertThat(retry).isNotDone();
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        verify(paymentRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("중복 요청 - PG 응답을 기다리는 결제에 다시 승인을 요청하면 PG를 호출하지 않고 예외")
+    void completePayment_InFlight_Rejected() {
+        // given
+        Payment payment = payment(PaymentStatus.PENDING);
+        givenApprovable(payment);
+        CompletableFuture<PaymentGateway.GatewayResult> pending = new CompletableFuture<>();
+        when(paymentGateway.approve(PAYMENT_KEY, 10L, 5000)).thenReturn(pending);
+        paymentService.completePayment(EMAIL, completeRequest(5000));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.completePayment(EMAIL, completeRequest(5000)))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("이미 처리 중인 결제입니다");
+        verify(paymentGateway, times(1)).approve(PAYMENT_KEY, 10L, 5000);
+    }
+
+    @Test
+    @DisplayName("승인 전 검증 - 금액이 다르면 PG를 호출하지 않음")
+    void completePayment_AmountMismatch_Rejected() {
+        // given
+        givenApprovable(payment(PaymentStatus.PENDING));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.completePayment(EMAIL, completeRequest(4000)))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("결제 금액이 일치하지 않습니다");
+        verify(paymentGateway, never()).approve(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("취소 성공 - PG 취소 확인 후 결제/주문 취소")
+    void cancelPayment_Canceled() {
+        // given
+        Payment payment = payment(PaymentStatus.PENDING);
+        payment.completePayment("TX1", null);
+        payment.getOrder().updateStatus(OrderStatus.PAID);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(paymentRepository.findByIdAndUser(100L, user)).thenReturn(Optional.of(payment));
+        when(paymentRepository.findById(100L)).thenReturn(Optional.of(payment));
+        when(paymentGateway.cancel(PAYMENT_KEY, "TX1", "고객 요청")).thenReturn(CompletableFuture.completedFuture(
+                PaymentGateway.GatewayResult.succeeded("TX1", null)));
+
+        // when
+        paymentService.cancelPayment(EMAIL, 100L).join();
+
+        // then
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+        assertThat(payment.getOrder().getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        verify(orderSearchIndex).updateStatus(10L, OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("취소 거절 - 결제/주문 상태를 바꾸지 않음")
+    void cancelPayment_Declined_Unchanged() {
+        // given
+        Payment payment = payment(PaymentStatus.PENDING);
+        payment.completePayment("TX1", null);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(paymentRepository.findByIdAndUser(100L, user)).thenReturn(Optional.of(payment));
+        when(paymentGateway.cancel(PAYMENT_KEY, "TX1", "고객 요청")).thenReturn(CompletableFuture.completedFuture(
+                PaymentGateway.GatewayResult.failed("NOT_CANCELABLE", "취소 기간 경과")));
+
+        // when
+        CompletableFuture<Void> future = paymentService.cancelPayment(EMAIL, 100L);
+
+        // then
+        assertThatThrownBy(future::join).hasMessageContaining("결제 취소가 거절되었습니다: 취소 기간 경과");
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+        verify(paymentRepository, never()).save(any());
+    }
+
+    // ===== Private Methods =====
+
+    private Payment payment(PaymentStatus status) {
+        Order order = Order.builder().id(10L).orderNumber("ORD-10").user(user).build();
+        return Payment.builder()
+                .id(100L)
+                .paymentKey(PAYMENT_KEY)
+                .order(order)
+                .user(user)
+                .amount(5000)
+                .paymentMethod("CARD")
+                .status(status)
+                .build();
+    }
+
+    private void givenApprovable(Payment payment) {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(paymentRepository.findByPaymentKey(PAYMENT_KEY)).thenReturn(Optional.of(payment));
+    }
+
+    private PaymentCompleteRequest completeRequest(int amount) {
+        PaymentCompleteRequest request = new PaymentCompleteRequest();
+        request.setPaymentKey(PAYMENT_KEY);
+        request.setOrderId(10L);
+        request.setAmount(amount);
+        return request;
+    }
+}
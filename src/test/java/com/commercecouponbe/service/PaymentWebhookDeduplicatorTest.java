@@ -0,0 +1,124 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.config.PaymentWebhookConfig;
+import com.commercecoupon.dto.request.PaymentWebhookRequest;
+import com.commercecoupon.entity.Payment;
+import com.commercecoupon.enums.PaymentStatus;
+import com.commercecoupon.repository.PaymentRepository;
+import com.commercecoupon.service.PaymentWebhookDeduplicator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentWebhookDeduplicatorTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    private PaymentWebhookDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        PaymentWebhookConfig config = new PaymentWebhookConfig();
+        deduplicator = new PaymentWebhookDeduplicator(config, paymentRepository);
+        ReflectionTestUtils.invokeMethod(deduplicator, "init");
+    }
+
+    @Test
+    @DisplayName("기록 - 수신함에 저장한 이벤트만 중복, 같은 거래라도 이벤트 종류가 다르면 별개")
+    void mark_OnlyMarkedEventsAreDuplicates() {
+        // given
+        PaymentWebhookRequest approved = event(PaymentWebhookRequest.EventType.PAYMENT_APPROVED, "TX1");
+        PaymentWebhookRequest canceled = event(PaymentWebhookRequest.EventType.PAYMENT_CANCELED, "TX1");
+
+        // when
+        boolean beforeMark = deduplicator.isDuplicate(approved);
+        deduplicator.mark(approved);
+
+        // then
+        assertThat(beforeMark).isFalse();
+        assertThat(deduplicator.isDuplicate(approved)).isTrue();
+        assertThat(deduplicator.isDuplicate(canceled)).isFalse();
+    }
+
+    @Test
+    @DisplayName("DB 확인 - 승인은 결제가 PENDING/FAILED가 아니면, 취소는 취소/환불 상태면 이미 반영된 이벤트")
+    void isDuplicate_FallsBackToPaymentStatus() {
+        // given
+        PaymentWebhookRequest approved = event(PaymentWebhookRequest.EventType.PAYMENT_APPROVED, "TX1");
+        PaymentWebhookRequest canceled = event(PaymentWebhookRequest.EventType.PAYMENT_CANCELED, "TX2");
+        PaymentWebhookRequest approvedFailed = event(PaymentWebhookRequest.EventType.PAYMENT_APPROVED, "TX3");
+        PaymentWebhookRequest canceledCompleted = event(PaymentWebhookRequest.EventType.PAYMENT_CANCELED, "TX4");
+        when(paymentRepository.findByPgTransactionId("TX1")).thenReturn(payment(PaymentStatus.CANCELLED));
+        when(paymentRepository.findByPgTransactionId("TX2")).thenReturn(payment(PaymentStatus.PARTIAL_REFUNDED));
+        when(paymentRepository.findByPgTransactionId("TX3")).thenReturn(payment(PaymentStatus.FAILED));
+        when(paymentRepository.findByPgTransactionId("TX4")).thenReturn(payment(PaymentStatus.COMPLETED));
+
+        // when & then
+        assertThat(deduplicator.isDuplicate(approved)).isTrue();
+        assertThat(deduplicator.isDuplicate(canceled)).isTrue();
+        assertThat(deduplicator.isDuplicate(approvedFailed)).isFalse();
+        assertThat(deduplicator.isDuplicate(canceledCompleted)).isFalse();
+    }
+
+    @Test
+    @DisplayName("DB 확인 결과도 기록해 두어 같은 재전송에는 다시 조회하지 않음")
+    void isDuplicate_AppliedEventRemembered() {
+        // given
+        PaymentWebhookRequest approved = event(PaymentWebhookRequest.EventType.PAYMENT_APPROVED, "TX1");
+        when(paymentRepository.findByPgTransactionId("TX1")).thenReturn(payment(PaymentStatus.COMPLETED));
+
+        // when
+        deduplicator.isDuplicate(approved);
+        boolean resent = deduplicator.isDuplicate(approved);
+
+        // then
+        assertThat(resent).isTrue();
+        verify(paymentRepository, times(1)).findByPgTransactionId("TX1");
+    }
+
+    @Test
+    @DisplayName("실패 이벤트 - 거래 ID가 없으므로 DB를 확인하지 않고 결제 키로 기록")
+    void isDuplicate_FailedEvent_NoDbLookup() {
+        // given
+        PaymentWebhookRequest failed = event(PaymentWebhookRequest.EventType.PAYMENT_FAILED, null);
+
+        // when
+        boolean first = deduplicator.isDuplicate(failed);
+        deduplicator.mark(failed);
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(failed.dedupKey()).isEqualTo("PAYMENT_FAILED:tgen_A");
+        assertThat(deduplicator.isDuplicate(failed)).isTrue();
+        verify(paymentRepository, never()).findByPgTransactionId(anyString());
+    }
+
+    // ===== Private Methods =====
+
+    private PaymentWebhookRequest event(PaymentWebhookRequest.EventType eventType, String transactionId) {
+        PaymentWebhookRequest event = new PaymentWebhookRequest();
+        event.setEventType(eventType);
+        event.setPaymentKey("tgen_A");
+        event.setTransactionId(transactionId);
+        return event;
+    }
+
+    private Optional<Payment> payment(PaymentStatus status) {
+        return Optional.of(Payment.builder().paymentKey("tgen_A").status(status).build());
+    }
+}
@@ -0,0 +1,222 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.config.PaymentWebhookConfig;
+import com.commercecoupon.entity.Payment;
+import com.commercecoupon.entity.PaymentWebhookInbox;
+import com.commercecoupon.enums.PaymentStatus;
+import com.commercecoupon.exception.CustomException;
+import com.commercecoupon.repository.PaymentRepository;
+import com.commercecoupon.repository.PaymentWebhookInboxRepository;
+import com.commercecoupon.service.PaymentWebhookDeduplicator;
+import com.commercecoupon.service.PaymentWebhookProcessor;
+import com.commercecoupon.service.PaymentWebhookService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 결제 웹훅 수신 - 원본 본문 서명/시각 검증, 본문 검증, 중복 확인 후 수신함 저장
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentWebhookServiceTest {
+
+    private static final String SECRET = "test-webhook-secret-0123456789abcdef";
+    private static final String APPROVED = "{\"eventType\":\"PAYMENT_APPROVED\",\"paymentKey\":\"tgen_A\"," +
+            "\"transactionId\":\"TX1\",\"amount\":5000}";
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentWebhookProcessor paymentWebhookProcessor;
+
+    @Mock
+    private PaymentWebhookInboxRepository paymentWebhookInboxRepository;
+
+    private PaymentWebhookService paymentWebhookService;
+
+    @BeforeEach
+    void setUp() {
+        PaymentWebhookConfig config = new PaymentWebhookConfig();
+        config.setSecret(SECRET);
+        PaymentWebhookDeduplicator deduplicator = new PaymentWebhookDeduplicator(config, paymentRepository);
+        ReflectionTestUtils.invokeMethod(deduplicator, "init");
+        paymentWebhookService = new PaymentWebhookService(config, deduplicator, paymentWebhookProcessor,
+                paymentWebhookInboxRepository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("수신 - 서명이 맞으면 수신함에 원본 본문 저장 후 처리 스레드를 깨움, 재전송은 저장하지 않음")
+    void receive_ValidSignature_StoredOnce() {
+        // given
+        String timestamp = now();
+        byte[] body = bytes(APPROVED);
+
+        // when
+        PaymentWebhookService.Result first = paymentWebhookService.receive(timestamp, sign(timestamp, body), body);
+        PaymentWebhookService.Result resent = paymentWebhookService.receive(timestamp, sign(timestamp, body), body);
+
+        // then
+        assertThat(first).isEqualTo(PaymentWebhookService.Result.ACCEPTED);
+        assertThat(resent).isEqualTo(PaymentWebhookService.Result.DUPLICATE);
+
+        ArgumentCaptor<PaymentWebhookInbox> saved = ArgumentCaptor.forClass(PaymentWebhookInbox.class);
+        verify(paymentWebhookInboxRepository, times(1)).saveAndFlush(saved.capture());
+        assertThat(saved.getValue().getEventId()).isEqualTo("PAYMENT_APPROVED:TX1");
+        assertThat(saved.getValue().getPaymentKey()).isEqualTo("tgen_A");
+        assertThat(saved.getValue().getPayload()).isEqualTo(APPROVED);
+        assertThat(saved.getValue().getPaymentKeyHash()).isNotNegative();
+        verify(paymentWebhookProcessor).signal(saved.getValue().getPaymentKeyHash());
+    }
+
+    @Test
+    @DisplayName("서명 - 본문이나 서명 시각이 바뀌었거나 형식이 틀린 서명이면 거부하고 저장하지 않음")
+    void receive_InvalidSignature_Rejected() {
+        // given
+        String timestamp = now();
+        byte[] body = bytes(APPROVED);
+        String signature = sign(timestamp, body);
+        byte[] tampered = bytes(APPROVED.replace("5000", "50"));
+
+        // when & then
+        assertThatThrownBy(() -> paymentWebhookService.receive(timestamp, signature, tampered))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("웹훅 서명이 올바르지 않습니다");
+        assertThatThrownBy(() -> paymentWebhookService.receive(String.valueOf(Long.parseLong(timestamp) - 1),
+                signature, body))
+                .hasMessage("웹훅 서명이 올바르지 않습니다");
+        assertThatThrownBy(() -> paymentWebhookService.receive(timestamp, "zz-not-hex", body))
+                .hasMessage("웹훅 서명이 올바르지 않습니다");
+        assertThatThrownBy(() -> paymentWebhookService.receive(timestamp, null, body))
+                .hasMessage("웹훅 서명이 없습니다");
+        verify(paymentWebhookInboxRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("서명 시각 - 허용 오차를 넘었거나 숫자가 아니면 재전송 공격으로 보고 거부")
+    void receive_TimestampOutOfTolerance_Rejected() {
+        // given
+        byte[] body = bytes(APPROVED);
+        String old = String.valueOf(System.currentTimeMillis() / 1000 - 600);
+        String future = String.valueOf(System.currentTimeMillis() / 1000 + 600);
+
+        // when & then
+        assertThatThrownBy(() -> paymentWebhookService.receive(old, sign(old, body), body))
+                .hasMessage("웹훅 서명 시각이 허용 범위를 벗어났습니다");
+        assertThatThrownBy(() -> paymentWebhookService.receive(future, sign(future, body), body))
+                .hasMessage("웹훅 서명 시각이 허용 범위를 벗어났습니다");
+        assertThatThrownBy(() -> paymentWebhookService.receive("yesterday", sign("yesterday", body), body))
+                .hasMessage("웹훅 서명 시각이 올바르지 않습니다");
+    }
+
+    @Test
+    @DisplayName("본문 - 서명이 맞아도 필수 값이 없으면 거부, 실패 이벤트는 거래 ID 없이 결제 키로 중복 확인")
+    void receive_PayloadValidation() {
+        // given
+        String timestamp = now();
+        byte[] noTransaction = bytes("{\"eventType\":\"PAYMENT_CANCELED\",\"paymentKey\":\"tgen_A\"}");
+        byte[] noPaymentKey = bytes("{\"eventType\":\"PAYMENT_APPROVED\",\"transactionId\":\"TX1\"}");
+        byte[] notJson = bytes("eventType=PAYMENT_APPROVED");
+        byte[] failed = bytes("{\"eventType\":\"PAYMENT_FAILED\",\"paymentKey\":\"tgen_A\"," +
+                "\"failureCode\":\"REJECT_CARD_PAYMENT\"}");
+
+        // when & then
+        assertThatThrownBy(() -> paymentWebhookService.receive(timestamp, sign(timestamp, noTransaction), noTransaction))
+                .hasMessage("승인/취소 웹훅에는 거래 ID가 필요합니다");
+        assertThatThrownBy(() -> paymentWebhookService.receive(timestamp, sign(timestamp, noPaymentKey), noPaymentKey))
+                .hasMessage("웹훅 이벤트 종류와 결제 키는 필수입니다");
+        assertThatThrownBy(() -> paymentWebhookService.receive(timestamp, sign(timestamp, notJson), notJson))
+                .hasMessage("웹훅 본문을 해석할 수 없습니다");
+
+        assertThat(paymentWebhookService.receive(timestamp, sign(timestamp, failed), failed))
+                .isEqualTo(PaymentWebhookService.Result.ACCEPTED);
+        ArgumentCaptor<PaymentWebhookInbox> saved = ArgumentCaptor.forClass(PaymentWebhookInbox.class);
+        verify(paymentWebhookInboxRepository).saveAndFlush(saved.capture());
+        assertThat(saved.getValue().getEventId()).isEqualTo("PAYMENT_FAILED:tgen_A");
+        verify(paymentRepository, never()).findByPgTransactionId(anyString());
+    }
+
+    @Test
+    @DisplayName("중복 - 다른 인스턴스가 먼저 저장(유니크 제약 위반)하면 중복으로 응답하고 기록해 둠")
+    void receive_UniqueViolation_Duplicate() {
+        // given
+        String timestamp = now();
+        byte[] body = bytes(APPROVED);
+        when(paymentWebhookInboxRepository.saveAndFlush(any(PaymentWebhookInbox.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_payment_webhook_inbox_event_id"));
+
+        // when
+        PaymentWebhookService.Result first = paymentWebhookService.receive(timestamp, sign(timestamp, body), body);
+        PaymentWebhookService.Result resent = paymentWebhookService.receive(timestamp, sign(timestamp, body), body);
+
+        // then
+        assertThat(first).isEqualTo(PaymentWebhookService.Result.DUPLICATE);
+        assertThat(resent).isEqualTo(PaymentWebhookService.Result.DUPLICATE);
+        verify(paymentWebhookInboxRepository, times(1)).saveAndFlush(any());
+        verify(paymentWebhookProcessor, never()).signal(anyInt());
+    }
+
+    @Test
+    @DisplayName("중복 - 메모리 기록이 없어도(재시작 이후) 이미 반영된 거래면 저장하지 않음")
+    void receive_AlreadyAppliedInDb_Duplicate() {
+        // given
+        String timestamp = now();
+        byte[] body = bytes(APPROVED);
+        when(paymentRepository.findByPgTransactionId("TX1")).thenReturn(Optional.of(
+                Payment.builder().paymentKey("tgen_A").status(PaymentStatus.COMPLETED).build()));
+
+        // when
+        PaymentWebhookService.Result result = paymentWebhookService.receive(timestamp, sign(timestamp, body), body);
+
+        // then
+        assertThat(result).isEqualTo(PaymentWebhookService.Result.DUPLICATE);
+        verify(paymentWebhookInboxRepository, never()).saveAndFlush(any());
+    }
+
+    // ===== Private Methods =====
+
+    private String now() {
+        return String.valueOf(System.currentTimeMillis() / 1000);
+    }
+
+    private byte[] bytes(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * PG와 같은 방식의 서명: HMAC-SHA256(secret, "{timestamp}.{body}")의 16진수
+     */
+    private String sign(String timestamp, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            mac.update((timestamp + ".").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(mac.doFinal(body));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.config.CatalogCacheConfig;
+import com.commercecoupon.dto.response.ProductResponse;
+import com.commercecoupon.service.ProductCatalogCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductCatalogCacheTest {
+
+    private CatalogCacheConfig config;
+    private ProductCatalogCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        config = new CatalogCacheConfig();
+        cache = new ProductCatalogCache(config);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("재고 수량만 바뀐 변경 - 목록 스냅샷 유지, 카탈로그 버전(장바구니 ETag)은 증가")
+    void invalidate_StockOnly_KeepsListSnapshot() {
+        // given
+        getFeatured();
+        long version = cache.getVersion();
+
+        // when
+        cache.invalidate(1L, false);
+        getFeatured();
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getVersion()).isGreaterThan(version);
+    }
+
+    @Test
+    @DisplayName("목록 노출이 바뀐 변경 - 다음 조회에서 목록을 다시 적재")
+    void invalidate_ListingChanged_ReloadsList() {
+        // given
+        getFeatured();
+
+        // when
+        cache.invalidate(1L, true);
+        getFeatured();
+        getFeatured();
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("목록 TTL - 만료된 스냅샷은 변경이 없어도 다시 적재")
+    void getList_Expired_Reloads() {
+        // given
+        config.setListTtlSeconds(0);
+        getFeatured();
+
+        // when
+        getFeatured();
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    private List<ProductResponse> getFeatured() {
+        return cache.getList(ProductCatalogCache.ListType.FEATURED, () -> {
+            loads.incrementAndGet();
+            return List.of(ProductResponse.builder().id(1L).name("상품1").stock(3).build());
+        });
+    }
+}
@@ -0,0 +1,124 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.dto.response.ProductFacetResponse;
+import com.commercecoupon.entity.Category;
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.repository.ProductRepository;
+import com.commercecoupon.repository.ProductSearchCondition;
+import com.commercecoupon.service.ProductFacetEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductFacetEngineTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductFacetEngine productFacetEngine;
+
+    @Test
+    @DisplayName("패싯 - 카테고리/가격 구간/추천 수를 각자 조건만 빼고 계산")
+    void compute_CountsFacets() {
+        // given
+        rebuildWith(List.of(
+                row(1L, 10L, 5_000, ProductStatus.ACTIVE, true),
+                row(2L, 10L, 20_000, ProductStatus.ACTIVE, false),
+                row(3L, 20L, 20_000, ProductStatus.ACTIVE, true),
+                row(4L, 20L, 20_000, ProductStatus.DISCONTINUED, true)), null);
+
+        // when
+        ProductFacetResponse response = productFacetEngine.compute(ProductSearchCondition.builder()
+                .status(ProductStatus.ACTIVE)
+                .categoryId(10L)
+                .build(), null);
+
+        // then
+        assertThat(response.getTotalCount()).isEqualTo(2);
+        assertThat(response.getFeaturedCount()).isEqualTo(1);
+        assertThat(response.getMinPrice()).isEqualTo(5_000);
+        assertThat(response.getMaxPrice()).isEqualTo(20_000);
+        assertThat(response.getCategories())
+                .extracting(ProductFacetResponse.CategoryFacet::getCategoryId, ProductFacetResponse.CategoryFacet::getCount)
+                .containsExactlyInAnyOrder(
+                        tuple(10L, 2),
+                        tuple(20L, 1));
+    }
+
+    @Test
+    @DisplayName("재구성 중 변경 - 먼저 반영된 상품은 스캔한 이전 행으로 덮어쓰지 않음")
+    void rebuild_UpdatedDuringScan_KeepsNewerValue() {
+        // given (스캔 결과는 변경 전 가격 5,000원 / ACTIVE)
+        Product updated = Product.builder()
+                .id(1L)
+                .name("상품1")
+                .price(50_000)
+                .status(ProductStatus.DISCONTINUED)
+                .category(Category.builder().id(10L).build())
+                .build();
+
+        // when
+        rebuildWith(List.of(row(1L, 10L, 5_000, ProductStatus.ACTIVE, false)), updated);
+
+        // then
+        assertThat(productFacetEngine.isReady()).isTrue();
+        ProductFacetResponse active = productFacetEngine.compute(ProductSearchCondition.builder()
+                .status(ProductStatus.ACTIVE).build(), null);
+        ProductFacetResponse inactive = productFacetEngine.compute(ProductSearchCondition.builder()
+                .status(ProductStatus.DISCONTINUED).build(), null);
+        assertThat(active.getTotalCount()).isZero();
+        assertThat(inactive.getTotalCount()).isEqualTo(1);
+        assertThat(inactive.getMinPrice()).isEqualTo(50_000);
+    }
+
+    @Test
+    @DisplayName("재구성 후 변경 - 같은 슬롯을 갱신")
+    void update_AfterRebuild_ReplacesSlot() {
+        // given
+        rebuildWith(List.of(row(1L, 10L, 5_000, ProductStatus.ACTIVE, false)), null);
+
+        // when
+        productFacetEngine.update(Product.builder()
+                .id(1L)
+                .name("상품1")
+                .price(7_000)
+                .status(ProductStatus.ACTIVE)
+                .build());
+
+        // then
+        ProductFacetResponse response = productFacetEngine.compute(ProductSearchCondition.builder().build(), null);
+        assertThat(response.getTotalCount()).isEqualTo(1);
+        assertThat(response.getMinPrice()).isEqualTo(7_000);
+        assertThat(response.getCategories()).isEmpty();
+    }
+
+    private void rebuildWith(List<Object[]> rows, Product updatedDuringScan) {
+        when(productRepository.findFacetRows(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            if (lastId == 0L && updatedDuringScan != null) {
+                productFacetEngine.update(updatedDuringScan);
+            }
+            return lastId == 0L ? rows : List.of();
+        });
+        productFacetEngine.rebuild();
+    }
+
+    private Object[] row(Long id, Long categoryId, int price, ProductStatus status, boolean featured) {
+        return new Object[]{id, categoryId, price, status, featured};
+    }
+}
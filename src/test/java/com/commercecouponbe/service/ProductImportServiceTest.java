@@ -0,0 +1,137 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.dto.response.ProductImportResponse;
+import com.commercecoupon.entity.Category;
+import com.commercecoupon.exception.CustomException;
+import com.commercecoupon.repository.CategoryRepository;
+import com.commercecoupon.repository.ProductRepository;
+import com.commercecoupon.service.InventoryService;
+import com.commercecoupon.service.ProductImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 상품 일괄 등록 - 오류 줄 번호는 파일의 실제 줄 번호 (헤더, 빈 줄 포함)
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductImportServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductImportService productImportService;
+
+    @BeforeEach
+    void setUp() {
+        productImportService = new ProductImportService(productRepository, categoryRepository, inventoryService,
+                eventPublisher, jdbcTemplate, transactionManager, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @Test
+    @DisplayName("CSV - 빈 줄이 있어도 오류 줄 번호가 밀리지 않음 (헤더가 1번 줄)")
+    void importProducts_Csv_ErrorRowsArePhysicalLineNumbers() {
+        // given
+        givenCatalog(List.of("기존 상품"));
+        String csv = "name,price,categoryId,stock\n" +   // 1
+                "노트북,1000,1,5\n" +                    // 2
+                "\n" +                                   // 3
+                "마우스,abc,1,5\n" +                     // 4
+                "노트북,2000,1,5\n" +                    // 5
+                "   \n" +                                // 6
+                "키보드,1000,99,5\n" +                   // 7
+                "기존 상품,1000,1,5\n" +                 // 8
+                "모니터,-1,1,5\n";                       // 9
+
+        // when
+        ProductImportResponse response = productImportService.importProducts(file("products.csv", csv));
+
+        // then
+        assertThat(response.getTotalRows()).isEqualTo(6);
+        assertThat(response.getImportedCount()).isEqualTo(1);
+        assertThat(response.getFailedCount()).isEqualTo(5);
+        assertThat(response.getErrors())
+                .extracting(ProductImportResponse.RowError::getRow, ProductImportResponse.RowError::getMessage)
+                .containsExactly(
+                        tuple(4, "행을 해석할 수 없습니다: price 값이 숫자가 아닙니다: abc"),
+                        tuple(5, "이미 존재하는 상품명입니다"),
+                        tuple(7, "존재하지 않는 카테고리입니다"),
+                        tuple(8, "이미 존재하는 상품명입니다"),
+                        tuple(9, "가격은 0원 이상이어야 합니다"));
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("NDJSON - 헤더가 없으므로 첫 줄이 1번, 빈 줄도 줄 번호에 포함")
+    void importProducts_Ndjson_ErrorRowsArePhysicalLineNumbers() {
+        // given
+        givenCatalog(List.of());
+        String ndjson = "{\"name\":\"노트북\",\"price\":1000,\"categoryId\":1}\n" +  // 1
+                "\n" +                                                          // 2
+                "{\"name\":\"마우스\",\"price\":\n" +                            // 3
+                "{\"name\":\"키보드\",\"price\":1000,\"categoryId\":1}\n";       // 4
+
+        // when
+        ProductImportResponse response = productImportService.importProducts(file("products.ndjson", ndjson));
+
+        // then
+        assertThat(response.getTotalRows()).isEqualTo(3);
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getErrors()).extracting(ProductImportResponse.RowError::getRow).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 확장자 - 예외")
+    void importProducts_UnsupportedFormat_Throws() {
+        assertThatThrownBy(() -> productImportService.importProducts(file("products.xlsx", "")))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("지원하지 않는 파일 형식");
+    }
+
+    // ===== Private Methods =====
+
+    private void givenCatalog(List<String> existingNames) {
+        when(categoryRepository.findAll()).thenReturn(List.of(Category.builder().id(1L).name("전자기기").build()));
+        when(productRepository.findAllNames()).thenReturn(existingNames);
+    }
+
+    private MockMultipartFile file(String filename, String content) {
+        return new MockMultipartFile("file", filename, "text/plain", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,119 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.event.ProductChangedEvent;
+import com.commercecoupon.event.StockChangedEvent;
+import com.commercecoupon.repository.ProductRepository;
+import com.commercecoupon.service.LowStockIndex;
+import com.commercecoupon.service.ProductCatalogCache;
+import com.commercecoupon.service.ProductFacetEngine;
+import com.commercecoupon.service.ProductIndexUpdater;
+import com.commercecoupon.service.ProductRankingIndex;
+import com.commercecoupon.service.ProductSearchEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductIndexUpdaterTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductSearchEngine productSearchEngine;
+
+    @Mock
+    private ProductRankingIndex productRankingIndex;
+
+    @Mock
+    private ProductFacetEngine productFacetEngine;
+
+    @Mock
+    private LowStockIndex lowStockIndex;
+
+    @Mock
+    private ProductCatalogCache productCatalogCache;
+
+    @InjectMocks
+    private ProductIndexUpdater productIndexUpdater;
+
+    @Test
+    @DisplayName("주문 차감 - 재고가 남아 있으면 목록 스냅샷은 유지")
+    void onStockChanged_OrderWithStockLeft_KeepsListing() {
+        // given
+        Product product = givenProduct(5, ProductStatus.ACTIVE);
+        LocalDateTime soldAt = LocalDateTime.now();
+
+        // when
+        productIndexUpdater.onStockChanged(new StockChangedEvent(1L, StockChangedEvent.Reason.ORDER,
+                2, 5, ProductStatus.ACTIVE, soldAt));
+
+        // then
+        verify(productRankingIndex).recordSale(product, 2, soldAt);
+        verify(productCatalogCache).invalidate(1L, false);
+    }
+
+    @Test
+    @DisplayName("주문 차감 - 품절로 바뀌면 목록 무효화")
+    void onStockChanged_OrderSellsOut_InvalidatesListing() {
+        // given
+        givenProduct(0, ProductStatus.OUT_OF_STOCK);
+
+        // when
+        productIndexUpdater.onStockChanged(new StockChangedEvent(1L, StockChangedEvent.Reason.ORDER,
+                2, 0, ProductStatus.OUT_OF_STOCK, LocalDateTime.now()));
+
+        // then
+        verify(productCatalogCache).invalidate(1L, true);
+    }
+
+    @Test
+    @DisplayName("주문 취소 - 품절에서 재고가 생기면 목록 무효화, 이미 재고가 있었으면 유지")
+    void onStockChanged_OrderCancel_InvalidatesOnlyWhenRestocked() {
+        // given
+        givenProduct(2, ProductStatus.ACTIVE);
+
+        // when
+        productIndexUpdater.onStockChanged(new StockChangedEvent(1L, StockChangedEvent.Reason.ORDER_CANCEL,
+                2, 2, ProductStatus.ACTIVE, LocalDateTime.now()));
+        productIndexUpdater.onStockChanged(new StockChangedEvent(1L, StockChangedEvent.Reason.ORDER_CANCEL,
+                1, 3, ProductStatus.ACTIVE, LocalDateTime.now()));
+
+        // then
+        verify(productCatalogCache).invalidate(1L, true);
+        verify(productCatalogCache).invalidate(1L, false);
+    }
+
+    @Test
+    @DisplayName("상품 정보 변경 - 목록 무효화")
+    void onProductChanged_InvalidatesListing() {
+        // given
+        Product product = Product.builder().id(1L).name("상품1").price(10_000).build();
+        when(productRepository.findAllById(List.of(1L))).thenReturn(List.of(product));
+
+        // when
+        productIndexUpdater.onProductChanged(ProductChangedEvent.of(1L, false));
+
+        // then
+        verify(productSearchEngine).updateAttributes(product);
+        verify(productCatalogCache).invalidate(1L, true);
+    }
+
+    private Product givenProduct(int stock, ProductStatus status) {
+        Product product = Product.builder().id(1L).name("상품1").price(10_000).stock(stock).status(status).build();
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        return product;
+    }
+}
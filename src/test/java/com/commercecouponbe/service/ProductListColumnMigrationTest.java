@@ -0,0 +1,79 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.service.ProductListColumnMigration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductListColumnMigrationTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ProductListColumnMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        String url = "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MYSQL;DB_CLOSE_DELAY=-1";
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url));
+        jdbcTemplate.execute("CREATE TABLE products (id BIGINT PRIMARY KEY, " +
+                "detail_image_urls VARCHAR(2000), tags VARCHAR(500))");
+        migration = new ProductListColumnMigration(jdbcTemplate);
+        ReflectionTestUtils.setField(migration, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("변환 - 콤마 구분 값은 JSON 배열로, 이미 JSON인 값은 그대로")
+    void migrate_ConvertsLegacyColumns() {
+        // given
+        insert(1L, "a.jpg,b.jpg", "특가,신상");
+        insert(2L, "[\"c.jpg\"]", null);
+        insert(3L, null, "[특가],신상");
+        insert(4L, null, null);
+        insert(5L, "d.jpg", "[\"이미\"]");
+
+        // when
+        migration.migrate();
+
+        // then
+        assertThat(column(1L, "detail_image_urls")).isEqualTo("[\"a.jpg\",\"b.jpg\"]");
+        assertThat(column(1L, "tags")).isEqualTo("[\"특가\",\"신상\"]");
+        assertThat(column(2L, "detail_image_urls")).isEqualTo("[\"c.jpg\"]");
+        assertThat(column(3L, "tags")).isEqualTo("[\"[특가]\",\"신상\"]");
+        assertThat(column(4L, "tags")).isNull();
+        assertThat(column(5L, "detail_image_urls")).isEqualTo("[\"d.jpg\"]");
+        assertThat(column(5L, "tags")).isEqualTo("[\"이미\"]");
+    }
+
+    @Test
+    @DisplayName("한 번만 실행 - 완료 기록 후에는 다시 읽지 않음")
+    void migrate_AfterCompletion_Skips() {
+        // given
+        insert(1L, null, "특가");
+        migration.migrate();
+        jdbcTemplate.update("UPDATE products SET tags = ? WHERE id = ?", "나중,값", 1L);
+
+        // when
+        migration.migrate();
+
+        // then
+        assertThat(column(1L, "tags")).isEqualTo("나중,값");
+        Integer completed = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM app_migrations WHERE name = 'product-list-columns-json'", Integer.class);
+        assertThat(completed).isEqualTo(1);
+    }
+
+    private void insert(Long id, String detailImageUrls, String tags) {
+        jdbcTemplate.update("INSERT INTO products (id, detail_image_urls, tags) VALUES (?, ?, ?)",
+                id, detailImageUrls, tags);
+    }
+
+    private String column(Long id, String name) {
+        return jdbcTemplate.queryForObject("SELECT " + name + " FROM products WHERE id = ?", String.class, id);
+    }
+}
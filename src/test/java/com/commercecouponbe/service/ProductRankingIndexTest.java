@@ -0,0 +1,105 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.enums.OrderStatus;
+import com.commercecoupon.enums.PaymentStatus;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.repository.OrderItemRepository;
+import com.commercecoupon.repository.ProductRepository;
+import com.commercecoupon.service.ProductRankingIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductRankingIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @InjectMocks
+    private ProductRankingIndex productRankingIndex;
+
+    @Test
+    @DisplayName("재구성 - 취소/환불 주문과 환불/부분 환불 결제는 기간 판매 집계에서 제외하도록 조회")
+    @SuppressWarnings("unchecked")
+    void rebuild_ExcludesCancelledAndRefundedSales() {
+        // given
+        givenProducts(List.of(product(1L, 10), product(2L, 5)));
+        when(orderItemRepository.findSalesBetween(any(), any(), anyCollection(), anyCollection()))
+                .thenReturn(List.of());
+
+        // when
+        productRankingIndex.rebuild();
+
+        // then
+        ArgumentCaptor<Collection<OrderStatus>> orderStatuses = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<PaymentStatus>> paymentStatuses = ArgumentCaptor.forClass(Collection.class);
+        verify(orderItemRepository).findSalesBetween(any(), any(), orderStatuses.capture(), paymentStatuses.capture());
+        assertThat(orderStatuses.getValue())
+                .containsExactlyInAnyOrder(OrderStatus.CANCELLED, OrderStatus.REFUNDED);
+        assertThat(paymentStatuses.getValue())
+                .containsExactlyInAnyOrder(PaymentStatus.REFUNDED, PaymentStatus.PARTIAL_REFUNDED);
+    }
+
+    @Test
+    @DisplayName("재구성 - 누적 판매수 순위와 조회된 최근 판매 기준의 기간 순위")
+    void rebuild_BuildsRankings() {
+        // given
+        givenProducts(List.of(product(1L, 10), product(2L, 5), product(3L, 1)));
+        LocalDateTime soldAt = LocalDateTime.now().minusHours(1);
+        when(orderItemRepository.findSalesBetween(any(), any(), anyCollection(), anyCollection()))
+                .thenReturn(List.of(
+                        new Object[]{3L, 4, soldAt},
+                        new Object[]{2L, 1, soldAt},
+                        new Object[]{3L, 1, soldAt}));
+
+        // when
+        productRankingIndex.rebuild();
+
+        // then
+        assertThat(productRankingIndex.isReady()).isTrue();
+        assertThat(productRankingIndex.topSelling(null, 2)).containsExactly(1L, 2L);
+        assertThat(productRankingIndex.topSellingWithin(ProductRankingIndex.Period.DAY, null, 10))
+                .containsExactly(3L, 2L);
+    }
+
+    private void givenProducts(List<Product> products) {
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .thenReturn(products);
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(eq(products.get(products.size() - 1).getId()),
+                any(Pageable.class)))
+                .thenReturn(List.of());
+    }
+
+    private Product product(Long id, int salesCount) {
+        return Product.builder()
+                .id(id)
+                .name("상품" + id)
+                .price(10_000)
+                .salesCount(salesCount)
+                .status(ProductStatus.ACTIVE)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
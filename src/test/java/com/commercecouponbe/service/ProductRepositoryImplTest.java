@@ -0,0 +1,139 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.repository.ProductRepositoryImpl;
+import com.commercecoupon.repository.ProductSearchCondition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 상품 조건 검색 - 값이 있는 조건만 AND로 결합되는지 (JPQL/파라미터 검증, DB 없이)
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductRepositoryImplTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TypedQuery<Product> selectQuery;
+
+    @Mock
+    private TypedQuery<Long> countQuery;
+
+    @InjectMocks
+    private ProductRepositoryImpl productRepository;
+
+    @Test
+    @DisplayName("조건 조합 - 키워드, 카테고리, 가격 범위, 추천, 상태가 모두 하나의 WHERE에 결합")
+    void searchByCondition_AllConditions_Combined() {
+        // given
+        givenQueries(List.of(), 0L);
+        ProductSearchCondition condition = ProductSearchCondition.builder()
+                .keyword("  MacBook ")
+                .status(ProductStatus.ACTIVE)
+                .categoryId(10L)
+                .minPrice(1000)
+                .maxPrice(5000)
+                .featuredOnly(true)
+                .build();
+
+        // when
+        productRepository.searchByCondition(condition, PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "price")));
+
+        // then
+        String jpql = capturedSelectQuery();
+        assertThat(jpql).contains("p.status = :status")
+                .contains("p.category.id = :categoryId")
+                .contains("p.price >= :minPrice")
+                .contains("p.price <= :maxPrice")
+                .contains("p.isFeatured = true")
+                .contains("LOWER(p.name) LIKE :keyword")
+                .endsWith(" ORDER BY p.price ASC, p.id DESC");
+        assertThat(jpql.split(" WHERE ", -1)).hasSize(2);
+        assertThat(jpql.split(" AND ", -1)).hasSize(6);
+
+        verify(selectQuery).setParameter("keyword", "%macbook%");
+        verify(selectQuery).setParameter("status", ProductStatus.ACTIVE);
+        verify(selectQuery).setParameter("categoryId", 10L);
+        verify(selectQuery).setParameter("minPrice", 1000);
+        verify(selectQuery).setParameter("maxPrice", 5000);
+        verify(countQuery).setParameter("keyword", "%macbook%");
+        verify(countQuery).setParameter("maxPrice", 5000);
+    }
+
+    @Test
+    @DisplayName("조건 조합 - 키워드와 카테고리를 함께 주면 둘 다 적용 (한쪽만 적용되던 분기 회귀 방지)")
+    void searchByCondition_KeywordAndCategory_BothApplied() {
+        // given
+        givenQueries(List.of(), 0L);
+        ProductSearchCondition condition = ProductSearchCondition.builder()
+                .keyword("pro")
+                .categoryId(3L)
+                .build();
+
+        // when
+        productRepository.searchByCondition(condition, PageRequest.of(0, 20));
+
+        // then
+        String jpql = capturedSelectQuery();
+        assertThat(jpql).contains("p.category.id = :categoryId").contains("LIKE :keyword");
+        assertThat(jpql).doesNotContain(":status").doesNotContain(":minPrice").doesNotContain("isFeatured");
+        verify(selectQuery).setParameter("categoryId", 3L);
+        verify(selectQuery).setParameter("keyword", "%pro%");
+        verify(selectQuery, never()).setParameter(eq("status"), any());
+    }
+
+    @Test
+    @DisplayName("조건 없음 - WHERE 없이 전체 조회, 정렬 화이트리스트 밖의 필드는 무시")
+    void searchByCondition_NoCondition_NoWhereAndUnknownSortIgnored() {
+        // given
+        givenQueries(List.of(), 42L);
+
+        // when
+        Page<Product> page = productRepository.searchByCondition(ProductSearchCondition.builder().build(),
+                PageRequest.of(2, 10, Sort.by("name; DROP TABLE product")));
+
+        // then
+        assertThat(capturedSelectQuery()).isEqualTo("SELECT p FROM Product p ORDER BY p.id DESC");
+        assertThat(page.getTotalElements()).isEqualTo(42L);
+        verify(selectQuery).setFirstResult(20);
+        verify(selectQuery).setMaxResults(10);
+    }
+
+    // ===== Private Methods =====
+
+    private void givenQueries(List<Product> content, long total) {
+        when(entityManager.createQuery(anyString(), eq(Product.class))).thenReturn(selectQuery);
+        when(entityManager.createQuery(anyString(), eq(Long.class))).thenReturn(countQuery);
+        when(selectQuery.getResultList()).thenReturn(content);
+        when(countQuery.getSingleResult()).thenReturn(total);
+    }
+
+    private String capturedSelectQuery() {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(entityManager).createQuery(captor.capture(), eq(Product.class));
+        return captor.getValue();
+    }
+}
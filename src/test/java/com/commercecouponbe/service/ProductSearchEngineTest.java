@@ -0,0 +1,167 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.repository.ProductSearchCondition;
+import com.commercecoupon.service.ProductSearchEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchEngineTest {
+
+    private ProductSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        // 색인/검색은 저장소를 사용하지 않음 (rebuild만 사용)
+        engine = new ProductSearchEngine(null);
+    }
+
+    @Test
+    @DisplayName("한글 1음절 질의 - '폰'으로 '스마트폰' 검색")
+    void search_SingleHangulSyllable_MatchesInsideWord() {
+        // given
+        engine.index(product(1L, "갤럭시 스마트폰", 1_000_000));
+        engine.index(product(2L, "무선 이어폰", 200_000));
+        engine.index(product(3L, "노트북 거치대", 30_000));
+
+        // when
+        long[] result = search("폰");
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("영문 질의 - 'mac'으로 'MacBook', 'iMac', 'Mac mini' 모두 검색 (단어 중간 포함)")
+    void search_LatinWord_MatchesAnywhereInWord() {
+        // given
+        engine.index(product(1L, "MacBook Pro 14", 2_490_000));
+        engine.index(product(2L, "iMac 24", 1_990_000));
+        engine.index(product(3L, "Mac mini", 890_000));
+        engine.index(product(4L, "Galaxy Book", 1_290_000));
+
+        // when
+        long[] result = search("mac");
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("영문 단어 중간 질의 - 'book'으로 'MacBook', 'pods'로 'AirPods' 검색")
+    void search_LatinInfix_MatchesInsideWord() {
+        // given
+        engine.index(product(1L, "MacBook Air", 1_390_000));
+        engine.index(product(2L, "AirPods Pro", 359_000));
+        engine.index(product(3L, "Galaxy Book", 1_290_000));
+        engine.index(product(4L, "iPhone 15", 1_250_000));
+
+        // when & then
+        assertThat(search("book")).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(search("pods")).containsExactly(2L);
+        assertThat(search("ip")).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("긴 영문 단어 - 12자를 넘는 질의도 단어 전체/중간 모두 매칭")
+    void search_LongLatinWord_MatchesExactlyAndInside() {
+        // given
+        engine.index(product(1L, "ThinkPadX1Carbon Gen11", 2_190_000));
+        engine.index(product(2L, "ThinkPad E14", 990_000));
+
+        // when & then
+        assertThat(search("thinkpadx1carbon")).containsExactly(1L);
+        assertThat(search("x1carbon")).containsExactly(1L);
+        assertThat(search("thinkpad")).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("단어 전체 질의 - 'macbook'은 'mac mini'를 찾지 않음")
+    void search_WholeWord_DoesNotMatchShorterWord() {
+        // given
+        engine.index(product(1L, "MacBook Air", 1_390_000));
+        engine.index(product(2L, "Mac mini", 890_000));
+
+        // when
+        long[] result = search("macbook");
+
+        // then
+        assertThat(result).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("한글 bigram / 초성 검색은 기존처럼 동작")
+    void search_BigramAndChoseong() {
+        // given
+        engine.index(product(1L, "맥북프로 케이스", 39_000));
+        engine.index(product(2L, "맥주잔 세트", 19_000));
+
+        // when & then
+        assertThat(search("맥북")).containsExactly(1L);
+        assertThat(search("ㅁㅂ")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("재색인 - 이전 상품명으로는 더 이상 검색되지 않음")
+    void index_Reindex_ReplacesPreviousText() {
+        // given
+        engine.index(product(1L, "블루투스 스피커", 59_000));
+
+        // when
+        engine.index(product(1L, "유선 헤드폰", 59_000));
+
+        // then
+        assertThat(search("스피커")).isEmpty();
+        assertThat(search("헤드폰")).containsExactly(1L);
+        assertThat(engine.getTombstoneCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정리 - 삭제 처리 문서가 쌓이면 정리되고 검색/필터 결과는 그대로")
+    void index_ManyReindexes_CompactsTombstones() {
+        // given
+        for (long id = 1; id <= 100; id++) {
+            engine.index(product(id, "무선 키보드 " + id, (int) id * 1000));
+        }
+
+        // when (같은 상품 재색인으로 삭제 처리 문서를 정리 기준 이상 쌓음)
+        for (int round = 0; round < 30; round++) {
+            for (long id = 1; id <= 100; id++) {
+                engine.index(product(id, "무선 키보드 " + id, (int) id * 1000));
+            }
+        }
+
+        // then
+        assertThat(engine.getTombstoneCount()).isLessThan(1000);
+        assertThat(search("키보드")).hasSize(100);
+
+        ProductSearchCondition priceFiltered = ProductSearchCondition.builder()
+                .keyword("키보드")
+                .minPrice(95_000)
+                .build();
+        assertThat(engine.search(priceFiltered, "price", true))
+                .containsExactly(95L, 96L, 97L, 98L, 99L, 100L);
+    }
+
+    private long[] search(String keyword) {
+        return engine.search(ProductSearchCondition.builder().keyword(keyword).build(),
+                ProductSearchEngine.SORT_RELEVANCE, false);
+    }
+
+    private Product product(Long id, String name, int price) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .price(price)
+                .stock(10)
+                .status(ProductStatus.ACTIVE)
+                .tags(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.dto.response.ProductDetailResponse;
+import com.commercecoupon.dto.response.ProductResponse;
+import com.commercecoupon.entity.Category;
+import com.commercecoupon.entity.Product;
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.repository.ProductRepository;
+import com.commercecoupon.service.ProductCatalogCache;
+import com.commercecoupon.service.ProductService;
+import com.commercecoupon.service.ProductViewCountBuffer;
+import com.commercecoupon.service.RelatedProductGraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductCatalogCache productCatalogCache;
+
+    @Mock
+    private ProductViewCountBuffer productViewCountBuffer;
+
+    @Mock
+    private RelatedProductGraph relatedProductGraph;
+
+    @InjectMocks
+    private ProductService productService;
+
+    @Test
+    @DisplayName("상품 상세 - 연관 상품 그래프 결과 중 현재 판매 중인 상품만, 그래프 순서대로")
+    void getProductDetail_RelatedProducts_FilteredByCurrentStatus() {
+        // given
+        Category category = Category.builder().id(10L).name("노트북").build();
+        Product product = product(1L, category, ProductStatus.ACTIVE);
+        when(productCatalogCache.getDetail(eq(1L), any())).thenAnswer(invocation ->
+                invocation.<Supplier<ProductDetailResponse>>getArgument(1).get());
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(relatedProductGraph.getRelated(1L)).thenReturn(new long[]{4L, 2L, 3L});
+        // 그래프 계산 이후 3번 상품이 판매 중지됨
+        when(productRepository.findAllById(any())).thenReturn(List.of(
+                product(2L, category, ProductStatus.ACTIVE),
+                product(3L, category, ProductStatus.DISCONTINUED),
+                product(4L, category, ProductStatus.ACTIVE)));
+
+        // when
+        ProductDetailResponse response = productService.getProductDetail(1L);
+
+        // then
+        assertThat(response.getRelatedProducts())
+                .extracting(ProductResponse::getId)
+                .containsExactly(4L, 2L);
+        verify(productViewCountBuffer).increment(1L);
+    }
+
+    private Product product(Long id, Category category, ProductStatus status) {
+        return Product.builder()
+                .id(id)
+                .name("상품" + id)
+                .price(10_000)
+                .category(category)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.config.ViewCountConfig;
+import com.commercecoupon.service.ProductViewCountBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductViewCountBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ViewCountConfig config;
+    private ProductViewCountBuffer buffer;
+    private final AtomicLong flushedViews = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        config = new ViewCountConfig();
+        config.setMaxPendingViews(Long.MAX_VALUE);
+        buffer = new ProductViewCountBuffer(config, jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("반영 - 상품별 증가분을 배치로 반영하고, 다음 주기까지 조회가 없으면 카운터 제거")
+    void flush_WritesDeltasAndEvictsIdleCounters() {
+        // given
+        givenBatchSucceeds();
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(2L);
+
+        // when
+        int flushed = buffer.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        assertThat(flushedViews).hasValue(3);
+        assertThat(buffer.getPendingViews(1L)).isZero();
+        assertThat(buffer.getTrackedProductCount()).isEqualTo(2);
+
+        // 다음 주기: 2번만 다시 조회됨
+        buffer.increment(2L);
+        buffer.flush();
+        assertThat(buffer.getTrackedProductCount()).isEqualTo(1);
+        assertThat(flushedViews).hasValue(4);
+
+        buffer.flush();
+        assertThat(buffer.getTrackedProductCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 실패 - 증가분을 버퍼에 되돌려 다음 주기에 재시도")
+    void flush_Failure_RestoresDeltas() {
+        // given
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        buffer.increment(1L);
+        buffer.increment(1L);
+
+        // when
+        int flushed = buffer.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        assertThat(buffer.getPendingViews(1L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시성 - 반영/제거와 동시에 증가해도 조회수 유실이나 중복 없음")
+    void increment_ConcurrentWithFlushAndEviction_NoLostViews() throws Exception {
+        // given
+        givenBatchSucceeds();
+        int threads = 8;
+        int incrementsPerThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // when
+        try {
+            Future<?> flusher = executor.submit(() -> {
+                while (running.get()) {
+                    buffer.flush();
+                }
+            });
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < incrementsPerThread; i++) {
+                        buffer.increment((long) (i % 64));
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+            running.set(false);
+            flusher.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        buffer.flush();
+
+        // then
+        assertThat(flushedViews).hasValue((long) threads * incrementsPerThread);
+        buffer.flush();
+        assertThat(buffer.getTrackedProductCount()).isZero();
+    }
+
+    private void givenBatchSucceeds() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                flushedViews.addAndGet((Long) row[0]);
+            }
+            return new int[rows.size()];
+        });
+    }
+}
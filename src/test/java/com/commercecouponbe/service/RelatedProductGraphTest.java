@@ -0,0 +1,86 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.enums.ProductStatus;
+import com.commercecoupon.repository.ProductRepository;
+import com.commercecoupon.service.CoPurchaseRecommender;
+import com.commercecoupon.service.RelatedProductGraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RelatedProductGraphTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CoPurchaseRecommender coPurchaseRecommender;
+
+    @InjectMocks
+    private RelatedProductGraph relatedProductGraph;
+
+    @Test
+    @DisplayName("계산 - 판매 중인 동시 구매 상품 우선, 부족하면 같은 카테고리 인기 상품으로 채움")
+    void refresh_CoPurchaseFirstThenCategoryTopSellers() {
+        // given
+        givenProducts(List.of(
+                row(1L, 10L, 5, ProductStatus.ACTIVE),
+                row(2L, 10L, 50, ProductStatus.ACTIVE),
+                row(3L, 10L, 1, ProductStatus.DISCONTINUED),
+                row(4L, 10L, 20, ProductStatus.ACTIVE),
+                row(5L, 20L, 0, ProductStatus.ACTIVE)));
+        when(coPurchaseRecommender.recommendForProduct(anyLong(), anyInt())).thenReturn(new long[0]);
+        when(coPurchaseRecommender.recommendForProduct(eq(1L), anyInt())).thenReturn(new long[]{3L, 5L});
+
+        // when
+        relatedProductGraph.refresh();
+
+        // then
+        assertThat(relatedProductGraph.isReady()).isTrue();
+        assertThat(relatedProductGraph.getRelated(1L)).containsExactly(5L, 2L, 4L);
+        assertThat(relatedProductGraph.getRelated(3L)).containsExactly(2L, 4L, 1L);
+        assertThat(relatedProductGraph.getRelated(99L)).isNull();
+    }
+
+    @Test
+    @DisplayName("계산 - 상품은 ID 키셋 페이지로 나눠 읽음")
+    void refresh_LoadsProductsByKeysetPage() {
+        // given
+        givenProducts(List.of(row(1L, 10L, 5, ProductStatus.ACTIVE), row(7L, 10L, 3, ProductStatus.ACTIVE)));
+        when(coPurchaseRecommender.recommendForProduct(anyLong(), anyInt())).thenReturn(new long[0]);
+
+        // when
+        relatedProductGraph.refresh();
+
+        // then
+        verify(productRepository).findRelationRows(eq(0L), any(Pageable.class));
+        verify(productRepository).findRelationRows(eq(7L), any(Pageable.class));
+        assertThat(relatedProductGraph.getRelated(7L)).containsExactly(1L);
+    }
+
+    private void givenProducts(List<Object[]> rows) {
+        when(productRepository.findRelationRows(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            return lastId == 0L ? rows : List.of();
+        });
+    }
+
+    private Object[] row(Long id, Long categoryId, int salesCount, ProductStatus status) {
+        return new Object[]{id, categoryId, salesCount, status};
+    }
+}
@@ -0,0 +1,61 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.entity.converter.StringListConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StringListConverterTest {
+
+    private final StringListConverter converter = new StringListConverter();
+
+    @Test
+    @DisplayName("JSON 배열 - 저장한 목록을 그대로 복원 (콤마 포함 항목 유지)")
+    void convert_JsonArray_RoundTrip() {
+        // given
+        List<String> tags = List.of("특가", "a,b", "신상");
+
+        // when
+        String column = converter.convertToDatabaseColumn(tags);
+
+        // then
+        assertThat(StringListConverter.isJsonArray(column)).isTrue();
+        assertThat(converter.convertToEntityAttribute(column)).containsExactly("특가", "a,b", "신상");
+    }
+
+    @Test
+    @DisplayName("콤마 구분 값 - 공백 제거, 빈 항목 제외")
+    void convert_CommaSeparated_Splits() {
+        // when
+        List<String> values = converter.convertToEntityAttribute(" 특가, ,신상 ");
+
+        // then
+        assertThat(values).containsExactly("특가", "신상");
+    }
+
+    @Test
+    @DisplayName("대괄호로 시작하는 콤마 구분 값 - JSON으로 파싱되지 않으면 콤마 구분으로 읽음")
+    void convert_BracketPrefixedLegacyValue_FallsBackToCommaSplit() {
+        // given
+        String legacy = "[특가],신상";
+
+        // when
+        boolean json = StringListConverter.isJsonArray(legacy);
+        List<String> values = converter.convertToEntityAttribute(legacy);
+
+        // then
+        assertThat(json).isFalse();
+        assertThat(values).containsExactly("[특가]", "신상");
+    }
+
+    @Test
+    @DisplayName("빈 값 - null/빈 목록은 null로 저장하고 빈 목록으로 읽음")
+    void convert_Empty() {
+        assertThat(converter.convertToDatabaseColumn(List.of())).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isEmpty();
+        assertThat(converter.convertToEntityAttribute("  ")).isEmpty();
+    }
+}
@@ -0,0 +1,114 @@
+package com.commercecouponbe.service;
+
+import com.commercecoupon.service.TimerWheel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTest {
+
+    private static final long TICK = 10;
+
+    @Test
+    @DisplayName("틱 - 마감 시각이 속한 틱에서 만료, 지난 시각은 다음 틱에 만료")
+    void advance_ExpiresAtDeadlineTick() {
+        // given
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 0);
+        wheel.schedule(25, "a");
+        wheel.schedule(-100, "past");
+
+        // when & then
+        assertThat(wheel.advance(10)).containsExactly("past");
+        assertThat(wheel.advance(29)).isEmpty();
+        assertThat(wheel.advance(30)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("cascade - 상위 레벨 항목도 정확히 마감 틱에 만료")
+    void advance_CascadesUpperLevels() {
+        // given (레벨 1: 64틱 이상, 레벨 2: 4096틱 이상)
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 0);
+        long level1Tick = 64 + 7;
+        long level2Tick = 64 * 64 + 64 * 3 + 5;
+        wheel.schedule(level1Tick * TICK, "level1");
+        wheel.schedule(level2Tick * TICK, "level2");
+
+        // when
+        long level1ExpiredAt = -1;
+        long level2ExpiredAt = -1;
+        for (long tick = 1; tick <= level2Tick + 10; tick++) {
+            List<String> expired = wheel.advance(tick * TICK);
+            if (expired.contains("level1")) {
+                level1ExpiredAt = tick;
+            }
+            if (expired.contains("level2")) {
+                level2ExpiredAt = tick;
+            }
+        }
+
+        // then
+        assertThat(level1ExpiredAt).isEqualTo(level1Tick);
+        assertThat(level2ExpiredAt).isEqualTo(level2Tick);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 번에 여러 틱 진행 - 그 사이 만료된 항목을 모두 반환")
+    void advance_ManyTicksAtOnce() {
+        // given
+        TimerWheel<Integer> wheel = new TimerWheel<>(TICK, 1_000);
+        for (int i = 1; i <= 300; i++) {
+            wheel.schedule(1_000 + i * 37L, i);
+        }
+
+        // when
+        List<Integer> expired = wheel.advance(1_000 + 300 * 37L);
+
+        // then
+        assertThat(expired).hasSize(300);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소 - 취소한 항목은 만료되지 않고 cascade 중에도 버려짐")
+    void cancel_RemovesPendingItems() {
+        // given
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 0);
+        TimerWheel.Timeout<String> near = wheel.schedule(50, "near");
+        TimerWheel.Timeout<String> far = wheel.schedule(200 * TICK, "far");
+        wheel.schedule(60, "kept");
+
+        // when
+        boolean nearCancelled = wheel.cancel(near);
+        boolean farCancelled = wheel.cancel(far);
+
+        // then
+        assertThat(nearCancelled).isTrue();
+        assertThat(farCancelled).isTrue();
+        assertThat(wheel.cancel(near)).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(300 * TICK)).containsExactly("kept");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소 - 이미 만료된 항목은 취소되지 않고 크기도 바뀌지 않음")
+    void cancel_AfterExpiry_ReturnsFalse() {
+        // given
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 0);
+        TimerWheel.Timeout<String> timeout = wheel.schedule(20, "a");
+        wheel.schedule(500, "b");
+        wheel.advance(20);
+
+        // when
+        boolean cancelled = wheel.cancel(timeout);
+
+        // then
+        assertThat(cancelled).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+}